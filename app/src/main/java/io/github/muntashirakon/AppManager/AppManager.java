@@ -64,7 +64,11 @@ public class AppManager extends Application {
     public static synchronized AMDatabase getDb() {
         if (db == null) {
             db = Room.databaseBuilder(getContext(), AMDatabase.class, "am")
-                    .addMigrations(AMDatabase.MIGRATION_1_2, AMDatabase.MIGRATION_2_3, AMDatabase.MIGRATION_3_4)
+                    .addMigrations(AMDatabase.MIGRATION_1_2, AMDatabase.MIGRATION_2_3, AMDatabase.MIGRATION_3_4,
+                            AMDatabase.MIGRATION_4_5, AMDatabase.MIGRATION_5_6,
+                            AMDatabase.MIGRATION_6_7, AMDatabase.MIGRATION_7_8, AMDatabase.MIGRATION_8_9,
+                            AMDatabase.MIGRATION_9_10, AMDatabase.MIGRATION_10_11,
+                            AMDatabase.MIGRATION_11_12, AMDatabase.MIGRATION_12_13)
                     .build();
         }
         return db;
@@ -20,6 +20,7 @@ package io.github.muntashirakon.AppManager;
 import android.content.Context;
 import android.util.DisplayMetrics;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -27,10 +28,13 @@ import androidx.collection.ArrayMap;
 import androidx.core.os.ConfigurationCompat;
 import androidx.core.os.LocaleListCompat;
 import io.github.muntashirakon.AppManager.misc.VMRuntime;
+import io.github.muntashirakon.AppManager.utils.SignatureMatcher;
 
 public class StaticDataset {
     private static String[] trackerCodeSignatures;
     private static String[] trackerNames;
+    private static SignatureMatcher trackerMatcher;
+    private static Integer trackerSignaturesVersion;
 
     public static final String ARMEABI_V7A = "armeabi_v7a";
     public static final String ARM64_V8A = "arm64_v8a";
@@ -95,4 +99,26 @@ public class StaticDataset {
         }
         return trackerNames;
     }
+
+    /**
+     * Matcher for {@link #getTrackerCodeSignatures()}, the indexes of the matched signatures are also the indexes of
+     * {@link #getTrackerNames()}
+     */
+    public static synchronized SignatureMatcher getTrackerMatcher() {
+        if (trackerMatcher == null) {
+            trackerMatcher = new SignatureMatcher(getTrackerCodeSignatures());
+        }
+        return trackerMatcher;
+    }
+
+    /**
+     * Version of {@link #getTrackerCodeSignatures()}. The tracker counts stored in the database are only valid if they
+     * were counted using the same version of the signatures.
+     */
+    public static synchronized int getTrackerSignaturesVersion() {
+        if (trackerSignaturesVersion == null) {
+            trackerSignaturesVersion = Arrays.hashCode(getTrackerCodeSignatures());
+        }
+        return trackerSignaturesVersion;
+    }
 }
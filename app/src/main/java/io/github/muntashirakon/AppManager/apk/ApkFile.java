@@ -93,12 +93,15 @@ public final class ApkFile implements AutoCloseable {
 
     private static final String UN_APKM_PKG = "io.github.muntashirakon.unapkm";
 
-    // There's hardly any chance of using multiple instances of ApkFile but still kept for convenience
+    // Multiple instances are used at once while inspecting APK files in batches, access must be synchronized
     private static final SparseArray<ApkFile> apkFiles = new SparseArray<>(2);
 
     @NonNull
     public static ApkFile getInstance(int sparseArrayKey) {
-        ApkFile apkFile = apkFiles.get(sparseArrayKey);
+        ApkFile apkFile;
+        synchronized (apkFiles) {
+            apkFile = apkFiles.get(sparseArrayKey);
+        }
         if (apkFile == null) {
             throw new IllegalArgumentException("ApkFile not found for key " + sparseArrayKey);
         }
@@ -109,7 +112,9 @@ public final class ApkFile implements AutoCloseable {
     public static int createInstance(Uri apkUri, @Nullable String mimeType) throws ApkFileException {
         int key = ThreadLocalRandom.current().nextInt();
         ApkFile apkFile = new ApkFile(apkUri, mimeType, key);
-        apkFiles.put(key, apkFile);
+        synchronized (apkFiles) {
+            apkFiles.put(key, apkFile);
+        }
         return key;
     }
 
@@ -117,7 +122,9 @@ public final class ApkFile implements AutoCloseable {
     public static int createInstance(ApplicationInfo info) throws ApkFileException {
         int key = ThreadLocalRandom.current().nextInt();
         ApkFile apkFile = new ApkFile(info, key);
-        apkFiles.put(key, apkFile);
+        synchronized (apkFiles) {
+            apkFiles.put(key, apkFile);
+        }
         return key;
     }
 
@@ -489,7 +496,9 @@ public final class ApkFile implements AutoCloseable {
 
     @Override
     public void close() {
-        apkFiles.delete(sparseArrayKey);
+        synchronized (apkFiles) {
+            apkFiles.delete(sparseArrayKey);
+        }
         for (Entry entry : entries) {
             entry.close();
         }
@@ -499,6 +508,10 @@ public final class ApkFile implements AutoCloseable {
         if (!cacheFilePath.getAbsolutePath().startsWith("/data/app")) {
             IOUtils.deleteSilently(cacheFilePath);
         }
+        File cachePath = AppManager.getContext().getExternalFilesDir("apks");
+        if (cachePath != null) {
+            IOUtils.deleteDir(new File(cachePath, Integer.toHexString(sparseArrayKey)));
+        }
         // Ensure that entries are not accessible if accidentally accessed
         entries.clear();
         baseEntry = null;
@@ -510,6 +523,8 @@ public final class ApkFile implements AutoCloseable {
         File destDir = AppManager.getContext().getExternalFilesDir("apks");
         if (destDir == null || !Environment.getExternalStorageState(destDir).equals(Environment.MEDIA_MOUNTED))
             throw new RuntimeException("External media not present");
+        // Each instance has its own directory since the entries of different files may have the same names
+        destDir = new File(destDir, Integer.toHexString(sparseArrayKey));
         if (!destDir.exists()) //noinspection ResultOfMethodCallIgnored
             destDir.mkdirs();
         return destDir;
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.apk.batch;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager;
+import android.database.Cursor;
+import android.net.Uri;
+import android.os.RemoteException;
+import android.provider.DocumentsContract;
+import android.provider.OpenableColumns;
+import android.text.TextUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+import androidx.core.content.pm.PackageInfoCompat;
+import io.github.muntashirakon.AppManager.AppManager;
+import io.github.muntashirakon.AppManager.StaticDataset;
+import io.github.muntashirakon.AppManager.apk.ApkFile;
+import io.github.muntashirakon.AppManager.db.dao.ApkAnalysisDao;
+import io.github.muntashirakon.AppManager.db.entity.ApkAnalysis;
+import io.github.muntashirakon.AppManager.logs.Log;
+import io.github.muntashirakon.AppManager.rules.compontents.ComponentUtils;
+import io.github.muntashirakon.AppManager.utils.DigestUtils;
+import io.github.muntashirakon.AppManager.utils.IOUtils;
+import io.github.muntashirakon.AppManager.utils.MultithreadedExecutor;
+import io.github.muntashirakon.AppManager.utils.PackageUtils;
+
+/**
+ * Extract the metadata of several APK files at once. The files are inspected on a bounded pool of worker threads and
+ * each result is delivered as soon as it is ready. Results are cached in the database by the SHA-256 checksum of the
+ * file, so that a file is parsed only once even if it is copied or renamed. A file whose location, size and
+ * modification time have not changed since it was last inspected is not read at all.
+ */
+public class BatchApkInspector {
+    public static final String TAG = BatchApkInspector.class.getSimpleName();
+
+    public interface Callback {
+        /**
+         * Called from a worker thread as soon as a file is inspected, in no particular order
+         */
+        @WorkerThread
+        void onResult(@NonNull Result result);
+    }
+
+    public static class Result {
+        @NonNull
+        public final Uri uri;
+        @Nullable
+        public final String fileName;
+        /**
+         * Metadata of the file, null if the file could not be inspected
+         */
+        @Nullable
+        public final ApkAnalysis analysis;
+        @Nullable
+        public final Throwable error;
+
+        private Result(@NonNull Uri uri, @Nullable String fileName, @Nullable ApkAnalysis analysis,
+                       @Nullable Throwable error) {
+            this.uri = uri;
+            this.fileName = fileName;
+            this.analysis = analysis;
+            this.error = error;
+        }
+    }
+
+    private final Context context;
+    private final ApkAnalysisDao dao;
+    private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+    public BatchApkInspector(@NonNull Context context) {
+        this.context = context;
+        this.dao = AppManager.getDb().apkAnalysisDao();
+    }
+
+    /**
+     * Inspect the given files and block until all of them are inspected or the inspection is cancelled.
+     */
+    @WorkerThread
+    public void inspect(@NonNull List<Uri> uris, @NonNull Callback callback) {
+        MultithreadedExecutor executor = MultithreadedExecutor.getNewInstance();
+        try {
+            for (Uri uri : uris) {
+                executor.submit(() -> {
+                    if (cancelled.get()) return;
+                    callback.onResult(inspect(uri));
+                });
+            }
+        } finally {
+            executor.awaitCompletion();
+        }
+    }
+
+    /**
+     * Stop inspecting the files which are not yet started. Files that are being inspected are not interrupted.
+     */
+    public void cancel() {
+        cancelled.set(true);
+    }
+
+    @WorkerThread
+    @NonNull
+    private Result inspect(@NonNull Uri uri) {
+        ContentResolver cr = context.getContentResolver();
+        String fileName = IOUtils.getFileName(cr, uri);
+        try {
+            long[] sizeAndLastModified = getSizeAndLastModified(cr, uri);
+            ApkAnalysis analysis = null;
+            if (sizeAndLastModified != null) {
+                analysis = dao.getByUri(uri.toString(), sizeAndLastModified[0], sizeAndLastModified[1]);
+            }
+            boolean changed = analysis == null;
+            String fileHash;
+            if (analysis != null) {
+                // The file has not changed since it was hashed
+                fileHash = analysis.fileHash;
+            } else {
+                try (InputStream is = cr.openInputStream(uri)) {
+                    if (is == null) throw new IllegalArgumentException("Could not open " + uri);
+                    fileHash = DigestUtils.getHexDigest(DigestUtils.SHA_256, is);
+                }
+                analysis = dao.get(fileHash);
+            }
+            if (analysis == null || analysis.trackerSignaturesVersion != StaticDataset.getTrackerSignaturesVersion()) {
+                analysis = analyse(uri, fileHash);
+                changed = true;
+            }
+            if (changed) {
+                analysis.uri = sizeAndLastModified != null ? uri.toString() : null;
+                analysis.fileSize = sizeAndLastModified != null ? sizeAndLastModified[0] : 0;
+                analysis.lastModified = sizeAndLastModified != null ? sizeAndLastModified[1] : 0;
+                dao.insert(analysis);
+            }
+            return new Result(uri, fileName, analysis, null);
+        } catch (Throwable th) {
+            Log.e(TAG, "Could not inspect " + uri, th);
+            return new Result(uri, fileName, null, th);
+        }
+    }
+
+    @WorkerThread
+    @NonNull
+    private ApkAnalysis analyse(@NonNull Uri uri, @NonNull String fileHash)
+            throws ApkFile.ApkFileException, IOException, RemoteException, PackageManager.NameNotFoundException {
+        int key = ApkFile.createInstance(uri, null);
+        try (ApkFile apkFile = ApkFile.getInstance(key)) {
+            File baseApk = apkFile.getBaseEntry().getRealCachedFile();
+            PackageManager pm = context.getPackageManager();
+            //noinspection deprecation
+            PackageInfo packageInfo = pm.getPackageArchiveInfo(baseApk.getAbsolutePath(),
+                    PackageManager.GET_PERMISSIONS | PackageManager.GET_ACTIVITIES | PackageManager.GET_RECEIVERS
+                            | PackageManager.GET_PROVIDERS | PackageManager.GET_SERVICES
+                            | PackageManager.GET_SIGNATURES);
+            if (packageInfo == null) {
+                throw new PackageManager.NameNotFoundException("Package cannot be parsed");
+            }
+            ApkAnalysis analysis = new ApkAnalysis();
+            analysis.fileHash = fileHash;
+            analysis.packageName = packageInfo.packageName;
+            ApplicationInfo applicationInfo = packageInfo.applicationInfo;
+            if (applicationInfo != null) {
+                applicationInfo.sourceDir = baseApk.getAbsolutePath();
+                applicationInfo.publicSourceDir = baseApk.getAbsolutePath();
+                analysis.label = applicationInfo.loadLabel(pm).toString();
+            }
+            analysis.versionName = packageInfo.versionName;
+            analysis.versionCode = PackageInfoCompat.getLongVersionCode(packageInfo);
+            List<String> splits = new ArrayList<>();
+            for (ApkFile.Entry entry : apkFile.getEntries()) {
+                if (entry.type != ApkFile.APK_BASE) splits.add(entry.name);
+            }
+            analysis.splits = splits.isEmpty() ? null : TextUtils.join("\n", splits);
+            String[] checksums = PackageUtils.getSigningCertSha256Checksum(packageInfo, true);
+            analysis.certSha256 = checksums.length == 0 ? null : TextUtils.join("\n", checksums);
+            analysis.permissions = packageInfo.requestedPermissions == null ? null
+                    : TextUtils.join("\n", packageInfo.requestedPermissions);
+            analysis.trackerCount = ComponentUtils.getTrackerComponentsForPackage(packageInfo).size();
+            analysis.trackerSignaturesVersion = StaticDataset.getTrackerSignaturesVersion();
+            return analysis;
+        }
+    }
+
+    /**
+     * @return The size and the last modification time of the file, or {@code null} if any of them is unknown
+     */
+    @Nullable
+    private static long[] getSizeAndLastModified(@NonNull ContentResolver cr, @NonNull Uri uri) {
+        if (uri.getScheme() == null) return null;
+        switch (uri.getScheme()) {
+            case ContentResolver.SCHEME_CONTENT:
+                try (Cursor cursor = cr.query(uri, null, null, null, null)) {
+                    if (cursor == null || !cursor.moveToFirst()) return null;
+                    int sizeIndex = cursor.getColumnIndex(OpenableColumns.SIZE);
+                    int lastModifiedIndex = cursor.getColumnIndex(DocumentsContract.Document.COLUMN_LAST_MODIFIED);
+                    if (sizeIndex == -1 || lastModifiedIndex == -1 || cursor.isNull(sizeIndex)
+                            || cursor.isNull(lastModifiedIndex)) {
+                        return null;
+                    }
+                    return new long[]{cursor.getLong(sizeIndex), cursor.getLong(lastModifiedIndex)};
+                } catch (Exception e) {
+                    return null;
+                }
+            case ContentResolver.SCHEME_FILE:
+                if (uri.getPath() == null) return null;
+                File file = new File(uri.getPath());
+                long lastModified = file.lastModified();
+                return lastModified == 0 ? null : new long[]{file.length(), lastModified};
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * List the APK files inside a directory selected via the storage access framework. Subdirectories are not
+     * included.
+     */
+    @WorkerThread
+    @NonNull
+    public static List<Uri> listApkFiles(@NonNull Context context, @NonNull Uri treeUri) {
+        Uri childrenUri = DocumentsContract.buildChildDocumentsUriUsingTree(treeUri,
+                DocumentsContract.getTreeDocumentId(treeUri));
+        List<Uri> apkFiles = new ArrayList<>();
+        try (Cursor cursor = context.getContentResolver().query(childrenUri, new String[]{
+                DocumentsContract.Document.COLUMN_DOCUMENT_ID, DocumentsContract.Document.COLUMN_DISPLAY_NAME,
+        }, null, null, null)) {
+            if (cursor == null) return apkFiles;
+            while (cursor.moveToNext()) {
+                String name = cursor.getString(1);
+                if (name == null) continue;
+                String extension = IOUtils.getExtension(name).toLowerCase(Locale.ROOT);
+                if (ApkFile.SUPPORTED_EXTENSIONS.contains(extension)) {
+                    apkFiles.add(DocumentsContract.buildDocumentUriUsingTree(treeUri, cursor.getString(0)));
+                }
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "Could not list " + treeUri, e);
+        }
+        return apkFiles;
+    }
+
+    @NonNull
+    public static List<String> toList(@Nullable String joined) {
+        if (TextUtils.isEmpty(joined)) return new ArrayList<>();
+        return Arrays.asList(joined.split("\n"));
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.apk.batch;
+
+import android.graphics.Color;
+import android.net.Uri;
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.Menu;
+import android.view.MenuItem;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.TextView;
+
+import com.google.android.material.progressindicator.LinearProgressIndicator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.activity.result.ActivityResultLauncher;
+import androidx.activity.result.contract.ActivityResultContracts;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.content.ContextCompat;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import io.github.muntashirakon.AppManager.AppManager;
+import io.github.muntashirakon.AppManager.BaseActivity;
+import io.github.muntashirakon.AppManager.R;
+import io.github.muntashirakon.AppManager.db.entity.ApkAnalysis;
+import io.github.muntashirakon.AppManager.types.RecyclerViewWithEmptyView;
+import me.zhanghai.android.fastscroll.FastScrollerBuilder;
+
+public class BatchApkInspectorActivity extends BaseActivity {
+    private BatchApkInspectorRecyclerAdapter adapter;
+    private LinearProgressIndicator progressIndicator;
+    @Nullable
+    private BatchApkInspector inspector;
+
+    private final ActivityResultLauncher<Uri> selectFolder = registerForActivityResult(
+            new ActivityResultContracts.OpenDocumentTree(),
+            uri -> {
+                if (uri == null) {
+                    // Back button pressed.
+                    return;
+                }
+                inspect(uri);
+            });
+
+    @Override
+    protected void onAuthenticated(@Nullable Bundle savedInstanceState) {
+        setContentView(R.layout.activity_batch_apk_inspector);
+        setSupportActionBar(findViewById(R.id.toolbar));
+        RecyclerViewWithEmptyView recyclerView = findViewById(R.id.recycler_view);
+        recyclerView.setEmptyView(findViewById(android.R.id.empty));
+        progressIndicator = findViewById(R.id.progress_linear);
+        progressIndicator.setVisibilityAfterHide(View.GONE);
+        progressIndicator.hide();
+
+        adapter = new BatchApkInspectorRecyclerAdapter();
+        recyclerView.setLayoutManager(new LinearLayoutManager(this));
+        recyclerView.setAdapter(adapter);
+        new FastScrollerBuilder(recyclerView).useMd2Style().build();
+        if (savedInstanceState == null) {
+            selectFolder.launch(null);
+        }
+    }
+
+    @Override
+    protected void onDestroy() {
+        if (inspector != null) inspector.cancel();
+        super.onDestroy();
+    }
+
+    @Override
+    public boolean onCreateOptionsMenu(Menu menu) {
+        getMenuInflater().inflate(R.menu.activity_batch_apk_inspector_actions, menu);
+        return super.onCreateOptionsMenu(menu);
+    }
+
+    @Override
+    public boolean onOptionsItemSelected(@NonNull MenuItem item) {
+        int id = item.getItemId();
+        if (id == android.R.id.home) {
+            finish();
+        } else if (id == R.id.action_select_folder) {
+            selectFolder.launch(null);
+        } else return super.onOptionsItemSelected(item);
+        return true;
+    }
+
+    private void inspect(@NonNull Uri treeUri) {
+        if (inspector != null) inspector.cancel();
+        BatchApkInspector inspector = this.inspector = new BatchApkInspector(getApplicationContext());
+        adapter.clear();
+        progressIndicator.show();
+        new Thread(() -> {
+            List<Uri> apkFiles = BatchApkInspector.listApkFiles(getApplicationContext(), treeUri);
+            // Results are displayed as soon as they are available
+            inspector.inspect(apkFiles, result -> runOnUiThread(() -> {
+                if (this.inspector == inspector) adapter.add(result);
+            }));
+            runOnUiThread(() -> {
+                if (this.inspector == inspector) progressIndicator.hide();
+            });
+        }).start();
+    }
+
+    static class BatchApkInspectorRecyclerAdapter extends RecyclerView.Adapter<BatchApkInspectorRecyclerAdapter.ViewHolder> {
+        private final List<BatchApkInspector.Result> list = new ArrayList<>();
+        private final int mColorTransparent;
+        private final int mColorSemiTransparent;
+
+        BatchApkInspectorRecyclerAdapter() {
+            mColorTransparent = Color.TRANSPARENT;
+            mColorSemiTransparent = ContextCompat.getColor(AppManager.getContext(), R.color.semi_transparent);
+        }
+
+        void clear() {
+            int size = list.size();
+            list.clear();
+            notifyItemRangeRemoved(0, size);
+        }
+
+        void add(@NonNull BatchApkInspector.Result result) {
+            list.add(result);
+            notifyItemInserted(list.size() - 1);
+        }
+
+        @NonNull
+        @Override
+        public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+            View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.item_sys_config, parent, false);
+            return new ViewHolder(view);
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
+            holder.itemView.setBackgroundColor(position % 2 == 0 ? mColorSemiTransparent : mColorTransparent);
+            BatchApkInspector.Result result = list.get(position);
+            ApkAnalysis analysis = result.analysis;
+            String fileName = result.fileName != null ? result.fileName : result.uri.toString();
+            if (analysis == null) {
+                holder.title.setText(fileName);
+                holder.packageName.setVisibility(View.GONE);
+                holder.subtitle.setText(holder.itemView.getContext().getString(R.string.batch_apk_inspector_failed,
+                        result.error != null ? result.error.getMessage() : null));
+                return;
+            }
+            holder.title.setText(analysis.label != null ? analysis.label : fileName);
+            holder.packageName.setVisibility(View.VISIBLE);
+            holder.packageName.setText(analysis.packageName);
+            holder.subtitle.setText(holder.itemView.getContext().getString(R.string.batch_apk_inspector_summary,
+                    holder.itemView.getContext().getString(R.string.version_name_with_code, analysis.versionName,
+                            analysis.versionCode),
+                    BatchApkInspector.toList(analysis.splits).size(),
+                    BatchApkInspector.toList(analysis.permissions).size(),
+                    analysis.trackerCount,
+                    analysis.certSha256));
+        }
+
+        @Override
+        public int getItemCount() {
+            return list.size();
+        }
+
+        static class ViewHolder extends RecyclerView.ViewHolder {
+            TextView title;
+            TextView packageName;
+            TextView subtitle;
+
+            ViewHolder(@NonNull View itemView) {
+                super(itemView);
+                title = itemView.findViewById(R.id.item_title);
+                packageName = itemView.findViewById(R.id.package_name);
+                subtitle = itemView.findViewById(R.id.item_subtitle);
+                itemView.findViewById(R.id.item_icon).setVisibility(View.GONE);
+            }
+        }
+    }
+}
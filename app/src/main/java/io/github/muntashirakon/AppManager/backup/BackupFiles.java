@@ -157,7 +157,11 @@ public class BackupFiles {
 
         public boolean delete() {
             if (backupPath.exists()) {
-                return backupPath.forceDelete();
+                boolean hasChunks = ChunkStore.hasIndex(backupPath);
+                boolean deleted = backupPath.forceDelete();
+                // Remove the chunks no longer referenced by any backup
+                if (deleted && hasChunks) ChunkStore.collectGarbage();
+                return deleted;
             }
             return true;  // The backup path doesn't exist anyway
         }
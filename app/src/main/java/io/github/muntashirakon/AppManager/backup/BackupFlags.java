@@ -53,6 +53,7 @@ public final class BackupFlags {
             BACKUP_MULTIPLE,
             BACKUP_RULES,
             BACKUP_NO_SIGNATURE_CHECK,
+            BACKUP_INCREMENTAL,
     })
     @Retention(RetentionPolicy.SOURCE)
     public @interface BackupFlag {
@@ -74,6 +75,7 @@ public final class BackupFlags {
     public static final int BACKUP_MULTIPLE = 1 << 9;
     public static final int BACKUP_EXTRAS = 1 << 10;
     public static final int BACKUP_CACHE = 1 << 11;
+    public static final int BACKUP_INCREMENTAL = 1 << 12;
 
     public static final List<Integer> backupFlags = new ArrayList<>();
 
@@ -172,6 +174,10 @@ public final class BackupFlags {
         return (flags & BACKUP_MULTIPLE) != 0;
     }
 
+    public boolean backupIncremental() {
+        return (flags & BACKUP_INCREMENTAL) != 0;
+    }
+
     public boolean backupCustomUsers() {
         return (flags & BACKUP_CUSTOM_USERS) != 0;
     }
@@ -206,6 +212,10 @@ public final class BackupFlags {
         }
         if (backupCache()) {
             sb.append(append ? "+" : "").append("Caches");
+            append = true;
+        }
+        if (backupIncremental()) {
+            sb.append(append ? "+" : "").append("Incremental");
         }
         return sb;
     }
@@ -236,6 +246,8 @@ public final class BackupFlags {
                 }
                 backupFlags.add(BACKUP_MULTIPLE);
                 put(BACKUP_MULTIPLE, new Pair<>(R.string.backup_multiple, R.string.backup_multiple_description));
+                backupFlags.add(BACKUP_INCREMENTAL);
+                put(BACKUP_INCREMENTAL, new Pair<>(R.string.backup_incremental, R.string.backup_incremental_description));
                 if (Users.getUsersHandles().length > 1) {
                     // Display custom users only if multiple users present
                     backupFlags.add(BACKUP_CUSTOM_USERS);
@@ -19,6 +19,8 @@ package io.github.muntashirakon.AppManager.backup;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 
 import androidx.annotation.NonNull;
@@ -42,6 +44,8 @@ public class BackupManager {
     static final String[] CACHE_DIRS = new String[]{"cache/.*", "code_cache/.*", "no_backup/.*"};
     static final String SOURCE_PREFIX = "source";
     static final String DATA_PREFIX = "data";
+    static final String MANIFEST_PREFIX = "manifest";
+    static final String MANIFEST_EXT = ".am.tsv";
     static final String KEYSTORE_PREFIX = "keystore";
     static final int KEYSTORE_PLACEHOLDER = -1000;
 
@@ -51,8 +55,19 @@ public class BackupManager {
 
     @NonNull
     static String getExt(@TarUtils.TarType String tarType) {
-        if (TarUtils.TAR_BZIP2.equals(tarType)) return ".tar.bz2";
-        else return ".tar.gz";
+        switch (tarType) {
+            case TarUtils.TAR_BZIP2:
+            case TarUtils.TAR_PBZIP2:
+                return ".tar.bz2";
+            case TarUtils.TAR_ZSTD:
+                return ".tar.zst";
+            case TarUtils.TAR_LZ4:
+                return ".tar.lz4";
+            case TarUtils.TAR_GZIP:
+            case TarUtils.TAR_PGZIP:
+            default:
+                return ".tar.gz";
+        }
     }
 
     /**
@@ -94,10 +109,18 @@ public class BackupManager {
             return false;
         }
         backupNames = getProcessedBackupNames(backupNames);
+        if (backupNames == null && MetadataManager.hasDependentBackups(targetPackage.getPackageName(),
+                String.valueOf(targetPackage.getUserHandle()), Collections.emptyList())) {
+            // The base backup cannot be overwritten as incremental backups depend on it. Keep it and make a new backup
+            // alongside it instead.
+            Log.i(BackupOp.TAG, "Incremental backups depend on the existing backup, creating a new backup instead.");
+            backupNames = new String[]{DateUtils.formatDateTime(System.currentTimeMillis())};
+        }
         // Get backup files based on the number of backupNames
         BackupFiles backupFiles = new BackupFiles(targetPackage.getPackageName(),
                 targetPackage.getUserHandle(), backupNames);
-        BackupFiles.BackupFile[] backupFileList = requestedFlags.backupMultiple() ?
+        // An incremental backup never replaces an existing backup as it might be its base
+        BackupFiles.BackupFile[] backupFileList = backupNames != null ?
                 backupFiles.getFreshBackupPaths() : backupFiles.getBackupPaths(true);
         for (BackupFiles.BackupFile backupFile : backupFileList) {
             try (BackupOp backupOp = new BackupOp(targetPackage.getPackageName(), metadataManager,
@@ -113,7 +136,7 @@ public class BackupManager {
 
     @Nullable
     private String[] getProcessedBackupNames(@Nullable String[] backupNames) {
-        if (requestedFlags.backupMultiple()) {
+        if (requestedFlags.backupMultiple() || requestedFlags.backupIncremental()) {
             // Multiple backups requested
             if (backupNames == null) {
                 // Create a singleton backupNames array with current time
@@ -187,22 +210,23 @@ public class BackupManager {
     }
 
     public boolean deleteBackup(@Nullable String[] backupNames) {
+        String packageName = targetPackage.getPackageName();
         if (backupNames == null) {
             // No backup names supplied, use user handle
-            BackupFiles backupFiles = new BackupFiles(targetPackage.getPackageName(),
-                    targetPackage.getUserHandle(), null);
-            BackupFiles.BackupFile[] backupFileList = backupFiles.getBackupPaths(false);
-            for (BackupFiles.BackupFile backupFile : backupFileList) {
-                if (!backupFile.isFrozen() && !backupFile.delete()) return false;
-            }
-        } else {
-            // backupNames is not null but that doesn't mean that it's not empty,
-            // requested for only single backups
-            for (String backupName : backupNames) {
-                BackupFiles.BackupFile backupFile = new BackupFiles.BackupFile(new ProxyFile(BackupFiles.getPackagePath(
-                        targetPackage.getPackageName()), backupName), false);
-                if (!backupFile.isFrozen() && !backupFile.delete()) return false;
+            backupNames = new String[]{String.valueOf(targetPackage.getUserHandle())};
+        }
+        // backupNames is not null but that doesn't mean that it's not empty,
+        // requested for only single backups
+        List<String> deletedBackups = Arrays.asList(backupNames);
+        for (String backupName : backupNames) {
+            BackupFiles.BackupFile backupFile = new BackupFiles.BackupFile(new ProxyFile(BackupFiles.getPackagePath(
+                    packageName), backupName), false);
+            if (backupFile.isFrozen()) continue;
+            if (MetadataManager.hasDependentBackups(packageName, backupName, deletedBackups)) {
+                Log.e(TAG, "Backup " + backupName + " cannot be deleted as incremental backups depend on it.");
+                return false;
             }
+            if (!backupFile.delete()) return false;
         }
         return true;
     }
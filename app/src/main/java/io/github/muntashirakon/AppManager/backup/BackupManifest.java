@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.backup;
+
+import android.os.RemoteException;
+import android.system.ErrnoException;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+import io.github.muntashirakon.AppManager.utils.TarUtils;
+
+/**
+ * A per-file manifest of a data directory at the time of a backup. It is used to find the files that have been
+ * changed, added or deleted since the previous backup in an incremental backup chain. Each line of the manifest has the
+ * format {@code type<TAB>size<TAB>mtime<TAB>hash<TAB>path}, where path is relative to the data directory. For links,
+ * hash is the target of the link. Paths deleted since the base backup are stored with the type {@link #TYPE_DELETED}.
+ */
+final class BackupManifest {
+    static final char TYPE_FILE = 'f';
+    static final char TYPE_DIRECTORY = 'd';
+    static final char TYPE_LINK = 'l';
+    static final char TYPE_DELETED = 'x';
+
+    private static final String HEADER = "#am-manifest\t1";
+    private static final String NO_HASH = "-";
+
+    static class Entry {
+        final char type;
+        @NonNull
+        final String path;
+        final long size;
+        final long mtime;
+        @Nullable
+        String hash;
+
+        Entry(char type, @NonNull String path, long size, long mtime, @Nullable String hash) {
+            this.type = type;
+            this.path = path;
+            this.size = size;
+            this.mtime = mtime;
+            this.hash = hash;
+        }
+
+        @WorkerThread
+        @NonNull
+        static Entry fromFile(@NonNull File file, @NonNull File source)
+                throws ErrnoException, RemoteException, IOException {
+            String path = TarUtils.getRelativePath(file, source);
+            if (TarUtils.isSymbolicLink(file)) {
+                return new Entry(TYPE_LINK, path, 0, file.lastModified(),
+                        file.getCanonicalFile().getAbsolutePath());
+            }
+            if (file.isDirectory()) {
+                return new Entry(TYPE_DIRECTORY, path, 0, file.lastModified(), null);
+            }
+            return new Entry(TYPE_FILE, path, file.length(), file.lastModified(), null);
+        }
+    }
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    private final List<String> deletedPaths = new ArrayList<>();
+
+    void addEntry(@NonNull Entry entry) {
+        entries.put(entry.path, entry);
+    }
+
+    @Nullable
+    Entry getEntry(@NonNull String path) {
+        return entries.get(path);
+    }
+
+    @NonNull
+    Collection<Entry> getEntries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * Paths that were present in the base backup but are deleted in this backup
+     */
+    @NonNull
+    List<String> getDeletedPaths() {
+        return Collections.unmodifiableList(deletedPaths);
+    }
+
+    /**
+     * Whether the given entry has to be archived in a backup based on this manifest. A regular file is considered
+     * changed if its size or modification time differs, which is what rsync and tar use by default. Directories are
+     * always archived so that empty directories and permissions are restored properly.
+     */
+    boolean hasChanged(@NonNull Entry newEntry) {
+        Entry oldEntry = entries.get(newEntry.path);
+        if (oldEntry == null || oldEntry.type != newEntry.type) return true;
+        switch (newEntry.type) {
+            case TYPE_LINK:
+                return !Objects.equals(oldEntry.hash, newEntry.hash);
+            case TYPE_FILE:
+                return oldEntry.size != newEntry.size || oldEntry.mtime != newEntry.mtime;
+            case TYPE_DIRECTORY:
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Record the paths of the base manifest that no longer exist in this manifest. A path whose type has changed, e.g.
+     * a directory replaced by a file, is also recorded so that the old one is deleted before the new one is extracted.
+     */
+    void setDeletedPaths(@NonNull BackupManifest base) {
+        deletedPaths.clear();
+        for (Entry baseEntry : base.entries.values()) {
+            Entry entry = entries.get(baseEntry.path);
+            if (entry == null || entry.type != baseEntry.type) {
+                deletedPaths.add(baseEntry.path);
+            }
+        }
+    }
+
+    /**
+     * Write the manifest to the given stream. The stream is not closed.
+     */
+    @WorkerThread
+    void write(@NonNull OutputStream os) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write('\n');
+        for (Entry entry : entries.values()) {
+            writer.write(entry.type + "\t" + entry.size + "\t" + entry.mtime + "\t"
+                    + (entry.hash == null ? NO_HASH : escape(entry.hash)) + "\t" + escape(entry.path) + "\n");
+        }
+        for (String path : deletedPaths) {
+            writer.write(TYPE_DELETED + "\t0\t0\t" + NO_HASH + "\t" + escape(path) + "\n");
+        }
+        writer.flush();
+    }
+
+    /**
+     * Read a manifest from the given stream. The stream is read completely but not closed.
+     */
+    @WorkerThread
+    @NonNull
+    static BackupManifest read(@NonNull InputStream is) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+        BackupManifest manifest = new BackupManifest();
+        String line = reader.readLine();
+        if (!HEADER.equals(line)) {
+            throw new IOException("Invalid manifest header: " + line);
+        }
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) continue;
+            String[] fields = line.split("\t", 5);
+            if (fields.length != 5 || fields[0].length() != 1) {
+                throw new IOException("Illegal line found in the manifest: " + line);
+            }
+            char type = fields[0].charAt(0);
+            String path = unescape(fields[4]);
+            if (type == TYPE_DELETED) {
+                manifest.deletedPaths.add(path);
+                continue;
+            }
+            try {
+                manifest.addEntry(new Entry(type, path, Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                        NO_HASH.equals(fields[3]) ? null : unescape(fields[3])));
+            } catch (NumberFormatException e) {
+                throw new IOException("Illegal line found in the manifest: " + line, e);
+            }
+        }
+        return manifest;
+    }
+
+    @NonNull
+    private static String escape(@NonNull String str) {
+        return str.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n");
+    }
+
+    @NonNull
+    private static String unescape(@NonNull String str) {
+        if (str.indexOf('\\') == -1) return str;
+        StringBuilder sb = new StringBuilder(str.length());
+        for (int i = 0; i < str.length(); ++i) {
+            char c = str.charAt(i);
+            if (c == '\\' && i + 1 < str.length()) {
+                char next = str.charAt(++i);
+                if (next == 't') sb.append('\t');
+                else if (next == 'n') sb.append('\n');
+                else sb.append(next);
+            } else sb.append(c);
+        }
+        return sb.toString();
+    }
+}
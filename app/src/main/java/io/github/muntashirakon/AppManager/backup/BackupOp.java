@@ -29,6 +29,7 @@ import android.os.Build;
 import android.os.RemoteException;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.WorkerThread;
 import androidx.core.content.pm.PermissionInfoCompat;
 
@@ -63,7 +64,11 @@ import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Pattern;
 
 import static io.github.muntashirakon.AppManager.backup.BackupManager.*;
@@ -72,6 +77,12 @@ import static io.github.muntashirakon.AppManager.backup.BackupManager.*;
 class BackupOp implements Closeable {
     static final String TAG = "BackupOp";
 
+    /**
+     * Maximum number of backups in an incremental backup chain including the full backup. A full backup is taken
+     * once the limit is reached, so that restoring does not have to replay too many backups.
+     */
+    static final int MAX_INCREMENTAL_CHAIN_LENGTH = 8;
+
     @NonNull
     private final String packageName;
     @NonNull
@@ -93,6 +104,10 @@ class BackupOp implements Closeable {
     private final Crypto crypto;
     @NonNull
     private final BackupFiles.Checksum checksum;
+    private final int compressionLevel = (int) AppPref.get(AppPref.PrefKey.PREF_BACKUP_COMPRESSION_LEVEL_INT);
+    @Nullable
+    private ChunkStore chunkStore;
+    private boolean chunkStoreUnavailable = false;
     // We don't need privileged package manager here
     @NonNull
     private final PackageManager pm = AppManager.getContext().getPackageManager();
@@ -219,26 +234,15 @@ class BackupOp implements Closeable {
             // TODO: 8/4/21 Check if tar can actually back up the APK file
             sourceDir = new ProxyFile(sourceDir, metadata.apkName).getAbsolutePath();
         }
-        File[] sourceFiles;
         try {
-            sourceFiles = TarUtils.create(metadata.tarType, new ProxyFile(sourceDir), sourceFile, /* language=regexp */
-                    new String[]{".*\\.apk"}, null, null, false).toArray(new File[0]);
+            createArchive(new ProxyFile(sourceDir), sourceFile, /* language=regexp */ new String[]{".*\\.apk"}, null);
         } catch (Throwable th) {
             throw new BackupException("APK files backup is requested but no source directory has been backed up.", th);
         }
-        if (!crypto.encrypt(sourceFiles)) {
-            throw new BackupException("Failed to encrypt " + Arrays.toString(sourceFiles));
-        }
-        // Overwrite with the new files
-        sourceFiles = crypto.getNewFiles();
-        for (File file : sourceFiles) {
-            checksum.add(file.getName(), DigestUtils.getHexDigest(metadata.checksumAlgo, file));
-        }
     }
 
     private void backupData() throws BackupException {
         File sourceFile;
-        File[] dataFiles;
         // Store file hash in a separate thread
         new Thread(() -> {
             for (String dir : metadata.dataDirs) {
@@ -248,24 +252,105 @@ class BackupOp implements Closeable {
                 AppManager.getDb().fileHashDao().insert(fileHash);
             }
         }).start();
+        BackupManifest[] baseManifests = getBaseManifests();
         for (int i = 0; i < metadata.dataDirs.length; ++i) {
             sourceFile = new ProxyFile(tmpBackupPath, DATA_PREFIX + i + getExt(metadata.tarType));
             try {
-                dataFiles = TarUtils.create(metadata.tarType, new ProxyFile(metadata.dataDirs[i]), sourceFile,
-                        null, null, BackupUtils.getExcludeDirs(!backupFlags.backupCache(), null),
-                        false).toArray(new File[0]);
+                backupDataDir(new ProxyFile(metadata.dataDirs[i]), sourceFile, i,
+                        baseManifests == null ? null : baseManifests[i]);
             } catch (Throwable th) {
                 throw new BackupException("Failed to backup data directory at " + metadata.dataDirs[i], th);
             }
-            if (!crypto.encrypt(dataFiles)) {
-                throw new BackupException("Failed to encrypt " + Arrays.toString(dataFiles));
+        }
+    }
+
+    /**
+     * Archive a data directory along with its manifest. If a base manifest is given, only the files changed since the
+     * base backup are archived, and the deleted files are recorded in the manifest.
+     */
+    private void backupDataDir(@NonNull File source, @NonNull File dest, int index,
+                               @Nullable BackupManifest baseManifest) throws Throwable {
+        List<File> files = TarUtils.gatherFiles(source, null, BackupUtils.getExcludeDirs(!backupFlags.backupCache(),
+                null), false);
+        BackupManifest manifest = new BackupManifest();
+        Map<File, BackupManifest.Entry> changedFiles = new LinkedHashMap<>(files.size());
+        for (File file : files) {
+            BackupManifest.Entry entry = BackupManifest.Entry.fromFile(file, source);
+            manifest.addEntry(entry);
+            if (baseManifest == null || baseManifest.hasChanged(entry)) {
+                changedFiles.put(file, entry);
+            } else {
+                // Unchanged, the contents are the same as the base
+                entry.hash = Objects.requireNonNull(baseManifest.getEntry(entry.path)).hash;
             }
-            // Overwrite with the new files
-            dataFiles = crypto.getNewFiles();
-            for (File file : dataFiles) {
-                checksum.add(file.getName(), DigestUtils.getHexDigest(metadata.checksumAlgo, file));
+        }
+        if (baseManifest != null) {
+            manifest.setDeletedPaths(baseManifest);
+        }
+        // Checksums of the regular files are calculated while they are being archived
+        createArchive(source, new ArrayList<>(changedFiles.keySet()), dest, DigestUtils.SHA_256, (file, checksum) -> {
+            BackupManifest.Entry entry = changedFiles.get(file);
+            if (entry != null) entry.hash = checksum;
+        });
+        File manifestFile = new ProxyFile(tmpBackupPath, MANIFEST_PREFIX + index + MANIFEST_EXT);
+        try (BackupOutputStream bos = new BackupOutputStream(manifestFile, crypto, metadata.crypto,
+                metadata.checksumAlgo, checksum)) {
+            manifest.write(bos);
+        }
+        if (baseManifest != null) {
+            Log.i(TAG, String.format(Locale.ROOT, "%s: %d of %d entries changed, %d deleted since %s",
+                    dest.getName(), changedFiles.size(), files.size(), manifest.getDeletedPaths().size(),
+                    metadata.baseBackup));
+        }
+    }
+
+    /**
+     * Find the backup an incremental backup can be based on, i.e. the latest backup of the same data directories
+     * that uses the same encryption and has manifests. A full backup is taken if there is no such backup or the backup
+     * chain is already too long.
+     *
+     * @return Manifests of the base backup for each data directory, or {@code null} for a full backup
+     */
+    @Nullable
+    private BackupManifest[] getBaseManifests() {
+        if (!backupFlags.backupIncremental()) return null;
+        MetadataManager.Metadata base = null;
+        for (MetadataManager.Metadata candidate : MetadataManager.getMetadata(packageName)) {
+            if (candidate.userHandle != userHandle || !candidate.flags.backupData()
+                    || !candidate.crypto.equals(metadata.crypto)
+                    || !Arrays.equals(candidate.dataDirs, metadata.dataDirs)) {
+                continue;
             }
+            if (base == null || candidate.backupTime > base.backupTime) base = candidate;
         }
+        if (base != null) {
+            try {
+                if (MetadataManager.getBackupChain(base).size() < MAX_INCREMENTAL_CHAIN_LENGTH) {
+                    try (BackupReader reader = new BackupReader(packageName, base.backupName, true)) {
+                        BackupManifest[] manifests = new BackupManifest[metadata.dataDirs.length];
+                        boolean hasManifests = true;
+                        for (int i = 0; i < manifests.length; ++i) {
+                            manifests[i] = reader.readManifest(i);
+                            if (manifests[i] == null) {
+                                hasManifests = false;
+                                break;
+                            }
+                        }
+                        if (hasManifests) {
+                            metadata.baseBackup = base.backupName;
+                            return manifests;
+                        }
+                    }
+                }
+            } catch (JSONException | BackupException e) {
+                Log.w(TAG, "Could not use " + base.backupName + " as the base backup.", e);
+            }
+        }
+        Log.i(TAG, "No suitable base backup found, taking a full backup.");
+        // Do not mark a full backup as incremental
+        metadata.flags = new BackupFlags(metadata.flags.getFlags());
+        metadata.flags.removeFlag(BackupFlags.BACKUP_INCREMENTAL);
+        return null;
     }
 
     private void backupKeyStore() throws BackupException {  // Called only when the app has an keystore item
@@ -300,26 +385,82 @@ class BackupOp implements Closeable {
             throw new BackupException("There were some KeyStore items but they couldn't be cached before taking a backup.");
         }
         File keyStoreSavePath = new ProxyFile(tmpBackupPath, KEYSTORE_PREFIX + getExt(metadata.tarType));
-        File[] backedUpKeyStoreFiles;
         try {
-            backedUpKeyStoreFiles = TarUtils.create(metadata.tarType, cachePath, keyStoreSavePath,
-                    keyStoreFilters.toArray(new String[0]), null, null, false).toArray(new File[0]);
+            createArchive(cachePath, keyStoreSavePath, keyStoreFilters.toArray(new String[0]), null);
         } catch (Throwable th) {
             throw new BackupException("Could not backup KeyStore item.", th);
+        } finally {
+            // Remove cache
+            for (String name : cachedKeyStoreFileNames) {
+                //noinspection ResultOfMethodCallIgnored
+                new ProxyFile(cachePath, name).delete();
+            }
         }
-        // Remove cache
-        for (String name : cachedKeyStoreFileNames) {
-            //noinspection ResultOfMethodCallIgnored
-            new ProxyFile(cachePath, name).delete();
-        }
-        if (!crypto.encrypt(backedUpKeyStoreFiles)) {
-            throw new BackupException("Failed to encrypt " + Arrays.toString(backedUpKeyStoreFiles));
+    }
+
+    /**
+     * Create a split archive of the source, encrypt each part and store their checksums in a single pass, i.e. the
+     * unencrypted archive is never written to the disk.
+     */
+    private void createArchive(@NonNull File source, @NonNull File dest, @Nullable String[] filters,
+                               @Nullable String[] exclude) throws Throwable {
+        createArchive(source, TarUtils.gatherFiles(source, filters, exclude, false), dest, null, null);
+    }
+
+    private void createArchive(@NonNull File source, @NonNull List<File> files, @NonNull File dest,
+                               @Nullable @DigestUtils.Algorithm String checksumAlgo,
+                               @Nullable TarUtils.OnChecksumListener listener) throws Throwable {
+        long startTime = System.currentTimeMillis();
+        long uncompressedSize;
+        long compressedSize;
+        ChunkStore chunkStore = getChunkStore();
+        if (chunkStore != null) {
+            // Store the chunks of the uncompressed archive in the chunk store, the backup only contains the index
+            File indexFile = new ProxyFile(dest.getAbsolutePath() + ChunkStore.INDEX_EXT);
+            ChecksumOutputStream indexStream = new ChecksumOutputStream(new ProxyOutputStream(indexFile),
+                    metadata.checksumAlgo);
+            try (ChunkOutputStream cos = new ChunkOutputStream(chunkStore, compressionLevel, indexStream)) {
+                uncompressedSize = TarUtils.createUncompressed(source, files, cos, false, checksumAlgo, listener);
+                // Only the new chunks are counted
+                compressedSize = cos.getStoredBytes();
+            }
+            checksum.add(indexFile.getName(), indexStream.getChecksum());
+        } else {
+            try (BackupOutputStream bos = new BackupOutputStream(dest, crypto, metadata.crypto, metadata.checksumAlgo,
+                    checksum)) {
+                uncompressedSize = TarUtils.create(metadata.tarType, compressionLevel, source, files, bos, false,
+                        checksumAlgo, listener);
+                compressedSize = bos.getTotalBytesWritten();
+            }
         }
-        // Overwrite with the new files
-        backedUpKeyStoreFiles = crypto.getNewFiles();
-        for (File file : backedUpKeyStoreFiles) {
-            checksum.add(file.getName(), DigestUtils.getHexDigest(metadata.checksumAlgo, file));
+        long elapsedTime = System.currentTimeMillis() - startTime;
+        // Keep a report so that the compression method can be chosen based on the data
+        metadata.uncompressedSize += uncompressedSize;
+        metadata.compressedSize += compressedSize;
+        metadata.compressionTime += elapsedTime;
+        Log.i(TAG, String.format(Locale.ROOT, "%s: %d bytes compressed to %d bytes (ratio %.2f) in %d ms using %s",
+                dest.getName(), uncompressedSize, compressedSize, compressedSize == 0 ? 0f
+                        : (float) uncompressedSize / compressedSize, elapsedTime, metadata.tarType));
+    }
+
+    /**
+     * Get the chunk store if deduplication is enabled and supported by the encryption mode. Regular archives are
+     * created if the chunk store cannot be opened, e.g. the key has been changed.
+     */
+    @Nullable
+    private ChunkStore getChunkStore() {
+        if (chunkStoreUnavailable || !ChunkStore.isEnabled() || !ChunkStore.isSupported(metadata.crypto)) {
+            return null;
+        }
+        if (chunkStore == null) {
+            try {
+                chunkStore = ChunkStore.open(metadata.crypto, metadata.tarType, true);
+            } catch (BackupException e) {
+                Log.w(TAG, "Chunk store is unavailable, creating regular archives.", e);
+                chunkStoreUnavailable = true;
+            }
         }
+        return chunkStore;
     }
 
     private void backupExtras() throws BackupException {
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.backup;
+
+import android.os.RemoteException;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import io.github.muntashirakon.AppManager.crypto.Crypto;
+import io.github.muntashirakon.AppManager.crypto.CryptoOutputStream;
+import io.github.muntashirakon.AppManager.utils.ChecksumOutputStream;
+import io.github.muntashirakon.AppManager.utils.DigestUtils;
+import io.github.muntashirakon.AppManager.utils.TarUtils;
+import io.github.muntashirakon.io.ProxyFile;
+import io.github.muntashirakon.io.ProxyOutputStream;
+import io.github.muntashirakon.io.SplitOutputStream;
+
+/**
+ * Split, encrypt and calculate checksum of each part of a backup in a single pass. Each part is encrypted separately
+ * and has the same name as it would have if it were encrypted using {@link Crypto#encrypt(File[])}, e.g.
+ * {@code data0.tar.gz.0.gpg}. The checksum of each part is added to {@link BackupFiles.Checksum} as soon as the part
+ * is complete.
+ */
+class BackupOutputStream extends SplitOutputStream {
+    @NonNull
+    private final Crypto crypto;
+    @NonNull
+    @CryptoUtils.Mode
+    private final String cryptoMode;
+    @NonNull
+    @DigestUtils.Algorithm
+    private final String checksumAlgo;
+    @NonNull
+    private final BackupFiles.Checksum checksum;
+    private ChecksumOutputStream currentChecksumStream;
+
+    @WorkerThread
+    BackupOutputStream(@NonNull File baseFile, @NonNull Crypto crypto, @NonNull @CryptoUtils.Mode String cryptoMode,
+                       @NonNull @DigestUtils.Algorithm String checksumAlgo, @NonNull BackupFiles.Checksum checksum) {
+        super(baseFile, TarUtils.DEFAULT_SPLIT_SIZE);
+        this.crypto = crypto;
+        this.cryptoMode = cryptoMode;
+        this.checksumAlgo = checksumAlgo;
+        this.checksum = checksum;
+    }
+
+    @WorkerThread
+    @NonNull
+    @Override
+    protected OutputStream openStream(@NonNull File file) throws IOException, RemoteException {
+        currentChecksumStream = new ChecksumOutputStream(new ProxyOutputStream(file), checksumAlgo);
+        if (CryptoUtils.MODE_NO_ENCRYPTION.equals(cryptoMode)) {
+            return currentChecksumStream;
+        }
+        return new CryptoOutputStream(crypto, currentChecksumStream);
+    }
+
+    @WorkerThread
+    @Override
+    protected void onStreamClosed(@NonNull File file, @NonNull OutputStream stream) throws IOException {
+        // Closing the crypto stream also closes the checksum stream
+        checksum.add(file.getName(), currentChecksumStream.getChecksum());
+    }
+
+    @NonNull
+    @Override
+    protected File getFile(int index) {
+        return new ProxyFile(super.getFile(index).getAbsolutePath() + CryptoUtils.getExtension(cryptoMode));
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.backup;
+
+import android.os.RemoteException;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.muntashirakon.AppManager.crypto.Crypto;
+import io.github.muntashirakon.AppManager.crypto.CryptoException;
+import io.github.muntashirakon.AppManager.logs.Log;
+import io.github.muntashirakon.AppManager.utils.ArrayUtils;
+import io.github.muntashirakon.AppManager.utils.DigestUtils;
+import io.github.muntashirakon.AppManager.utils.IOUtils;
+import io.github.muntashirakon.AppManager.utils.TarUtils;
+import io.github.muntashirakon.io.ProxyFile;
+
+import static io.github.muntashirakon.AppManager.backup.BackupManager.DATA_PREFIX;
+import static io.github.muntashirakon.AppManager.backup.BackupManager.MANIFEST_PREFIX;
+
+/**
+ * Read the data archives and manifests of an existing backup. This is used to access the other backups in an
+ * incremental backup chain, see {@link BackupManifest}.
+ */
+@WorkerThread
+class BackupReader implements Closeable {
+    static final String TAG = "BackupReader";
+
+    @NonNull
+    private final MetadataManager.Metadata metadata;
+    @NonNull
+    private final Crypto crypto;
+    @Nullable
+    private final BackupFiles.Checksum checksum;
+    @NonNull
+    private final File backupPath;
+    private final List<File> decryptedFiles = new ArrayList<>();
+
+    /**
+     * @param backupName Name of the backup directory inside the package directory
+     * @param verify     Whether to verify the files using the stored checksums
+     */
+    BackupReader(@NonNull String packageName, @NonNull String backupName, boolean verify) throws BackupException {
+        BackupFiles.BackupFile backupFile = new BackupFiles.BackupFile(new ProxyFile(
+                BackupFiles.getPackagePath(packageName), backupName), false);
+        backupPath = backupFile.getBackupPath();
+        if (!backupPath.exists()) {
+            throw new BackupException("Backup " + backupName + " does not exist.");
+        }
+        MetadataManager metadataManager = MetadataManager.getNewInstance();
+        try {
+            metadataManager.readMetadata(backupFile);
+            metadata = metadataManager.getMetadata();
+        } catch (Exception e) {
+            throw new BackupException("Could not read metadata of " + backupName, e);
+        }
+        if (!CryptoUtils.isAvailable(metadata.crypto)) {
+            throw new BackupException("Mode " + metadata.crypto + " is currently unavailable.");
+        }
+        try {
+            crypto = CryptoUtils.getCrypto(metadata);
+        } catch (CryptoException e) {
+            throw new BackupException("Could not get crypto " + metadata.crypto, e);
+        }
+        if (!verify) {
+            checksum = null;
+            return;
+        }
+        File checksumFile = backupFile.getChecksumFile(metadata.crypto);
+        if (!crypto.decrypt(new File[]{checksumFile})) {
+            close();
+            throw new BackupException("Could not decrypt " + checksumFile.getName());
+        }
+        try {
+            decryptedFiles.addAll(Arrays.asList(crypto.getNewFiles()));
+            checksum = new BackupFiles.Checksum(backupFile.getChecksumFile(CryptoUtils.MODE_NO_ENCRYPTION), "r");
+        } catch (Throwable e) {
+            close();
+            throw new BackupException("Could not get checksums of " + backupName, e);
+        }
+        File metadataFile = backupFile.getMetadataFile();
+        String foundChecksum = DigestUtils.getHexDigest(metadata.checksumAlgo, metadataFile);
+        if (!foundChecksum.equals(checksum.get(metadataFile.getName()))) {
+            close();
+            throw new BackupException("Could not verify metadata of " + backupName);
+        }
+    }
+
+    @NonNull
+    MetadataManager.Metadata getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Verify, decrypt and extract the data archive at the given index.
+     */
+    void extractData(int index, @NonNull File dest, @Nullable String[] exclude) throws BackupException {
+        File[] dataFiles = getFiles(DATA_PREFIX + index);
+        if (dataFiles.length == 0) {
+            throw new BackupException("No data files at index " + index + " in " + metadata.backupName);
+        }
+        try {
+            File indexFile = ChunkStore.findIndex(dataFiles);
+            if (indexFile != null) {
+                ChunkStore.extract(indexFile, metadata, checksum, dest, null, exclude);
+            } else {
+                TarUtils.extract(metadata.tarType, new RestoreInputStream(dataFiles, crypto, metadata.crypto,
+                        metadata.checksumAlgo, checksum), dest, null, exclude);
+            }
+        } catch (BackupException e) {
+            throw e;
+        } catch (Throwable th) {
+            throw new BackupException("Could not extract data at index " + index + " in " + metadata.backupName, th);
+        }
+    }
+
+    /**
+     * Verify the data archive and the manifest at the given index using the stored checksums, if requested, and check
+     * that the chunks referred to by the archive exist. This does not read the contents of the chunks.
+     *
+     * @param requireManifest Whether the backup must have a manifest at the given index
+     */
+    void verifyData(int index, boolean requireManifest) throws BackupException {
+        File[] dataFiles = getFiles(DATA_PREFIX + index);
+        if (dataFiles.length == 0) {
+            throw new BackupException("No data files at index " + index + " in " + metadata.backupName);
+        }
+        File[] manifestFiles = getFiles(MANIFEST_PREFIX + index);
+        if (requireManifest && manifestFiles.length == 0) {
+            throw new BackupException("Incremental backup " + metadata.backupName
+                    + " does not have a manifest at index " + index);
+        }
+        if (checksum != null) {
+            for (File file : ArrayUtils.concatElements(File.class, dataFiles, manifestFiles)) {
+                String foundChecksum = DigestUtils.getHexDigest(metadata.checksumAlgo, file);
+                if (!foundChecksum.equals(checksum.get(file.getName()))) {
+                    throw new BackupException("Could not verify " + file.getName() + " in " + metadata.backupName);
+                }
+            }
+        }
+        File indexFile = ChunkStore.findIndex(dataFiles);
+        if (indexFile == null) return;
+        try {
+            ChunkStore.verify(indexFile);
+        } catch (IOException | RemoteException e) {
+            throw new BackupException("Could not verify chunks of " + indexFile.getName(), e);
+        }
+    }
+
+    /**
+     * Read the manifest of the data directory at the given index.
+     *
+     * @return The manifest, or {@code null} if the backup does not have one (e.g. it was made by an older version)
+     */
+    @Nullable
+    BackupManifest readManifest(int index) throws BackupException {
+        File[] manifestFiles = getFiles(MANIFEST_PREFIX + index);
+        if (manifestFiles.length == 0) return null;
+        try (InputStream is = new RestoreInputStream(manifestFiles, crypto, metadata.crypto, metadata.checksumAlgo,
+                checksum)) {
+            return BackupManifest.read(is);
+        } catch (Throwable th) {
+            throw new BackupException("Could not read manifest at index " + index + " in " + metadata.backupName, th);
+        }
+    }
+
+    @Override
+    public void close() {
+        crypto.close();
+        for (File file : decryptedFiles) {
+            IOUtils.deleteSilently(new ProxyFile(file));
+        }
+        decryptedFiles.clear();
+    }
+
+    /**
+     * Get the parts of a file in this backup sorted by their index
+     */
+    @NonNull
+    private File[] getFiles(@NonNull String prefix) {
+        String ext = CryptoUtils.getExtension(metadata.crypto);
+        File[] indexFiles = backupPath.listFiles((dir, name) -> name.startsWith(prefix + ".")
+                && name.endsWith(ChunkStore.INDEX_EXT));
+        if (indexFiles != null && indexFiles.length > 0) {
+            // Stored in the chunk store
+            return indexFiles;
+        }
+        File[] files = backupPath.listFiles((dir, name) -> name.startsWith(prefix + ".") && name.endsWith(ext));
+        if (files == null) return new File[0];
+        Arrays.sort(files, (o1, o2) -> Integer.compare(getPartIndex(o1, ext), getPartIndex(o2, ext)));
+        return files;
+    }
+
+    static int getPartIndex(@NonNull File file, @NonNull String ext) {
+        String name = file.getName();
+        name = name.substring(0, name.length() - ext.length());
+        try {
+            return Integer.parseInt(name.substring(name.lastIndexOf('.') + 1));
+        } catch (NumberFormatException e) {
+            Log.w(TAG, "Invalid part " + file.getName());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.backup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Read the chunks listed in an index from a {@link ChunkStore} as a single stream. Each chunk is verified before it is
+ * returned.
+ */
+@WorkerThread
+class ChunkInputStream extends InputStream {
+    @NonNull
+    private final ChunkStore store;
+    @NonNull
+    private final List<ChunkStore.Chunk> chunks;
+    private int nextChunk = 0;
+    private byte[] currentChunk;
+    private int position = 0;
+
+    ChunkInputStream(@NonNull ChunkStore store, @NonNull List<ChunkStore.Chunk> chunks) {
+        this.store = store;
+        this.chunks = chunks;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : (b[0] & 0xff);
+    }
+
+    @Override
+    public int read(@NonNull byte[] b, int off, int len) throws IOException {
+        if (len == 0) return 0;
+        while (currentChunk == null || position == currentChunk.length) {
+            if (nextChunk == chunks.size()) return -1;
+            currentChunk = store.get(chunks.get(nextChunk++));
+            position = 0;
+        }
+        int count = Math.min(len, currentChunk.length - position);
+        System.arraycopy(currentChunk, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return currentChunk == null ? 0 : currentChunk.length - position;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.backup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import aosp.libcore.util.HexEncoding;
+import io.github.muntashirakon.AppManager.utils.DigestUtils;
+
+/**
+ * Split a stream into content-defined chunks and store them in a {@link ChunkStore}. The chunk boundaries are found
+ * using a gear rolling hash (as in FastCDC), so that an insertion or a deletion only affects the chunks around it and
+ * the rest of the stream is still deduplicated. The index of the chunks is written to the index stream when this
+ * stream is closed.
+ */
+@WorkerThread
+class ChunkOutputStream extends OutputStream {
+    static final int MIN_CHUNK_SIZE = 256 * 1024;
+    static final int MAX_CHUNK_SIZE = 4 * 1024 * 1024;
+    /**
+     * A boundary is found when the top 20 bits of the hash are zero, which gives about 1 MiB of average chunk size
+     * after the minimum chunk size. The top bits are used as they depend on the last 64 bytes.
+     */
+    private static final long BOUNDARY_MASK = 0xFFFF_F000_0000_0000L;
+    /**
+     * Random values for each byte. The seed must never be changed as it would change the chunk boundaries.
+     */
+    private static final long[] GEAR = new long[256];
+
+    static {
+        Random random = new Random(0x616d5f6368756e6bL);
+        for (int i = 0; i < GEAR.length; ++i) {
+            GEAR[i] = random.nextLong();
+        }
+    }
+
+    @NonNull
+    private final ChunkStore store;
+    private final int compressionLevel;
+    @NonNull
+    private final OutputStream indexStream;
+    @NonNull
+    private final MessageDigest messageDigest;
+    private final byte[] buffer = new byte[MAX_CHUNK_SIZE];
+    private final List<ChunkStore.Chunk> chunks = new ArrayList<>();
+    private int count = 0;
+    private long hash = 0;
+    private long storedBytes = 0;
+    private boolean closed = false;
+
+    /**
+     * @param indexStream Stream where the index is written, closed when this stream is closed
+     */
+    ChunkOutputStream(@NonNull ChunkStore store, int compressionLevel, @NonNull OutputStream indexStream)
+            throws IOException {
+        this.store = store;
+        this.compressionLevel = compressionLevel;
+        this.indexStream = indexStream;
+        try {
+            messageDigest = MessageDigest.getInstance(DigestUtils.SHA_256);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Number of bytes written to the store, i.e. the compressed size of the chunks that were not already in the store
+     */
+    long getStoredBytes() {
+        return storedBytes;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(@NonNull byte[] b, int off, int len) throws IOException {
+        if (closed) throw new IOException("Stream closed.");
+        for (int i = off; i < off + len; ++i) {
+            buffer[count++] = b[i];
+            // Chunks smaller than the minimum size are never cut, no need to calculate the hash
+            if (count < MIN_CHUNK_SIZE) continue;
+            hash = (hash << 1) + GEAR[b[i] & 0xff];
+            if ((hash & BOUNDARY_MASK) == 0 || count == MAX_CHUNK_SIZE) {
+                storeChunk();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            storeChunk();
+            ChunkStore.writeIndex(new ChunkStore.Index(store.poolName, chunks), indexStream);
+            indexStream.close();
+        } finally {
+            // The index is written, it protects the chunks from now on
+            for (ChunkStore.Chunk chunk : chunks) {
+                store.unpin(chunk.hash);
+            }
+        }
+    }
+
+    private void storeChunk() throws IOException {
+        if (count == 0) return;
+        messageDigest.update(buffer, 0, count);
+        String chunkHash = HexEncoding.encodeToString(messageDigest.digest(), false /* lowercase */);
+        ChunkStore.Chunk chunk = new ChunkStore.Chunk(chunkHash, count);
+        chunks.add(chunk);
+        if (!store.pinAndCheck(chunkHash)) {
+            storedBytes += store.put(chunkHash, buffer, count, compressionLevel);
+        }
+        count = 0;
+        hash = 0;
+    }
+}
@@ -0,0 +1,559 @@
+/*
+ * Copyright (C) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.backup;
+
+import android.os.RemoteException;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.github.muntashirakon.AppManager.crypto.AESCrypto;
+import io.github.muntashirakon.AppManager.crypto.CryptoException;
+import io.github.muntashirakon.AppManager.logs.Log;
+import io.github.muntashirakon.AppManager.utils.AppPref;
+import io.github.muntashirakon.AppManager.utils.ArrayUtils;
+import io.github.muntashirakon.AppManager.utils.DigestUtils;
+import io.github.muntashirakon.AppManager.utils.IOUtils;
+import io.github.muntashirakon.AppManager.utils.TarUtils;
+import io.github.muntashirakon.io.ProxyFile;
+import io.github.muntashirakon.io.ProxyInputStream;
+import io.github.muntashirakon.io.ProxyOutputStream;
+
+/**
+ * A content-addressed store of archive chunks shared by the backups of all the apps and users. Instead of a split
+ * archive, a backup made using the chunk store consists of an index file (e.g. {@code data0.tar.gz.idx}) listing the
+ * chunks of the uncompressed tar stream (see {@link ChunkOutputStream}). Identical chunks, such as the same APK files
+ * backed up for multiple users or the unchanged files in multiple generations of a backup, are stored only once.
+ * <p>
+ * Chunks are stored in pools at {@code .chunks/<crypto>-<tar type>/<first two digits of the hash>/<hash>}, where the
+ * hash is the SHA-256 of the uncompressed chunk. Each chunk is compressed separately. For encrypted pools, each chunk
+ * is prefixed with its IV, which is derived from the hash of the compressed chunk so that the same IV is never reused
+ * for a different content. As with any deduplicating store, the hash of a chunk reveals whether a known content is
+ * present in the backups. OpenPGP is not supported as the backups are encrypted for a set of recipients.
+ * <p>
+ * Index files are not encrypted, but their checksums are stored in the checksum file of the backup. Chunks that are
+ * not referenced by any index are removed by {@link #collectGarbage()}.
+ */
+final class ChunkStore {
+    public static final String TAG = "ChunkStore";
+
+    static final String CHUNK_DIRECTORY = ".chunks";
+    static final String INDEX_EXT = ".idx";
+
+    /**
+     * Unreferenced chunks are kept for this duration so that the chunks written by a backup that has not yet written
+     * its index are not removed
+     */
+    static final long GC_GRACE_PERIOD = TimeUnit.DAYS.toMillis(1);
+
+    private static final String INDEX_HEADER = "#am-chunk-index\t1";
+    private static final String KEY_CHECK_FILE = "key_check";
+    private static final String RSA_KEY_FILE = "key.rsa";
+    private static final String TMP_EXT = ".tmp";
+    private static final byte[] KEY_CHECK_CONTENT = "am-chunk-store".getBytes(StandardCharsets.UTF_8);
+    private static final int HASH_LENGTH = 64;
+
+    private static final Object sLock = new Object();
+    private static final Object sGcLock = new Object();
+    // Chunks used by the backups in progress, guarded by itself
+    private static final Map<String, Integer> sPinnedChunks = new HashMap<>();
+    // Chunks pinned or unpinned while the garbage collector is running, guarded by sPinnedChunks. A chunk unpinned
+    // after the index files are read is protected by an index the garbage collector has not seen.
+    @Nullable
+    private static Set<String> sTouchedChunks;
+
+    static class Chunk {
+        /**
+         * SHA-256 of the uncompressed chunk
+         */
+        @NonNull
+        final String hash;
+        /**
+         * Size of the uncompressed chunk
+         */
+        final int size;
+
+        Chunk(@NonNull String hash, int size) {
+            this.hash = hash;
+            this.size = size;
+        }
+    }
+
+    static class Index {
+        @NonNull
+        final String poolName;
+        @NonNull
+        final List<Chunk> chunks;
+
+        Index(@NonNull String poolName, @NonNull List<Chunk> chunks) {
+            this.poolName = poolName;
+            this.chunks = chunks;
+        }
+    }
+
+    static boolean isEnabled() {
+        return (boolean) AppPref.get(AppPref.PrefKey.PREF_BACKUP_DEDUPLICATE_BOOL);
+    }
+
+    static boolean isSupported(@NonNull @CryptoUtils.Mode String cryptoMode) {
+        switch (cryptoMode) {
+            case CryptoUtils.MODE_NO_ENCRYPTION:
+            case CryptoUtils.MODE_AES:
+            case CryptoUtils.MODE_RSA:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Open the pool for the given encryption mode and compression type.
+     *
+     * @param create Whether to create the pool if it does not exist
+     */
+    @WorkerThread
+    @NonNull
+    static ChunkStore open(@NonNull @CryptoUtils.Mode String cryptoMode, @NonNull @TarUtils.TarType String tarType,
+                           boolean create) throws BackupException {
+        if (!isSupported(cryptoMode)) {
+            throw new BackupException("Mode " + cryptoMode + " is not supported by the chunk store.");
+        }
+        ChunkStore store = new ChunkStore(cryptoMode, tarType);
+        synchronized (sLock) {
+            try {
+                store.setupKey(create);
+            } catch (IOException | RemoteException | CryptoException e) {
+                throw new BackupException("Could not open chunk store " + store.poolName, e);
+            }
+        }
+        return store;
+    }
+
+    @NonNull
+    static File getChunkDirectory() {
+        return new ProxyFile(BackupFiles.getBackupDirectory(), CHUNK_DIRECTORY);
+    }
+
+    /**
+     * Find the index file among the files of an archive
+     *
+     * @return The index file or {@code null} if the archive is not stored in the chunk store
+     */
+    @Nullable
+    static File findIndex(@NonNull File[] files) {
+        for (File file : files) {
+            if (file.getName().endsWith(INDEX_EXT)) return file;
+        }
+        return null;
+    }
+
+    @NonNull
+    final String poolName;
+    @NonNull
+    @CryptoUtils.Mode
+    private final String cryptoMode;
+    @NonNull
+    @TarUtils.TarType
+    private final String tarType;
+    @NonNull
+    private final File poolPath;
+    @Nullable
+    private byte[] encryptedAesKey;
+    /**
+     * Chunks are encrypted using the same key with different IVs, the key is only loaded once
+     */
+    @Nullable
+    private AESCrypto crypto;
+
+    private ChunkStore(@NonNull @CryptoUtils.Mode String cryptoMode, @NonNull @TarUtils.TarType String tarType) {
+        this.cryptoMode = cryptoMode;
+        this.tarType = tarType;
+        this.poolName = cryptoMode + "-" + tarType;
+        this.poolPath = new ProxyFile(getChunkDirectory(), poolName);
+    }
+
+    /**
+     * Load the key of an encrypted pool and check whether it can actually decrypt the chunks, i.e. the key has not
+     * been changed since the pool was created. RSA pools use a randomly generated AES key encrypted using the RSA key,
+     * similar to the backups encrypted using RSA.
+     */
+    @WorkerThread
+    private void setupKey(boolean create)
+            throws IOException, RemoteException, CryptoException, BackupException {
+        if (CryptoUtils.MODE_NO_ENCRYPTION.equals(cryptoMode)) return;
+        File rsaKeyFile = new ProxyFile(poolPath, RSA_KEY_FILE);
+        File keyCheckFile = new ProxyFile(poolPath, KEY_CHECK_FILE);
+        if (keyCheckFile.exists()) {
+            if (CryptoUtils.MODE_RSA.equals(cryptoMode)) {
+                if (!rsaKeyFile.exists()) {
+                    throw new BackupException("Key of chunk store " + poolName + " is missing.");
+                }
+                encryptedAesKey = readFile(rsaKeyFile);
+            }
+            loadKey();
+            byte[] content = decrypt(readFile(keyCheckFile));
+            if (!Arrays.equals(content, KEY_CHECK_CONTENT)) {
+                throw new BackupException("Chunk store " + poolName + " was created using a different key.");
+            }
+            return;
+        }
+        if (!create) {
+            throw new BackupException("Chunk store " + poolName + " does not exist.");
+        }
+        if (!poolPath.exists() && !poolPath.mkdirs()) {
+            throw new IOException("Could not create " + poolPath);
+        }
+        // A new AES key is generated in RSA mode
+        loadKey();
+        if (CryptoUtils.MODE_RSA.equals(cryptoMode)) {
+            writeFile(rsaKeyFile, Objects.requireNonNull(encryptedAesKey));
+        }
+        writeFile(keyCheckFile, encrypt(KEY_CHECK_CONTENT));
+    }
+
+    /**
+     * Whether the store has the given chunk. The chunk is pinned, i.e. it is not removed by the garbage collector until
+     * {@link #unpin(String)} is called.
+     */
+    @WorkerThread
+    boolean pinAndCheck(@NonNull String hash) {
+        String key = poolName + "/" + hash;
+        synchronized (sPinnedChunks) {
+            Integer count = sPinnedChunks.get(key);
+            sPinnedChunks.put(key, count == null ? 1 : count + 1);
+            if (sTouchedChunks != null) sTouchedChunks.add(key);
+        }
+        return getChunkFile(hash).exists();
+    }
+
+    void unpin(@NonNull String hash) {
+        String key = poolName + "/" + hash;
+        synchronized (sPinnedChunks) {
+            Integer count = sPinnedChunks.get(key);
+            if (count == null || count <= 1) {
+                sPinnedChunks.remove(key);
+            } else sPinnedChunks.put(key, count - 1);
+            if (sTouchedChunks != null) sTouchedChunks.add(key);
+        }
+    }
+
+    /**
+     * Compress, encrypt and store a chunk.
+     *
+     * @return Number of bytes stored
+     */
+    @WorkerThread
+    long put(@NonNull String hash, @NonNull byte[] buffer, int length, int level) throws IOException {
+        ByteArrayOutputStream compressedStream = new ByteArrayOutputStream(length / 2);
+        try (OutputStream os = TarUtils.getCompressorOutputStream(tarType, level, compressedStream)) {
+            os.write(buffer, 0, length);
+        }
+        byte[] content = encrypt(compressedStream.toByteArray());
+        File chunkFile = getChunkFile(hash);
+        File parent = chunkFile.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Could not create " + parent);
+        }
+        // Write to a temporary file first so that an interrupted write does not leave a corrupted chunk
+        File tmpFile = new ProxyFile(chunkFile.getAbsolutePath() + "." + Thread.currentThread().getId() + TMP_EXT);
+        try {
+            writeFile(tmpFile, content);
+        } catch (RemoteException e) {
+            throw new IOException(e);
+        }
+        if (!tmpFile.renameTo(chunkFile)) {
+            //noinspection ResultOfMethodCallIgnored
+            tmpFile.delete();
+            throw new IOException("Could not store chunk " + hash);
+        }
+        return content.length;
+    }
+
+    /**
+     * Read, decrypt, decompress and verify a chunk.
+     */
+    @WorkerThread
+    @NonNull
+    byte[] get(@NonNull Chunk chunk) throws IOException {
+        File chunkFile = getChunkFile(chunk.hash);
+        if (!chunkFile.exists()) {
+            throw new IOException("Chunk " + chunk.hash + " is missing from " + poolName);
+        }
+        byte[] compressed;
+        try {
+            compressed = decrypt(readFile(chunkFile));
+        } catch (RemoteException e) {
+            throw new IOException("Could not read chunk " + chunk.hash, e);
+        }
+        byte[] content;
+        try (InputStream is = TarUtils.getCompressorInputStream(tarType, new ByteArrayInputStream(compressed))) {
+            content = IOUtils.readFully(is, chunk.size, true);
+            if (is.read() != -1) {
+                throw new IOException("Chunk " + chunk.hash + " is larger than expected.");
+            }
+        }
+        if (!chunk.hash.equals(DigestUtils.getHexDigest(DigestUtils.SHA_256, content))) {
+            throw new IOException("Chunk " + chunk.hash + " is corrupted.");
+        }
+        return content;
+    }
+
+    @NonNull
+    private File getChunkFile(@NonNull String hash) {
+        return new ProxyFile(new ProxyFile(poolPath, hash.substring(0, 2)), hash);
+    }
+
+    @NonNull
+    private byte[] encrypt(@NonNull byte[] content) throws IOException {
+        if (CryptoUtils.MODE_NO_ENCRYPTION.equals(cryptoMode)) return content;
+        byte[] iv = Arrays.copyOf(DigestUtils.getDigest(DigestUtils.SHA_256, content), AESCrypto.GCM_IV_LENGTH);
+        ByteArrayOutputStream os = new ByteArrayOutputStream(iv.length + content.length + 16);
+        os.write(iv);
+        Objects.requireNonNull(crypto).encrypt(iv, new ByteArrayInputStream(content), os);
+        return os.toByteArray();
+    }
+
+    @NonNull
+    private byte[] decrypt(@NonNull byte[] content) throws IOException {
+        if (CryptoUtils.MODE_NO_ENCRYPTION.equals(cryptoMode)) return content;
+        if (content.length < AESCrypto.GCM_IV_LENGTH) {
+            throw new IOException("Encrypted content is too short.");
+        }
+        byte[] iv = Arrays.copyOf(content, AESCrypto.GCM_IV_LENGTH);
+        ByteArrayOutputStream os = new ByteArrayOutputStream(content.length);
+        Objects.requireNonNull(crypto).decrypt(iv, new ByteArrayInputStream(content, iv.length,
+                content.length - iv.length), os);
+        return os.toByteArray();
+    }
+
+    /**
+     * Load the AES key, or generate one in RSA mode if there is no encrypted key
+     */
+    @WorkerThread
+    private void loadKey() throws CryptoException {
+        MetadataManager.Metadata metadata = new MetadataManager.Metadata();
+        metadata.crypto = cryptoMode;
+        // Only the key is used, each chunk has its own IV
+        metadata.iv = new byte[AESCrypto.GCM_IV_LENGTH];
+        metadata.aes = encryptedAesKey;
+        crypto = (AESCrypto) CryptoUtils.getCrypto(metadata);
+        encryptedAesKey = metadata.aes;
+    }
+
+    /**
+     * Write the index of an archive. The stream is not closed.
+     */
+    @WorkerThread
+    static void writeIndex(@NonNull Index index, @NonNull OutputStream os) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8));
+        writer.write(INDEX_HEADER + "\t" + index.poolName + "\n");
+        for (Chunk chunk : index.chunks) {
+            writer.write(chunk.hash + "\t" + chunk.size + "\n");
+        }
+        writer.flush();
+    }
+
+    @WorkerThread
+    @NonNull
+    static Index readIndex(@NonNull InputStream is) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        if (line == null || !line.startsWith(INDEX_HEADER + "\t")) {
+            throw new IOException("Invalid index header: " + line);
+        }
+        String poolName = line.substring(INDEX_HEADER.length() + 1);
+        List<Chunk> chunks = new ArrayList<>();
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) continue;
+            String[] fields = line.split("\t");
+            if (fields.length != 2 || fields[0].length() != HASH_LENGTH) {
+                throw new IOException("Illegal line found in the index: " + line);
+            }
+            try {
+                chunks.add(new Chunk(fields[0], Integer.parseInt(fields[1])));
+            } catch (NumberFormatException e) {
+                throw new IOException("Illegal line found in the index: " + line, e);
+            }
+        }
+        return new Index(poolName, chunks);
+    }
+
+    /**
+     * Verify the index file of an archive, and extract the archive from the chunk store.
+     *
+     * @param checksum Checksums of the backup, {@code null} to skip verification of the index
+     */
+    @WorkerThread
+    static void extract(@NonNull File indexFile, @NonNull MetadataManager.Metadata metadata,
+                        @Nullable BackupFiles.Checksum checksum, @NonNull File dest, @Nullable String[] filters,
+                        @Nullable String[] exclude) throws IOException, RemoteException, BackupException {
+        byte[] indexContent = readFile(indexFile);
+        if (checksum != null) {
+            String foundChecksum = DigestUtils.getHexDigest(metadata.checksumAlgo, indexContent);
+            if (!foundChecksum.equals(checksum.get(indexFile.getName()))) {
+                throw new IOException("Could not verify " + indexFile.getName());
+            }
+        }
+        Index index = readIndex(new ByteArrayInputStream(indexContent));
+        ChunkStore store = open(metadata.crypto, metadata.tarType, false);
+        if (!store.poolName.equals(index.poolName)) {
+            throw new IOException("Index " + indexFile.getName() + " refers to chunk store " + index.poolName
+                    + " instead of " + store.poolName);
+        }
+        TarUtils.extractUncompressed(new ChunkInputStream(store, index.chunks), dest, filters, exclude);
+    }
+
+    /**
+     * Check whether all the chunks referred to by the index file exist. The contents of the chunks are verified when
+     * they are restored.
+     */
+    @WorkerThread
+    static void verify(@NonNull File indexFile) throws IOException, RemoteException {
+        Index index;
+        try (InputStream is = new ProxyInputStream(indexFile)) {
+            index = readIndex(is);
+        }
+        File poolPath = new ProxyFile(getChunkDirectory(), index.poolName);
+        for (Chunk chunk : index.chunks) {
+            if (!new ProxyFile(new ProxyFile(poolPath, chunk.hash.substring(0, 2)), chunk.hash).exists()) {
+                throw new IOException("Chunk " + chunk.hash + " is missing from " + index.poolName);
+            }
+        }
+    }
+
+    /**
+     * Whether the given backup contains any archives stored in the chunk store
+     */
+    static boolean hasIndex(@NonNull File backupPath) {
+        File[] indexFiles = backupPath.listFiles((dir, name) -> name.endsWith(INDEX_EXT));
+        return indexFiles != null && indexFiles.length > 0;
+    }
+
+    /**
+     * Remove the chunks that are not referenced by the index file of any backup, including the backups in progress.
+     * Garbage collection is skipped altogether if any of the index files cannot be read.
+     */
+    @WorkerThread
+    static void collectGarbage() {
+        File chunkDirectory = getChunkDirectory();
+        if (!chunkDirectory.exists()) return;
+        synchronized (sGcLock) {
+            synchronized (sPinnedChunks) {
+                sTouchedChunks = new HashSet<>();
+            }
+            try {
+                collectGarbageLocked(chunkDirectory);
+            } finally {
+                synchronized (sPinnedChunks) {
+                    sTouchedChunks = null;
+                }
+            }
+        }
+    }
+
+    @WorkerThread
+    private static void collectGarbageLocked(@NonNull File chunkDirectory) {
+        long startTime = System.currentTimeMillis();
+        // Mark: <backup directory>/<package name>/<backup name>/*.idx, temporary backups are also stored this way
+        Set<String> referencedChunks = new HashSet<>();
+        File[] packagePaths = BackupFiles.getBackupDirectory().listFiles(file -> file.isDirectory()
+                && !CHUNK_DIRECTORY.equals(file.getName()));
+        for (File packagePath : ArrayUtils.defeatNullable(packagePaths)) {
+            for (File backupPath : ArrayUtils.defeatNullable(packagePath.listFiles(File::isDirectory))) {
+                File[] indexFiles = backupPath.listFiles((dir, name) -> name.endsWith(INDEX_EXT));
+                for (File indexFile : ArrayUtils.defeatNullable(indexFiles)) {
+                    try (InputStream is = new ProxyInputStream(indexFile)) {
+                        Index index = readIndex(is);
+                        for (Chunk chunk : index.chunks) {
+                            referencedChunks.add(index.poolName + "/" + chunk.hash);
+                        }
+                    } catch (IOException | RemoteException e) {
+                        Log.e(TAG, "Could not read " + indexFile + ", skipping garbage collection.", e);
+                        return;
+                    }
+                }
+            }
+        }
+        // Sweep
+        int deletedCount = 0;
+        long freedBytes = 0;
+        for (File poolPath : ArrayUtils.defeatNullable(chunkDirectory.listFiles(File::isDirectory))) {
+            for (File hashPath : ArrayUtils.defeatNullable(poolPath.listFiles(File::isDirectory))) {
+                for (File chunkFile : ArrayUtils.defeatNullable(hashPath.listFiles())) {
+                    String name = chunkFile.getName();
+                    boolean expired = startTime - chunkFile.lastModified() > GC_GRACE_PERIOD;
+                    if (name.endsWith(TMP_EXT)) {
+                        // Leftover from an interrupted backup
+                        if (expired) chunkFile.delete();
+                        continue;
+                    }
+                    String key = poolPath.getName() + "/" + name;
+                    if (!expired || referencedChunks.contains(key)) continue;
+                    synchronized (sPinnedChunks) {
+                        if (sPinnedChunks.containsKey(key)
+                                || (sTouchedChunks != null && sTouchedChunks.contains(key))) continue;
+                        long size = chunkFile.length();
+                        if (chunkFile.delete()) {
+                            ++deletedCount;
+                            freedBytes += size;
+                        }
+                    }
+                }
+            }
+        }
+        Log.i(TAG, String.format(Locale.ROOT, "Removed %d unreferenced chunks (%d bytes) in %d ms", deletedCount,
+                freedBytes, System.currentTimeMillis() - startTime));
+    }
+
+    @NonNull
+    private static byte[] readFile(@NonNull File file) throws IOException, RemoteException {
+        try (InputStream is = new ProxyInputStream(file)) {
+            return IOUtils.readFully(is, -1, true);
+        }
+    }
+
+    private static void writeFile(@NonNull File file, @NonNull byte[] content) throws IOException, RemoteException {
+        try (OutputStream os = new ProxyOutputStream(file)) {
+            os.write(content);
+        }
+    }
+}
@@ -38,8 +38,12 @@ import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import aosp.libcore.util.HexEncoding;
 import io.github.muntashirakon.AppManager.AppManager;
@@ -69,7 +73,11 @@ import static io.github.muntashirakon.AppManager.utils.UIUtils.getTitleText;
 
 public final class MetadataManager {
     public static final String META_FILE = "meta_v2.am.json";
-    public static final String[] TAR_TYPES = new String[]{TarUtils.TAR_GZIP, TarUtils.TAR_BZIP2};
+    /**
+     * Supported tar types, their readable names are in {@code R.array.tar_types} in the same order
+     */
+    public static final String[] TAR_TYPES = new String[]{TarUtils.TAR_GZIP, TarUtils.TAR_BZIP2, TarUtils.TAR_PGZIP,
+            TarUtils.TAR_PBZIP2, TarUtils.TAR_ZSTD, TarUtils.TAR_LZ4};
 
     // For an extended documentation, see https://github.com/MuntashirAkon/AppManager/issues/30
     // All the attributes must be non-null
@@ -103,10 +111,15 @@ public final class MetadataManager {
         public String tarType;  // tar_type
         public boolean keyStore;  // key_store
         public String installer;  // installer
+        public long uncompressedSize;  // uncompressed_size (optional, sum of all the archives before compression)
+        public long compressedSize;  // compressed_size (optional, sum of all the archives before encryption)
+        public long compressionTime;  // compression_time (optional, in milliseconds)
+        public String baseBackup;  // base_backup (optional, name of the backup an incremental backup is based on)
 
         public long getBackupSize() {
             if (backupPath == null) return 0L;
-            return IOUtils.fileSize(backupPath);
+            // The size is shown in lists, the backups rarely change in the meantime
+            return IOUtils.fileSize(backupPath, true);
         }
 
         @WorkerThread
@@ -125,7 +138,12 @@ public final class MetadataManager {
                         crypto.toUpperCase(Locale.ROOT)));
             }
             subtitleText.append(", ").append(context.getString(R.string.gz_bz2_compressed,
-                    tarType.equals(TarUtils.TAR_GZIP) ? "GZip" : "BZip2"));
+                    getReadableTarType(context, tarType)));
+            if (uncompressedSize > 0 && compressedSize > 0) {
+                subtitleText.append(", ").append(context.getString(R.string.compression_ratio_and_speed,
+                        (float) uncompressedSize / compressedSize, Formatter.formatFileSize(context,
+                                compressionTime > 0 ? uncompressedSize * 1000 / compressionTime : uncompressedSize)));
+            }
             if (keyStore) subtitleText.append(", ").append(context.getString(R.string.keystore));
             subtitleText.append(", ").append(context.getString(R.string.size)).append(": ").append(Formatter
                     .formatFileSize(context, getBackupSize()));
@@ -135,6 +153,14 @@ public final class MetadataManager {
         }
     }
 
+    @NonNull
+    public static String getReadableTarType(@NonNull Context context, @TarUtils.TarType String tarType) {
+        String[] readableTarTypes = context.getResources().getStringArray(R.array.tar_types);
+        int i = ArrayUtils.indexOf(TAR_TYPES, tarType);
+        if (i == -1) return readableTarTypes[0];
+        return readableTarTypes[i];
+    }
+
     @NonNull
     public static MetadataManager getNewInstance() {
         return new MetadataManager();
@@ -172,6 +198,47 @@ public final class MetadataManager {
         return metadataList.toArray(new Metadata[0]);
     }
 
+    /**
+     * Get the backups an incremental backup depends on, starting from the full backup and ending with the given
+     * backup. For a full backup, the chain only contains the given backup.
+     */
+    @WorkerThread
+    @NonNull
+    public static List<Metadata> getBackupChain(@NonNull Metadata metadata) throws JSONException {
+        LinkedList<Metadata> chain = new LinkedList<>();
+        Set<String> backupNames = new HashSet<>();
+        Metadata current = metadata;
+        chain.addFirst(current);
+        backupNames.add(current.backupName);
+        while (current.baseBackup != null) {
+            if (!backupNames.add(current.baseBackup)) {
+                throw new JSONException("Circular reference to the base backup " + current.baseBackup);
+            }
+            MetadataManager metadataManager = MetadataManager.getNewInstance();
+            metadataManager.readMetadata(new BackupFiles.BackupFile(new ProxyFile(BackupFiles.getPackagePath(
+                    metadata.packageName), current.baseBackup), false));
+            current = metadataManager.getMetadata();
+            chain.addFirst(current);
+        }
+        return chain;
+    }
+
+    /**
+     * Whether any incremental backup depends on the given backup
+     *
+     * @param ignoredBackups Backups that should not be considered, e.g. because they are going to be deleted as well
+     */
+    @WorkerThread
+    public static boolean hasDependentBackups(@NonNull String packageName, @NonNull String backupName,
+                                              @NonNull Collection<String> ignoredBackups) {
+        for (Metadata metadata : getMetadata(packageName)) {
+            if (backupName.equals(metadata.baseBackup) && !ignoredBackups.contains(metadata.backupName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @NonNull
     private static File[] getBackupFiles(String packageName) {
         File[] backupFiles = BackupFiles.getPackagePath(packageName).listFiles(pathname -> new ProxyFile(pathname).isDirectory());
@@ -223,6 +290,10 @@ public final class MetadataManager {
         this.metadata.tarType = rootObject.getString("tar_type");
         this.metadata.keyStore = rootObject.getBoolean("key_store");
         this.metadata.installer = JSONUtils.getString(rootObject, "installer", BuildConfig.APPLICATION_ID);
+        this.metadata.uncompressedSize = rootObject.optLong("uncompressed_size");
+        this.metadata.compressedSize = rootObject.optLong("compressed_size");
+        this.metadata.compressionTime = rootObject.optLong("compression_time");
+        this.metadata.baseBackup = JSONUtils.getString(rootObject, "base_backup", null);
     }
 
     private void readCrypto(JSONObject rootObj) throws JSONException {
@@ -271,6 +342,10 @@ public final class MetadataManager {
             rootObject.put("tar_type", metadata.tarType);
             rootObject.put("key_store", metadata.keyStore);
             rootObject.put("installer", metadata.installer);
+            rootObject.put("uncompressed_size", metadata.uncompressedSize);
+            rootObject.put("compressed_size", metadata.compressedSize);
+            rootObject.put("compression_time", metadata.compressionTime);
+            rootObject.put("base_backup", metadata.baseBackup);
             outputStream.write(rootObject.toString(4).getBytes());
         }
     }
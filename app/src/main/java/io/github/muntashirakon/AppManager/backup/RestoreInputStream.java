@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.backup;
+
+import android.os.RemoteException;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import io.github.muntashirakon.AppManager.crypto.Crypto;
+import io.github.muntashirakon.AppManager.crypto.CryptoInputStream;
+import io.github.muntashirakon.AppManager.utils.ChecksumInputStream;
+import io.github.muntashirakon.AppManager.utils.DigestUtils;
+import io.github.muntashirakon.io.ProxyInputStream;
+import io.github.muntashirakon.io.SplitInputStream;
+
+/**
+ * Verify, decrypt and join the parts of a backup in a single pass. This is the counterpart of
+ * {@link BackupOutputStream}. Since the checksum of a part is only known after it has been read completely, a
+ * verification failure is reported at the end of the part, i.e. the caller must be able to roll back whatever has been
+ * done with the bytes read so far.
+ */
+class RestoreInputStream extends SplitInputStream {
+    @NonNull
+    private final Crypto crypto;
+    @NonNull
+    @CryptoUtils.Mode
+    private final String cryptoMode;
+    @NonNull
+    @DigestUtils.Algorithm
+    private final String checksumAlgo;
+    @Nullable
+    private final BackupFiles.Checksum checksum;
+    private ChecksumInputStream currentChecksumStream;
+
+    /**
+     * @param files    Parts of the backup, sorted properly
+     * @param checksum Checksums of the parts, or {@code null} to skip verification
+     */
+    @WorkerThread
+    RestoreInputStream(@NonNull File[] files, @NonNull Crypto crypto, @NonNull @CryptoUtils.Mode String cryptoMode,
+                       @NonNull @DigestUtils.Algorithm String checksumAlgo, @Nullable BackupFiles.Checksum checksum) {
+        super(files);
+        this.crypto = crypto;
+        this.cryptoMode = cryptoMode;
+        this.checksumAlgo = checksumAlgo;
+        this.checksum = checksum;
+    }
+
+    @WorkerThread
+    @NonNull
+    @Override
+    protected InputStream openStream(@NonNull File file) throws IOException, RemoteException {
+        InputStream is = new ProxyInputStream(file);
+        if (checksum != null) {
+            is = currentChecksumStream = new ChecksumInputStream(is, checksumAlgo);
+        }
+        if (CryptoUtils.MODE_NO_ENCRYPTION.equals(cryptoMode)) {
+            return is;
+        }
+        return new CryptoInputStream(crypto, is);
+    }
+
+    @WorkerThread
+    @Override
+    protected void onStreamFinished(@NonNull File file, @NonNull InputStream stream) throws IOException {
+        if (checksum == null) return;
+        String requiredChecksum = checksum.get(file.getName());
+        if (!currentChecksumStream.isEndOfStream()) {
+            throw new IOException("Could not verify " + file + " as it was not read completely.");
+        }
+        String foundChecksum = currentChecksumStream.getChecksum();
+        if (!foundChecksum.equals(requiredChecksum)) {
+            throw new IOException("File verification failed." +
+                    "\nFile: " + file +
+                    "\nFound: " + foundChecksum +
+                    "\nRequired: " + requiredChecksum);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import android.content.Context;
 import android.content.pm.PackageInfo;
 import android.net.Uri;
 import android.os.Build;
+import android.os.RemoteException;
 import android.util.Pair;
 
 import androidx.annotation.NonNull;
@@ -235,18 +236,6 @@ class RestoreOp implements Closeable {
                 }
             }
         }
-        if (!requestedFlags.skipSignatureCheck()) {
-            String checksum;
-            for (File file : backupSourceFiles) {
-                checksum = DigestUtils.getHexDigest(metadata.checksumAlgo, file);
-                if (!checksum.equals(this.checksum.get(file.getName()))) {
-                    throw new BackupException("Source file verification failed." +
-                            "\nFile: " + file +
-                            "\nFound: " + checksum +
-                            "\nRequired: " + this.checksum.get(file.getName()));
-                }
-            }
-        }
         if (!isVerified) {
             // Signature verification failed but still here because signature check is disabled.
             // The only way to restore is to reinstall the app
@@ -274,19 +263,11 @@ class RestoreOp implements Closeable {
             allApkNames[i] = metadata.splitConfigs[i - 1];
             allApks[i] = new FreshFile(packageStagingDirectory, allApkNames[i]);
         }
-        // Decrypt sources
-        if (!crypto.decrypt(backupSourceFiles)) {
-            throw new BackupException("Failed to decrypt " + Arrays.toString(backupSourceFiles));
-        }
-        // Get decrypted file
-        if (crypto.getNewFiles().length > 0) {
-            backupSourceFiles = crypto.getNewFiles();
-            decryptedFiles.addAll(Arrays.asList(backupSourceFiles));
-        }
-        // Extract apk files to the package staging directory
+        // Verify, decrypt and extract apk files to the package staging directory
         try {
-            TarUtils.extract(metadata.tarType, backupSourceFiles, packageStagingDirectory, allApkNames, null);
+            extractArchive(backupSourceFiles, packageStagingDirectory, allApkNames, null);
         } catch (Throwable th) {
+            deleteFiles(allApks);
             throw new BackupException("Failed to extract the apk file(s).", th);
         }
         // A normal update will do it now
@@ -315,32 +296,15 @@ class RestoreOp implements Closeable {
         if (keyStoreFiles == null || keyStoreFiles.length == 0) {
             throw new BackupException("KeyStore files should've existed but they didn't");
         }
-        if (!requestedFlags.skipSignatureCheck()) {
-            String checksum;
-            for (File file : keyStoreFiles) {
-                checksum = DigestUtils.getHexDigest(metadata.checksumAlgo, file);
-                if (!checksum.equals(this.checksum.get(file.getName()))) {
-                    throw new BackupException("KeyStore file verification failed." +
-                            "\nFile: " + file +
-                            "\nFound: " + checksum +
-                            "\nRequired: " + this.checksum.get(file.getName()));
-                }
-            }
-        }
-        // Decrypt sources
-        if (!crypto.decrypt(keyStoreFiles)) {
-            throw new BackupException("Failed to decrypt " + Arrays.toString(keyStoreFiles));
-        }
-        // Get decrypted file
-        if (crypto.getNewFiles().length > 0) {
-            keyStoreFiles = crypto.getNewFiles();
-            decryptedFiles.addAll(Arrays.asList(keyStoreFiles));
-        }
-        // Restore KeyStore files
+        // Verify, decrypt and restore KeyStore files
         ProxyFile keyStorePath = KeyStoreUtils.getKeyStorePath(userHandle);
         try {
-            TarUtils.extract(metadata.tarType, keyStoreFiles, keyStorePath, null, null);
+            extractArchive(keyStoreFiles, keyStorePath, null, null);
         } catch (Throwable th) {
+            // Roll back
+            for (String keyStoreFileName : KeyStoreUtils.getKeyStoreFiles(KEYSTORE_PLACEHOLDER, userHandle)) {
+                IOUtils.deleteSilently(new ProxyFile(keyStorePath, keyStoreFileName));
+            }
             throw new BackupException("Failed to restore the KeyStore files.", th);
         }
         // Rename files
@@ -356,7 +320,6 @@ class RestoreOp implements Closeable {
         Runner.runCommand(new String[]{"restorecon", "-R", keyStorePath.getAbsolutePath()});
     }
 
-    @SuppressLint("SdCardPath")
     private void restoreData() throws BackupException {
         // Data restore is requested: Data restore is only possible if the app is actually
         // installed. So, check if it's installed first.
@@ -364,25 +327,37 @@ class RestoreOp implements Closeable {
             throw new BackupException("Data restore is requested but the app isn't installed.");
         }
         File[] dataFiles;
-        if (!requestedFlags.skipSignatureCheck()) {
-            // Verify integrity of the data backups
-            String checksum;
+        for (int i = 0; i < metadata.dataDirs.length; ++i) {
+            dataFiles = getDataFiles(backupPath, i);
+            if (dataFiles == null || dataFiles.length == 0) {
+                throw new BackupException("Data restore is requested but there are no data files for index " + i + ".");
+            }
+            // Extraction can only detect a corrupted part after the existing data is cleared. The parts of an
+            // incremental backup are verified along with the rest of the chain.
+            if (metadata.baseBackup == null) verifyDataFiles(i, dataFiles);
+        }
+        // An incremental backup is restored by replaying the whole chain, starting from the full backup. Open and verify
+        // the chain before clearing the app data so that a missing or corrupted base backup does not leave the app
+        // without data.
+        List<BackupReader> backupChain = openBackupChain();
+        try {
             for (int i = 0; i < metadata.dataDirs.length; ++i) {
-                dataFiles = getDataFiles(backupPath, i);
-                if (dataFiles == null || dataFiles.length == 0) {
-                    throw new BackupException("Data restore is requested but there are no data files for index " + i + ".");
-                }
-                for (File file : dataFiles) {
-                    checksum = DigestUtils.getHexDigest(metadata.checksumAlgo, file);
-                    if (!checksum.equals(this.checksum.get(file.getName()))) {
-                        throw new BackupException("Data file verification failed for index " + i + "." +
-                                "\nFile: " + file +
-                                "\nFound: " + checksum +
-                                "\nRequired: " + this.checksum.get(file.getName()));
-                    }
+                for (int j = 0; j < backupChain.size(); ++j) {
+                    // Only the full backup at the start of the chain has no manifest
+                    backupChain.get(j).verifyData(i, j != 0);
                 }
             }
+            restoreData(backupChain);
+        } finally {
+            for (BackupReader reader : backupChain) {
+                reader.close();
+            }
         }
+    }
+
+    @SuppressLint("SdCardPath")
+    private void restoreData(@NonNull List<BackupReader> backupChain) throws BackupException {
+        File[] dataFiles;
         // Force-stop and clear app data
         PackageManagerCompat.clearApplicationUserData(packageName, userHandle);
         // Restore backups
@@ -428,20 +403,17 @@ class RestoreOp implements Closeable {
                     throw new BackupException("Failed to create data folder for index " + i + ".");
                 }
             }
-            // Decrypt data
-            if (!crypto.decrypt(dataFiles)) {
-                throw new BackupException("Failed to decrypt " + Arrays.toString(dataFiles));
-            }
-            // Get decrypted files
-            if (crypto.getNewFiles().length > 0) {
-                dataFiles = crypto.getNewFiles();
-                decryptedFiles.addAll(Arrays.asList(dataFiles));
-            }
-            // Extract data to the data directory
+            // Verify, decrypt and extract data to the data directory
             try {
-                TarUtils.extract(metadata.tarType, dataFiles, dataSourceFile, null, BackupUtils
-                        .getExcludeDirs(!requestedFlags.backupCache(), null));
+                String[] exclude = BackupUtils.getExcludeDirs(!requestedFlags.backupCache(), null);
+                if (backupChain.isEmpty()) {
+                    extractArchive(dataFiles, dataSourceFile, null, exclude);
+                } else {
+                    extractIncrementalData(backupChain, i, dataSourceFile, exclude);
+                }
             } catch (Throwable th) {
+                // Roll back: the data is either corrupted or partially restored
+                PackageManagerCompat.clearApplicationUserData(packageName, userHandle);
                 throw new BackupException("Failed to restore data files for index " + i + ".", th);
             }
             // Fix UID and GID
@@ -453,6 +425,92 @@ class RestoreOp implements Closeable {
         }
     }
 
+    /**
+     * Verify the data files at the given index using the stored checksums unless requested otherwise, and check that
+     * the chunks referred to by them exist.
+     */
+    private void verifyDataFiles(int index, @NonNull File[] dataFiles) throws BackupException {
+        if (!requestedFlags.skipSignatureCheck()) {
+            String checksum;
+            for (File file : dataFiles) {
+                checksum = DigestUtils.getHexDigest(metadata.checksumAlgo, file);
+                if (!checksum.equals(this.checksum.get(file.getName()))) {
+                    throw new BackupException("Data file verification failed for index " + index + "." +
+                            "\nFile: " + file +
+                            "\nFound: " + checksum +
+                            "\nRequired: " + this.checksum.get(file.getName()));
+                }
+            }
+        }
+        File indexFile = ChunkStore.findIndex(dataFiles);
+        if (indexFile == null) return;
+        try {
+            ChunkStore.verify(indexFile);
+        } catch (IOException | RemoteException e) {
+            throw new BackupException("Could not verify chunks of " + indexFile.getName(), e);
+        }
+    }
+
+    /**
+     * Open the backups of an incremental backup chain, starting from the full backup and ending with this backup.
+     *
+     * @return The chain, or an empty list if this is not an incremental backup
+     */
+    @NonNull
+    private List<BackupReader> openBackupChain() throws BackupException {
+        if (metadata.baseBackup == null) return Collections.emptyList();
+        List<MetadataManager.Metadata> chain;
+        try {
+            chain = MetadataManager.getBackupChain(metadata);
+        } catch (JSONException e) {
+            throw new BackupException("Could not find the base backups of " + metadata.backupName, e);
+        }
+        List<BackupReader> readers = new ArrayList<>(chain.size());
+        try {
+            for (MetadataManager.Metadata link : chain) {
+                BackupReader reader = new BackupReader(packageName, link.backupName,
+                        !requestedFlags.skipSignatureCheck());
+                readers.add(reader);
+                if (!Arrays.equals(reader.getMetadata().dataDirs, metadata.dataDirs)) {
+                    throw new BackupException("Data directories of " + link.backupName + " do not match.");
+                }
+            }
+        } catch (BackupException e) {
+            for (BackupReader reader : readers) {
+                reader.close();
+            }
+            throw e;
+        }
+        return readers;
+    }
+
+    /**
+     * Extract the data directory at the given index from each backup in the chain, deleting the files recorded as
+     * deleted in the manifest of each incremental backup before extracting it.
+     */
+    private void extractIncrementalData(@NonNull List<BackupReader> backupChain, int index, @NonNull File dest,
+                                        @Nullable String[] exclude) throws Throwable {
+        String realDestPath = dest.getCanonicalPath();
+        for (int i = 0; i < backupChain.size(); ++i) {
+            BackupReader reader = backupChain.get(i);
+            if (i != 0) {
+                BackupManifest manifest = reader.readManifest(index);
+                if (manifest == null) {
+                    throw new BackupException("Incremental backup " + reader.getMetadata().backupName
+                            + " does not have a manifest at index " + index);
+                }
+                for (String path : manifest.getDeletedPaths()) {
+                    ProxyFile file = new ProxyFile(dest, path);
+                    if (!file.getCanonicalPath().startsWith(realDestPath + File.separator)) {
+                        throw new IOException("Invalid path " + path + " in the manifest.");
+                    }
+                    if (file.exists()) file.forceDelete();
+                }
+            }
+            reader.extractData(index, dest, exclude);
+        }
+    }
+
     private synchronized void restoreExtras() throws BackupException {
         if (!isInstalled) {
             throw new BackupException("Misc restore is requested but the app isn't installed.");
@@ -582,10 +640,52 @@ class RestoreOp implements Closeable {
         } // else there are no rules, just skip
     }
 
+    /**
+     * Verify, decrypt and extract the given parts of an archive in a single pass. Verification is skipped if requested.
+     * Since verification completes only after the last part is read, the caller has to verify the parts beforehand if
+     * a failure cannot be rolled back, and roll back the extracted files on failure.
+     */
+    private void extractArchive(@NonNull File[] files, @NonNull File dest, @Nullable String[] filters,
+                                @Nullable String[] exclude) throws Throwable {
+        BackupFiles.Checksum checksum = requestedFlags.skipSignatureCheck() ? null : this.checksum;
+        File indexFile = ChunkStore.findIndex(files);
+        if (indexFile != null) {
+            // Chunks are verified while they are being read
+            ChunkStore.extract(indexFile, metadata, checksum, dest, filters, exclude);
+            return;
+        }
+        try (RestoreInputStream ris = new RestoreInputStream(sortParts(files), crypto, metadata.crypto,
+                metadata.checksumAlgo, checksum)) {
+            TarUtils.extract(metadata.tarType, ris, dest, filters, exclude);
+        }
+    }
+
+    /**
+     * Sort parts by their index, e.g. {@code data0.tar.gz.2.gpg} comes before {@code data0.tar.gz.10.gpg}.
+     */
+    @NonNull
+    private File[] sortParts(@NonNull File[] files) {
+        String ext = CryptoUtils.getExtension(metadata.crypto);
+        File[] sortedFiles = files.clone();
+        Arrays.sort(sortedFiles, (o1, o2) -> Integer.compare(getPartIndex(o1, ext), getPartIndex(o2, ext)));
+        return sortedFiles;
+    }
+
+    private static int getPartIndex(@NonNull File file, @NonNull String ext) {
+        String name = file.getName();
+        name = name.substring(0, name.length() - ext.length());
+        try {
+            return Integer.parseInt(name.substring(name.lastIndexOf('.') + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
     @Nullable
     private File[] getSourceFiles(@NonNull File backupPath) {
         String mode = CryptoUtils.getExtension(metadata.crypto);
-        return backupPath.listFiles((dir, name) -> name.startsWith(SOURCE_PREFIX) && name.endsWith(mode));
+        return backupPath.listFiles((dir, name) -> name.startsWith(SOURCE_PREFIX) && (name.endsWith(mode)
+                || name.endsWith(ChunkStore.INDEX_EXT)));
     }
 
     @SuppressWarnings("ResultOfMethodCallIgnored")
@@ -596,13 +696,15 @@ class RestoreOp implements Closeable {
     @Nullable
     private File[] getKeyStoreFiles(@NonNull File backupPath) {
         String mode = CryptoUtils.getExtension(metadata.crypto);
-        return backupPath.listFiles((dir, name) -> name.startsWith(KEYSTORE_PREFIX) && name.endsWith(mode));
+        return backupPath.listFiles((dir, name) -> name.startsWith(KEYSTORE_PREFIX) && (name.endsWith(mode)
+                || name.endsWith(ChunkStore.INDEX_EXT)));
     }
 
     @Nullable
     private File[] getDataFiles(@NonNull File backupPath, int index) {
         String mode = CryptoUtils.getExtension(metadata.crypto);
         final String dataPrefix = DATA_PREFIX + index;
-        return backupPath.listFiles((dir, name) -> name.startsWith(dataPrefix) && name.endsWith(mode));
+        return backupPath.listFiles((dir, name) -> name.startsWith(dataPrefix) && (name.endsWith(mode)
+                || name.endsWith(ChunkStore.INDEX_EXT)));
     }
 }
\ No newline at end of file
@@ -17,6 +17,8 @@
 
 package io.github.muntashirakon.AppManager.backup;
 
+import android.os.RemoteException;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.WorkerThread;
@@ -25,6 +27,7 @@ import org.json.JSONException;
 
 import java.io.Closeable;
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -32,12 +35,15 @@ import java.util.List;
 import io.github.muntashirakon.AppManager.crypto.Crypto;
 import io.github.muntashirakon.AppManager.crypto.CryptoException;
 import io.github.muntashirakon.AppManager.logs.Log;
+import io.github.muntashirakon.AppManager.utils.ArrayUtils;
 import io.github.muntashirakon.AppManager.utils.DigestUtils;
 import io.github.muntashirakon.AppManager.utils.IOUtils;
 import io.github.muntashirakon.io.ProxyFile;
 
 import static io.github.muntashirakon.AppManager.backup.BackupManager.DATA_PREFIX;
 import static io.github.muntashirakon.AppManager.backup.BackupManager.KEYSTORE_PREFIX;
+import static io.github.muntashirakon.AppManager.backup.BackupManager.MANIFEST_EXT;
+import static io.github.muntashirakon.AppManager.backup.BackupManager.MANIFEST_PREFIX;
 import static io.github.muntashirakon.AppManager.backup.BackupManager.SOURCE_PREFIX;
 
 @WorkerThread
@@ -141,6 +147,7 @@ class VerifyOp implements Closeable {
                         "\nRequired: " + this.checksum.get(file.getName()));
             }
         }
+        verifyChunks(backupSourceFiles);
     }
 
     private void verifyKeyStore() throws BackupException {
@@ -158,6 +165,7 @@ class VerifyOp implements Closeable {
                         "\nRequired: " + this.checksum.get(file.getName()));
             }
         }
+        verifyChunks(keyStoreFiles);
     }
 
     private void verifyData() throws BackupException {
@@ -168,6 +176,10 @@ class VerifyOp implements Closeable {
             if (dataFiles == null || dataFiles.length == 0) {
                 throw new BackupException("No data files at index " + i + ".");
             }
+            File[] manifestFiles = getManifestFiles(backupPath, i);
+            if (manifestFiles != null) {
+                dataFiles = ArrayUtils.concatElements(File.class, dataFiles, manifestFiles);
+            }
             for (File file : dataFiles) {
                 checksum = DigestUtils.getHexDigest(metadata.checksumAlgo, file);
                 if (!checksum.equals(this.checksum.get(file.getName()))) {
@@ -177,6 +189,20 @@ class VerifyOp implements Closeable {
                             "\nRequired: " + this.checksum.get(file.getName()));
                 }
             }
+            verifyChunks(dataFiles);
+        }
+    }
+
+    /**
+     * Check whether the chunks of the archives stored in the chunk store exist
+     */
+    private void verifyChunks(@NonNull File[] files) throws BackupException {
+        File indexFile = ChunkStore.findIndex(files);
+        if (indexFile == null) return;
+        try {
+            ChunkStore.verify(indexFile);
+        } catch (IOException | RemoteException e) {
+            throw new BackupException("Could not verify chunks of " + indexFile.getName(), e);
         }
     }
 
@@ -211,19 +237,29 @@ class VerifyOp implements Closeable {
     @Nullable
     private File[] getSourceFiles(@NonNull File backupPath) {
         String mode = CryptoUtils.getExtension(metadata.crypto);
-        return backupPath.listFiles((dir, name) -> name.startsWith(SOURCE_PREFIX) && name.endsWith(mode));
+        return backupPath.listFiles((dir, name) -> name.startsWith(SOURCE_PREFIX) && (name.endsWith(mode)
+                || name.endsWith(ChunkStore.INDEX_EXT)));
     }
 
     @Nullable
     private File[] getKeyStoreFiles(@NonNull File backupPath) {
         String mode = CryptoUtils.getExtension(metadata.crypto);
-        return backupPath.listFiles((dir, name) -> name.startsWith(KEYSTORE_PREFIX) && name.endsWith(mode));
+        return backupPath.listFiles((dir, name) -> name.startsWith(KEYSTORE_PREFIX) && (name.endsWith(mode)
+                || name.endsWith(ChunkStore.INDEX_EXT)));
     }
 
     @Nullable
     private File[] getDataFiles(@NonNull File backupPath, int index) {
         String mode = CryptoUtils.getExtension(metadata.crypto);
         final String dataPrefix = DATA_PREFIX + index;
-        return backupPath.listFiles((dir, name) -> name.startsWith(dataPrefix) && name.endsWith(mode));
+        return backupPath.listFiles((dir, name) -> name.startsWith(dataPrefix) && (name.endsWith(mode)
+                || name.endsWith(ChunkStore.INDEX_EXT)));
+    }
+
+    @Nullable
+    private File[] getManifestFiles(@NonNull File backupPath, int index) {
+        String mode = CryptoUtils.getExtension(metadata.crypto);
+        final String manifestPrefix = MANIFEST_PREFIX + index + MANIFEST_EXT;
+        return backupPath.listFiles((dir, name) -> name.startsWith(manifestPrefix) && name.endsWith(mode));
     }
 }
\ No newline at end of file
@@ -0,0 +1,350 @@
+/*
+ * Copyright (C) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.batchops;
+
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.os.Build;
+import android.os.storage.StorageManager;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import io.github.muntashirakon.AppManager.AppManager;
+import io.github.muntashirakon.AppManager.backup.BackupFiles;
+import io.github.muntashirakon.AppManager.logs.Log;
+import io.github.muntashirakon.AppManager.servermanager.PackageManagerCompat;
+import io.github.muntashirakon.AppManager.types.PackageSizeInfo;
+import io.github.muntashirakon.AppManager.types.UserPackagePair;
+import io.github.muntashirakon.AppManager.utils.IOUtils;
+import io.github.muntashirakon.AppManager.utils.PackageUtils;
+import io.github.muntashirakon.AppManager.utils.Utils;
+
+/**
+ * Schedules backup, restore or delete operations for multiple packages. Unlike a plain thread pool, the scheduler
+ * limits the number of concurrent disk streams per storage volume (the volume where the app data resides as well as
+ * the volume where the backups are stored) so that slow storage is not thrashed by too many parallel readers and
+ * writers. Removable volumes (SD cards, USB drives) are slow at parallel access, and are therefore allowed fewer
+ * streams than the internal storage.
+ * <p>
+ * Compression and encryption run on the thread of the job, except the parallel GZip compression which uses its own
+ * threads. So the number of workers is additionally limited by the number of available cores.
+ * <p>
+ * Jobs are run largest-first to minimise the time spent waiting for a single large package at the end.
+ */
+@WorkerThread
+public class BackupScheduler {
+    public static final String TAG = "BackupScheduler";
+
+    /**
+     * Default number of concurrent streams allowed for the internal storage
+     */
+    public static final int DEFAULT_STREAMS_PER_VOLUME = 2;
+    /**
+     * Default number of concurrent streams allowed per removable storage volume
+     */
+    public static final int DEFAULT_STREAMS_PER_REMOVABLE_VOLUME = 1;
+
+    private static final String VOLUME_INTERNAL = "internal";
+
+    public interface Job {
+        /**
+         * Run the job for the given package.
+         *
+         * @return {@code true} on success, {@code false} otherwise
+         */
+        @WorkerThread
+        boolean run(@NonNull UserPackagePair pair) throws Throwable;
+    }
+
+    public interface ProgressListener {
+        /**
+         * Called when a package is about to be processed ({@code finished} denotes the number of jobs finished so
+         * far), and when it is finished.
+         */
+        void onProgress(@NonNull UserPackagePair pair, int finished, int total);
+    }
+
+    public enum SizeHint {
+        /**
+         * Order by the size of the installed app
+         */
+        INSTALLED,
+        /**
+         * Order by the size of the existing backups
+         */
+        BACKUP,
+        /**
+         * Do not reorder packages
+         */
+        NONE,
+    }
+
+    private static class Task {
+        @NonNull
+        final UserPackagePair pair;
+        @NonNull
+        final String[] volumes;
+        final long size;
+
+        Task(@NonNull UserPackagePair pair, @NonNull String[] volumes, long size) {
+            this.pair = pair;
+            this.volumes = volumes;
+            this.size = size;
+        }
+    }
+
+    private final int maxStreamsPerVolume;
+    private final int maxStreamsPerRemovableVolume;
+    private final int maxWorkers;
+    // Guarded by this
+    private final LinkedList<Task> pendingTasks = new LinkedList<>();
+    private final Map<String, Integer> activeStreams = new HashMap<>();
+    private final List<UserPackagePair> failedPackages = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile int finishedCount;
+    private volatile int totalCount;
+    private volatile boolean cancelled = false;
+
+    public BackupScheduler() {
+        this(DEFAULT_STREAMS_PER_VOLUME, DEFAULT_STREAMS_PER_REMOVABLE_VOLUME, Utils.getTotalCores());
+    }
+
+    public BackupScheduler(int maxStreamsPerVolume, int maxStreamsPerRemovableVolume, int maxWorkers) {
+        this.maxStreamsPerVolume = Math.max(1, maxStreamsPerVolume);
+        this.maxStreamsPerRemovableVolume = Math.max(1, maxStreamsPerRemovableVolume);
+        this.maxWorkers = Math.max(1, maxWorkers);
+    }
+
+    /**
+     * Run the job for each of the given packages and wait for them to finish.
+     *
+     * @return Packages for which the jobs have failed or have been cancelled
+     */
+    @NonNull
+    public List<UserPackagePair> schedule(@NonNull Collection<UserPackagePair> pairs, @NonNull SizeHint sizeHint,
+                                          @NonNull Job job, @Nullable ProgressListener listener) {
+        List<Task> tasks = prepareTasks(pairs, sizeHint);
+        Set<String> volumes = new HashSet<>();
+        for (Task task : tasks) {
+            Collections.addAll(volumes, task.volumes);
+        }
+        int maxStreams = 0;
+        for (String volume : volumes) {
+            maxStreams += getMaxStreams(volume);
+        }
+        int workerCount = Math.min(Math.min(maxWorkers, tasks.size()), maxStreams);
+        synchronized (this) {
+            pendingTasks.addAll(tasks);
+            totalCount = tasks.size();
+            finishedCount = 0;
+            for (int i = 0; i < workerCount; ++i) {
+                Thread worker = new Thread(() -> runWorker(job, listener), TAG + "-" + i);
+                workers.add(worker);
+                worker.start();
+            }
+        }
+        boolean interrupted = false;
+        for (Thread worker : workers) {
+            while (worker.isAlive()) {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    // Stop the remaining jobs but wait for the running ones to clean up
+                    interrupted = true;
+                    cancel();
+                }
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+        synchronized (this) {
+            // Anything left over was cancelled
+            for (Task task : pendingTasks) {
+                failedPackages.add(task.pair);
+            }
+            pendingTasks.clear();
+            workers.clear();
+            return new ArrayList<>(failedPackages);
+        }
+    }
+
+    /**
+     * Cancel the pending jobs. Jobs that are already running are allowed to finish (or roll back) so that no
+     * half-written backup or half-restored app is left behind.
+     */
+    public void cancel() {
+        cancelled = true;
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    private void runWorker(@NonNull Job job, @Nullable ProgressListener listener) {
+        Task task;
+        while ((task = nextTask()) != null) {
+            if (listener != null) listener.onProgress(task.pair, finishedCount, totalCount);
+            boolean success = false;
+            try {
+                success = job.run(task.pair);
+            } catch (Throwable th) {
+                Log.e(TAG, "Job failed for " + task.pair, th);
+            }
+            int finished;
+            synchronized (this) {
+                if (!success) failedPackages.add(task.pair);
+                finished = ++finishedCount;
+                for (String volume : task.volumes) {
+                    //noinspection ConstantConditions
+                    activeStreams.put(volume, activeStreams.get(volume) - 1);
+                }
+                notifyAll();
+            }
+            if (listener != null) listener.onProgress(task.pair, finished, totalCount);
+        }
+    }
+
+    /**
+     * Take the largest pending task whose volumes all have a free stream, waiting if none is available.
+     *
+     * @return The next task or {@code null} if there are no more tasks or the scheduler has been cancelled
+     */
+    @Nullable
+    private synchronized Task nextTask() {
+        while (!cancelled && !pendingTasks.isEmpty()) {
+            Iterator<Task> it = pendingTasks.iterator();
+            while (it.hasNext()) {
+                Task task = it.next();
+                if (hasFreeStreams(task)) {
+                    it.remove();
+                    for (String volume : task.volumes) {
+                        activeStreams.put(volume, getActiveStreams(volume) + 1);
+                    }
+                    return task;
+                }
+            }
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private boolean hasFreeStreams(@NonNull Task task) {
+        for (String volume : task.volumes) {
+            if (getActiveStreams(volume) >= getMaxStreams(volume)) return false;
+        }
+        return true;
+    }
+
+    private int getMaxStreams(@NonNull String volume) {
+        return VOLUME_INTERNAL.equals(volume) ? maxStreamsPerVolume : maxStreamsPerRemovableVolume;
+    }
+
+    private int getActiveStreams(@NonNull String volume) {
+        Integer count = activeStreams.get(volume);
+        return count == null ? 0 : count;
+    }
+
+    @NonNull
+    private static List<Task> prepareTasks(@NonNull Collection<UserPackagePair> pairs, @NonNull SizeHint sizeHint) {
+        Context context = AppManager.getContext();
+        String backupVolume = getVolumeForPath(BackupFiles.getBackupDirectory().getAbsolutePath());
+        List<Task> tasks = new ArrayList<>(pairs.size());
+        for (UserPackagePair pair : pairs) {
+            ApplicationInfo info = null;
+            try {
+                info = PackageManagerCompat.getApplicationInfo(pair.getPackageName(), 0, pair.getUserHandle());
+            } catch (Exception ignore) {
+            }
+            String appVolume = getVolumeForApp(info);
+            String[] volumes = appVolume.equals(backupVolume) ? new String[]{backupVolume}
+                    : new String[]{appVolume, backupVolume};
+            long size = 0;
+            switch (sizeHint) {
+                case INSTALLED:
+                    if (info != null) {
+                        PackageSizeInfo sizeInfo = PackageUtils.getPackageSizeInfo(context, pair.getPackageName(),
+                                pair.getUserHandle(), Build.VERSION.SDK_INT >= Build.VERSION_CODES.O
+                                        ? info.storageUuid : null);
+                        if (sizeInfo != null) size = sizeInfo.codeSize + sizeInfo.dataSize;
+                    }
+                    break;
+                case BACKUP:
+                    size = IOUtils.fileSize(BackupFiles.getPackagePath(pair.getPackageName()));
+                    break;
+                case NONE:
+                    break;
+            }
+            tasks.add(new Task(pair, volumes, size));
+        }
+        // Largest first, stable for equal sizes
+        Collections.sort(tasks, (o1, o2) -> Long.compare(o2.size, o1.size));
+        return tasks;
+    }
+
+    @NonNull
+    private static String getVolumeForApp(@Nullable ApplicationInfo info) {
+        if (info == null || Build.VERSION.SDK_INT < Build.VERSION_CODES.O) return VOLUME_INTERNAL;
+        UUID storageUuid = info.storageUuid;
+        if (storageUuid == null || storageUuid.equals(StorageManager.UUID_DEFAULT)) {
+            return VOLUME_INTERNAL;
+        }
+        return storageUuid.toString();
+    }
+
+    /**
+     * The shared storage ({@code /storage/emulated}, {@code /sdcard}) resides in the data partition, which is also
+     * where the app data are stored. Other mount points are treated as separate volumes.
+     */
+    @NonNull
+    private static String getVolumeForPath(@NonNull String path) {
+        if (path.startsWith("/storage/emulated/") || path.startsWith("/sdcard") || path.startsWith("/data/")
+                || path.startsWith("/storage/self/")) {
+            return VOLUME_INTERNAL;
+        }
+        String[] segments = path.split("/");
+        if (path.startsWith("/storage/") && segments.length > 2) {
+            // /storage/<fs-uuid>
+            return segments[2];
+        }
+        if ((path.startsWith("/mnt/media_rw/") || path.startsWith("/mnt/expand/")) && segments.length > 3) {
+            // /mnt/media_rw/<fs-uuid> or /mnt/expand/<volume-uuid>
+            return segments[3];
+        }
+        return path;
+    }
+}
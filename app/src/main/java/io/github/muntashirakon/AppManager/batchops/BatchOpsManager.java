@@ -59,7 +59,6 @@ import io.github.muntashirakon.AppManager.servermanager.PackageManagerCompat;
 import io.github.muntashirakon.AppManager.servermanager.PermissionCompat;
 import io.github.muntashirakon.AppManager.types.UserPackagePair;
 import io.github.muntashirakon.AppManager.utils.ArrayUtils;
-import io.github.muntashirakon.AppManager.utils.MultithreadedExecutor;
 import io.github.muntashirakon.AppManager.utils.PackageUtils;
 
 @WorkerThread
@@ -153,6 +152,20 @@ public class BatchOpsManager {
 
     private UserPackagePair[] userPackagePairs;
     private Bundle args;
+    @Nullable
+    private BackupScheduler backupScheduler;
+    private volatile boolean cancelled = false;
+
+    /**
+     * Request cancellation of the current operation. Only backup, restore and delete backup operations can be
+     * cancelled at the moment, for which the packages that have not yet been processed are marked as failed.
+     */
+    public void cancel() {
+        cancelled = true;
+        synchronized (this) {
+            if (backupScheduler != null) backupScheduler.cancel();
+        }
+    }
 
     public void setArgs(Bundle args) {
         this.args = args;
@@ -257,35 +270,44 @@ public class BatchOpsManager {
     }
 
     private Result opBackupRestore(@BackupDialogFragment.ActionMode int mode) {
-        List<UserPackagePair> failedPackages = new ArrayList<>();
-        MultithreadedExecutor executor = MultithreadedExecutor.getNewInstance();
-        try {
-            String[] backupNames = args.getStringArray(ARG_BACKUP_NAMES);
-            for (UserPackagePair pair : userPackagePairs) {
-                executor.submit(() -> {
-                    BackupManager backupManager = BackupManager.getNewInstance(pair, args.getInt(ARG_FLAGS));
-                    boolean hasFailed = true;
-                    switch (mode) {
-                        case BackupDialogFragment.MODE_BACKUP:
-                            hasFailed = !backupManager.backup(backupNames);
-                            break;
-                        case BackupDialogFragment.MODE_DELETE:
-                            hasFailed = !backupManager.deleteBackup(backupNames);
-                            break;
-                        case BackupDialogFragment.MODE_RESTORE:
-                            hasFailed = !backupManager.restore(backupNames);
-                            break;
-                    }
-                    if (hasFailed) {
-                        synchronized (BatchOpsManager.this) {
-                            failedPackages.add(pair);
-                        }
-                    }
-                });
+        Context context = AppManager.getContext();
+        PackageManager pm = context.getPackageManager();
+        String[] backupNames = args.getStringArray(ARG_BACKUP_NAMES);
+        int flags = args.getInt(ARG_FLAGS);
+        BackupScheduler.SizeHint sizeHint;
+        switch (mode) {
+            case BackupDialogFragment.MODE_BACKUP:
+                sizeHint = BackupScheduler.SizeHint.INSTALLED;
+                break;
+            case BackupDialogFragment.MODE_RESTORE:
+                sizeHint = BackupScheduler.SizeHint.BACKUP;
+                break;
+            case BackupDialogFragment.MODE_DELETE:
+            default:
+                sizeHint = BackupScheduler.SizeHint.NONE;
+        }
+        BackupScheduler scheduler = new BackupScheduler();
+        synchronized (this) {
+            backupScheduler = scheduler;
+        }
+        if (cancelled) scheduler.cancel();
+        sendProgress(context, null, userPackagePairs.length, 0);
+        List<UserPackagePair> failedPackages = scheduler.schedule(Arrays.asList(userPackagePairs), sizeHint, pair -> {
+            BackupManager backupManager = BackupManager.getNewInstance(pair, flags);
+            switch (mode) {
+                case BackupDialogFragment.MODE_BACKUP:
+                    return backupManager.backup(backupNames);
+                case BackupDialogFragment.MODE_DELETE:
+                    return backupManager.deleteBackup(backupNames);
+                case BackupDialogFragment.MODE_RESTORE:
+                    return backupManager.restore(backupNames);
             }
-        } catch (Throwable ignore) {
+            return false;
+        }, (pair, finished, total) -> sendProgress(context, PackageUtils.getPackageLabel(pm, pair.getPackageName(),
+                pair.getUserHandle()).toString(), total, finished));
+        synchronized (this) {
+            backupScheduler = null;
         }
-        executor.awaitCompletion();
         return lastResult = new Result(failedPackages);
     }
 
@@ -120,6 +120,11 @@ public class BatchOpsService extends ForegroundService {
      * </ul>
      */
     public static final String ACTION_BATCH_OPS_PROGRESS = BuildConfig.APPLICATION_ID + ".action.BATCH_OPS_PROGRESS";
+    /**
+     * Cancel the running operation. Packages that have not yet been processed are reported as failed. This is an
+     * action of the intent used to start this service, as the service is not exported.
+     */
+    public static final String ACTION_BATCH_OPS_CANCEL = BuildConfig.APPLICATION_ID + ".action.BATCH_OPS_CANCEL";
 
     /**
      * Notification channel ID
@@ -135,6 +140,8 @@ public class BatchOpsService extends ForegroundService {
     private String header;
     private NotificationCompat.Builder builder;
     private NotificationManagerCompat notificationManager;
+    @Nullable
+    private volatile BatchOpsManager batchOpsManager;
     private final BroadcastReceiver broadcastReceiver = new BroadcastReceiver() {
         @Override
         public void onReceive(Context context, @NonNull Intent intent) {
@@ -158,6 +165,13 @@ public class BatchOpsService extends ForegroundService {
 
     @Override
     public int onStartCommand(@Nullable Intent intent, int flags, int startId) {
+        if (intent != null && ACTION_BATCH_OPS_CANCEL.equals(intent.getAction())) {
+            // Handled here as the queued intents are only handled after the running operation. The intent is still
+            // queued so that the service is stopped after the operation.
+            BatchOpsManager manager = batchOpsManager;
+            if (manager != null) manager.cancel();
+            return super.onStartCommand(intent, flags, startId);
+        }
         if (intent != null) {
             op = intent.getIntExtra(EXTRA_OP, BatchOpsManager.OP_NONE);
             header = intent.getStringExtra(EXTRA_HEADER);
@@ -168,6 +182,8 @@ public class BatchOpsService extends ForegroundService {
         Intent notificationIntent = new Intent(this, MainActivity.class);
         PendingIntent pendingIntent = PendingIntent.getActivity(this,
                 0, notificationIntent, 0);
+        PendingIntent cancelIntent = PendingIntent.getService(this, 0,
+                new Intent(this, BatchOpsService.class).setAction(ACTION_BATCH_OPS_CANCEL), 0);
         builder = new NotificationCompat.Builder(this, CHANNEL_ID)
                 .setContentTitle(getDesiredOpTitle())
                 .setContentText(getString(R.string.operation_running))
@@ -175,7 +191,8 @@ public class BatchOpsService extends ForegroundService {
                 .setSubText(header)
                 .setPriority(NotificationCompat.PRIORITY_LOW)
                 .setProgress(0, 0, true)
-                .setContentIntent(pendingIntent);
+                .setContentIntent(pendingIntent)
+                .addAction(0, getString(R.string.cancel), cancelIntent);
         startForeground(NOTIFICATION_ID, builder.build());
         registerReceiver(broadcastReceiver, new IntentFilter(ACTION_BATCH_OPS_PROGRESS));
         return super.onStartCommand(intent, flags, startId);
@@ -183,6 +200,7 @@ public class BatchOpsService extends ForegroundService {
 
     @Override
     protected void onHandleIntent(@Nullable Intent intent) {
+        if (intent != null && ACTION_BATCH_OPS_CANCEL.equals(intent.getAction())) return;
         try {
             if (intent == null) {
                 sendResults(Activity.RESULT_CANCELED, null);
@@ -204,7 +222,9 @@ public class BatchOpsService extends ForegroundService {
             sendStarted();
             BatchOpsManager batchOpsManager = new BatchOpsManager();
             batchOpsManager.setArgs(args);
+            this.batchOpsManager = batchOpsManager;
             BatchOpsManager.Result result = batchOpsManager.performOp(op, packages, userHandles);
+            this.batchOpsManager = null;
             if (result.isSuccessful()) {
                 sendResults(Activity.RESULT_OK, null);
             } else {
@@ -120,6 +120,20 @@ public class AESCrypto implements Crypto {
     @Override
     public void encrypt(@NonNull InputStream unencryptedStream, @NonNull OutputStream encryptedStream)
             throws IOException, InvalidAlgorithmParameterException, InvalidKeyException {
+        encrypt(spec, unencryptedStream, encryptedStream);
+    }
+
+    /**
+     * Encrypt using the given IV instead of the one this instance was created with. This allows the key to be loaded
+     * once for many small streams, each with its own IV.
+     */
+    public void encrypt(@NonNull byte[] iv, @NonNull InputStream unencryptedStream,
+                        @NonNull OutputStream encryptedStream) throws IOException {
+        encrypt(new AEADParameters(spec.getKey(), spec.getMacSize(), iv), unencryptedStream, encryptedStream);
+    }
+
+    private static void encrypt(@NonNull AEADParameters spec, @NonNull InputStream unencryptedStream,
+                                @NonNull OutputStream encryptedStream) throws IOException {
         // Init cipher
         GCMBlockCipher cipher = new GCMBlockCipher(new AESEngine());
         cipher.init(true, spec);
@@ -138,6 +152,21 @@ public class AESCrypto implements Crypto {
     @Override
     public void decrypt(@NonNull InputStream encryptedStream, @NonNull OutputStream unencryptedStream)
             throws IOException, InvalidAlgorithmParameterException, InvalidKeyException {
+        decrypt(spec, encryptedStream, unencryptedStream);
+    }
+
+    /**
+     * Decrypt using the given IV instead of the one this instance was created with.
+     *
+     * @see #encrypt(byte[], InputStream, OutputStream)
+     */
+    public void decrypt(@NonNull byte[] iv, @NonNull InputStream encryptedStream,
+                        @NonNull OutputStream unencryptedStream) throws IOException {
+        decrypt(new AEADParameters(spec.getKey(), spec.getMacSize(), iv), encryptedStream, unencryptedStream);
+    }
+
+    private static void decrypt(@NonNull AEADParameters spec, @NonNull InputStream encryptedStream,
+                                @NonNull OutputStream unencryptedStream) throws IOException {
         // Init cipher
         GCMBlockCipher cipher = new GCMBlockCipher(new AESEngine());
         cipher.init(false, spec);
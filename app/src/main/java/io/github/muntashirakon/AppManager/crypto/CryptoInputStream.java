@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.crypto;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+
+/**
+ * An {@link InputStream} that decrypts the given stream using
+ * {@link Crypto#decrypt(InputStream, java.io.OutputStream)}. Like {@link CryptoOutputStream}, decryption is done in a
+ * separate thread connected by a pipe, so that the decrypted data is never stored anywhere.
+ */
+public class CryptoInputStream extends InputStream {
+    private static final int PIPE_SIZE = 1024 * 64;
+
+    @NonNull
+    private final PipedInputStream pipedInputStream;
+    @NonNull
+    private final InputStream encryptedStream;
+    @NonNull
+    private final Thread decryptionThread;
+    private volatile Throwable decryptionError;
+    private boolean closed = false;
+
+    @WorkerThread
+    public CryptoInputStream(@NonNull Crypto crypto, @NonNull InputStream encryptedStream) throws IOException {
+        this.encryptedStream = encryptedStream;
+        pipedInputStream = new PipedInputStream(PIPE_SIZE);
+        PipedOutputStream pipedOutputStream = new PipedOutputStream(pipedInputStream);
+        decryptionThread = new Thread(() -> {
+            try {
+                crypto.decrypt(encryptedStream, pipedOutputStream);
+            } catch (Throwable th) {
+                decryptionError = th;
+            } finally {
+                try {
+                    pipedOutputStream.close();
+                } catch (IOException ignore) {
+                }
+            }
+        }, "CryptoInputStream");
+        decryptionThread.start();
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = pipedInputStream.read();
+        if (b == -1) checkError();
+        return b;
+    }
+
+    @Override
+    public int read(@NonNull byte[] b, int off, int len) throws IOException {
+        int read;
+        try {
+            read = pipedInputStream.read(b, off, len);
+        } catch (IOException e) {
+            checkError();
+            throw e;
+        }
+        // Decryption errors, e.g. authentication failures, are usually detected at the end of the stream
+        if (read == -1) checkError();
+        return read;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return pipedInputStream.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            // Closing the pipe stops the decryption thread if it's still running
+            pipedInputStream.close();
+            decryptionThread.join();
+        } catch (InterruptedException e) {
+            decryptionThread.interrupt();
+            throw new IOException(e);
+        } finally {
+            // Not all implementations close the encrypted stream
+            encryptedStream.close();
+        }
+    }
+
+    private void checkError() throws IOException {
+        if (decryptionError != null) {
+            throw new IOException("Decryption failed.", decryptionError);
+        }
+    }
+}
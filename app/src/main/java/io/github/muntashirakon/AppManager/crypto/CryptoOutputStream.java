@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.crypto;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+
+/**
+ * An {@link OutputStream} that encrypts everything written to it using
+ * {@link Crypto#encrypt(java.io.InputStream, OutputStream)} and writes the result to the given stream. Encryption is
+ * done in a separate thread connected by a pipe, so that any {@link Crypto} implementation can be used without
+ * storing the unencrypted data anywhere.
+ */
+public class CryptoOutputStream extends OutputStream {
+    private static final int PIPE_SIZE = 1024 * 64;
+
+    @NonNull
+    private final PipedOutputStream pipedOutputStream;
+    @NonNull
+    private final OutputStream encryptedStream;
+    @NonNull
+    private final Thread encryptionThread;
+    private volatile Throwable encryptionError;
+    private boolean closed = false;
+
+    @WorkerThread
+    public CryptoOutputStream(@NonNull Crypto crypto, @NonNull OutputStream encryptedStream) throws IOException {
+        this.encryptedStream = encryptedStream;
+        PipedInputStream pipedInputStream = new PipedInputStream(PIPE_SIZE);
+        pipedOutputStream = new PipedOutputStream(pipedInputStream);
+        encryptionThread = new Thread(() -> {
+            try {
+                crypto.encrypt(pipedInputStream, encryptedStream);
+            } catch (Throwable th) {
+                encryptionError = th;
+            } finally {
+                try {
+                    pipedInputStream.close();
+                } catch (IOException ignore) {
+                }
+            }
+        }, "CryptoOutputStream");
+        encryptionThread.start();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        checkError();
+        try {
+            pipedOutputStream.write(b);
+        } catch (IOException e) {
+            checkError();
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(@NonNull byte[] b, int off, int len) throws IOException {
+        checkError();
+        try {
+            pipedOutputStream.write(b, off, len);
+        } catch (IOException e) {
+            // The pipe is broken if the encryption thread has died
+            checkError();
+            throw e;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        checkError();
+        pipedOutputStream.flush();
+    }
+
+    /**
+     * Finish encryption and close the encrypted stream. This waits until the encryption thread has written all the
+     * encrypted data.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            pipedOutputStream.close();
+            encryptionThread.join();
+        } catch (InterruptedException e) {
+            encryptionThread.interrupt();
+            throw new IOException(e);
+        } finally {
+            // Not all implementations close the encrypted stream
+            encryptedStream.close();
+        }
+        checkError();
+    }
+
+    private void checkError() throws IOException {
+        if (encryptionError != null) {
+            throw new IOException("Encryption failed.", encryptionError);
+        }
+    }
+}
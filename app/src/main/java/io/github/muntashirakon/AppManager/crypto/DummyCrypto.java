@@ -37,7 +37,8 @@ public class DummyCrypto implements Crypto {
 
     @Override
     public void encrypt(@NonNull InputStream unencryptedStream, @NonNull OutputStream encryptedStream) throws IOException {
-        // Do nothing since both are the same stream
+        // No encryption, simply copy the stream
+        IOUtils.copy(unencryptedStream, encryptedStream);
     }
 
     @Override
@@ -49,7 +50,8 @@ public class DummyCrypto implements Crypto {
 
     @Override
     public void decrypt(@NonNull InputStream encryptedStream, @NonNull OutputStream unencryptedStream) throws IOException {
-        // Do nothing since both are the same stream
+        // No decryption, simply copy the stream
+        IOUtils.copy(encryptedStream, unencryptedStream);
     }
 
     @NonNull
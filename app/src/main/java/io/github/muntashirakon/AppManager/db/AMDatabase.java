@@ -22,14 +22,25 @@ import androidx.room.Database;
 import androidx.room.RoomDatabase;
 import androidx.room.migration.Migration;
 import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import io.github.muntashirakon.AppManager.db.dao.ApkAnalysisDao;
 import io.github.muntashirakon.AppManager.db.dao.AppDao;
 import io.github.muntashirakon.AppManager.db.dao.FileHashDao;
 import io.github.muntashirakon.AppManager.db.dao.LogFilterDao;
+import io.github.muntashirakon.AppManager.db.dao.PackageAnalysisDao;
+import io.github.muntashirakon.AppManager.db.dao.RuleDao;
+import io.github.muntashirakon.AppManager.db.dao.SearchEntryDao;
+import io.github.muntashirakon.AppManager.db.entity.ApkAnalysis;
 import io.github.muntashirakon.AppManager.db.entity.App;
 import io.github.muntashirakon.AppManager.db.entity.FileHash;
 import io.github.muntashirakon.AppManager.db.entity.LogFilter;
+import io.github.muntashirakon.AppManager.db.entity.PackageAnalysis;
+import io.github.muntashirakon.AppManager.db.entity.Rule;
+import io.github.muntashirakon.AppManager.db.entity.SearchEntry;
+import io.github.muntashirakon.AppManager.db.entity.SearchEntryFts;
 
-@Database(entities = {App.class, LogFilter.class, FileHash.class}, version = 4)
+@Database(entities = {App.class, LogFilter.class, FileHash.class, SearchEntry.class, SearchEntryFts.class,
+        PackageAnalysis.class, Rule.class, ApkAnalysis.class}, version = 13)
 public abstract class AMDatabase extends RoomDatabase {
     public static final Migration MIGRATION_1_2 = new Migration(1, 2) {
         @Override
@@ -53,9 +64,141 @@ public abstract class AMDatabase extends RoomDatabase {
         }
     };
 
+    public static final Migration MIGRATION_4_5 = new Migration(4, 5) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // Columns used for filtering and sorting the main list
+            database.execSQL("CREATE INDEX IF NOT EXISTS index_app_label ON app (label)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS index_app_flags ON app (flags)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS index_app_last_update_time ON app (last_update_time)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS index_app_tracker_count ON app (tracker_count)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS index_app_rules_count ON app (rules_count)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS index_app_is_installed ON app (is_installed)");
+        }
+    };
+
+    public static final Migration MIGRATION_5_6 = new Migration(5, 6) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // The index is built during the next sync of the app list
+            database.execSQL("CREATE VIRTUAL TABLE IF NOT EXISTS `search_index` USING FTS4(`package_name` TEXT NOT NULL, "
+                    + "`type` TEXT NOT NULL, `content` TEXT NOT NULL, tokenize=unicode61, "
+                    + "notindexed=`package_name`, notindexed=`type`)");
+        }
+    };
+
+    public static final Migration MIGRATION_6_7 = new Migration(6, 7) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            database.execSQL("CREATE TABLE IF NOT EXISTS `package_analysis` (`package_name` TEXT NOT NULL, "
+                    + "`version_code` INTEGER NOT NULL, `last_update_time` INTEGER NOT NULL, "
+                    + "`apk_size` INTEGER NOT NULL, `components` TEXT, `tracker_count` INTEGER NOT NULL, "
+                    + "`cert_name` TEXT, `cert_algo` TEXT, `cert_sha256` TEXT, PRIMARY KEY(`package_name`))");
+        }
+    };
+
+    public static final Migration MIGRATION_7_8 = new Migration(7, 8) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            database.execSQL("CREATE TABLE IF NOT EXISTS `rule` (`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, "
+                    + "`package_name` TEXT NOT NULL, `user_id` INTEGER NOT NULL, `name` TEXT NOT NULL, "
+                    + "`type` TEXT NOT NULL, `extra` TEXT)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_rule_package_name_user_id` ON `rule` (`package_name`, "
+                    + "`user_id`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_rule_name` ON `rule` (`name`)");
+            // The rules saved in the TSV files are copied by TsvRulesMigrator during the sync of the app list, as
+            // the list of users may not be available here
+        }
+    };
+
+    public static final Migration MIGRATION_8_9 = new Migration(8, 9) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            database.execSQL("CREATE TABLE IF NOT EXISTS `apk_analysis` (`file_hash` TEXT NOT NULL, "
+                    + "`package_name` TEXT NOT NULL, `label` TEXT, `version_name` TEXT, "
+                    + "`version_code` INTEGER NOT NULL, `splits` TEXT, `cert_sha256` TEXT, `permissions` TEXT, "
+                    + "`tracker_count` INTEGER NOT NULL, PRIMARY KEY(`file_hash`))");
+        }
+    };
+
+    public static final Migration MIGRATION_9_10 = new Migration(9, 10) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // The table is only a cache, the packages are analysed again during the next sync
+            database.execSQL("DROP TABLE IF EXISTS `package_analysis`");
+            database.execSQL("CREATE TABLE IF NOT EXISTS `package_analysis` (`package_name` TEXT NOT NULL, "
+                    + "`version_code` INTEGER NOT NULL, `last_update_time` INTEGER NOT NULL, "
+                    + "`apk_size` INTEGER NOT NULL, `components` TEXT, `tracker_count` INTEGER NOT NULL, "
+                    + "`tracker_signatures_version` INTEGER NOT NULL, `cert_name` TEXT, `cert_algo` TEXT, "
+                    + "`cert_sha256` TEXT, PRIMARY KEY(`package_name`))");
+        }
+    };
+
+    public static final Migration MIGRATION_10_11 = new Migration(10, 11) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // The index is built again during the next sync of the app list
+            database.execSQL("DROP TABLE IF EXISTS `search_index`");
+            database.execSQL("CREATE TABLE IF NOT EXISTS `search_entry` (`id` INTEGER PRIMARY KEY AUTOINCREMENT "
+                    + "NOT NULL, `package_name` TEXT NOT NULL, `type` TEXT NOT NULL, `content` TEXT NOT NULL)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_search_entry_package_name` ON `search_entry` "
+                    + "(`package_name`)");
+            database.execSQL("CREATE VIRTUAL TABLE IF NOT EXISTS `search_index` USING FTS4(`content` TEXT NOT NULL, "
+                    + "tokenize=unicode61, content=`search_entry`)");
+            // Same as the triggers created by Room
+            database.execSQL("CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_search_index_BEFORE_UPDATE BEFORE "
+                    + "UPDATE ON `search_entry` BEGIN DELETE FROM `search_index` WHERE `docid`=OLD.`rowid`; END");
+            database.execSQL("CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_search_index_BEFORE_DELETE BEFORE "
+                    + "DELETE ON `search_entry` BEGIN DELETE FROM `search_index` WHERE `docid`=OLD.`rowid`; END");
+            database.execSQL("CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_search_index_AFTER_UPDATE AFTER "
+                    + "UPDATE ON `search_entry` BEGIN INSERT INTO `search_index`(`docid`, `content`) VALUES "
+                    + "(NEW.`rowid`, NEW.`content`); END");
+            database.execSQL("CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_search_index_AFTER_INSERT AFTER "
+                    + "INSERT ON `search_entry` BEGIN INSERT INTO `search_index`(`docid`, `content`) VALUES "
+                    + "(NEW.`rowid`, NEW.`content`); END");
+        }
+    };
+
+    public static final Migration MIGRATION_11_12 = new Migration(11, 12) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // The list query (AppListQuery) groups the rows by package name using the primary key and sorts them by
+            // aggregates, and its filters are bit masks or match most of the rows. So these indexes were never used,
+            // but had to be updated on every sync.
+            database.execSQL("DROP INDEX IF EXISTS index_app_label");
+            database.execSQL("DROP INDEX IF EXISTS index_app_flags");
+            database.execSQL("DROP INDEX IF EXISTS index_app_last_update_time");
+            database.execSQL("DROP INDEX IF EXISTS index_app_tracker_count");
+            database.execSQL("DROP INDEX IF EXISTS index_app_rules_count");
+            database.execSQL("DROP INDEX IF EXISTS index_app_is_installed");
+        }
+    };
+
+    public static final Migration MIGRATION_12_13 = new Migration(12, 13) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // The table is only a cache, the files are inspected again when they are opened
+            database.execSQL("DROP TABLE IF EXISTS `apk_analysis`");
+            database.execSQL("CREATE TABLE IF NOT EXISTS `apk_analysis` (`file_hash` TEXT NOT NULL, "
+                    + "`package_name` TEXT NOT NULL, `label` TEXT, `version_name` TEXT, "
+                    + "`version_code` INTEGER NOT NULL, `splits` TEXT, `cert_sha256` TEXT, `permissions` TEXT, "
+                    + "`tracker_count` INTEGER NOT NULL, `tracker_signatures_version` INTEGER NOT NULL, `uri` TEXT, "
+                    + "`file_size` INTEGER NOT NULL, `last_modified` INTEGER NOT NULL, PRIMARY KEY(`file_hash`))");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_apk_analysis_uri` ON `apk_analysis` (`uri`)");
+        }
+    };
+
     public abstract AppDao appDao();
 
     public abstract LogFilterDao logFilterDao();
 
     public abstract FileHashDao fileHashDao();
+
+    public abstract SearchEntryDao searchEntryDao();
+
+    public abstract PackageAnalysisDao packageAnalysisDao();
+
+    public abstract RuleDao ruleDao();
+
+    public abstract ApkAnalysisDao apkAnalysisDao();
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.db.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import io.github.muntashirakon.AppManager.db.entity.ApkAnalysis;
+
+@Dao
+public interface ApkAnalysisDao {
+    @Query("SELECT * FROM apk_analysis WHERE file_hash = :fileHash LIMIT 1")
+    ApkAnalysis get(String fileHash);
+
+    @Query("SELECT * FROM apk_analysis WHERE uri = :uri AND file_size = :fileSize AND last_modified = :lastModified "
+            + "LIMIT 1")
+    ApkAnalysis getByUri(String uri, long fileSize, long lastModified);
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insert(ApkAnalysis apkAnalysis);
+}
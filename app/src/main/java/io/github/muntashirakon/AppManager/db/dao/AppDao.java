@@ -18,6 +18,7 @@
 package io.github.muntashirakon.AppManager.db.dao;
 
 import androidx.room.*;
+import androidx.sqlite.db.SupportSQLiteQuery;
 import io.github.muntashirakon.AppManager.db.entity.App;
 
 import java.util.List;
@@ -33,9 +34,21 @@ public interface AppDao {
     @Query("SELECT * FROM app WHERE package_name = :packageName")
     List<App> getAll(String packageName);
 
+    @Query("SELECT * FROM app WHERE package_name IN (:packageNames)")
+    List<App> getAll(List<String> packageNames);
+
     @Query("SELECT * FROM app WHERE package_name = :packageName AND user_id = :userId")
     List<App> getAll(String packageName, int userId);
 
+    /**
+     * Package names selected by a query built with {@code AppListQuery}
+     */
+    @RawQuery
+    List<String> getPackageNames(SupportSQLiteQuery query);
+
+    @Query("SELECT DISTINCT package_name FROM app")
+    List<String> getAllPackageNames();
+
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     void insert(List<App> apps);
 
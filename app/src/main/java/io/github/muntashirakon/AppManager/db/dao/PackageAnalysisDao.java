@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.db.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import java.util.List;
+
+import io.github.muntashirakon.AppManager.db.entity.PackageAnalysis;
+
+@Dao
+public interface PackageAnalysisDao {
+    @Query("SELECT * FROM package_analysis WHERE package_name = :packageName LIMIT 1")
+    PackageAnalysis get(String packageName);
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insert(PackageAnalysis packageAnalysis);
+
+    @Query("DELETE FROM package_analysis WHERE package_name IN (:packageNames)")
+    void delete(List<String> packageNames);
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.db.dao;
+
+import androidx.room.ColumnInfo;
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.Query;
+import androidx.room.Transaction;
+
+import java.util.List;
+
+import io.github.muntashirakon.AppManager.db.entity.Rule;
+
+@Dao
+public abstract class RuleDao {
+    public static class RuleCount {
+        @ColumnInfo(name = "package_name")
+        public String packageName;
+
+        @ColumnInfo(name = "user_id")
+        public int userId;
+
+        @ColumnInfo(name = "count")
+        public int count;
+    }
+
+    @Query("SELECT * FROM rule WHERE package_name = :packageName AND user_id = :userId ORDER BY id")
+    public abstract List<Rule> getAll(String packageName, int userId);
+
+    @Query("SELECT * FROM rule WHERE user_id = :userId ORDER BY package_name, id")
+    public abstract List<Rule> getAll(int userId);
+
+    @Query("SELECT COUNT(*) FROM rule WHERE package_name = :packageName AND user_id = :userId")
+    public abstract int count(String packageName, int userId);
+
+    @Query("SELECT package_name, user_id, COUNT(*) AS count FROM rule GROUP BY package_name, user_id")
+    public abstract List<RuleCount> getCounts();
+
+    @Query("SELECT DISTINCT package_name FROM rule")
+    public abstract List<String> getPackageNames();
+
+    @Query("SELECT DISTINCT package_name FROM rule WHERE user_id = :userId")
+    public abstract List<String> getPackageNames(int userId);
+
+    /**
+     * Packages having a rule of the given name, e.g. a component or a permission
+     */
+    @Query("SELECT DISTINCT package_name FROM rule WHERE name = :name AND user_id = :userId")
+    public abstract List<String> getPackageNames(String name, int userId);
+
+    @Insert
+    public abstract void insert(List<Rule> rules);
+
+    @Query("DELETE FROM rule WHERE package_name = :packageName AND user_id = :userId")
+    public abstract void delete(String packageName, int userId);
+
+    /**
+     * Replace the rules of the given package
+     */
+    @Transaction
+    public void replace(String packageName, int userId, List<Rule> rules) {
+        delete(packageName, userId);
+        insert(rules);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.db.dao;
+
+import androidx.annotation.Nullable;
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.Query;
+import androidx.room.Transaction;
+
+import java.util.List;
+
+import io.github.muntashirakon.AppManager.db.entity.SearchEntry;
+
+@Dao
+public abstract class SearchEntryDao {
+    /**
+     * @param query An FTS query, see {@code SearchIndex#toFtsQuery(String)}
+     */
+    @Query("SELECT DISTINCT search_entry.package_name FROM search_index "
+            + "JOIN search_entry ON search_entry.id = search_index.rowid WHERE search_index MATCH :query")
+    public abstract List<String> searchPackages(String query);
+
+    /**
+     * @return {@code null} if there are no entries
+     */
+    @Query("SELECT 1 FROM search_entry LIMIT 1")
+    @Nullable
+    public abstract Integer findAny();
+
+    @Insert
+    public abstract void insert(List<SearchEntry> entries);
+
+    /**
+     * The index is updated by the triggers, which delete the rows of the FTS table by {@code rowid}
+     */
+    @Query("DELETE FROM search_entry WHERE package_name IN (:packageNames)")
+    public abstract void delete(List<String> packageNames);
+
+    /**
+     * Replace the entries of the given packages
+     */
+    @Transaction
+    public void replace(List<String> packageNames, List<SearchEntry> entries) {
+        delete(packageNames);
+        insert(entries);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.db.entity;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+/**
+ * Metadata extracted from an external APK, APKS or XAPK file. It is identified by the SHA-256 checksum of the file so
+ * that the same file is never inspected twice regardless of where it is located. The location, size and modification
+ * time of the file when it was last inspected are also stored so that an unchanged file is found without reading it.
+ * The tracker count is only valid for the tracker signatures it was computed with.
+ */
+@SuppressWarnings("NotNullFieldNotInitialized")
+@Entity(tableName = "apk_analysis", indices = {@Index(name = "index_apk_analysis_uri", value = {"uri"})})
+public class ApkAnalysis {
+    @PrimaryKey
+    @ColumnInfo(name = "file_hash")
+    @NonNull
+    public String fileHash;
+
+    @ColumnInfo(name = "package_name")
+    @NonNull
+    public String packageName;
+
+    @ColumnInfo(name = "label")
+    @Nullable
+    public String label;
+
+    @ColumnInfo(name = "version_name")
+    @Nullable
+    public String versionName;
+
+    @ColumnInfo(name = "version_code")
+    public long versionCode;
+
+    /**
+     * Names of the splits separated by new lines
+     */
+    @ColumnInfo(name = "splits")
+    @Nullable
+    public String splits;
+
+    /**
+     * SHA-256 checksums of the signing certificates separated by new lines
+     */
+    @ColumnInfo(name = "cert_sha256")
+    @Nullable
+    public String certSha256;
+
+    /**
+     * Requested permissions separated by new lines
+     */
+    @ColumnInfo(name = "permissions")
+    @Nullable
+    public String permissions;
+
+    @ColumnInfo(name = "tracker_count")
+    public int trackerCount;
+
+    /**
+     * @see io.github.muntashirakon.AppManager.StaticDataset#getTrackerSignaturesVersion()
+     */
+    @ColumnInfo(name = "tracker_signatures_version")
+    public int trackerSignaturesVersion;
+
+    @ColumnInfo(name = "uri")
+    @Nullable
+    public String uri;
+
+    @ColumnInfo(name = "file_size")
+    public long fileSize;
+
+    @ColumnInfo(name = "last_modified")
+    public long lastModified;
+}
@@ -20,16 +20,14 @@ package io.github.muntashirakon.AppManager.db.entity;
 import android.content.Context;
 import android.content.pm.ApplicationInfo;
 import android.content.pm.PackageInfo;
-import android.util.Pair;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.content.pm.PackageInfoCompat;
 import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import io.github.muntashirakon.AppManager.backup.MetadataManager;
-import io.github.muntashirakon.AppManager.rules.compontents.ComponentUtils;
 import io.github.muntashirakon.AppManager.users.Users;
-import io.github.muntashirakon.AppManager.utils.Utils;
+import io.github.muntashirakon.AppManager.utils.PackageAnalysisCache;
 
 import java.io.Serializable;
 import java.util.Objects;
@@ -140,15 +138,16 @@ public class App implements Serializable {
         app.versionName = packageInfo.versionName;
         app.versionCode = PackageInfoCompat.getLongVersionCode(packageInfo);
         app.sharedUserId = packageInfo.sharedUserId;
-        Pair<String, String> issuerAndAlgoPair = Utils.getIssuerAndAlg(packageInfo);
-        app.certName = issuerAndAlgoPair.first;
-        app.certAlgo = issuerAndAlgoPair.second;
+        // Derived from the APK, which is only analysed again if it has changed
+        PackageAnalysis packageAnalysis = PackageAnalysisCache.get(packageInfo);
+        app.certName = packageAnalysis.certName != null ? packageAnalysis.certName : "";
+        app.certAlgo = packageAnalysis.certAlgo != null ? packageAnalysis.certAlgo : "";
         app.firstInstallTime = packageInfo.firstInstallTime;
         app.lastUpdateTime = packageInfo.lastUpdateTime;
         app.hasActivities = packageInfo.activities != null;
         app.hasSplits = applicationInfo.splitSourceDirs != null;
         app.rulesCount = 0;
-        app.trackerCount = ComponentUtils.getTrackerComponentsForPackage(packageInfo).size();
+        app.trackerCount = packageAnalysis.trackerCount;
         app.lastActionTime = System.currentTimeMillis();
         return app;
     }
@@ -181,6 +180,14 @@ public class App implements Serializable {
         return app;
     }
 
+    /**
+     * Whether the app is only known from a backup, i.e. it was created by
+     * {@link #fromBackupMetadata(MetadataManager.Metadata)}. The package manager never assigns UID 0 to an app.
+     */
+    public boolean isOnlyInBackup() {
+        return uid == 0 && !isInstalled;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -195,6 +202,6 @@ public class App implements Serializable {
     }
 
     public int getHashCode() {
-        return Objects.hash(packageName, userId, packageLabel, versionName, versionCode, flags, uid, sharedUserId, firstInstallTime, lastUpdateTime, sdk, certName, certAlgo, isInstalled, isEnabled, hasActivities, hasSplits, rulesCount, lastActionTime);
+        return Objects.hash(packageName, userId, packageLabel, versionName, versionCode, flags, uid, sharedUserId, firstInstallTime, lastUpdateTime, sdk, certName, certAlgo, isInstalled, isEnabled, hasActivities, hasSplits, rulesCount);
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.db.entity;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.PrimaryKey;
+
+/**
+ * Results derived from the APK of a package that are expensive to compute. They are valid as long as the APK is the
+ * same, i.e. the version code, the last update time and the size of the APK haven't changed, and the trackers were
+ * counted using the current tracker signatures.
+ */
+@SuppressWarnings("NotNullFieldNotInitialized")
+@Entity(tableName = "package_analysis")
+public class PackageAnalysis {
+    @PrimaryKey
+    @ColumnInfo(name = "package_name")
+    @NonNull
+    public String packageName;
+
+    @ColumnInfo(name = "version_code")
+    public long versionCode;
+
+    @ColumnInfo(name = "last_update_time")
+    public long lastUpdateTime;
+
+    @ColumnInfo(name = "apk_size")
+    public long apkSize;
+
+    /**
+     * Components of the package, one in each line in the form {@code <type> <class name>}
+     */
+    @ColumnInfo(name = "components")
+    @Nullable
+    public String components;
+
+    @ColumnInfo(name = "tracker_count")
+    public int trackerCount;
+
+    /**
+     * Version of the tracker signatures used to count the trackers
+     */
+    @ColumnInfo(name = "tracker_signatures_version")
+    public int trackerSignaturesVersion;
+
+    @ColumnInfo(name = "cert_name")
+    @Nullable
+    public String certName;
+
+    @ColumnInfo(name = "cert_algo")
+    @Nullable
+    public String certAlgo;
+
+    /**
+     * SHA-256 checksums of the signing certificates separated by new lines
+     */
+    @ColumnInfo(name = "cert_sha256")
+    @Nullable
+    public String certSha256;
+
+    public boolean isValid(long versionCode, long lastUpdateTime, long apkSize, int trackerSignaturesVersion) {
+        return this.versionCode == versionCode && this.lastUpdateTime == lastUpdateTime && this.apkSize == apkSize
+                && this.trackerSignaturesVersion == trackerSignaturesVersion;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.db.entity;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+/**
+ * A rule of a package for a user, e.g. a blocked component or an app op. Names are not unique for all types of rules,
+ * so the rules are identified by their IDs which also preserve the order in which they are saved.
+ */
+@SuppressWarnings("NotNullFieldNotInitialized")
+@Entity(tableName = "rule", indices = {
+        @Index(name = "index_rule_package_name_user_id", value = {"package_name", "user_id"}),
+        @Index(name = "index_rule_name", value = {"name"})})
+public class Rule {
+    @ColumnInfo(name = "id")
+    @PrimaryKey(autoGenerate = true)
+    public long id;
+
+    @ColumnInfo(name = "package_name")
+    @NonNull
+    public String packageName;
+
+    @ColumnInfo(name = "user_id")
+    public int userId;
+
+    @ColumnInfo(name = "name")
+    @NonNull
+    public String name;
+
+    /**
+     * Name of the {@code RulesStorageManager.Type}
+     */
+    @ColumnInfo(name = "type")
+    @NonNull
+    public String type;
+
+    /**
+     * Extra data in the same format used in the TSV files
+     */
+    @ColumnInfo(name = "extra")
+    @Nullable
+    public String extra;
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.db.entity;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.StringDef;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Objects;
+
+/**
+ * A searchable property of an installed package, e.g. a component or a requested permission. The content is indexed
+ * by {@link SearchEntryFts}, which is kept in sync by the triggers created by Room.
+ */
+@SuppressWarnings("NotNullFieldNotInitialized")
+@Entity(tableName = "search_entry", indices = {
+        @Index(name = "index_search_entry_package_name", value = {"package_name"})})
+public class SearchEntry {
+    @StringDef({TYPE_PACKAGE_NAME, TYPE_LABEL, TYPE_COMPONENT, TYPE_PERMISSION, TYPE_TRACKER})
+    @Retention(RetentionPolicy.SOURCE)
+    public @interface Type {
+    }
+
+    public static final String TYPE_PACKAGE_NAME = "package";
+    public static final String TYPE_LABEL = "label";
+    public static final String TYPE_COMPONENT = "component";
+    public static final String TYPE_PERMISSION = "permission";
+    public static final String TYPE_TRACKER = "tracker";
+
+    @ColumnInfo(name = "id")
+    @PrimaryKey(autoGenerate = true)
+    public long id;
+
+    @ColumnInfo(name = "package_name")
+    @NonNull
+    public String packageName;
+
+    @ColumnInfo(name = "type")
+    @Type
+    @NonNull
+    public String type;
+
+    @ColumnInfo(name = "content")
+    @NonNull
+    public String content;
+
+    public SearchEntry() {
+    }
+
+    public SearchEntry(@NonNull String packageName, @Type @NonNull String type, @NonNull String content) {
+        this.packageName = packageName;
+        this.type = type;
+        this.content = content;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SearchEntry)) return false;
+        SearchEntry that = (SearchEntry) o;
+        return packageName.equals(that.packageName) && type.equals(that.type) && content.equals(that.content);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(packageName, type, content);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.db.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Fts4;
+import androidx.room.FtsOptions;
+
+/**
+ * Full-text index of {@link SearchEntry#content}. The content is not stored twice, and the rows are found by the
+ * {@code rowid} of {@link SearchEntry}.
+ */
+@SuppressWarnings("NotNullFieldNotInitialized")
+@Fts4(contentEntity = SearchEntry.class, tokenizer = FtsOptions.TOKENIZER_UNICODE61)
+@Entity(tableName = "search_index")
+public class SearchEntryFts {
+    @ColumnInfo(name = "content")
+    @NonNull
+    public String content;
+}
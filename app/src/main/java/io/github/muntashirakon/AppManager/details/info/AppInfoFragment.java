@@ -404,14 +404,21 @@ public class AppInfoFragment extends Fragment implements SwipeRefreshLayout.OnRe
             });
         } else if (itemId == R.id.action_enable_magisk_hide) {
             if (mainModel == null) return true;
-            if (MagiskUtils.hide(mPackageName)) {
-                try (ComponentsBlocker cb = ComponentsBlocker.getMutableInstance(mPackageName, mainModel.getUserHandle())) {
-                    cb.setMagiskHide(true);
-                    refreshDetails();
+            int userHandle = mainModel.getUserHandle();
+            executor.submit(() -> {
+                if (MagiskUtils.hide(mPackageName)) {
+                    try (ComponentsBlocker cb = ComponentsBlocker.getMutableInstance(mPackageName, userHandle)) {
+                        cb.setMagiskHide(true);
+                    } catch (Throwable th) {
+                        Log.e(TAG, "Could not save MagiskHide rule", th);
+                        runOnUiThread(() -> displayLongToast(R.string.failed_to_enable_magisk_hide));
+                        return;
+                    }
+                    runOnUiThread(this::refreshDetails);
+                } else {
+                    runOnUiThread(() -> displayLongToast(R.string.failed_to_enable_magisk_hide));
                 }
-            } else {
-                displayLongToast(R.string.failed_to_enable_magisk_hide);
-            }
+            });
         } else if (itemId == R.id.action_battery_opt) {
             if (hasDumpPermission()) {
                 new MaterialAlertDialogBuilder(mActivity)
@@ -730,14 +737,21 @@ public class AppInfoFragment extends Fragment implements SwipeRefreshLayout.OnRe
                         .setTitle(R.string.magisk_hide_enabled)
                         .setMessage(R.string.disable_magisk_hide)
                         .setPositiveButton(R.string.disable, (dialog, which) -> {
-                            if (MagiskUtils.unhide(mPackageName)) {
-                                try (ComponentsBlocker cb = ComponentsBlocker.getMutableInstance(mPackageName, mainModel.getUserHandle())) {
-                                    cb.setMagiskHide(false);
-                                    refreshDetails();
+                            int userHandle = mainModel.getUserHandle();
+                            executor.submit(() -> {
+                                if (MagiskUtils.unhide(mPackageName)) {
+                                    try (ComponentsBlocker cb = ComponentsBlocker.getMutableInstance(mPackageName, userHandle)) {
+                                        cb.setMagiskHide(false);
+                                    } catch (Throwable th) {
+                                        Log.e(TAG, "Could not save MagiskHide rule", th);
+                                        runOnUiThread(() -> displayLongToast(R.string.failed_to_disable_magisk_hide));
+                                        return;
+                                    }
+                                    runOnUiThread(this::refreshDetails);
+                                } else {
+                                    runOnUiThread(() -> displayLongToast(R.string.failed_to_disable_magisk_hide));
                                 }
-                            } else {
-                                displayLongToast(R.string.failed_to_disable_magisk_hide);
-                            }
+                            });
                         })
                         .setNegativeButton(R.string.cancel, null)
                         .show());
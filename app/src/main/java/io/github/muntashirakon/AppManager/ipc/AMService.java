@@ -17,27 +17,35 @@
 
 package io.github.muntashirakon.AppManager.ipc;
 
+import android.content.ComponentName;
 import android.content.Intent;
+import android.content.pm.IPackageManager;
 import android.os.Binder;
 import android.os.IBinder;
 import android.os.Parcel;
 import android.os.RemoteException;
+import android.os.ServiceManager;
 import android.system.ErrnoException;
 import android.system.Os;
 import android.system.StructStat;
 import android.util.Log;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import io.github.muntashirakon.AppManager.IAMService;
+import io.github.muntashirakon.AppManager.IFileOperationCallback;
 import io.github.muntashirakon.AppManager.IRemoteFile;
 import io.github.muntashirakon.AppManager.IRemoteProcess;
 import io.github.muntashirakon.AppManager.IRemoteShell;
 import io.github.muntashirakon.AppManager.ipc.ps.ProcessEntry;
 import io.github.muntashirakon.AppManager.ipc.ps.Ps;
 import io.github.muntashirakon.AppManager.server.common.IRootIPC;
+import io.github.muntashirakon.io.FileOperations;
 import io.github.muntashirakon.io.FileStatus;
 
 public class AMService extends RootService {
@@ -114,6 +122,102 @@ public class AMService extends RootService {
             }
         }
 
+        @Override
+        public void delete(String path, IFileOperationCallback callback) throws RemoteException {
+            try {
+                FileOperations.delete(new File(path), getProgressListener(callback));
+            } catch (IOException e) {
+                throw new RemoteException(e.getMessage());
+            }
+        }
+
+        @Override
+        public long copy(String from, String to, IFileOperationCallback callback) throws RemoteException {
+            try {
+                return FileOperations.copy(new File(from), new File(to), getProgressListener(callback));
+            } catch (IOException e) {
+                throw new RemoteException(e.getMessage());
+            }
+        }
+
+        @Override
+        public void move(String from, String to, IFileOperationCallback callback) throws RemoteException {
+            try {
+                FileOperations.move(new File(from), new File(to), getProgressListener(callback));
+            } catch (IOException e) {
+                throw new RemoteException(e.getMessage());
+            }
+        }
+
+        @Override
+        public long getSize(String path, boolean useCache) throws RemoteException {
+            try {
+                return FileOperations.getSize(new File(path), useCache);
+            } catch (IOException e) {
+                throw new RemoteException(e.getMessage());
+            }
+        }
+
+        @Override
+        public void setPermissions(String path, int dirMode, int fileMode, int uid, int gid,
+                                   IFileOperationCallback callback) throws RemoteException {
+            try {
+                FileOperations.setPermissions(new File(path), dirMode, fileMode, uid, gid,
+                        getProgressListener(callback));
+            } catch (IOException e) {
+                throw new RemoteException(e.getMessage());
+            }
+        }
+
+        @Override
+        public void symlink(String target, String link) throws RemoteException {
+            try {
+                FileOperations.symlink(target, new File(link));
+            } catch (IOException e) {
+                throw new RemoteException(e.getMessage());
+            }
+        }
+
+        /**
+         * Set the enabled states of the components one by one in this process so that the client only has to make a
+         * single call. A failure does not stop the rest of the components from being changed.
+         */
+        @Override
+        public boolean[] setComponentEnabledSettings(List<ComponentName> componentNames, int[] newStates, int flags,
+                                                     int userId) throws RemoteException {
+            if (componentNames.size() != newStates.length) {
+                throw new RemoteException("Number of components and states do not match.");
+            }
+            IPackageManager pm = IPackageManager.Stub.asInterface(ServiceManager.getService("package"));
+            boolean[] results = new boolean[newStates.length];
+            long id = Binder.clearCallingIdentity();
+            try {
+                for (int i = 0; i < newStates.length; ++i) {
+                    try {
+                        pm.setComponentEnabledSetting(componentNames.get(i), newStates[i], flags, userId);
+                        results[i] = true;
+                    } catch (Exception e) {
+                        Log.e(TAG, "Could not set the state of " + componentNames.get(i), e);
+                    }
+                }
+            } finally {
+                Binder.restoreCallingIdentity(id);
+            }
+            return results;
+        }
+
+        @Nullable
+        private static FileOperations.ProgressListener getProgressListener(@Nullable IFileOperationCallback callback) {
+            if (callback == null) return null;
+            return (path, bytes, files) -> {
+                try {
+                    callback.onProgress(path, bytes, files);
+                } catch (RemoteException ignore) {
+                    // The client is gone, the operation is finished nonetheless
+                }
+            };
+        }
+
         @Override
         public boolean onTransact(int code, Parcel data, Parcel reply, int flags) throws RemoteException {
             if (code == ProxyBinder.PROXY_BINDER_TRANSACT_CODE) {
@@ -18,21 +18,29 @@
 package io.github.muntashirakon.AppManager.ipc;
 
 import android.annotation.SuppressLint;
+import android.os.ParcelFileDescriptor;
 import android.os.RemoteException;
 import android.util.Log;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 import aosp.libcore.util.EmptyArray;
 import io.github.muntashirakon.AppManager.IRemoteFile;
 import io.github.muntashirakon.AppManager.IRemoteFileReader;
+import io.github.muntashirakon.AppManager.IRemoteFileWalker;
 import io.github.muntashirakon.AppManager.IRemoteFileWriter;
 
 import static io.github.muntashirakon.AppManager.ipc.RootService.TAG;
 
 class RemoteFileImpl extends IRemoteFile.Stub {
+    private static final int PIPE_BUFFER_SIZE = 64 * 1024;
+
     File file;
 
     RemoteFileImpl(String file) {
@@ -236,4 +244,59 @@ class RemoteFileImpl extends IRemoteFile.Stub {
             throw new RemoteException(e.getMessage());
         }
     }
+
+    @Override
+    public ParcelFileDescriptor openFileDescriptor(int mode) throws RemoteException {
+        try {
+            return ParcelFileDescriptor.open(file, mode);
+        } catch (FileNotFoundException e) {
+            throw new RemoteException(e.getMessage());
+        }
+    }
+
+    @Override
+    public ParcelFileDescriptor openReadPipe() throws RemoteException {
+        InputStream is;
+        ParcelFileDescriptor[] pipe;
+        try {
+            is = new FileInputStream(file);
+        } catch (FileNotFoundException e) {
+            throw new RemoteException(e.getMessage());
+        }
+        try {
+            pipe = ParcelFileDescriptor.createReliablePipe();
+        } catch (IOException e) {
+            try {
+                is.close();
+            } catch (IOException ignore) {
+            }
+            throw new RemoteException(e.getMessage());
+        }
+        ParcelFileDescriptor writeSide = pipe[1];
+        new Thread(() -> {
+            // The stream does not own the file descriptor, it is closed by the ParcelFileDescriptor
+            try (InputStream fis = is; OutputStream os = new FileOutputStream(writeSide.getFileDescriptor())) {
+                byte[] buffer = new byte[PIPE_BUFFER_SIZE];
+                int count;
+                while ((count = fis.read(buffer)) != -1) {
+                    os.write(buffer, 0, count);
+                }
+                writeSide.close();
+            } catch (IOException e) {
+                Log.e(TAG, "Could not stream " + file, e);
+                try {
+                    // Let the reader know that the stream is incomplete
+                    writeSide.closeWithError(e.getMessage());
+                } catch (IOException ignore) {
+                }
+            }
+        }, "RemoteFileReadPipe").start();
+        // The read side is closed after it is written to the reply
+        return pipe[0];
+    }
+
+    @Override
+    public IRemoteFileWalker walk(boolean followLinks, int maxDepth) {
+        return new RemoteFileWalkerImpl(file.getAbsoluteFile(), followLinks, maxDepth);
+    }
 }
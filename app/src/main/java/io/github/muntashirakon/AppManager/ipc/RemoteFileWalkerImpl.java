@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.ipc;
+
+import android.system.ErrnoException;
+import android.system.Os;
+import android.system.OsConstants;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.github.muntashirakon.AppManager.IRemoteFileWalker;
+import io.github.muntashirakon.io.FileEntry;
+import io.github.muntashirakon.io.FileStatus;
+
+/**
+ * Walk a tree in pre-order without recursion, so that the walk can be paused after each batch.
+ */
+class RemoteFileWalkerImpl extends IRemoteFileWalker.Stub {
+    /**
+     * Approximate size limit of a batch. The binder buffer (1 MiB) is shared by all the transactions of the process.
+     */
+    private static final int MAX_BATCH_SIZE = 256 * 1024;
+    /**
+     * Approximate size of an entry in a parcel without the path
+     */
+    private static final int ENTRY_SIZE = 2 * 100 + 4 + 8;
+
+    private static class Directory {
+        final File dir;
+        final String[] children;
+        final int depth;
+        int next = 0;
+
+        Directory(File dir, String[] children, int depth) {
+            this.dir = dir;
+            this.children = children;
+            this.depth = depth;
+        }
+    }
+
+    private final File root;
+    private final boolean followLinks;
+    private final int maxDepth;
+    private final Deque<Directory> stack = new ArrayDeque<>();
+    // Directories that have already been visited, used to prevent loops when following links
+    private final Set<String> visitedDirs = new HashSet<>();
+    private boolean started = false;
+    private boolean closed = false;
+
+    RemoteFileWalkerImpl(File root, boolean followLinks, int maxDepth) {
+        this.root = root;
+        this.followLinks = followLinks;
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    public synchronized List<FileEntry> next(int maxCount) {
+        if (closed) return Collections.emptyList();
+        List<FileEntry> entries = new ArrayList<>();
+        int batchSize = 0;
+        if (!started) {
+            started = true;
+            FileEntry rootEntry = getEntry(root);
+            if (rootEntry != null) {
+                entries.add(rootEntry);
+                batchSize += ENTRY_SIZE + 2 * rootEntry.path.length();
+                enter(root, rootEntry, 0);
+            }
+        }
+        while (!stack.isEmpty() && entries.size() < maxCount && batchSize < MAX_BATCH_SIZE) {
+            Directory directory = stack.peek();
+            if (directory.next == directory.children.length) {
+                stack.pop();
+                continue;
+            }
+            File child = new File(directory.dir, directory.children[directory.next++]);
+            FileEntry entry = getEntry(child);
+            if (entry == null) continue;
+            entries.add(entry);
+            batchSize += ENTRY_SIZE + 2 * entry.path.length();
+            enter(child, entry, directory.depth + 1);
+        }
+        if (entries.isEmpty()) close();
+        return entries;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        stack.clear();
+        visitedDirs.clear();
+    }
+
+    private void enter(File file, FileEntry entry, int depth) {
+        if (!entry.isDirectory() || (maxDepth >= 0 && depth >= maxDepth)) return;
+        if (entry.isSymbolicLink() && !followLinks) return;
+        // The status is of the directory itself, whether it's reached via a link or not
+        //noinspection ConstantConditions
+        if (!visitedDirs.add(entry.stat.st_dev + ":" + entry.stat.st_ino)) return;
+        String[] children = file.list();
+        if (children != null && children.length > 0) {
+            stack.push(new Directory(file, children, depth));
+        }
+    }
+
+    private static FileEntry getEntry(File file) {
+        String path = file.getPath();
+        try {
+            FileStatus lstat = new FileStatus(Os.lstat(path));
+            FileStatus stat = lstat;
+            if (OsConstants.S_ISLNK(lstat.st_mode)) {
+                try {
+                    stat = new FileStatus(Os.stat(path));
+                } catch (ErrnoException e) {
+                    // Dangling link
+                    stat = null;
+                }
+            }
+            return new FileEntry(path, lstat, stat, file.lastModified());
+        } catch (ErrnoException e) {
+            // Removed in the meantime
+            return null;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.main;
+
+import android.content.pm.ApplicationInfo;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.sqlite.db.SimpleSQLiteQuery;
+import androidx.sqlite.db.SupportSQLiteQuery;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Build the query that filters and sorts the package names of the main list inside the database. An app has a row
+ * for each user, so the rows are grouped by package name. The filters that depend on the state outside the database
+ * (i.e. backups, running apps and profiles) as well as the search query are not part of the query.
+ * <p>
+ * Items that do not have a row in the database yet (e.g. apps that only have backups) are filtered and sorted in
+ * memory using {@link #matches(ApplicationItem, int)} and {@link #getComparator(int, boolean, boolean)}, which follow
+ * the query as closely as possible.
+ */
+final class AppListQuery {
+    private static final Collator sCollator = Collator.getInstance();
+
+    @NonNull
+    static SupportSQLiteQuery build(@ListOptions.Filter int filterFlags, @ListOptions.SortOrder int sortBy,
+                                    boolean reverse, boolean isRootEnabled) {
+        List<String> where = new ArrayList<>();
+        if ((filterFlags & ListOptions.FILTER_USER_APPS) != 0) {
+            where.add("(flags & " + ApplicationInfo.FLAG_SYSTEM + ") = 0");
+        } else if ((filterFlags & ListOptions.FILTER_SYSTEM_APPS) != 0) {
+            where.add("(flags & " + ApplicationInfo.FLAG_SYSTEM + ") != 0");
+        }
+        if ((filterFlags & ListOptions.FILTER_DISABLED_APPS) != 0) {
+            where.add("is_enabled = 0");
+        }
+        if ((filterFlags & ListOptions.FILTER_APPS_WITH_RULES) != 0) {
+            where.add("rules_count > 0");
+        }
+        if ((filterFlags & ListOptions.FILTER_APPS_WITH_ACTIVITIES) != 0) {
+            where.add("has_activities != 0");
+        }
+        if ((filterFlags & ListOptions.FILTER_APPS_WITH_SPLITS) != 0) {
+            where.add("has_splits != 0");
+        }
+        StringBuilder sql = new StringBuilder("SELECT package_name FROM app");
+        if (!where.isEmpty()) {
+            sql.append(" WHERE ").append(join(where));
+        }
+        sql.append(" GROUP BY package_name");
+        // An app is installed if it is installed in any of the users
+        if ((filterFlags & ListOptions.FILTER_INSTALLED_APPS) != 0) {
+            sql.append(" HAVING MAX(is_installed) = 1");
+        } else if ((filterFlags & ListOptions.FILTER_UNINSTALLED_APPS) != 0) {
+            sql.append(" HAVING MAX(is_installed) = 0");
+        }
+        sql.append(" ORDER BY ");
+        String order = getOrder(sortBy, reverse, isRootEnabled);
+        if (order != null) sql.append(order).append(", ");
+        // Apps are sorted by label if the rest are the same
+        sql.append("MIN(label) COLLATE LOCALIZED").append(sortBy == ListOptions.SORT_BY_APP_LABEL && reverse
+                ? " DESC" : " ASC");
+        return new SimpleSQLiteQuery(sql.toString());
+    }
+
+    /**
+     * Same orders as the ones used in the list before they were moved to the database
+     */
+    private static String getOrder(@ListOptions.SortOrder int sortBy, boolean reverse, boolean isRootEnabled) {
+        String asc = reverse ? " DESC" : " ASC";
+        String desc = reverse ? " ASC" : " DESC";
+        switch (sortBy) {
+            case ListOptions.SORT_BY_DOMAIN:
+                return "MAX(flags & " + ApplicationInfo.FLAG_SYSTEM + ")" + asc;
+            case ListOptions.SORT_BY_PACKAGE_NAME:
+                return "package_name" + asc;
+            case ListOptions.SORT_BY_LAST_UPDATE:
+                return "MAX(last_update_time)" + desc;
+            case ListOptions.SORT_BY_TARGET_SDK:
+                return "MIN(target_sdk)" + asc;
+            case ListOptions.SORT_BY_SHARED_ID:
+                return "MIN(uid)" + asc;
+            case ListOptions.SORT_BY_SHA:
+                return "MIN(cert_name) COLLATE NOCASE" + asc + ", MIN(cert_algo) COLLATE NOCASE" + asc;
+            case ListOptions.SORT_BY_BLOCKED_COMPONENTS:
+                return isRootEnabled ? "MAX(rules_count)" + desc : null;
+            case ListOptions.SORT_BY_DISABLED_APP:
+                return "MIN(is_enabled)" + asc;
+            case ListOptions.SORT_BY_LAST_ACTION:
+                return "MAX(last_action_time)" + desc;
+            case ListOptions.SORT_BY_TRACKERS:
+                return "MAX(tracker_count)" + desc;
+            case ListOptions.SORT_BY_APP_LABEL:
+            case ListOptions.SORT_BY_BACKUP:  // Backups are not stored in the database
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Whether an item that is not stored in the database passes the filters that are part of the query
+     */
+    static boolean matches(@NonNull ApplicationItem item, @ListOptions.Filter int filterFlags) {
+        if ((filterFlags & ListOptions.FILTER_USER_APPS) != 0 && !item.isUser) {
+            return false;
+        } else if ((filterFlags & ListOptions.FILTER_SYSTEM_APPS) != 0 && item.isUser) {
+            return false;
+        }
+        if ((filterFlags & ListOptions.FILTER_INSTALLED_APPS) != 0 && !item.isInstalled) {
+            return false;
+        } else if ((filterFlags & ListOptions.FILTER_UNINSTALLED_APPS) != 0 && item.isInstalled) {
+            return false;
+        }
+        if ((filterFlags & ListOptions.FILTER_DISABLED_APPS) != 0 && !item.isDisabled) {
+            return false;
+        }
+        if ((filterFlags & ListOptions.FILTER_APPS_WITH_RULES) != 0 && item.blockedCount <= 0) {
+            return false;
+        }
+        if ((filterFlags & ListOptions.FILTER_APPS_WITH_ACTIVITIES) != 0 && !item.hasActivities) {
+            return false;
+        }
+        return (filterFlags & ListOptions.FILTER_APPS_WITH_SPLITS) == 0 || item.hasSplits;
+    }
+
+    /**
+     * The order of the query for the items that are not stored in the database. Like in the database, null values
+     * are put first in the ascending order.
+     */
+    @NonNull
+    static Comparator<ApplicationItem> getComparator(@ListOptions.SortOrder int sortBy, boolean reverse,
+                                                     boolean isRootEnabled) {
+        int mode = reverse ? -1 : 1;
+        Comparator<ApplicationItem> labelComparator = (o1, o2) -> (sortBy == ListOptions.SORT_BY_APP_LABEL ? mode : 1)
+                * compareLabels(o1.label, o2.label);
+        return (o1, o2) -> {
+            int i;
+            switch (sortBy) {
+                case ListOptions.SORT_BY_DOMAIN:
+                    i = mode * Boolean.compare(!o1.isUser, !o2.isUser);
+                    break;
+                case ListOptions.SORT_BY_PACKAGE_NAME:
+                    i = mode * o1.packageName.compareTo(o2.packageName);
+                    break;
+                case ListOptions.SORT_BY_LAST_UPDATE:
+                    i = -mode * compare(o1.lastUpdateTime, o2.lastUpdateTime);
+                    break;
+                case ListOptions.SORT_BY_TARGET_SDK:
+                    i = mode * compare(o1.sdk, o2.sdk);
+                    break;
+                case ListOptions.SORT_BY_SHARED_ID:
+                    i = mode * Integer.compare(o1.uid, o2.uid);
+                    break;
+                case ListOptions.SORT_BY_SHA:
+                    if (o1.sha == null || o2.sha == null) {
+                        i = mode * Boolean.compare(o1.sha != null, o2.sha != null);
+                    } else {
+                        i = mode * compareIgnoreCase(o1.sha.first, o2.sha.first);
+                        if (i == 0) i = mode * compareIgnoreCase(o1.sha.second, o2.sha.second);
+                    }
+                    break;
+                case ListOptions.SORT_BY_BLOCKED_COMPONENTS:
+                    i = isRootEnabled ? -mode * compare(o1.blockedCount, o2.blockedCount) : 0;
+                    break;
+                case ListOptions.SORT_BY_DISABLED_APP:
+                    // is_enabled in ascending order
+                    i = -mode * Boolean.compare(o1.isDisabled, o2.isDisabled);
+                    break;
+                case ListOptions.SORT_BY_LAST_ACTION:
+                    i = -mode * compare(o1.lastActionTime, o2.lastActionTime);
+                    break;
+                case ListOptions.SORT_BY_TRACKERS:
+                    i = -mode * compare(o1.trackerCount, o2.trackerCount);
+                    break;
+                case ListOptions.SORT_BY_APP_LABEL:
+                case ListOptions.SORT_BY_BACKUP:
+                default:
+                    i = 0;
+            }
+            return i != 0 ? i : labelComparator.compare(o1, o2);
+        };
+    }
+
+    private static <T extends Comparable<T>> int compare(@Nullable T o1, @Nullable T o2) {
+        if (o1 == null || o2 == null) return Boolean.compare(o1 != null, o2 != null);
+        return o1.compareTo(o2);
+    }
+
+    private static int compareIgnoreCase(@Nullable String o1, @Nullable String o2) {
+        if (o1 == null || o2 == null) return Boolean.compare(o1 != null, o2 != null);
+        return o1.compareToIgnoreCase(o2);
+    }
+
+    private static int compareLabels(@Nullable String o1, @Nullable String o2) {
+        if (o1 == null || o2 == null) return Boolean.compare(o1 != null, o2 != null);
+        synchronized (sCollator) {
+            return sCollator.compare(o1, o2);
+        }
+    }
+
+    @NonNull
+    private static String join(@NonNull List<String> conditions) {
+        StringBuilder sb = new StringBuilder();
+        for (String condition : conditions) {
+            if (sb.length() > 0) sb.append(" AND ");
+            sb.append(condition);
+        }
+        return sb.toString();
+    }
+}
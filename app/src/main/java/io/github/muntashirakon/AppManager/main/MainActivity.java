@@ -64,6 +64,7 @@ import java.util.Locale;
 import io.github.muntashirakon.AppManager.BaseActivity;
 import io.github.muntashirakon.AppManager.BuildConfig;
 import io.github.muntashirakon.AppManager.R;
+import io.github.muntashirakon.AppManager.apk.batch.BatchApkInspectorActivity;
 import io.github.muntashirakon.AppManager.backup.BackupDialogFragment;
 import io.github.muntashirakon.AppManager.batchops.BatchOpsManager;
 import io.github.muntashirakon.AppManager.batchops.BatchOpsService;
@@ -312,6 +313,9 @@ public class MainActivity extends BaseActivity implements
         } else if (id == R.id.action_sys_config) {
             Intent sysConfigIntent = new Intent(this, SysConfigActivity.class);
             startActivity(sysConfigIntent);
+        } else if (id == R.id.action_batch_apk_inspector) {
+            Intent batchApkInspectorIntent = new Intent(this, BatchApkInspectorActivity.class);
+            startActivity(batchApkInspectorIntent);
         } else if (id == R.id.action_profiles) {
             Intent profilesIntent = new Intent(this, ProfilesActivity.class);
             startActivity(profilesIntent);
@@ -40,29 +40,41 @@ import io.github.muntashirakon.AppManager.AppManager;
 import io.github.muntashirakon.AppManager.backup.BackupUtils;
 import io.github.muntashirakon.AppManager.backup.MetadataManager;
 import io.github.muntashirakon.AppManager.batchops.BatchOpsService;
+import io.github.muntashirakon.AppManager.db.dao.AppDao;
 import io.github.muntashirakon.AppManager.db.entity.App;
 import io.github.muntashirakon.AppManager.ipc.IPCUtils;
 import io.github.muntashirakon.AppManager.ipc.ps.ProcessEntry;
 import io.github.muntashirakon.AppManager.logs.Log;
 import io.github.muntashirakon.AppManager.profiles.ProfileMetaManager;
-import io.github.muntashirakon.AppManager.rules.compontents.ComponentsBlocker;
 import io.github.muntashirakon.AppManager.servermanager.PackageManagerCompat;
 import io.github.muntashirakon.AppManager.types.PackageChangeReceiver;
 import io.github.muntashirakon.AppManager.types.UserPackagePair;
 import io.github.muntashirakon.AppManager.users.Users;
 import io.github.muntashirakon.AppManager.utils.AppPref;
 import io.github.muntashirakon.AppManager.utils.ArrayUtils;
+import io.github.muntashirakon.AppManager.utils.PackageAnalysisCache;
 import io.github.muntashirakon.AppManager.utils.PackageUtils;
+import io.github.muntashirakon.AppManager.utils.SearchIndex;
 import io.github.muntashirakon.AppManager.utils.Utils;
 
-import java.text.Collator;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.github.muntashirakon.AppManager.utils.PackageUtils.flagDisabledComponents;
 import static io.github.muntashirakon.AppManager.utils.PackageUtils.flagSigningInfo;
 
 public class MainViewModel extends AndroidViewModel {
-    private static final Collator sCollator = Collator.getInstance();
+    /**
+     * Delay before a search query is applied, so that the list isn't filtered for each key stroke
+     */
+    private static final long SEARCH_DELAY = 300;
+    /**
+     * SQLite limits the number of variables in a query
+     */
+    private static final int MAX_QUERY_PACKAGES = 500;
 
     private final PackageManager mPackageManager;
     private final PackageIntentReceiver mPackageObserver;
@@ -78,6 +90,17 @@ public class MainViewModel extends AndroidViewModel {
     private HashMap<String, MetadataManager.Metadata> backupMetadata;
     private final Map<String, int[]> selectedPackages = new HashMap<>();
     private final ArrayList<ApplicationItem> selectedApplicationItems = new ArrayList<>();
+    // Filters are applied one at a time, a new request cancels the pending one
+    private final ExecutorService mFilterExecutor = Executors.newSingleThreadExecutor();
+    private final AtomicInteger mFilterGeneration = new AtomicInteger();
+    @Nullable
+    private Future<?> mFilterResult;
+    // Whether the list or the filters have changed since the last time they were applied
+    private volatile boolean mFilterRequired = true;
+    // Items matching the filters except the search query, only accessed by the filter executor
+    @NonNull
+    private List<ApplicationItem> mFilteredApplicationItems = Collections.emptyList();
+    private final Runnable mSearchRunnable = this::submitFilter;
 
     public MainViewModel(@NonNull Application application) {
         super(application);
@@ -192,7 +215,8 @@ public class MainViewModel extends AndroidViewModel {
 
     public void setSearchQuery(String searchQuery) {
         this.searchQuery = searchQuery;
-        new Thread(this::filterItemsByFlags).start();
+        mHandler.removeCallbacks(mSearchRunnable);
+        mHandler.postDelayed(mSearchRunnable, SEARCH_DELAY);
     }
 
     public int getSortBy() {
@@ -200,12 +224,9 @@ public class MainViewModel extends AndroidViewModel {
     }
 
     public void setSortReverse(boolean sortReverse) {
-        new Thread(() -> {
-            sortApplicationList(mSortBy, mSortReverse);
-            filterItemsByFlags();
-        }).start();
         mSortReverse = sortReverse;
         AppPref.set(AppPref.PrefKey.PREF_MAIN_WINDOW_SORT_REVERSE_BOOL, mSortReverse);
+        filterItems();
     }
 
     public boolean isSortReverse() {
@@ -213,14 +234,10 @@ public class MainViewModel extends AndroidViewModel {
     }
 
     public void setSortBy(int sortBy) {
-        if (mSortBy != sortBy) {
-            new Thread(() -> {
-                sortApplicationList(sortBy, mSortReverse);
-                filterItemsByFlags();
-            }).start();
-        }
+        boolean isChanged = mSortBy != sortBy;
         mSortBy = sortBy;
         AppPref.set(AppPref.PrefKey.PREF_MAIN_WINDOW_SORT_ORDER_INT, mSortBy);
+        if (isChanged) filterItems();
     }
 
     public boolean hasFilterFlag(@ListOptions.Filter int flag) {
@@ -230,13 +247,13 @@ public class MainViewModel extends AndroidViewModel {
     public void addFilterFlag(@ListOptions.Filter int filterFlag) {
         mFilterFlags |= filterFlag;
         AppPref.set(AppPref.PrefKey.PREF_MAIN_WINDOW_FILTER_FLAGS_INT, mFilterFlags);
-        new Thread(this::filterItemsByFlags).start();
+        filterItems();
     }
 
     public void removeFilterFlag(@ListOptions.Filter int filterFlag) {
         mFilterFlags &= ~filterFlag;
         AppPref.set(AppPref.PrefKey.PREF_MAIN_WINDOW_FILTER_FLAGS_INT, mFilterFlags);
-        new Thread(this::filterItemsByFlags).start();
+        filterItems();
     }
 
     public void setFilterProfileName(@Nullable String filterProfileName) {
@@ -245,7 +262,7 @@ public class MainViewModel extends AndroidViewModel {
         } else if (mFilterProfileName.equals(filterProfileName)) return;
         mFilterProfileName = filterProfileName;
         AppPref.set(AppPref.PrefKey.PREF_MAIN_WINDOW_FILTER_PROFILE_STR, filterProfileName == null ? "" : filterProfileName);
-        new Thread(this::filterItemsByFlags).start();
+        filterItems();
     }
 
     public String getFilterProfileName() {
@@ -255,7 +272,7 @@ public class MainViewModel extends AndroidViewModel {
     public void onResume() {
         if ((mFilterFlags & ListOptions.FILTER_RUNNING_APPS) != 0) {
             // Reload filters to get running apps again
-            filterItemsByFlags();
+            filterItems();
         }
     }
 
@@ -263,111 +280,182 @@ public class MainViewModel extends AndroidViewModel {
     public void loadApplicationItems() {
         new Thread(() -> {
             backupMetadata = BackupUtils.getAllBackupMetadata();
-            List<ApplicationItem> updatedApplicationItems = PackageUtils.getInstalledOrBackedUpApplicationsFromDb(
-                    getApplication(), backupMetadata);
             synchronized (applicationItems) {
+                // Apps loaded for the first time are added by the receiver in batches. The lock is held so that they
+                // are not added before the list is replaced.
+                List<ApplicationItem> updatedApplicationItems = PackageUtils.getInstalledOrBackedUpApplicationsFromDb(
+                        getApplication(), backupMetadata, true);
                 applicationItems.clear();
                 applicationItems.addAll(updatedApplicationItems);
                 // select apps again
                 for (ApplicationItem item : selectedApplicationItems) {
                     select(item);
                 }
-                sortApplicationList(mSortBy, mSortReverse);
-                filterItemsByFlags();
             }
+            filterItems();
         }).start();
     }
 
-    private void filterItemsByQuery(@NonNull List<ApplicationItem> applicationItems) {
+    /**
+     * Apply the filters, the sort order and the search query again
+     */
+    private void filterItems() {
+        mFilterRequired = true;
+        mHandler.removeCallbacks(mSearchRunnable);
+        submitFilter();
+    }
+
+    private void submitFilter() {
+        int generation = mFilterGeneration.incrementAndGet();
+        synchronized (mFilterExecutor) {
+            if (mFilterExecutor.isShutdown()) return;
+            // The running one can't be stopped, but its result is discarded
+            if (mFilterResult != null) mFilterResult.cancel(false);
+            mFilterResult = mFilterExecutor.submit(() -> {
+                try {
+                    filterItems(generation);
+                } catch (Throwable th) {
+                    Log.e("MVM", th);
+                }
+            });
+        }
+    }
+
+    @WorkerThread
+    private void filterItems(int generation) {
+        if (mFilterRequired) {
+            mFilterRequired = false;
+            mFilteredApplicationItems = filterItemsByFlags();
+        }
+        List<ApplicationItem> filteredApplicationItems = filterItemsByQuery(mFilteredApplicationItems);
+        if (generation != mFilterGeneration.get()) {
+            // A newer result is on its way
+            return;
+        }
+        mHandler.post(() -> {
+            if (applicationItemsLiveData != null) applicationItemsLiveData.postValue(filteredApplicationItems);
+        });
+    }
+
+    @WorkerThread
+    @NonNull
+    private List<ApplicationItem> filterItemsByQuery(@NonNull List<ApplicationItem> applicationItems) {
+        String searchQuery = this.searchQuery;
+        if (TextUtils.isEmpty(searchQuery)) return applicationItems;
+        // Queries that look like class or permission names, e.g. firebase.messaging, are looked up in the index of
+        // components, permissions and trackers as well
+        Set<String> indexedPackages = searchQuery.indexOf('.') >= 0
+                ? new HashSet<>(SearchIndex.searchPackages(searchQuery)) : Collections.emptySet();
         List<ApplicationItem> filteredApplicationItems = new ArrayList<>();
         for (ApplicationItem item : applicationItems) {
             if (item.packageName.toLowerCase(Locale.ROOT).contains(searchQuery)) {
                 filteredApplicationItems.add(item);
             } else if (Utils.containsOrHasInitials(searchQuery, item.label))
                 filteredApplicationItems.add(item);
+            else if (indexedPackages.contains(item.packageName))
+                filteredApplicationItems.add(item);
         }
-        mHandler.post(() -> {
-            if (applicationItemsLiveData != null) applicationItemsLiveData.postValue(filteredApplicationItems);
-        });
+        return filteredApplicationItems;
     }
 
+    /**
+     * Filter and sort the items. The filters and the sort orders that are stored in the database are applied by the
+     * database, the rest are applied here. Items that are not in the database yet, such as apps that only have backups
+     * or apps that are still being loaded for the first time, are filtered and sorted here as well.
+     */
+    @WorkerThread
     @GuardedBy("applicationItems")
-    private void filterItemsByFlags() {
-        synchronized (applicationItems) {
-            List<ApplicationItem> candidateApplicationItems = new ArrayList<>();
-            if (mFilterProfileName != null) {
-                ProfileMetaManager profileMetaManager = new ProfileMetaManager(mFilterProfileName);
-                if (profileMetaManager.profile != null) {
-                    for (String packageName : profileMetaManager.profile.packages) {
-                        ApplicationItem item = new ApplicationItem();
-                        item.packageName = packageName;
-                        int index = applicationItems.indexOf(item);
-                        if (index != -1) {
-                            candidateApplicationItems.add(applicationItems.get(index));
-                        }
-                    }
-                } // else profile doesn't exist, display empty list
-            } else candidateApplicationItems.addAll(applicationItems);
-            // Other filters
-            if (mFilterFlags == ListOptions.FILTER_NO_FILTER) {
-                if (!TextUtils.isEmpty(searchQuery)) {
-                    filterItemsByQuery(candidateApplicationItems);
-                } else {
-                    mHandler.post(() -> {
-                        if (applicationItemsLiveData != null) {
-                            applicationItemsLiveData.postValue(candidateApplicationItems);
-                        }
-                    });
-                }
+    @NonNull
+    private List<ApplicationItem> filterItemsByFlags() {
+        @ListOptions.Filter int filterFlags = mFilterFlags;
+        @ListOptions.SortOrder int sortBy = mSortBy;
+        boolean reverse = mSortReverse;
+        boolean isRootEnabled = AppPref.isRootEnabled();
+        AppDao appDao = AppManager.getDb().appDao();
+        List<String> packageNames = appDao.getPackageNames(AppListQuery.build(filterFlags, sortBy, reverse,
+                isRootEnabled));
+        Set<String> storedPackages = new HashSet<>(appDao.getAllPackageNames());
+        Set<String> profilePackages = null;
+        if (mFilterProfileName != null) {
+            ProfileMetaManager profileMetaManager = new ProfileMetaManager(mFilterProfileName);
+            if (profileMetaManager.profile != null) {
+                profilePackages = new HashSet<>(Arrays.asList(profileMetaManager.profile.packages));
             } else {
-                List<ApplicationItem> filteredApplicationItems = new ArrayList<>();
-                if ((mFilterFlags & ListOptions.FILTER_RUNNING_APPS) != 0) {
-                    loadRunningApps();
+                // Profile doesn't exist, display empty list
+                return Collections.emptyList();
+            }
+        }
+        if ((filterFlags & ListOptions.FILTER_RUNNING_APPS) != 0) {
+            loadRunningApps();
+        }
+        List<ApplicationItem> filteredApplicationItems = new ArrayList<>(packageNames.size());
+        List<ApplicationItem> unstoredApplicationItems = new ArrayList<>();
+        synchronized (applicationItems) {
+            Map<String, ApplicationItem> applicationItemIndex = new HashMap<>(applicationItems.size());
+            for (ApplicationItem item : applicationItems) {
+                applicationItemIndex.put(item.packageName, item);
+                if (!storedPackages.contains(item.packageName) && AppListQuery.matches(item, filterFlags)
+                        && matchesUnstoredFilters(item, filterFlags, profilePackages)) {
+                    unstoredApplicationItems.add(item);
                 }
-                for (ApplicationItem item : candidateApplicationItems) {
-                    // Filter user and system apps first (if requested)
-                    if ((mFilterFlags & ListOptions.FILTER_USER_APPS) != 0 && !item.isUser) {
-                        continue;
-                    } else if ((mFilterFlags & ListOptions.FILTER_SYSTEM_APPS) != 0 && item.isUser) {
-                        continue;
-                    }
-                    // Filter installed/uninstalled
-                    if ((mFilterFlags & ListOptions.FILTER_INSTALLED_APPS) != 0 && !item.isInstalled) {
-                        continue;
-                    } else if ((mFilterFlags & ListOptions.FILTER_UNINSTALLED_APPS) != 0 && item.isInstalled) {
-                        continue;
-                    }
-                    // Filter backups
-                    if ((mFilterFlags & ListOptions.FILTER_APPS_WITH_BACKUPS) != 0 && item.metadata == null) {
-                        continue;
-                    } else if ((mFilterFlags & ListOptions.FILTER_APPS_WITHOUT_BACKUPS) != 0 && item.metadata != null) {
-                        continue;
-                    }
-                    // Filter rests
-                    if ((mFilterFlags & ListOptions.FILTER_DISABLED_APPS) != 0 && !item.isDisabled) {
-                        continue;
-                    } else if ((mFilterFlags & ListOptions.FILTER_APPS_WITH_RULES) != 0 && item.blockedCount <= 0) {
-                        continue;
-                    } else if ((mFilterFlags & ListOptions.FILTER_APPS_WITH_ACTIVITIES) != 0 && !item.hasActivities) {
-                        continue;
-                    } else if ((mFilterFlags & ListOptions.FILTER_APPS_WITH_SPLITS) != 0 && !item.hasSplits) {
-                        continue;
-                    } else if ((mFilterFlags & ListOptions.FILTER_RUNNING_APPS) != 0 && !item.isRunning) {
-                        continue;
-                    }
+            }
+            for (String packageName : packageNames) {
+                ApplicationItem item = applicationItemIndex.get(packageName);
+                // Removed after the query was run
+                if (item == null) continue;
+                if (matchesUnstoredFilters(item, filterFlags, profilePackages)) {
                     filteredApplicationItems.add(item);
                 }
-                if (!TextUtils.isEmpty(searchQuery)) {
-                    filterItemsByQuery(filteredApplicationItems);
-                } else {
-                    mHandler.post(() -> {
-                        if (applicationItemsLiveData != null) {
-                            applicationItemsLiveData.postValue(filteredApplicationItems);
-                        }
-                    });
-                }
             }
         }
+        if (!unstoredApplicationItems.isEmpty()) {
+            Comparator<ApplicationItem> comparator = AppListQuery.getComparator(sortBy, reverse, isRootEnabled);
+            Collections.sort(unstoredApplicationItems, comparator);
+            filteredApplicationItems = merge(filteredApplicationItems, unstoredApplicationItems, comparator);
+        }
+        if (sortBy == ListOptions.SORT_BY_BACKUP) {
+            // Backups aren't stored in the database, apps with backups are put on top keeping the order of the rest
+            int mode = reverse ? -1 : 1;
+            Collections.sort(filteredApplicationItems, (o1, o2) ->
+                    -mode * Boolean.compare(o1.metadata != null, o2.metadata != null));
+        }
+        return filteredApplicationItems;
+    }
+
+    /**
+     * Whether the item passes the filters that are not stored in the database
+     */
+    private static boolean matchesUnstoredFilters(@NonNull ApplicationItem item, @ListOptions.Filter int filterFlags,
+                                                  @Nullable Set<String> profilePackages) {
+        if (profilePackages != null && !profilePackages.contains(item.packageName)) {
+            return false;
+        }
+        // Filter backups
+        if ((filterFlags & ListOptions.FILTER_APPS_WITH_BACKUPS) != 0 && item.metadata == null) {
+            return false;
+        } else if ((filterFlags & ListOptions.FILTER_APPS_WITHOUT_BACKUPS) != 0 && item.metadata != null) {
+            return false;
+        }
+        return (filterFlags & ListOptions.FILTER_RUNNING_APPS) == 0 || item.isRunning;
+    }
+
+    /**
+     * Merge two sorted lists, the items of the first list come first if they are equal
+     */
+    @NonNull
+    private static List<ApplicationItem> merge(@NonNull List<ApplicationItem> list1,
+                                               @NonNull List<ApplicationItem> list2,
+                                               @NonNull Comparator<ApplicationItem> comparator) {
+        List<ApplicationItem> mergedList = new ArrayList<>(list1.size() + list2.size());
+        int i = 0, j = 0;
+        while (i < list1.size() && j < list2.size()) {
+            if (comparator.compare(list2.get(j), list1.get(i)) < 0) {
+                mergedList.add(list2.get(j++));
+            } else mergedList.add(list1.get(i++));
+        }
+        mergedList.addAll(list1.subList(i, list1.size()));
+        mergedList.addAll(list2.subList(j, list2.size()));
+        return mergedList;
     }
 
     @SuppressWarnings("unchecked")
@@ -376,7 +464,7 @@ public class MainViewModel extends AndroidViewModel {
         synchronized (applicationItems) {
             try {
                 List<ProcessEntry> processEntries = (List<ProcessEntry>) IPCUtils.getServiceSafe().getRunningProcesses();
-                List<String> processNames = new ArrayList<>();
+                Set<String> processNames = new HashSet<>();
                 for (ProcessEntry entry : processEntries) {
                     processNames.add(entry.name);
                 }
@@ -391,65 +479,6 @@ public class MainViewModel extends AndroidViewModel {
         }
     }
 
-    @GuardedBy("applicationItems")
-    private void sortApplicationList(@ListOptions.SortOrder int sortBy, boolean reverse) {
-        synchronized (applicationItems) {
-            final boolean isRootEnabled = AppPref.isRootEnabled();
-            if (sortBy != ListOptions.SORT_BY_APP_LABEL) {
-                sortApplicationList(ListOptions.SORT_BY_APP_LABEL, false);
-            }
-            int mode = reverse ? -1 : 1;
-            Collections.sort(applicationItems, (o1, o2) -> {
-                switch (sortBy) {
-                    case ListOptions.SORT_BY_APP_LABEL:
-                        return mode * sCollator.compare(o1.label, o2.label);
-                    case ListOptions.SORT_BY_PACKAGE_NAME:
-                        return mode * o1.packageName.compareTo(o2.packageName);
-                    case ListOptions.SORT_BY_DOMAIN:
-                        boolean isSystem1 = (o1.flags & ApplicationInfo.FLAG_SYSTEM) != 0;
-                        boolean isSystem2 = (o2.flags & ApplicationInfo.FLAG_SYSTEM) != 0;
-                        return mode * Boolean.compare(isSystem1, isSystem2);
-                    case ListOptions.SORT_BY_LAST_UPDATE:
-                        // Sort in decreasing order
-                        return -mode * o1.lastUpdateTime.compareTo(o2.lastUpdateTime);
-                    case ListOptions.SORT_BY_TARGET_SDK:
-                        // null on top
-                        if (o1.sdk == null) return -mode;
-                        else if (o2.sdk == null) return +mode;
-                        return mode * o1.sdk.compareTo(o2.sdk);
-                    case ListOptions.SORT_BY_SHARED_ID:
-                        return mode * Integer.compare(o1.uid, o2.uid);
-                    case ListOptions.SORT_BY_SHA:
-                        // null on top
-                        if (o1.sha == null) {
-                            return -mode;
-                        } else if (o2.sha == null) {
-                            return +mode;
-                        } else {  // Both aren't null
-                            int i = o1.sha.first.compareToIgnoreCase(o2.sha.first);
-                            if (i == 0) {
-                                return mode * o1.sha.second.compareToIgnoreCase(o2.sha.second);
-                            } else return mode * i;
-                        }
-                    case ListOptions.SORT_BY_BLOCKED_COMPONENTS:
-                        if (isRootEnabled) {
-                            return -mode * o1.blockedCount.compareTo(o2.blockedCount);
-                        }
-                        break;
-                    case ListOptions.SORT_BY_DISABLED_APP:
-                        return -mode * Boolean.compare(o1.isDisabled, o2.isDisabled);
-                    case ListOptions.SORT_BY_BACKUP:
-                        return -mode * Boolean.compare(o1.metadata != null, o2.metadata != null);
-                    case ListOptions.SORT_BY_LAST_ACTION:
-                        return -mode * o1.lastActionTime.compareTo(o2.lastActionTime);
-                    case ListOptions.SORT_BY_TRACKERS:
-                        return -mode * o1.trackerCount.compareTo(o2.trackerCount);
-                }
-                return 0;
-            });
-        }
-    }
-
     @WorkerThread
     private void updateInfoForUid(int uid, String action) {
         Log.d("updateInfoForUid", "Uid: " + uid);
@@ -471,35 +500,47 @@ public class MainViewModel extends AndroidViewModel {
                         // This works because these actions are only registered for the current user
                         mPackageManager.getApplicationInfo(packageName, 0);
                     } catch (PackageManager.NameNotFoundException e) {
+                        SearchIndex.remove(Collections.singletonList(packageName));
+                        PackageAnalysisCache.remove(Collections.singletonList(packageName));
                         removePackageIfNoBackup(packageName);
                     }
                 }
                 break;
-            case PackageChangeReceiver.ACTION_PACKAGE_REMOVED:
-                for (String packageName : packages) {
-                    ApplicationItem item = getApplicationItemFromApplicationItems(packageName);
-                    if (item == null) return;
-                    synchronized (applicationItems) {
-                        applicationItems.remove(item);
+            case PackageChangeReceiver.ACTION_PACKAGE_REMOVED: {
+                Set<String> removedPackages = new HashSet<>(Arrays.asList(packages));
+                synchronized (applicationItems) {
+                    Iterator<ApplicationItem> iterator = applicationItems.iterator();
+                    while (iterator.hasNext()) {
+                        if (removedPackages.contains(iterator.next().packageName)) iterator.remove();
                     }
                 }
-                sortApplicationList(mSortBy, mSortReverse);
                 break;
+            }
             case PackageChangeReceiver.ACTION_PACKAGE_ALTERED:
-            case PackageChangeReceiver.ACTION_PACKAGE_ADDED:
-                for (String packageName : packages) {
-                    ApplicationItem item = getNewApplicationItem(packageName, AppManager.getDb().appDao()
-                            .getAll(packageName));
-                    if (item != null) insertOrAddApplicationItem(item);
+            case PackageChangeReceiver.ACTION_PACKAGE_ADDED: {
+                // Load the apps of all the packages at once, grouped by package name
+                Map<String, List<App>> packageApps = new LinkedHashMap<>(packages.length);
+                for (App app : getApps(packages)) {
+                    List<App> apps = packageApps.get(app.packageName);
+                    if (apps == null) {
+                        apps = new ArrayList<>();
+                        packageApps.put(app.packageName, apps);
+                    }
+                    apps.add(app);
                 }
-                sortApplicationList(mSortBy, mSortReverse);
+                List<ApplicationItem> items = new ArrayList<>(packageApps.size());
+                for (Map.Entry<String, List<App>> entry : packageApps.entrySet()) {
+                    ApplicationItem item = getNewApplicationItem(entry.getKey(), entry.getValue());
+                    if (item != null) items.add(item);
+                }
+                insertOrAddApplicationItems(items);
                 break;
+            }
             case Intent.ACTION_PACKAGE_CHANGED:
                 for (String packageName : packages) {
                     ApplicationItem item = getNewApplicationItem(packageName);
                     if (item != null) insertApplicationItem(item);
                 }
-                sortApplicationList(mSortBy, mSortReverse);
                 break;
             case Intent.ACTION_PACKAGE_ADDED:
             case Intent.ACTION_EXTERNAL_APPLICATIONS_AVAILABLE:
@@ -507,7 +548,6 @@ public class MainViewModel extends AndroidViewModel {
                     ApplicationItem item = getNewApplicationItem(packageName);
                     if (item != null) insertOrAddApplicationItem(item);
                 }
-                sortApplicationList(mSortBy, mSortReverse);
                 break;
             case BatchOpsService.ACTION_BATCH_OPS_COMPLETED:
                 for (String packageName : packages) {
@@ -515,12 +555,11 @@ public class MainViewModel extends AndroidViewModel {
                     if (item != null) insertOrAddApplicationItem(item);
                     else removePackageIfNoBackup(packageName);
                 }
-                sortApplicationList(mSortBy, mSortReverse);
                 break;
             default:
                 return;
         }
-        filterItemsByFlags();
+        filterItems();
     }
 
     @WorkerThread
@@ -554,6 +593,33 @@ public class MainViewModel extends AndroidViewModel {
         }
     }
 
+    /**
+     * Same as calling {@link #insertOrAddApplicationItem(ApplicationItem)} for each item, but the list is only
+     * traversed once.
+     */
+    @GuardedBy("applicationItems")
+    private void insertOrAddApplicationItems(@NonNull List<ApplicationItem> items) {
+        if (items.isEmpty()) return;
+        synchronized (applicationItems) {
+            Map<String, Integer> positions = new HashMap<>(applicationItems.size());
+            for (int i = 0; i < applicationItems.size(); ++i) {
+                positions.put(applicationItems.get(i).packageName, i);
+            }
+            for (ApplicationItem item : items) {
+                Integer i = positions.get(item.packageName);
+                if (i != null) {
+                    applicationItems.set(i, item);
+                } else {
+                    positions.put(item.packageName, applicationItems.size());
+                    applicationItems.add(item);
+                }
+                if (selectedApplicationItems.contains(item)) {
+                    select(item);
+                }
+            }
+        }
+    }
+
     @GuardedBy("applicationItems")
     private boolean insertApplicationItem(@NonNull ApplicationItem item) {
         synchronized (applicationItems) {
@@ -582,11 +648,12 @@ public class MainViewModel extends AndroidViewModel {
                 PackageInfo packageInfo = PackageManagerCompat.getPackageInfo(packageName,
                         PackageManager.GET_META_DATA | flagSigningInfo | PackageManager.GET_ACTIVITIES
                                 | PackageManager.GET_RECEIVERS | PackageManager.GET_PROVIDERS
-                                | PackageManager.GET_SERVICES | flagDisabledComponents, userHandle);
+                                | PackageManager.GET_SERVICES | flagDisabledComponents | SearchIndex.FLAGS, userHandle);
                 App app = App.fromPackageInfo(getApplication(), packageInfo);
-                try (ComponentsBlocker cb = ComponentsBlocker.getInstance(app.packageName, app.userId, true)) {
-                    app.rulesCount = cb.entryCount();
+                if (oldItem == null) {
+                    SearchIndex.update(getApplication(), Collections.singletonList(packageInfo));
                 }
+                app.rulesCount = AppManager.getDb().ruleDao().count(app.packageName, app.userId);
                 ApplicationInfo applicationInfo = packageInfo.applicationInfo;
                 ApplicationItem item = new ApplicationItem(applicationInfo);
                 if (app.isInstalled && item.equals(oldItem)) {
@@ -607,7 +674,7 @@ public class MainViewModel extends AndroidViewModel {
                 item.hasSplits = applicationInfo.splitSourceDirs != null;
                 item.firstInstallTime = packageInfo.firstInstallTime;
                 item.lastUpdateTime = packageInfo.lastUpdateTime;
-                item.sha = Utils.getIssuerAndAlg(packageInfo);
+                item.sha = new Pair<>(app.certName, app.certAlgo);
                 item.sdk = applicationInfo.targetSdkVersion;
                 item.userHandles = ArrayUtils.appendInt(item.userHandles, userHandle);
                 item.blockedCount = app.rulesCount;
@@ -677,6 +744,18 @@ public class MainViewModel extends AndroidViewModel {
         return oldItem;
     }
 
+    @WorkerThread
+    @NonNull
+    private static List<App> getApps(@NonNull String[] packages) {
+        List<App> apps = new ArrayList<>();
+        List<String> packageList = Arrays.asList(packages);
+        for (int i = 0; i < packageList.size(); i += MAX_QUERY_PACKAGES) {
+            apps.addAll(AppManager.getDb().appDao().getAll(packageList.subList(i,
+                    Math.min(i + MAX_QUERY_PACKAGES, packageList.size()))));
+        }
+        return apps;
+    }
+
     @GuardedBy("applicationItems")
     @Nullable
     private ApplicationItem getApplicationItemFromApplicationItems(String packageName) {
@@ -702,6 +781,10 @@ public class MainViewModel extends AndroidViewModel {
 
     @Override
     protected void onCleared() {
+        mHandler.removeCallbacks(mSearchRunnable);
+        synchronized (mFilterExecutor) {
+            mFilterExecutor.shutdownNow();
+        }
         if (mPackageObserver != null) getApplication().unregisterReceiver(mPackageObserver);
         super.onCleared();
     }
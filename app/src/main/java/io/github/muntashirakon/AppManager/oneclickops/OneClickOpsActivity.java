@@ -52,14 +52,15 @@ import io.github.muntashirakon.AppManager.R;
 import io.github.muntashirakon.AppManager.appops.AppOpsManager;
 import io.github.muntashirakon.AppManager.batchops.BatchOpsManager;
 import io.github.muntashirakon.AppManager.batchops.BatchOpsService;
+import io.github.muntashirakon.AppManager.logs.Log;
 import io.github.muntashirakon.AppManager.users.Users;
-import io.github.muntashirakon.AppManager.rules.compontents.ComponentUtils;
 import io.github.muntashirakon.AppManager.types.SearchableMultiChoiceDialogBuilder;
 import io.github.muntashirakon.AppManager.types.TextInputDialogBuilder;
 import io.github.muntashirakon.AppManager.types.TextInputDropdownDialogBuilder;
 import io.github.muntashirakon.AppManager.utils.AppPref;
 import io.github.muntashirakon.AppManager.utils.ArrayUtils;
 import io.github.muntashirakon.AppManager.utils.ListItemCreator;
+import io.github.muntashirakon.AppManager.utils.PackageAnalysisCache;
 import io.github.muntashirakon.AppManager.utils.PackageUtils;
 import io.github.muntashirakon.AppManager.utils.Utils;
 
@@ -152,17 +153,25 @@ public class OneClickOpsActivity extends BaseActivity {
         executor.submit(() -> {
             final List<ItemCount> trackerCounts = new ArrayList<>();
             ItemCount trackerCount;
-            for (PackageInfo packageInfo : getPackageManager().getInstalledPackages(
-                    PackageManager.GET_ACTIVITIES | PackageManager.GET_RECEIVERS
-                    | PackageManager.GET_PROVIDERS | flagDisabledComponents
-                    | PackageManager.GET_URI_PERMISSION_PATTERNS
-                    | PackageManager.GET_SERVICES)) {
+            int userHandle = Users.getCurrentUserHandle();
+            // The components are only loaded for the packages that aren't analysed already
+            for (PackageInfo packageInfo : getPackageManager().getInstalledPackages(flagDisabledComponents)) {
                 if (Thread.currentThread().isInterrupted()) return;
                 ApplicationInfo applicationInfo = packageInfo.applicationInfo;
                 if (!systemApps && (applicationInfo.flags & ApplicationInfo.FLAG_SYSTEM) != 0)
                     continue;
-                trackerCount = ComponentUtils.getTrackerCountForApp(packageInfo);
-                if (trackerCount.count > 0) trackerCounts.add(trackerCount);
+                trackerCount = new ItemCount();
+                trackerCount.packageName = packageInfo.packageName;
+                try {
+                    trackerCount.count = PackageAnalysisCache.get(packageInfo.packageName, userHandle).trackerCount;
+                } catch (Exception e) {
+                    Log.e("OneClickOps", "Could not analyse " + packageInfo.packageName, e);
+                    continue;
+                }
+                if (trackerCount.count > 0) {
+                    trackerCount.packageLabel = applicationInfo.loadLabel(getPackageManager()).toString();
+                    trackerCounts.add(trackerCount);
+                }
             }
             if (!trackerCounts.isEmpty()) {
                 final ArrayList<String> trackerPackages = new ArrayList<>();
@@ -25,11 +25,15 @@ public class PseudoRules extends RulesStorageManager {
 
     /**
      * No rules will be loaded
-     * @return /dev/null
      */
-    @NonNull
     @Override
-    protected File getDesiredFile() {
-        return new File("/dev/null");
+    protected void loadEntries() {
+    }
+
+    /**
+     * Rules are never saved to the database, use {@link #commitExternal(File)} instead
+     */
+    @Override
+    public void commit() {
     }
 }
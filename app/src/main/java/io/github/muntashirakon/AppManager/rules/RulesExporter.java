@@ -21,13 +21,16 @@ import android.content.Context;
 import android.net.Uri;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
 import io.github.muntashirakon.AppManager.AppManager;
+import io.github.muntashirakon.AppManager.db.entity.Rule;
 import io.github.muntashirakon.AppManager.rules.compontents.ComponentUtils;
-import io.github.muntashirakon.AppManager.rules.compontents.ComponentsBlocker;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Export rules to external directory either for a single package or multiple packages.
@@ -51,21 +54,24 @@ public class RulesExporter {
         this.userHandles = userHandles;
     }
 
+    @WorkerThread
     public void saveRules(Uri uri) throws IOException {
         if (mPackagesToExport == null) mPackagesToExport = ComponentUtils.getAllPackagesWithRules();
+        Set<String> packagesToExport = new HashSet<>(mPackagesToExport);
+        Set<String> typesToExport = new HashSet<>(mTypesToExport.size());
+        for (RulesStorageManager.Type type : mTypesToExport) typesToExport.add(type.name());
         try (OutputStream outputStream = mContext.getContentResolver().openOutputStream(uri)) {
-            for (String packageName: mPackagesToExport) {
-                for (int userHandle : userHandles) {
-                    // Get a read-only instance
-                    try (ComponentsBlocker cb = ComponentsBlocker.getInstance(packageName, userHandle)) {
-                        for (RulesStorageManager.Entry entry : cb.getAll()) {
-                            if (mTypesToExport.contains(entry.type)) {
-                                outputStream.write(String.format("%s\t%s\t%s\t%s\n", packageName,
-                                        entry.name, entry.type.name(), entry.extra).getBytes());
-                            }
-                        }
+            for (int userHandle : userHandles) {
+                // Rules of all the packages of the user are read at once
+                List<Rule> rules = AppManager.getDb().ruleDao().getAll(userHandle);
+                StringBuilder sb = new StringBuilder();
+                for (Rule rule : rules) {
+                    if (packagesToExport.contains(rule.packageName) && typesToExport.contains(rule.type)) {
+                        sb.append(rule.packageName).append("\t").append(rule.name).append("\t")
+                                .append(rule.type).append("\t").append(rule.extra).append("\n");
                     }
                 }
+                outputStream.write(sb.toString().getBytes());
             }
         }
     }
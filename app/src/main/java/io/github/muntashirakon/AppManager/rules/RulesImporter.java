@@ -127,6 +127,7 @@ public class RulesImporter implements Closeable {
         if (mPackagesToImport == null) mPackagesToImport = getPackages();
         // When #setPackagesToImport(List<String>) is used, ComponentBlocker can be null
         @Nullable ComponentsBlocker cb;
+        List<ComponentsBlocker> componentsBlockersToCommit = new ArrayList<>();
         for (int i = 0; i < userHandles.length; ++i) {
             for (String packageName : mPackagesToImport) {
                 cb = mComponentsBlockers[i].get(packageName);
@@ -139,14 +140,22 @@ public class RulesImporter implements Closeable {
                 cb.applyAppOpsAndPerms(true);
                 // Store the changes or discard them
                 if (commitChanges) {
-                    // Commit changes
-                    cb.commit();
+                    // Commit changes later
+                    componentsBlockersToCommit.add(cb);
                 } else {
                     // Don't commit changes, discard the rules
                     cb.setReadOnly();
                 }
             }
         }
+        // Save the rules of all the packages in a single transaction
+        if (!componentsBlockersToCommit.isEmpty()) {
+            AppManager.getDb().runInTransaction(() -> {
+                for (ComponentsBlocker componentsBlocker : componentsBlockersToCommit) {
+                    componentsBlocker.commit();
+                }
+            });
+        }
     }
 
     @Override
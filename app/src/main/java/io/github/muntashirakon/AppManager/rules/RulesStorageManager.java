@@ -18,6 +18,7 @@
 package io.github.muntashirakon.AppManager.rules;
 
 import android.content.Context;
+import android.database.sqlite.SQLiteException;
 import android.os.RemoteException;
 
 import androidx.annotation.GuardedBy;
@@ -27,21 +28,26 @@ import androidx.annotation.StringDef;
 import androidx.annotation.WorkerThread;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.StringTokenizer;
 
 import io.github.muntashirakon.AppManager.AppManager;
 import io.github.muntashirakon.AppManager.appops.AppOpsManager;
 import io.github.muntashirakon.AppManager.appops.AppOpsService;
+import io.github.muntashirakon.AppManager.db.entity.Rule;
 import io.github.muntashirakon.AppManager.servermanager.NetworkPolicyManagerCompat;
 import io.github.muntashirakon.AppManager.servermanager.PermissionCompat;
 import io.github.muntashirakon.AppManager.types.UserPackagePair;
@@ -64,6 +70,9 @@ public class RulesStorageManager implements Closeable {
     public static final String COMPONENT_TO_BE_BLOCKED = "false";  // To preserve compatibility
     public static final String COMPONENT_TO_BE_UNBLOCKED = "unblocked";
 
+    private static final Type[] COMPONENT_TYPES = new Type[]{Type.ACTIVITY, Type.PROVIDER, Type.RECEIVER, Type.SERVICE};
+    private static final int WRITE_BUFFER_SIZE = 1024 * 64;
+
     // Keep in sync with #getExtra(Type, String)
     public enum Type {
         ACTIVITY,
@@ -131,8 +140,21 @@ public class RulesStorageManager implements Closeable {
 
     @NonNull
     protected final Context context;
+    /**
+     * Entries grouped by their type. An entry of a type having unique names is indexed by its name, otherwise it is
+     * indexed by itself, i.e. the entry is only replaced by the same entry.
+     *
+     * @see #isNameUnique(Type)
+     */
     @NonNull
-    private final ArrayList<Entry> entries;
+    private final EnumMap<Type, LinkedHashMap<Object, Entry>> entries;
+    @GuardedBy("entries")
+    private int entryCount = 0;
+    /**
+     * Whether the entries have been changed since they were loaded or last saved
+     */
+    @GuardedBy("entries")
+    private boolean modified = false;
     @GuardedBy("entries")
     @NonNull
     protected String packageName;
@@ -144,11 +166,12 @@ public class RulesStorageManager implements Closeable {
         this.context = context;
         this.packageName = packageName;
         this.userHandle = userHandle;
-        this.entries = new ArrayList<>();
-        try {
-            loadEntries(getDesiredFile(), false);
-        } catch (Throwable ignored) {
-        }
+        this.entries = new EnumMap<>(Type.class);
+        // The rules must not be used if they could not be loaded, or the saved rules would be replaced by the ones
+        // added to this instance
+        loadEntries();
+        // Entries loaded from the database need not be saved again
+        this.modified = false;
     }
 
     public void setReadOnly() {
@@ -167,7 +190,14 @@ public class RulesStorageManager implements Closeable {
     @GuardedBy("entries")
     protected Entry get(String name) {
         synchronized (entries) {
-            for (Entry entry : entries) if (entry.name.equals(name)) return entry;
+            for (Map.Entry<Type, LinkedHashMap<Object, Entry>> bucket : entries.entrySet()) {
+                if (isNameUnique(bucket.getKey())) {
+                    Entry entry = bucket.getValue().get(name);
+                    if (entry != null) return entry;
+                } else {
+                    for (Entry entry : bucket.getValue().values()) if (entry.name.equals(name)) return entry;
+                }
+            }
             return null;
         }
     }
@@ -175,9 +205,9 @@ public class RulesStorageManager implements Closeable {
     @GuardedBy("entries")
     public List<Entry> getAll(Type type) {
         synchronized (entries) {
-            List<Entry> newEntries = new ArrayList<>();
-            for (Entry entry : entries) if (entry.type.equals(type)) newEntries.add(entry);
-            return newEntries;
+            LinkedHashMap<Object, Entry> bucket = entries.get(type);
+            if (bucket == null) return new ArrayList<>();
+            return new ArrayList<>(bucket.values());
         }
     }
 
@@ -185,55 +215,73 @@ public class RulesStorageManager implements Closeable {
     public List<Entry> getAllComponents() {
         synchronized (entries) {
             List<Entry> newEntries = new ArrayList<>();
-            for (Entry entry : entries) {
-                if (entry.type.equals(Type.ACTIVITY)
-                        || entry.type.equals(Type.PROVIDER)
-                        || entry.type.equals(Type.RECEIVER)
-                        || entry.type.equals(Type.SERVICE))
-                    newEntries.add(entry);
+            for (Type type : COMPONENT_TYPES) {
+                LinkedHashMap<Object, Entry> bucket = entries.get(type);
+                if (bucket != null) newEntries.addAll(bucket.values());
             }
             return newEntries;
         }
     }
 
+    /**
+     * Get a copy of all the entries grouped by their types.
+     */
     @GuardedBy("entries")
     public List<Entry> getAll() {
         synchronized (entries) {
-            return entries;
+            List<Entry> newEntries = new ArrayList<>(entryCount);
+            for (LinkedHashMap<Object, Entry> bucket : entries.values()) {
+                newEntries.addAll(bucket.values());
+            }
+            return newEntries;
         }
     }
 
     @GuardedBy("entries")
     protected boolean hasName(String name) {
-        synchronized (entries) {
-            for (Entry entry : entries) if (entry.name.equals(name)) return true;
-            return false;
-        }
+        return get(name) != null;
     }
 
     @GuardedBy("entries")
     public int entryCount() {
         synchronized (entries) {
-            return entries.size();
+            return entryCount;
         }
     }
 
     @GuardedBy("entries")
     public void removeEntry(Entry entry) {
         synchronized (entries) {
-            entries.remove(entry);
+            LinkedHashMap<Object, Entry> bucket = entries.get(entry.type);
+            if (bucket == null) return;
+            Object key = getKey(entry);
+            // Only remove the exact entry
+            if (bucket.get(key) == entry) {
+                bucket.remove(key);
+                --entryCount;
+                modified = true;
+            }
         }
     }
 
     @GuardedBy("entries")
     protected void removeEntries(String name, Type type) {
         synchronized (entries) {
-            Iterator<Entry> entryIterator = entries.iterator();
-            Entry entry;
+            LinkedHashMap<Object, Entry> bucket = entries.get(type);
+            if (bucket == null) return;
+            if (isNameUnique(type)) {
+                if (bucket.remove(name) != null) {
+                    --entryCount;
+                    modified = true;
+                }
+                return;
+            }
+            Iterator<Entry> entryIterator = bucket.values().iterator();
             while (entryIterator.hasNext()) {
-                entry = entryIterator.next();
-                if (entry.name.equals(name) && entry.type.equals(type)) {
+                if (entryIterator.next().name.equals(name)) {
                     entryIterator.remove();
+                    --entryCount;
+                    modified = true;
                 }
             }
         }
@@ -324,8 +372,7 @@ public class RulesStorageManager implements Closeable {
     @GuardedBy("entries")
     private void addEntryInternal(@NonNull Entry entry) {
         synchronized (entries) {
-            removeEntry(entry);
-            entries.add(entry);
+            putEntry(entry);
         }
     }
 
@@ -335,8 +382,50 @@ public class RulesStorageManager implements Closeable {
     @GuardedBy("entries")
     private void addUniqueEntry(@NonNull Entry entry) {
         synchronized (entries) {
-            removeEntries(entry.name, entry.type);
-            entries.add(entry);
+            if (!isNameUnique(entry.type)) removeEntries(entry.name, entry.type);
+            putEntry(entry);
+        }
+    }
+
+    /**
+     * Add the entry to the end of its bucket, replacing the entry having the same key.
+     */
+    @GuardedBy("entries")
+    private void putEntry(@NonNull Entry entry) {
+        LinkedHashMap<Object, Entry> bucket = entries.get(entry.type);
+        if (bucket == null) {
+            bucket = new LinkedHashMap<>();
+            entries.put(entry.type, bucket);
+        }
+        Object key = getKey(entry);
+        // Remove first so that the entry is moved to the end as before
+        if (bucket.remove(key) == null) ++entryCount;
+        bucket.put(key, entry);
+        modified = true;
+    }
+
+    @NonNull
+    private static Object getKey(@NonNull Entry entry) {
+        return isNameUnique(entry.type) ? entry.name : entry;
+    }
+
+    /**
+     * Whether an entry of the given type is uniquely identified by its name.
+     *
+     * @see #addEntry(Entry)
+     */
+    private static boolean isNameUnique(Type type) {
+        switch (type) {
+            case ACTIVITY:
+            case PROVIDER:
+            case RECEIVER:
+            case SERVICE:
+            case PERMISSION:
+            case APP_OP:
+            case NOTIFICATION:
+                return true;
+            default:
+                return false;
         }
     }
 
@@ -386,6 +475,30 @@ public class RulesStorageManager implements Closeable {
         }
     }
 
+    /**
+     * Load the rules of the package for the user from the database.
+     */
+    @WorkerThread
+    @GuardedBy("entries")
+    protected void loadEntries() {
+        // The rules may be loaded before the app list is synced for the first time
+        TsvRulesMigrator.migrate(new int[]{userHandle});
+        List<Rule> rules = AppManager.getDb().ruleDao().getAll(packageName, userHandle);
+        synchronized (entries) {
+            for (Rule rule : rules) {
+                Entry entry = new Entry();
+                entry.name = rule.name;
+                try {
+                    entry.type = Type.valueOf(rule.type);
+                } catch (Exception e) {
+                    entry.type = Type.UNKNOWN;
+                }
+                entry.extra = rule.extra != null ? getExtra(entry.type, rule.extra) : null;
+                putEntry(entry);
+            }
+        }
+    }
+
     @GuardedBy("entries")
     protected void loadEntries(File file, boolean isExternal) throws IOException, RemoteException {
         StringTokenizer tokenizer;
@@ -419,7 +532,7 @@ public class RulesStorageManager implements Closeable {
                     entry.extra = getExtra(entry.type, tokenizer.nextElement().toString());
                 } else throw new IOException("Invalid format: extra not found");
                 synchronized (entries) {
-                    entries.add(entry);
+                    putEntry(entry);
                 }
             }
         }
@@ -428,9 +541,13 @@ public class RulesStorageManager implements Closeable {
     @WorkerThread
     @GuardedBy("entries")
     public void commit() {
+        synchronized (entries) {
+            // Nothing to save
+            if (!modified) return;
+        }
         try {
-            saveEntries(getDesiredFile(), false);
-        } catch (IOException | RemoteException ex) {
+            saveEntries();
+        } catch (SQLiteException ex) {
             ex.printStackTrace();
         }
     }
@@ -445,42 +562,62 @@ public class RulesStorageManager implements Closeable {
         }
     }
 
+    /**
+     * Replace the rules of the package for the user in the database.
+     */
+    @WorkerThread
+    @GuardedBy("entries")
+    protected void saveEntries() {
+        synchronized (entries) {
+            List<Rule> rules = new ArrayList<>(entryCount);
+            for (LinkedHashMap<Object, Entry> bucket : entries.values()) {
+                for (Entry entry : bucket.values()) {
+                    Rule rule = new Rule();
+                    rule.packageName = packageName;
+                    rule.userId = userHandle;
+                    rule.name = entry.name;
+                    rule.type = entry.type.name();
+                    rule.extra = String.valueOf(entry.extra);
+                    rules.add(rule);
+                }
+            }
+            AppManager.getDb().ruleDao().replace(packageName, userHandle, rules);
+            modified = false;
+        }
+    }
+
     @WorkerThread
     @GuardedBy("entries")
     protected void saveEntries(File tsvRulesFile, boolean isExternal) throws IOException, RemoteException {
         synchronized (entries) {
-            if (entries.size() == 0) {
+            if (entryCount == 0) {
                 //noinspection ResultOfMethodCallIgnored
                 tsvRulesFile.delete();
                 return;
             }
-            StringBuilder stringBuilder = new StringBuilder();
-            for (Entry entry : entries) {
-                if (isExternal) stringBuilder.append(packageName).append("\t");
-                stringBuilder.append(entry.name).append("\t")
-                        .append(entry.type.name()).append("\t")
-                        .append(entry.extra).append("\n");
-            }
-            try (OutputStream TSVFile = new ProxyOutputStream(tsvRulesFile)) {
-                TSVFile.write(stringBuilder.toString().getBytes());
+            // Entries are written in chunks of the buffer size instead of one line at a time
+            try (Writer TSVFile = new BufferedWriter(new OutputStreamWriter(new ProxyOutputStream(tsvRulesFile)),
+                    WRITE_BUFFER_SIZE)) {
+                for (LinkedHashMap<Object, Entry> bucket : entries.values()) {
+                    for (Entry entry : bucket.values()) {
+                        if (isExternal) TSVFile.append(packageName).append("\t");
+                        TSVFile.append(entry.name).append("\t")
+                                .append(entry.type.name()).append("\t")
+                                .append(String.valueOf(entry.extra)).append("\n");
+                    }
+                }
             }
         }
     }
 
+    /**
+     * Directory of the TSV files where the rules were saved before they were moved to the database
+     */
     @NonNull
     public static File getConfDir() {
         return new File(AppManager.getContext().getFilesDir(), "conf");
     }
 
-    @NonNull
-    protected File getDesiredFile() throws FileNotFoundException {
-        File confDir = getConfDir();
-        if (!confDir.exists() && !confDir.mkdirs()) {
-            throw new FileNotFoundException("Can not get correct path to save ifw rules");
-        }
-        return new File(confDir, packageName + ".tsv");
-    }
-
     @Nullable
     static Object getExtra(@NonNull Type type, @NonNull String strExtra) {
         switch (type) {
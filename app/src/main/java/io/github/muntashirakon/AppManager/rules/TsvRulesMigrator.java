@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.rules;
+
+import android.annotation.UserIdInt;
+
+import androidx.annotation.GuardedBy;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.github.muntashirakon.AppManager.AppManager;
+import io.github.muntashirakon.AppManager.db.dao.RuleDao;
+import io.github.muntashirakon.AppManager.db.entity.Rule;
+import io.github.muntashirakon.AppManager.logs.Log;
+import io.github.muntashirakon.AppManager.utils.IOUtils;
+
+/**
+ * Copy the rules saved in the TSV files, i.e. before the rules were stored in the database, to the database. The
+ * files were saved regardless of the user, so the rules are copied for each user. The users whose rules have been
+ * copied are stored in a marker file so that each user is only migrated once, including the users added later. The
+ * rules are migrated for all the users during the sync of the app list, and for a single user before the rules of
+ * that user are loaded. The TSV files are left as they are in case the app is downgraded.
+ */
+@WorkerThread
+public final class TsvRulesMigrator {
+    public static final String TAG = TsvRulesMigrator.class.getSimpleName();
+
+    private static final String MARKER_FILE = "migrated_users";
+
+    @GuardedBy("TsvRulesMigrator.class")
+    @Nullable
+    private static Set<Integer> sMigratedUsers;
+
+    /**
+     * Copy the rules to the users that have not been migrated yet.
+     *
+     * @param userHandles All the users on the device. A partial list is fine as long as the missing users are passed
+     *                    later.
+     */
+    public static synchronized void migrate(@NonNull int[] userHandles) {
+        File confDir = RulesStorageManager.getConfDir();
+        File markerFile = new File(confDir, MARKER_FILE);
+        if (sMigratedUsers == null) sMigratedUsers = readMarker(markerFile);
+        Set<Integer> migratedUsers = sMigratedUsers;
+        List<Integer> newUsers = new ArrayList<>();
+        for (int userHandle : userHandles) {
+            if (!migratedUsers.contains(userHandle)) newUsers.add(userHandle);
+        }
+        if (newUsers.isEmpty()) return;
+        File[] files = confDir.listFiles((dir, name) -> name.endsWith(".tsv"));
+        if (files == null || files.length == 0) {
+            // Nothing to migrate, including for the users added later
+            migratedUsers.addAll(newUsers);
+            return;
+        }
+        RuleDao ruleDao = AppManager.getDb().ruleDao();
+        for (int userHandle : newUsers) {
+            AppManager.getDb().runInTransaction(() -> {
+                for (File file : files) {
+                    migrate(ruleDao, file, userHandle);
+                }
+            });
+            migratedUsers.add(userHandle);
+            try {
+                writeMarker(markerFile, migratedUsers);
+            } catch (IOException e) {
+                Log.e(TAG, "Could not save the migrated users", e);
+                return;
+            }
+        }
+    }
+
+    private static void migrate(@NonNull RuleDao ruleDao, @NonNull File file, @UserIdInt int userHandle) {
+        String packageName = IOUtils.trimExtension(file.getName());
+        // The rules saved since the database is used are newer
+        if (ruleDao.count(packageName, userHandle) > 0) return;
+        List<Rule> rules = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Format: name type extra
+                String[] row = line.split("\t");
+                if (row.length < 3) continue;
+                Rule rule = new Rule();
+                rule.packageName = packageName;
+                rule.userId = userHandle;
+                rule.name = row[0];
+                rule.type = row[1];
+                rule.extra = row[2];
+                rules.add(rule);
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Could not migrate the rules of " + packageName, e);
+            return;
+        }
+        ruleDao.insert(rules);
+    }
+
+    @NonNull
+    private static Set<Integer> readMarker(@NonNull File markerFile) {
+        Set<Integer> users = new HashSet<>();
+        if (!markerFile.exists()) return users;
+        try (BufferedReader reader = new BufferedReader(new FileReader(markerFile))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    users.add(Integer.parseInt(line.trim()));
+                } catch (NumberFormatException ignore) {
+                }
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Could not read the migrated users", e);
+        }
+        return users;
+    }
+
+    private static void writeMarker(@NonNull File markerFile, @NonNull Set<Integer> users) throws IOException {
+        try (Writer writer = new FileWriter(markerFile)) {
+            for (int userHandle : users) {
+                writer.write(userHandle + "\n");
+            }
+        }
+    }
+}
@@ -30,7 +30,6 @@ import org.xmlpull.v1.XmlPullParser;
 import org.xmlpull.v1.XmlPullParserException;
 
 import java.io.ByteArrayInputStream;
-import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
@@ -49,17 +48,11 @@ import io.github.muntashirakon.AppManager.rules.RulesStorageManager;
 import io.github.muntashirakon.AppManager.runner.Runner;
 import io.github.muntashirakon.AppManager.servermanager.PermissionCompat;
 import io.github.muntashirakon.AppManager.types.UserPackagePair;
-import io.github.muntashirakon.AppManager.utils.IOUtils;
 import io.github.muntashirakon.AppManager.utils.PackageUtils;
 
 public final class ComponentUtils {
     public static boolean isTracker(String componentName) {
-        for (String signature : StaticDataset.getTrackerCodeSignatures()) {
-            if (componentName.startsWith(signature) || componentName.contains(signature)) {
-                return true;
-            }
-        }
-        return false;
+        return StaticDataset.getTrackerMatcher().matches(componentName);
     }
 
     @NonNull
@@ -185,17 +178,10 @@ public final class ComponentUtils {
         return trackerCount;
     }
 
+    @WorkerThread
     @NonNull
     public static List<String> getAllPackagesWithRules() {
-        List<String> packages = new ArrayList<>();
-        File confDir = RulesStorageManager.getConfDir();
-        String[] names = confDir.list((dir, name) -> name.endsWith(".tsv"));
-        if (names != null) {
-            for (String name : names) {
-                packages.add(IOUtils.trimExtension(name));
-            }
-        }
-        return packages;
+        return AppManager.getDb().ruleDao().getPackageNames();
     }
 
     @WorkerThread
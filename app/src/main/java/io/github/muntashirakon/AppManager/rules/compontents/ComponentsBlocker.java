@@ -23,6 +23,7 @@ import android.content.Context;
 import android.content.pm.PackageManager;
 import android.os.Build;
 import android.os.RemoteException;
+import android.system.ErrnoException;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.WorkerThread;
@@ -30,18 +31,17 @@ import androidx.annotation.WorkerThread;
 import io.github.muntashirakon.AppManager.AppManager;
 import io.github.muntashirakon.AppManager.logs.Log;
 import io.github.muntashirakon.AppManager.rules.RulesStorageManager;
-import io.github.muntashirakon.AppManager.runner.Runner;
 import io.github.muntashirakon.AppManager.servermanager.PackageManagerCompat;
 import io.github.muntashirakon.AppManager.utils.AppPref;
-import io.github.muntashirakon.AppManager.utils.IOUtils;
 import io.github.muntashirakon.AppManager.utils.PackageUtils;
 import io.github.muntashirakon.io.AtomicProxyFile;
 import io.github.muntashirakon.io.ProxyFile;
+import io.github.muntashirakon.io.ProxyFiles;
 import io.github.muntashirakon.io.ProxyOutputStream;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
@@ -50,13 +50,12 @@ import java.util.Set;
  * Block application components: activities, broadcasts, services and providers.
  * <p>
  * Activities, broadcasts and services are blocked via Intent Firewall (which is superior to
- * <code>pm disable <b>component</b></code>). Rules for each package is saved as a separate tsv file
- * named after its package name and saved to {@code /data/data/${applicationId}/files/conf}. In case
- * of activities, broadcasts and services, the rules are finally saved to {@link #SYSTEM_RULES_PATH}.
+ * <code>pm disable <b>component</b></code>). Rules for each package and user are saved in the
+ * {@code rule} table of the database. In case of activities, broadcasts and services, the rules
+ * are finally saved to {@link #SYSTEM_RULES_PATH}.
  * <p>
  * Providers are blocked via <code>pm disable <b>provider</b></code> since there's no way to block
- * them via Intent Firewall. Blocked providers are only kept in the
- * {@code /data/data/${applicationId}/files/conf} directory.
+ * them via Intent Firewall. Blocked providers are only kept in the database.
  *
  * @see <a href="https://android.googlesource.com/platform/frameworks/base/+/refs/heads/master/services/core/java/com/android/server/firewall/IntentFirewall.java">IntentFirewall.java</a>
  */
@@ -170,15 +169,11 @@ public final class ComponentsBlocker extends RulesStorageManager {
      */
     @WorkerThread
     public static void applyAllRules(@NonNull Context context, int userHandle) {
-        // Apply all rules from conf folder
-        File confPath = new File(context.getFilesDir(), "conf");
-        String[] packageNamesWithTSVExt = confPath.list((dir, name) -> name.endsWith(".tsv"));
-        if (packageNamesWithTSVExt != null) {
-            // Apply rules
-            for (String packageNameWithTSVExt : packageNamesWithTSVExt) {
-                try (ComponentsBlocker cb = getMutableInstance(IOUtils.trimExtension(packageNameWithTSVExt), userHandle)) {
-                    cb.applyRules(true);
-                }
+        // Apply all rules of the user saved in the database
+        List<String> packageNames = AppManager.getDb().ruleDao().getPackageNames(userHandle);
+        for (String packageName : packageNames) {
+            try (ComponentsBlocker cb = getMutableInstance(packageName, userHandle)) {
+                cb.applyRules(true);
             }
         }
     }
@@ -212,8 +207,8 @@ public final class ComponentsBlocker extends RulesStorageManager {
      */
     public int componentCount() {
         int count = 0;
-        for (Entry entry : getAll()) {
-            if (isComponent(entry) && !COMPONENT_TO_BE_UNBLOCKED.equals(entry.extra))
+        for (Entry entry : getAllComponents()) {
+            if (!COMPONENT_TO_BE_UNBLOCKED.equals(entry.extra))
                 ++count;
         }
         return count;
@@ -310,10 +305,15 @@ public final class ComponentsBlocker extends RulesStorageManager {
             Log.d(TAG, "Rules: " + rules);
             rulesStream.write(rules.getBytes());
             rulesFile.finishWrite(rulesStream);
-            Runner.runCommand(new String[]{"chmod", "0666", rulesFile.getBaseFile().getAbsolutePath()});
         } catch (IOException e) {
             Log.e(TAG, "Failed to write rules for package " + packageName, e);
             rulesFile.failWrite(rulesStream);
+            return;
+        }
+        try {
+            ProxyFiles.chmod(rulesFile.getBaseFile(), 0666);
+        } catch (ErrnoException | RemoteException e) {
+            Log.e(TAG, "Failed to change mode of the rules for package " + packageName, e);
         }
     }
 
@@ -352,39 +352,35 @@ public final class ComponentsBlocker extends RulesStorageManager {
             // Enable/disable components
             List<Entry> allEntries = getAllComponents();
             Log.d(TAG, "All: " + allEntries.toString());
-            if (apply) {
-                // Enable the components that need removal and disable requested components
-                for (RulesStorageManager.Entry entry : allEntries) {
-                    if (COMPONENT_TO_BE_UNBLOCKED.equals(entry.extra)) {
-                        // Enable components that are removed
-                        try {
-                            PackageManagerCompat.setComponentEnabledSetting(new ComponentName(packageName, entry.name), PackageManager.COMPONENT_ENABLED_STATE_DEFAULT, 0, userHandle);
-                            removeEntry(entry);
-                        } catch (RemoteException e) {
-                            Log.e(TAG, "Could not enable component: " + packageName + "/" + entry.name);
-                        }
-                    } else if (isComponent(entry)) {
-                        // Disable components
-                        try {
-                            PackageManagerCompat.setComponentEnabledSetting(new ComponentName(packageName, entry.name), PackageManager.COMPONENT_ENABLED_STATE_DISABLED, 0, userHandle);
-                            setComponent(entry.name, entry.type, COMPONENT_BLOCKED);
-                        } catch (RemoteException e) {
-                            Log.e(TAG, "Could not disable component: " + packageName + "/" + entry.name);
-                        }
-                    }
+            // The states of all the components are set at once
+            List<ComponentName> componentNames = new ArrayList<>(allEntries.size());
+            int[] newStates = new int[allEntries.size()];
+            for (int i = 0; i < newStates.length; ++i) {
+                Entry entry = allEntries.get(i);
+                componentNames.add(new ComponentName(packageName, entry.name));
+                if (apply && !COMPONENT_TO_BE_UNBLOCKED.equals(entry.extra)) {
+                    // Disable requested components
+                    newStates[i] = PackageManager.COMPONENT_ENABLED_STATE_DISABLED;
+                } else {
+                    // Enable the components that need removal. When the rules are removed, enable all components if
+                    // they're disabled by other methods. IFW rules are already removed above.
+                    newStates[i] = PackageManager.COMPONENT_ENABLED_STATE_DEFAULT;
                 }
-            } else {
-                // Enable all, remove to be removed components and set others to be blocked
-                for (RulesStorageManager.Entry entry : allEntries) {
-                    // Enable components if they're disabled by other methods.
-                    // IFW rules are already removed above.
-                    try {
-                        PackageManagerCompat.setComponentEnabledSetting(new ComponentName(packageName, entry.name), PackageManager.COMPONENT_ENABLED_STATE_DEFAULT, 0, userHandle);
-                        if (COMPONENT_TO_BE_UNBLOCKED.equals(entry.extra)) removeEntry(entry);
-                        else setComponent(entry.name, entry.type, COMPONENT_TO_BE_BLOCKED);
-                    } catch (RemoteException e) {
-                        Log.e(TAG, "Could not enable component: " + packageName + "/" + entry.name);
-                    }
+            }
+            boolean[] results = PackageManagerCompat.setComponentEnabledSettings(componentNames, newStates, 0,
+                    userHandle);
+            for (int i = 0; i < results.length; ++i) {
+                Entry entry = allEntries.get(i);
+                if (!results[i]) {
+                    Log.e(TAG, "Could not " + (newStates[i] == PackageManager.COMPONENT_ENABLED_STATE_DISABLED
+                            ? "disable" : "enable") + " component: " + packageName + "/" + entry.name);
+                    continue;
+                }
+                if (COMPONENT_TO_BE_UNBLOCKED.equals(entry.extra)) {
+                    // Remove the components that are enabled
+                    removeEntry(entry);
+                } else {
+                    setComponent(entry.name, entry.type, apply ? COMPONENT_BLOCKED : COMPONENT_TO_BE_BLOCKED);
                 }
             }
         } catch (IOException | RemoteException e) {
@@ -392,16 +388,6 @@ public final class ComponentsBlocker extends RulesStorageManager {
         }
     }
 
-    /**
-     * Whether the given entry is a component
-     */
-    private static boolean isComponent(@NonNull Entry entry) {
-        return entry.type.equals(Type.ACTIVITY)
-                || entry.type.equals(Type.PROVIDER)
-                || entry.type.equals(Type.RECEIVER)
-                || entry.type.equals(Type.SERVICE);
-    }
-
     /**
      * Check if the components are up-to-date and remove the ones that are not up-to-date.
      */
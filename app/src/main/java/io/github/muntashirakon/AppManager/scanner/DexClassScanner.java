@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.scanner;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import net.dongliu.apk.parser.parser.DexParser;
+import net.dongliu.apk.parser.struct.StringPool;
+import net.dongliu.apk.parser.struct.dex.DexClassStruct;
+import net.dongliu.apk.parser.struct.dex.DexHeader;
+import net.dongliu.apk.parser.utils.Buffers;
+
+import java.nio.ByteBuffer;
+import java.util.Set;
+
+/**
+ * Read the names of the classes defined in a dex file as well as the types they refer to directly from the
+ * {@code type_ids}, {@code class_defs}, {@code proto_ids}, {@code field_ids} and {@code method_ids} sections without
+ * loading any class. Only the strings that describe a type are decoded.
+ */
+public class DexClassScanner extends DexParser {
+    private StringPool stringPool;
+    private int[] typeIds;
+    private String[] classNames;
+
+    public DexClassScanner(@NonNull ByteBuffer buffer) {
+        super(buffer);
+    }
+
+    /**
+     * Add the names of the classes defined in this dex to {@code definedClasses} and the names of the classes referred
+     * to by the signatures, fields and methods used in this dex to {@code referencedClasses}. Primitive types are
+     * omitted and arrays are replaced by their component types.
+     */
+    public void scan(@NonNull Set<String> definedClasses, @NonNull Set<String> referencedClasses) {
+        DexHeader header = readHeader();
+        if (header == null) return;
+        stringPool = readStrings(readStringPool(header.getStringIdsOff(), header.getStringIdsSize()));
+        typeIds = readTypes(header.getTypeIdsOff(), header.getTypeIdsSize());
+        classNames = new String[typeIds.length];
+        // Classes, their super classes and interfaces
+        DexClassStruct[] dexClassStructs = readClass(header.getClassDefsOff(), header.getClassDefsSize());
+        for (DexClassStruct dexClassStruct : dexClassStructs) {
+            addClassName(definedClasses, dexClassStruct.getClassIdx());
+            if (dexClassStruct.getSuperclassIdx() != NO_INDEX) {
+                addClassName(referencedClasses, dexClassStruct.getSuperclassIdx());
+            }
+            addTypeList(referencedClasses, dexClassStruct.getInterfacesOff());
+        }
+        // Return and parameter types of the method prototypes
+        int protoIdsSize = header.getProtoIdsSize();
+        int[] returnTypeIndexes = new int[protoIdsSize];
+        long[] parameterOffsets = new long[protoIdsSize];
+        Buffers.position(buffer, header.getProtoIdsOff());
+        for (int i = 0; i < protoIdsSize; ++i) {
+            Buffers.readUInt(buffer);  // shorty_idx
+            returnTypeIndexes[i] = (int) Buffers.readUInt(buffer);
+            parameterOffsets[i] = Buffers.readUInt(buffer);
+        }
+        for (int i = 0; i < protoIdsSize; ++i) {
+            addClassName(referencedClasses, returnTypeIndexes[i]);
+            addTypeList(referencedClasses, parameterOffsets[i]);
+        }
+        // Classes and types of the fields, and classes of the methods
+        addMemberReferences(referencedClasses, header.getFieldIdsOff(), header.getFieldIdsSize(), true);
+        addMemberReferences(referencedClasses, header.getMethodIdsOff(), header.getMethodIdsSize(), false);
+    }
+
+    /**
+     * Each {@code field_id_item} and {@code method_id_item} is eight bytes long: the index of the class (ushort),
+     * the index of the type or prototype (ushort) and the index of the name (uint).
+     */
+    private void addMemberReferences(@NonNull Set<String> classes, long offset, int size, boolean isField) {
+        int[] typeIndexes = new int[isField ? size * 2 : size];
+        Buffers.position(buffer, offset);
+        for (int i = 0; i < size; ++i) {
+            if (isField) {
+                typeIndexes[i * 2] = Buffers.readUShort(buffer);
+                typeIndexes[i * 2 + 1] = Buffers.readUShort(buffer);
+            } else {
+                typeIndexes[i] = Buffers.readUShort(buffer);
+                Buffers.readUShort(buffer);  // proto_idx
+            }
+            Buffers.readUInt(buffer);  // name_idx
+        }
+        for (int typeIdx : typeIndexes) {
+            addClassName(classes, typeIdx);
+        }
+    }
+
+    private void addTypeList(@NonNull Set<String> classes, long offset) {
+        if (offset == 0) return;
+        Buffers.position(buffer, offset);
+        int size = (int) Buffers.readUInt(buffer);
+        int[] typeIndexes = new int[size];
+        for (int i = 0; i < size; ++i) {
+            typeIndexes[i] = Buffers.readUShort(buffer);
+        }
+        for (int typeIdx : typeIndexes) {
+            addClassName(classes, typeIdx);
+        }
+    }
+
+    private void addClassName(@NonNull Set<String> classes, int typeIdx) {
+        if (typeIdx < 0 || typeIdx >= typeIds.length) return;
+        String className = classNames[typeIdx];
+        if (className == null) {
+            className = getClassName(stringPool.get(typeIds[typeIdx]));
+            // Primitive types are cached as empty strings
+            classNames[typeIdx] = className == null ? "" : className;
+        }
+        if (className != null && !className.isEmpty()) classes.add(className);
+    }
+
+    /**
+     * Convert a type descriptor to a class name, e.g. {@code [Ljava/lang/String;} to {@code java.lang.String}.
+     *
+     * @return The class name, or {@code null} if the descriptor does not describe a class
+     */
+    @Nullable
+    static String getClassName(@NonNull String descriptor) {
+        int start = 0;
+        while (start < descriptor.length() && descriptor.charAt(start) == '[') ++start;
+        int end = descriptor.length() - 1;
+        if (end - start < 2 || descriptor.charAt(start) != 'L' || descriptor.charAt(end) != ';') return null;
+        return descriptor.substring(start + 1, end).replace('/', '.');
+    }
+}
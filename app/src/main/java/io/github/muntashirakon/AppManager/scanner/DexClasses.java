@@ -19,78 +19,147 @@ package io.github.muntashirakon.AppManager.scanner;
 
 import android.content.Context;
 
-import java.io.Closeable;
+import net.dongliu.apk.parser.exception.ParserException;
+import net.dongliu.apk.parser.utils.ZipBuffers;
+
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
 import dalvik.system.DexClassLoader;
-import dalvik.system.DexFile;
+import io.github.muntashirakon.AppManager.logs.Log;
 import io.github.muntashirakon.AppManager.scanner.reflector.Reflector;
 import io.github.muntashirakon.AppManager.utils.IOUtils;
+import io.github.muntashirakon.AppManager.utils.MultithreadedExecutor;
+
+public class DexClasses {
+    public static final String TAG = "DexClasses";
 
-public class DexClasses implements Closeable {
-    private final ClassLoader loader;
-    private DexFile dexFile;
+    private static final Pattern DEX_FILE_PATTERN = Pattern.compile("classes\\d*\\.dex");
+
+    private final Context ctx;
+    private final File apkFile;
+    private ClassLoader loader;
 
     public DexClasses(@NonNull Context ctx, @NonNull File apkFile) {
-        // ClassLoader
-        final File optimizedDexFilePath = ctx.getCodeCacheDir();
-        this.loader = new DexClassLoader(apkFile.getAbsolutePath(),
-                optimizedDexFilePath.getAbsolutePath(), null,
-                ctx.getClassLoader().getParent());
-        IOUtils.deleteSilently(optimizedDexFilePath);
-        // Load dexClass
-        File optimizedFile = null;
-        try {
-            File cacheDir = ctx.getCacheDir();
-            optimizedFile = File.createTempFile("opt_", ".dex", cacheDir);
-            dexFile = DexFile.loadDex(apkFile.getPath(), optimizedFile.getPath(), 0);
-        } catch (IOException e) {
-            e.printStackTrace();
-        } finally {
-            IOUtils.deleteSilently(optimizedFile);
-        }
+        this.ctx = ctx;
+        this.apkFile = apkFile;
     }
 
+    /**
+     * Get the classes defined in the APK as well as the classes they refer to. The dex files are read in parallel
+     * and no class is loaded.
+     */
+    @WorkerThread
     @NonNull
     public List<String> getClassNames() {
         Set<String> classes = new HashSet<>();
-        if (dexFile != null) {
-            Enumeration<String> enumeration = dexFile.entries();
-            String className;
-            // Get imports for each class
-            while (enumeration.hasMoreElements()) {
-                className = enumeration.nextElement();
-                try {
-                    classes.add(className);
-                    classes.addAll(getImports(className));
-                } catch (ClassNotFoundException|LinkageError ignore) {
+        MultithreadedExecutor executor = MultithreadedExecutor.getNewInstance();
+        try {
+            ZipBuffers zipBuffers = null;
+            try (FileChannel fileChannel = new FileInputStream(apkFile).getChannel()) {
+                // Stored dex files are read directly from the mapped APK
+                zipBuffers = new ZipBuffers(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()));
+            } catch (ParserException e) {
+                // e.g. zip64, fallback to ZipFile
+                Log.w(TAG, "Could not map " + apkFile + ", reading it using ZipFile.", e);
+            }
+            List<Future<Set<String>>> futures = new ArrayList<>();
+            if (zipBuffers != null) {
+                ZipBuffers finalZipBuffers = zipBuffers;
+                for (String entryName : zipBuffers.getEntryNames()) {
+                    if (!DEX_FILE_PATTERN.matcher(entryName).matches()) continue;
+                    futures.add(executor.submit(() -> {
+                        ByteBuffer dex;
+                        try {
+                            dex = finalZipBuffers.getEntry(entryName);
+                        } catch (ParserException e) {
+                            // e.g. unsupported compression method, fallback to ZipFile
+                            try (ZipFile zipFile = new ZipFile(apkFile)) {
+                                ZipEntry entry = zipFile.getEntry(entryName);
+                                dex = entry != null ? readEntry(zipFile, entry) : null;
+                            }
+                        }
+                        return scan(dex);
+                    }));
+                }
+                addClassNames(futures, classes);
+            } else {
+                try (ZipFile zipFile = new ZipFile(apkFile)) {
+                    Enumeration<? extends ZipEntry> entries = zipFile.entries();
+                    while (entries.hasMoreElements()) {
+                        ZipEntry entry = entries.nextElement();
+                        if (!DEX_FILE_PATTERN.matcher(entry.getName()).matches()) continue;
+                        futures.add(executor.submit(() -> scan(readEntry(zipFile, entry))));
+                    }
+                    // The entries have to be read before the file is closed
+                    addClassNames(futures, classes);
                 }
             }
+        } catch (IOException e) {
+            Log.e(TAG, "Could not open " + apkFile, e);
+        } finally {
+            executor.shutdown();
         }
         return new ArrayList<>(classes);
     }
 
-    public Class<?> loadClass(String className) throws ClassNotFoundException {
-        return loader.loadClass(className);
+    private void addClassNames(@NonNull List<Future<Set<String>>> futures, @NonNull Set<String> classes) {
+        for (Future<Set<String>> future : futures) {
+            try {
+                classes.addAll(future.get());
+            } catch (ExecutionException | InterruptedException e) {
+                Log.e(TAG, "Could not scan a dex file of " + apkFile, e);
+            }
+        }
     }
 
-    public Set<String> getImports(String className) throws ClassNotFoundException {
-        return new Reflector(loadClass(className)).getImports();
+    @NonNull
+    private static Set<String> scan(@Nullable ByteBuffer dex) {
+        Set<String> dexClasses = new HashSet<>();
+        if (dex != null) new DexClassScanner(dex).scan(dexClasses, dexClasses);
+        return dexClasses;
     }
 
-    public Reflector getReflector(String className) throws ClassNotFoundException {
-        return new Reflector(loadClass(className));
+    @NonNull
+    private static ByteBuffer readEntry(@NonNull ZipFile zipFile, @NonNull ZipEntry entry) throws IOException {
+        try (InputStream is = zipFile.getInputStream(entry)) {
+            long size = entry.getSize();
+            return ByteBuffer.wrap(IOUtils.readFully(is, size >= 0 && size <= Integer.MAX_VALUE ? (int) size : -1,
+                    true));
+        }
+    }
+
+    public Class<?> loadClass(String className) throws ClassNotFoundException {
+        synchronized (this) {
+            if (loader == null) {
+                // Classes are only loaded when they are inspected one at a time
+                final File optimizedDexFilePath = ctx.getCodeCacheDir();
+                loader = new DexClassLoader(apkFile.getAbsolutePath(), optimizedDexFilePath.getAbsolutePath(),
+                        null, ctx.getClassLoader().getParent());
+                IOUtils.deleteSilently(optimizedDexFilePath);
+            }
+        }
+        return loader.loadClass(className);
     }
 
-    @Override
-    public void close() throws IOException {
-        if (dexFile != null) dexFile.close();
+    public Reflector getReflector(String className) throws ClassNotFoundException {
+        return new Reflector(loadClass(className));
     }
 }
@@ -75,6 +75,7 @@ import io.github.muntashirakon.AppManager.types.SearchableMultiChoiceDialogBuild
 import io.github.muntashirakon.AppManager.utils.ArrayUtils;
 import io.github.muntashirakon.AppManager.utils.DigestUtils;
 import io.github.muntashirakon.AppManager.utils.IOUtils;
+import io.github.muntashirakon.AppManager.utils.SignatureMatcher;
 import io.github.muntashirakon.AppManager.utils.UIUtils;
 
 import static io.github.muntashirakon.AppManager.utils.UIUtils.getPrimaryText;
@@ -110,7 +111,6 @@ public class ScannerActivity extends BaseActivity {
             // Only attempt to delete the apk file if it's cached
             IOUtils.deleteSilently(apkFile);
         }
-        IOUtils.closeQuietly(dexClasses);
         // Empty static vars
         // This works because ClassListingActivity opens on top of ScannerActivity
         classListAll = null;
@@ -299,6 +299,7 @@ public class ScannerActivity extends BaseActivity {
     private void setTrackerInfo() {
         String[] trackerNames = StaticDataset.getTrackerNames();
         String[] trackerSignatures = StaticDataset.getTrackerCodeSignatures();
+        SignatureMatcher trackerMatcher = StaticDataset.getTrackerMatcher();
         int[] signatureCount = new int[trackerSignatures.length];
         boolean[] signaturesFound = new boolean[trackerSignatures.length];
         int totalIteration = 0;
@@ -308,16 +309,13 @@ public class ScannerActivity extends BaseActivity {
         // Iterate over all classes
         for (String className : classListAll) {
             if (className.length() > 8 && className.contains(".")) {
-                // Iterate over all signatures to match the class name
-                // This is a greedy algorithm, only matches the first item
-                for (int i = 0; i < trackerSignatures.length; i++) {
-                    totalIteration++;
-                    if (className.contains(trackerSignatures[i])) {
-                        trackerClassList.add(className);
-                        signatureCount[i]++;
-                        signaturesFound[i] = true;
-                        break;
-                    }
+                // Match all signatures at once, only the first matched item in the list is used
+                totalIteration += className.length();
+                int i = trackerMatcher.findFirst(className);
+                if (i != -1) {
+                    trackerClassList.add(className);
+                    signatureCount[i]++;
+                    signaturesFound[i] = true;
                 }
             }
         }
@@ -400,6 +398,7 @@ public class ScannerActivity extends BaseActivity {
         String[] libNames = getResources().getStringArray(R.array.lib_names);
         String[] libSignatures = getResources().getStringArray(R.array.lib_signatures);
         String[] libTypes = getResources().getStringArray(R.array.lib_types);
+        SignatureMatcher libMatcher = new SignatureMatcher(libSignatures);
         // The following two arrays are directly mapped to the arrays above
         int[] signatureCount = new int[libSignatures.length];
         boolean[] signaturesFound = new boolean[libSignatures.length];
@@ -408,20 +407,16 @@ public class ScannerActivity extends BaseActivity {
         // Iterate over all classes
         for (String className : classListAll) {
             if (className.length() > 8 && className.contains(".")) {
-                boolean matched = false;
-                // Iterate over all signatures to match the class name
-                // This is a greedy algorithm, only matches the first item
-                for (int i = 0; i < libSignatures.length; i++) {
-                    if (className.contains(libSignatures[i])) {
-                        matched = true;
-                        // Add to found classes
-                        libClassList.add(className);
-                        // Increment this signature match count
-                        signatureCount[i]++;
-                        // Set this signature as matched
-                        signaturesFound[i] = true;
-                        break;
-                    }
+                // Match all signatures at once, only the first matched item in the list is used
+                int i = libMatcher.findFirst(className);
+                boolean matched = i != -1;
+                if (matched) {
+                    // Add to found classes
+                    libClassList.add(className);
+                    // Increment this signature match count
+                    signatureCount[i]++;
+                    // Set this signature as matched
+                    signaturesFound[i] = true;
                 }
                 // Add the class to the missing libs list if it doesn't match the filters
                 if (!matched && !className.startsWith(mPackageName) && !className.matches(SIG_TO_IGNORE)) {
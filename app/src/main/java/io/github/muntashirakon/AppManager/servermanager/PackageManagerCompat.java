@@ -21,6 +21,7 @@ import android.annotation.UserIdInt;
 import android.content.ComponentName;
 import android.content.pm.ActivityInfo;
 import android.content.pm.ApplicationInfo;
+import android.content.pm.ChangedPackages;
 import android.content.pm.IPackageDataObserver;
 import android.content.pm.IPackageInstaller;
 import android.content.pm.IPackageManager;
@@ -35,17 +36,22 @@ import android.os.SystemClock;
 
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
 import androidx.annotation.WorkerThread;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.github.muntashirakon.AppManager.AppManager;
+import io.github.muntashirakon.AppManager.ipc.IPCUtils;
 import io.github.muntashirakon.AppManager.ipc.ProxyBinder;
+import io.github.muntashirakon.AppManager.logs.Log;
 import io.github.muntashirakon.AppManager.utils.PackageUtils;
 
 import static android.content.pm.PackageManager.COMPONENT_ENABLED_STATE_DEFAULT;
@@ -76,8 +82,15 @@ public final class PackageManagerCompat {
     public @interface EnabledFlags {
     }
 
+    public static final String TAG = PackageManagerCompat.class.getSimpleName();
+
     private static final int workingFlags = PackageManager.GET_META_DATA | PackageUtils.flagMatchUninstalled;
 
+    /**
+     * Maximum number of components sent to the server at once to stay well below the binder transaction limit
+     */
+    private static final int COMPONENT_BATCH_SIZE = 500;
+
     @WorkerThread
     public static List<PackageInfo> getInstalledPackages(int flags, @UserIdInt int userHandle)
             throws RemoteException {
@@ -170,6 +183,18 @@ public final class PackageManagerCompat {
         return info;
     }
 
+    /**
+     * Packages changed since the given sequence number, see {@link PackageManager#getChangedPackages(int)}.
+     *
+     * @return {@code null} if no package has changed since the sequence number
+     */
+    @RequiresApi(Build.VERSION_CODES.O)
+    @Nullable
+    public static ChangedPackages getChangedPackages(int sequenceNumber, @UserIdInt int userHandle)
+            throws RemoteException {
+        return AppManager.getIPackageManager().getChangedPackages(sequenceNumber, userHandle);
+    }
+
     @NonNull
     public static ApplicationInfo getApplicationInfo(String packageName, int flags, @UserIdInt int userHandle)
             throws RemoteException {
@@ -184,6 +209,54 @@ public final class PackageManagerCompat {
         AppManager.getIPackageManager().setComponentEnabledSetting(componentName, newState, flags, userId);
     }
 
+    /**
+     * Set the enabled states of the given components, which may belong to different packages. If the server is
+     * running, the states are set inside the server with one call for every {@link #COMPONENT_BATCH_SIZE} components
+     * instead of a call for each component. A failure does not stop the rest of the components from being changed.
+     *
+     * @param componentNames Components to change
+     * @param newStates      New state for each of the components
+     * @return Whether the state of each of the components was set
+     */
+    @WorkerThread
+    @NonNull
+    public static boolean[] setComponentEnabledSettings(@NonNull List<ComponentName> componentNames,
+                                                        @NonNull @EnabledState int[] newStates,
+                                                        @EnabledFlags int flags,
+                                                        @UserIdInt int userId) {
+        if (componentNames.size() != newStates.length) {
+            throw new IllegalArgumentException("Number of components and states do not match.");
+        }
+        boolean[] results = new boolean[newStates.length];
+        for (int start = 0; start < newStates.length; start += COMPONENT_BATCH_SIZE) {
+            int end = Math.min(start + COMPONENT_BATCH_SIZE, newStates.length);
+            List<ComponentName> batchComponentNames = componentNames.subList(start, end);
+            int[] batchStates = Arrays.copyOfRange(newStates, start, end);
+            boolean[] batchResults = null;
+            if (LocalServer.isAMServiceAlive()) {
+                try {
+                    batchResults = IPCUtils.getAmService().setComponentEnabledSettings(batchComponentNames,
+                            batchStates, flags, userId);
+                } catch (RemoteException e) {
+                    Log.e(TAG, "Could not set component states in the server, setting them one by one", e);
+                }
+            }
+            if (batchResults == null) {
+                batchResults = new boolean[batchStates.length];
+                for (int i = 0; i < batchStates.length; ++i) {
+                    try {
+                        setComponentEnabledSetting(batchComponentNames.get(i), batchStates[i], flags, userId);
+                        batchResults[i] = true;
+                    } catch (Exception e) {
+                        Log.e(TAG, "Could not set the state of " + batchComponentNames.get(i), e);
+                    }
+                }
+            }
+            System.arraycopy(batchResults, 0, results, start, end - start);
+        }
+        return results;
+    }
+
     public static void setApplicationEnabledSetting(String packageName, @EnabledState int newState,
                                                     @EnabledFlags int flags, @UserIdInt int userId)
             throws RemoteException {
@@ -62,6 +62,7 @@ public class BackupRestorePreferences extends PreferenceFragmentCompat {
 
     SettingsActivity activity;
     private int currentCompression;
+    private int currentCompressionLevel;
     private String backupVolume;
 
     @Override
@@ -71,7 +72,7 @@ public class BackupRestorePreferences extends PreferenceFragmentCompat {
         activity = (SettingsActivity) requireActivity();
         // Backup compression method
         String[] tarTypes = MetadataManager.TAR_TYPES;
-        String[] readableTarTypes = new String[]{"GZip", "BZip2"};
+        String[] readableTarTypes = getResources().getStringArray(R.array.tar_types);
         currentCompression = ArrayUtils.indexOf(tarTypes, AppPref.get(AppPref.PrefKey.PREF_BACKUP_COMPRESSION_METHOD_STR));
         Preference compressionMethod = Objects.requireNonNull(findPreference("backup_compression_method"));
         compressionMethod.setSummary(readableTarTypes[currentCompression == -1 ? 0 : currentCompression]);
@@ -88,6 +89,28 @@ public class BackupRestorePreferences extends PreferenceFragmentCompat {
                     .show();
             return true;
         });
+        // Backup compression level: the level is clamped to the range supported by the compression method
+        CharSequence[] compressionLevels = new CharSequence[20];
+        compressionLevels[0] = getString(R.string.pref_compression_level_default);
+        for (int i = 1; i < compressionLevels.length; ++i) {
+            compressionLevels[i] = String.valueOf(i);
+        }
+        currentCompressionLevel = (int) AppPref.get(AppPref.PrefKey.PREF_BACKUP_COMPRESSION_LEVEL_INT);
+        Preference compressionLevel = Objects.requireNonNull(findPreference("backup_compression_level"));
+        compressionLevel.setSummary(compressionLevels[currentCompressionLevel]);
+        compressionLevel.setOnPreferenceClickListener(preference -> {
+            new MaterialAlertDialogBuilder(activity)
+                    .setTitle(R.string.pref_compression_level)
+                    .setSingleChoiceItems(compressionLevels, currentCompressionLevel,
+                            (dialog, which) -> currentCompressionLevel = which)
+                    .setPositiveButton(R.string.save, (dialog, which) -> {
+                        AppPref.set(AppPref.PrefKey.PREF_BACKUP_COMPRESSION_LEVEL_INT, currentCompressionLevel);
+                        compressionLevel.setSummary(compressionLevels[currentCompressionLevel]);
+                    })
+                    .setNegativeButton(R.string.cancel, null)
+                    .show();
+            return true;
+        });
         // Backup flags
         BackupFlags flags = BackupFlags.fromPref();
         ((Preference) Objects.requireNonNull(findPreference("backup_flags"))).setOnPreferenceClickListener(preference -> {
@@ -109,6 +132,9 @@ public class BackupRestorePreferences extends PreferenceFragmentCompat {
         // Keystore toggle
         SwitchPreferenceCompat backupKeyStore = Objects.requireNonNull(findPreference("backup_android_keystore"));
         backupKeyStore.setChecked((boolean) AppPref.get(AppPref.PrefKey.PREF_BACKUP_ANDROID_KEYSTORE_BOOL));
+        // Deduplication toggle
+        SwitchPreferenceCompat deduplicate = Objects.requireNonNull(findPreference("backup_deduplicate"));
+        deduplicate.setChecked((boolean) AppPref.get(AppPref.PrefKey.PREF_BACKUP_DEDUPLICATE_BOOL));
         // Encryption
         ((Preference) Objects.requireNonNull(findPreference("encryption"))).setOnPreferenceClickListener(preference -> {
             CharSequence[] encryptionNamesText = new CharSequence[encryptionNames.length];
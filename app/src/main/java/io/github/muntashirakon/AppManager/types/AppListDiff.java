@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.types;
+
+import android.content.Context;
+import android.content.Intent;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.github.muntashirakon.AppManager.db.entity.App;
+
+/**
+ * Difference between two lists of apps. Apps are identified by their package name and user ID, and compared using
+ * {@link App#getHashCode()}.
+ */
+public final class AppListDiff {
+    @NonNull
+    public final List<App> added;
+    @NonNull
+    public final List<App> removed;
+    @NonNull
+    public final List<App> changed;
+
+    private AppListDiff(@NonNull List<App> added, @NonNull List<App> removed, @NonNull List<App> changed) {
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.changed = Collections.unmodifiableList(changed);
+    }
+
+    /**
+     * Compare the apps in linear time. If the new list contains the same app more than once, only the first one is
+     * used.
+     */
+    @NonNull
+    public static AppListDiff compute(@NonNull List<App> oldApps, @NonNull List<App> newApps) {
+        // App#equals() and App#hashCode() only use the package name and the user ID
+        Map<App, App> oldAppIndex = new HashMap<>(oldApps.size());
+        for (App oldApp : oldApps) {
+            oldAppIndex.put(oldApp, oldApp);
+        }
+        List<App> added = new ArrayList<>();
+        List<App> changed = new ArrayList<>();
+        Set<App> seenApps = new HashSet<>(newApps.size());
+        for (App newApp : newApps) {
+            if (!seenApps.add(newApp)) continue;
+            App oldApp = oldAppIndex.remove(newApp);
+            if (oldApp == null) {
+                added.add(newApp);
+            } else if (oldApp.getHashCode() != newApp.getHashCode()) {
+                changed.add(newApp);
+            } // else no change between two versions
+        }
+        // The rest no longer exist
+        return new AppListDiff(added, new ArrayList<>(oldAppIndex.values()), changed);
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+
+    /**
+     * Notify the {@link PackageChangeReceiver}s of this app about the changes
+     */
+    public void sendBroadcasts(@NonNull Context context) {
+        sendBroadcast(context, PackageChangeReceiver.ACTION_PACKAGE_REMOVED, removed);
+        sendBroadcast(context, PackageChangeReceiver.ACTION_PACKAGE_ADDED, added);
+        sendBroadcast(context, PackageChangeReceiver.ACTION_PACKAGE_ALTERED, changed);
+    }
+
+    @NonNull
+    public static String[] getPackageNames(@NonNull List<App> apps) {
+        Set<String> packages = new LinkedHashSet<>(apps.size());
+        for (App app : apps) {
+            packages.add(app.packageName);
+        }
+        return packages.toArray(new String[0]);
+    }
+
+    private static void sendBroadcast(@NonNull Context context, @NonNull String action, @NonNull List<App> apps) {
+        if (apps.isEmpty()) return;
+        Intent intent = new Intent(action);
+        intent.setPackage(context.getPackageName());
+        intent.putExtra(Intent.EXTRA_CHANGED_PACKAGE_LIST, getPackageNames(apps));
+        context.sendBroadcast(intent);
+    }
+}
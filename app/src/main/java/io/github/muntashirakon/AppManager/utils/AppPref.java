@@ -66,9 +66,11 @@ public class AppPref {
         PREF_APP_THEME_INT,
 
         PREF_BACKUP_COMPRESSION_METHOD_STR,
+        PREF_BACKUP_COMPRESSION_LEVEL_INT,
         PREF_BACKUP_VOLUME_STR,
         PREF_BACKUP_FLAGS_INT,
         PREF_BACKUP_ANDROID_KEYSTORE_BOOL,
+        PREF_BACKUP_DEDUPLICATE_BOOL,
 
         PREF_ENABLED_FEATURES_INT,
         PREF_COMPONENTS_SORT_ORDER_INT,
@@ -354,6 +356,8 @@ public class AppPref {
                         | BackupFlags.BACKUP_APK_FILES | BackupFlags.BACKUP_EXTRAS;
             case PREF_BACKUP_COMPRESSION_METHOD_STR:
                 return TarUtils.TAR_GZIP;
+            case PREF_BACKUP_COMPRESSION_LEVEL_INT:
+                return TarUtils.DEFAULT_COMPRESSION_LEVEL;
             case PREF_ROOT_MODE_ENABLED_BOOL:
             case PREF_ADB_MODE_ENABLED_BOOL:
             case PREF_ENABLE_KILL_FOR_SYSTEM_BOOL:
@@ -361,6 +365,7 @@ public class AppPref {
             case PREF_INSTALLER_DISPLAY_USERS_BOOL:
             case PREF_INSTALLER_SIGN_APK_BOOL:
             case PREF_BACKUP_ANDROID_KEYSTORE_BOOL:
+            case PREF_BACKUP_DEDUPLICATE_BOOL:
             case PREF_ENABLE_SCREEN_LOCK_BOOL:
             case PREF_MAIN_WINDOW_SORT_REVERSE_BOOL:
             case PREF_LOG_VIEWER_EXPAND_BY_DEFAULT_BOOL:
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.utils;
+
+import androidx.annotation.NonNull;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * An {@link InputStream} that calculates the checksum of the bytes read from it. The checksum is available only after
+ * the stream has been read completely.
+ */
+public class ChecksumInputStream extends FilterInputStream {
+    @NonNull
+    private final DigestUtils.Digester digester;
+    private String checksum;
+    private boolean closed = false;
+
+    public ChecksumInputStream(@NonNull InputStream in, @DigestUtils.Algorithm String algo) throws IOException {
+        super(in);
+        try {
+            digester = new DigestUtils.Digester(algo);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b == -1) onEndOfStream();
+        else digester.update(b);
+        return b;
+    }
+
+    @Override
+    public int read(@NonNull byte[] b, int off, int len) throws IOException {
+        int read = in.read(b, off, len);
+        if (read == -1) onEndOfStream();
+        else digester.update(b, off, read);
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // Skipped bytes must be included in the checksum
+        byte[] buffer = new byte[(int) Math.min(n, IOUtils.DEFAULT_BUFFER_SIZE)];
+        long remaining = n;
+        while (remaining > 0) {
+            int read = read(buffer, 0, (int) Math.min(remaining, buffer.length));
+            if (read == -1) break;
+            remaining -= read;
+        }
+        return n - remaining;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    @Override
+    public void close() throws IOException {
+        // The stream may be closed more than once, e.g. by a cipher stream and then by its owner
+        if (closed) return;
+        closed = true;
+        super.close();
+    }
+
+    /**
+     * Whether the stream has been read completely.
+     */
+    public boolean isEndOfStream() {
+        return checksum != null;
+    }
+
+    /**
+     * Get the checksum in hex format.
+     *
+     * @throws IllegalStateException If the stream hasn't been read completely.
+     */
+    @NonNull
+    public String getChecksum() {
+        if (checksum == null) throw new IllegalStateException("The stream hasn't been read completely.");
+        return checksum;
+    }
+
+    private void onEndOfStream() {
+        if (checksum == null) {
+            checksum = digester.getHexDigest();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.utils;
+
+import androidx.annotation.NonNull;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * An {@link OutputStream} that calculates the checksum of the bytes passing through it. The checksum is available
+ * after the stream is closed.
+ */
+public class ChecksumOutputStream extends FilterOutputStream {
+    @NonNull
+    private final DigestUtils.Digester digester;
+    private String checksum;
+    private boolean closed = false;
+
+    public ChecksumOutputStream(@NonNull OutputStream out, @DigestUtils.Algorithm String algo) throws IOException {
+        super(out);
+        try {
+            digester = new DigestUtils.Digester(algo);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        digester.update(b);
+    }
+
+    @Override
+    public void write(@NonNull byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        digester.update(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+        // The stream may be closed more than once, e.g. by a cipher stream and then by its owner
+        if (closed) return;
+        closed = true;
+        checksum = digester.getHexDigest();
+        super.close();
+    }
+
+    /**
+     * Get the checksum in hex format.
+     *
+     * @throws IllegalStateException If the stream hasn't been closed yet.
+     */
+    @NonNull
+    public String getChecksum() {
+        if (checksum == null) throw new IllegalStateException("The stream hasn't been closed yet.");
+        return checksum;
+    }
+}
@@ -36,9 +36,11 @@ import java.util.zip.CRC32;
 
 import androidx.annotation.AnyThread;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.StringDef;
 import androidx.annotation.WorkerThread;
 import aosp.libcore.util.HexEncoding;
+import io.github.muntashirakon.io.ProxyFiles;
 import io.github.muntashirakon.io.ProxyInputStream;
 
 public class DigestUtils {
@@ -161,6 +163,52 @@ public class DigestUtils {
         return digests;
     }
 
+    /**
+     * Incrementally compute the digest of a stream using any of the supported {@link Algorithm}s. Unlike
+     * {@link MessageDigest}, this also supports {@link #CRC32}.
+     */
+    public static class Digester {
+        @Nullable
+        private final MessageDigest messageDigest;
+        @Nullable
+        private final java.util.zip.CRC32 crc32;
+
+        public Digester(@Algorithm String algo) throws NoSuchAlgorithmException {
+            if (CRC32.equals(algo)) {
+                crc32 = new CRC32();
+                messageDigest = null;
+            } else {
+                crc32 = null;
+                messageDigest = MessageDigest.getInstance(algo);
+            }
+        }
+
+        public void update(@NonNull byte[] b, int off, int len) {
+            if (crc32 != null) crc32.update(b, off, len);
+            else if (messageDigest != null) messageDigest.update(b, off, len);
+        }
+
+        public void update(int b) {
+            if (crc32 != null) crc32.update(b);
+            else if (messageDigest != null) messageDigest.update((byte) b);
+        }
+
+        /**
+         * Complete the digest computation and reset the digester.
+         */
+        @NonNull
+        public String getHexDigest() {
+            byte[] digest;
+            if (crc32 != null) {
+                digest = longToBytes(crc32.getValue());
+                crc32.reset();
+            } else if (messageDigest != null) {
+                digest = messageDigest.digest();
+            } else digest = new byte[0];
+            return HexEncoding.encodeToString(digest, false /* lowercase */);
+        }
+    }
+
     @NonNull
     private static byte[] longToBytes(long l) {
         byte[] result = new byte[8];
@@ -172,17 +220,11 @@ public class DigestUtils {
     }
 
     static void gatherFiles(@NonNull List<File> files, @NonNull File source) {
-        if (source.isDirectory()) {
-            File[] children = source.listFiles();
-            if (children == null || children.length == 0) {
-                return;
-            }
-            for (File child : children) {
-                gatherFiles(files, child);
-            }
-        } else if (source.isFile()) {
-            // Not directory, add it
-            files.add(source);
-        } // else we don't support other type of files
+        // The files are in the same order as a recursive listing, which keeps the hashes of the directories the same
+        for (File file : ProxyFiles.walk(source, true)) {
+            if (file.isFile()) {
+                files.add(file);
+            } // else we don't support other type of files
+        }
     }
 }
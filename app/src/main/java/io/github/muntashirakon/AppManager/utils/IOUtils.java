@@ -60,6 +60,7 @@ import java.util.zip.ZipEntry;
 import io.github.muntashirakon.AppManager.AppManager;
 import io.github.muntashirakon.AppManager.logs.Log;
 import io.github.muntashirakon.io.ProxyFile;
+import io.github.muntashirakon.io.ProxyFiles;
 import io.github.muntashirakon.io.ProxyInputStream;
 import io.github.muntashirakon.io.ProxyOutputStream;
 
@@ -129,6 +130,15 @@ public final class IOUtils {
 
     @WorkerThread
     public static long copy(File from, File to) throws IOException, RemoteException {
+        if (from instanceof ProxyFile || to instanceof ProxyFile) {
+            // Copy in the privileged process, without sending the data through binder
+            try {
+                return ProxyFiles.copy(from, to, null);
+            } catch (IOException | RemoteException e) {
+                // The privileged process may not access the private files of the app, e.g. in ADB mode
+                Log.w("IOUtils", "Could not copy " + from + " to " + to + " directly, copying via streams.", e);
+            }
+        }
         try (InputStream in = new ProxyInputStream(from);
              OutputStream out = new ProxyOutputStream(to)) {
             return copy(in, out);
@@ -291,9 +301,29 @@ public final class IOUtils {
 
     @AnyThread
     public static long fileSize(@Nullable File root) {
+        return fileSize(root, false);
+    }
+
+    /**
+     * Size of a file, or the total size of the files inside a directory.
+     *
+     * @param useCache Whether a size calculated recently can be used, see
+     *                 {@link io.github.muntashirakon.io.FileOperations#getSize(File, boolean)}
+     */
+    @AnyThread
+    public static long fileSize(@Nullable File root, boolean useCache) {
         if (root == null) {
             return 0;
         }
+        if (root instanceof ProxyFile) {
+            // Calculate the size in a single transaction
+            try {
+                return ProxyFiles.getSize(root, useCache);
+            } catch (IOException | RemoteException e) {
+                e.printStackTrace();
+                return 0;
+            }
+        }
         if (root.isFile()) {
             return root.length();
         }
@@ -312,7 +342,7 @@ public final class IOUtils {
             return 0;
         }
         for (File file : files) {
-            length += fileSize(file);
+            length += fileSize(file, false);
         }
 
         return length;
@@ -410,6 +440,15 @@ public final class IOUtils {
      */
     @AnyThread
     public static boolean deleteDir(File dir) {
+        if (dir instanceof ProxyFile) {
+            // Delete the whole tree in a single transaction
+            try {
+                ProxyFiles.delete(dir, null);
+                return true;
+            } catch (IOException | RemoteException e) {
+                return false;
+            }
+        }
         if (dir != null && dir.isDirectory()) {
             File[] children = dir.listFiles();
             if (children == null) return false;
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.utils;
+
+import android.annotation.UserIdInt;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager;
+import android.os.Looper;
+import android.text.TextUtils;
+import android.util.Pair;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+import androidx.core.content.pm.PackageInfoCompat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.muntashirakon.AppManager.AppManager;
+import io.github.muntashirakon.AppManager.StaticDataset;
+import io.github.muntashirakon.AppManager.db.dao.PackageAnalysisDao;
+import io.github.muntashirakon.AppManager.db.entity.PackageAnalysis;
+import io.github.muntashirakon.AppManager.logs.Log;
+import io.github.muntashirakon.AppManager.rules.RulesStorageManager;
+import io.github.muntashirakon.AppManager.rules.compontents.ComponentUtils;
+import io.github.muntashirakon.AppManager.servermanager.PackageManagerCompat;
+
+import static io.github.muntashirakon.AppManager.utils.PackageUtils.flagDisabledComponents;
+import static io.github.muntashirakon.AppManager.utils.PackageUtils.flagSigningInfo;
+
+/**
+ * Cache of the results derived from the APKs of the installed packages, i.e. the components, the number of trackers
+ * and the signing certificates. Only installed packages should be cached, not external APKs.
+ */
+@WorkerThread
+public final class PackageAnalysisCache {
+    public static final String TAG = PackageAnalysisCache.class.getSimpleName();
+
+    /**
+     * Flags required to analyse a package
+     */
+    public static final int FLAGS = PackageManager.GET_ACTIVITIES | PackageManager.GET_RECEIVERS
+            | PackageManager.GET_PROVIDERS | PackageManager.GET_SERVICES | flagDisabledComponents | flagSigningInfo;
+
+    /**
+     * SQLite limits the number of variables in a query
+     */
+    private static final int MAX_QUERY_PACKAGES = 500;
+
+    /**
+     * Get the analysis of an installed package. The components of the package are only loaded if there is no valid
+     * analysis in the cache.
+     */
+    @NonNull
+    public static PackageAnalysis get(@NonNull String packageName, @UserIdInt int userHandle) throws Exception {
+        // Only the basic info which is fast to retrieve
+        PackageInfo packageInfo = PackageManagerCompat.getPackageInfo(packageName, flagDisabledComponents,
+                userHandle);
+        PackageAnalysis packageAnalysis = getCached(packageInfo);
+        if (packageAnalysis != null) return packageAnalysis;
+        return get(PackageManagerCompat.getPackageInfo(packageName, FLAGS, userHandle));
+    }
+
+    /**
+     * Get the analysis of an installed package.
+     *
+     * @param packageInfo Package info retrieved using {@link #FLAGS}
+     */
+    @NonNull
+    public static PackageAnalysis get(@NonNull PackageInfo packageInfo) {
+        PackageAnalysis packageAnalysis = getCached(packageInfo);
+        if (packageAnalysis != null) return packageAnalysis;
+        packageAnalysis = analyse(packageInfo);
+        if (!isMainThread()) {
+            try {
+                getDao().insert(packageAnalysis);
+            } catch (Exception e) {
+                Log.e(TAG, "Could not cache analysis of " + packageInfo.packageName, e);
+            }
+        }
+        return packageAnalysis;
+    }
+
+    /**
+     * Forget the packages, e.g. because they have been uninstalled
+     */
+    public static void remove(@NonNull Collection<String> packageNames) {
+        List<String> packageNameList = new ArrayList<>(packageNames);
+        for (int i = 0; i < packageNameList.size(); i += MAX_QUERY_PACKAGES) {
+            getDao().delete(packageNameList.subList(i, Math.min(i + MAX_QUERY_PACKAGES, packageNameList.size())));
+        }
+    }
+
+    @NonNull
+    public static HashMap<String, RulesStorageManager.Type> getComponents(@NonNull PackageAnalysis packageAnalysis) {
+        HashMap<String, RulesStorageManager.Type> components = new HashMap<>();
+        if (TextUtils.isEmpty(packageAnalysis.components)) return components;
+        //noinspection ConstantConditions
+        for (String line : packageAnalysis.components.split("\n")) {
+            int separator = line.indexOf(' ');
+            if (separator == -1) continue;
+            try {
+                components.put(line.substring(separator + 1),
+                        RulesStorageManager.Type.valueOf(line.substring(0, separator)));
+            } catch (IllegalArgumentException ignore) {
+            }
+        }
+        return components;
+    }
+
+    @NonNull
+    public static HashMap<String, RulesStorageManager.Type> getTrackerComponents(
+            @NonNull PackageAnalysis packageAnalysis) {
+        HashMap<String, RulesStorageManager.Type> trackers = new HashMap<>();
+        for (Map.Entry<String, RulesStorageManager.Type> component : getComponents(packageAnalysis).entrySet()) {
+            if (ComponentUtils.isTracker(component.getKey())) {
+                trackers.put(component.getKey(), component.getValue());
+            }
+        }
+        return trackers;
+    }
+
+    @NonNull
+    public static String[] getCertSha256Checksums(@NonNull PackageAnalysis packageAnalysis) {
+        if (TextUtils.isEmpty(packageAnalysis.certSha256)) return new String[0];
+        //noinspection ConstantConditions
+        return packageAnalysis.certSha256.split("\n");
+    }
+
+    @Nullable
+    private static PackageAnalysis getCached(@NonNull PackageInfo packageInfo) {
+        if (isMainThread()) return null;
+        try {
+            PackageAnalysis packageAnalysis = getDao().get(packageInfo.packageName);
+            if (packageAnalysis != null && packageAnalysis.isValid(PackageInfoCompat.getLongVersionCode(packageInfo),
+                    packageInfo.lastUpdateTime, getApkSize(packageInfo), StaticDataset.getTrackerSignaturesVersion())) {
+                return packageAnalysis;
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "Could not retrieve analysis of " + packageInfo.packageName, e);
+        }
+        return null;
+    }
+
+    @NonNull
+    private static PackageAnalysis analyse(@NonNull PackageInfo packageInfo) {
+        PackageAnalysis packageAnalysis = new PackageAnalysis();
+        packageAnalysis.packageName = packageInfo.packageName;
+        packageAnalysis.versionCode = PackageInfoCompat.getLongVersionCode(packageInfo);
+        packageAnalysis.lastUpdateTime = packageInfo.lastUpdateTime;
+        packageAnalysis.apkSize = getApkSize(packageInfo);
+        packageAnalysis.trackerSignaturesVersion = StaticDataset.getTrackerSignaturesVersion();
+        StringBuilder components = new StringBuilder();
+        for (Map.Entry<String, RulesStorageManager.Type> component
+                : PackageUtils.collectComponentClassNames(packageInfo).entrySet()) {
+            components.append(component.getValue().name()).append(' ').append(component.getKey()).append('\n');
+            if (ComponentUtils.isTracker(component.getKey())) ++packageAnalysis.trackerCount;
+        }
+        packageAnalysis.components = components.toString();
+        Pair<String, String> issuerAndAlgoPair = Utils.getIssuerAndAlg(packageInfo);
+        packageAnalysis.certName = issuerAndAlgoPair.first;
+        packageAnalysis.certAlgo = issuerAndAlgoPair.second;
+        packageAnalysis.certSha256 = TextUtils.join("\n", PackageUtils.getSigningCertSha256Checksum(packageInfo));
+        return packageAnalysis;
+    }
+
+    private static long getApkSize(@NonNull PackageInfo packageInfo) {
+        ApplicationInfo applicationInfo = packageInfo.applicationInfo;
+        if (applicationInfo == null || applicationInfo.sourceDir == null) return 0;
+        return new File(applicationInfo.sourceDir).length();
+    }
+
+    private static boolean isMainThread() {
+        // The database cannot be accessed from the main thread
+        return Looper.myLooper() == Looper.getMainLooper();
+    }
+
+    @NonNull
+    private static PackageAnalysisDao getDao() {
+        return AppManager.getDb().packageAnalysisDao();
+    }
+}
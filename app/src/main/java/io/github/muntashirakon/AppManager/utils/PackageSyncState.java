@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.utils;
+
+import android.annotation.UserIdInt;
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.ChangedPackages;
+import android.content.pm.PackageInfo;
+import android.os.Build;
+import android.provider.Settings;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import io.github.muntashirakon.AppManager.BuildConfig;
+import io.github.muntashirakon.AppManager.StaticDataset;
+import io.github.muntashirakon.AppManager.db.entity.App;
+import io.github.muntashirakon.AppManager.logs.Log;
+import io.github.muntashirakon.AppManager.servermanager.PackageManagerCompat;
+
+/**
+ * Find the packages that have changed since the app list was last synced with the package manager, so that only
+ * those packages have to be loaded again. The change sequence numbers of the package manager are used where
+ * available, they are reset after a reboot. Otherwise, the last update time of the packages is compared.
+ */
+@WorkerThread
+class PackageSyncState {
+    public static final String TAG = PackageSyncState.class.getSimpleName();
+
+    private static final String PREF_NAME = "package_sync";
+    private static final String KEY_FINGERPRINT = "fingerprint";
+    private static final String KEY_SEQUENCE_PREFIX = "sequence_";
+
+    @NonNull
+    private final SharedPreferences preferences;
+    @NonNull
+    private final String fingerprint;
+    private final Map<Integer, Integer> newSequenceNumbers = new HashMap<>();
+
+    PackageSyncState(@NonNull Context context) {
+        preferences = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+        fingerprint = getFingerprint(context);
+    }
+
+    /**
+     * Invalidate the saved state, e.g. because the app list has been cleared
+     */
+    void reset() {
+        preferences.edit().clear().apply();
+    }
+
+    /**
+     * Get the packages of a user that have changed since the last sync, including the ones that are uninstalled.
+     *
+     * @param oldApps Apps of the user known from the package manager during the last sync, by package name
+     * @return The changed packages, or {@code null} if all the packages have to be loaded again
+     */
+    @Nullable
+    Set<String> getChangedPackages(@UserIdInt int userHandle, @NonNull Map<String, App> oldApps) {
+        boolean isValid = !oldApps.isEmpty() && fingerprint.equals(preferences.getString(KEY_FINGERPRINT, null));
+        try {
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+                int sequenceNumber = isValid ? preferences.getInt(KEY_SEQUENCE_PREFIX + userHandle, -1) : -1;
+                ChangedPackages changedPackages = PackageManagerCompat.getChangedPackages(Math.max(sequenceNumber,
+                        0), userHandle);
+                // No changes means that the sequence number hasn't changed
+                newSequenceNumbers.put(userHandle, changedPackages != null ? changedPackages.getSequenceNumber()
+                        : Math.max(sequenceNumber, 0));
+                if (sequenceNumber < 0) return null;
+                if (changedPackages == null) return new HashSet<>();
+                return new HashSet<>(changedPackages.getPackageNames());
+            }
+            if (!isValid) return null;
+            // Only the basic info of the packages, which is fast to retrieve
+            List<PackageInfo> packageInfoList = PackageManagerCompat.getInstalledPackages(
+                    PackageUtils.flagDisabledComponents | PackageUtils.flagMatchUninstalled, userHandle);
+            Set<String> changedPackages = new HashSet<>(oldApps.keySet());
+            for (PackageInfo packageInfo : packageInfoList) {
+                App app = oldApps.get(packageInfo.packageName);
+                ApplicationInfo applicationInfo = packageInfo.applicationInfo;
+                if (app != null && app.lastUpdateTime == packageInfo.lastUpdateTime
+                        && app.isEnabled == applicationInfo.enabled
+                        && app.isInstalled == ((applicationInfo.flags & ApplicationInfo.FLAG_INSTALLED) != 0)) {
+                    changedPackages.remove(packageInfo.packageName);
+                } else changedPackages.add(packageInfo.packageName);
+            }
+            // The rest are uninstalled
+            return changedPackages;
+        } catch (Exception e) {
+            Log.e(TAG, "Could not retrieve changed packages for user " + userHandle, e);
+            return null;
+        }
+    }
+
+    /**
+     * Save the state after the app list is updated
+     */
+    void save() {
+        SharedPreferences.Editor editor = preferences.edit()
+                .clear()
+                .putString(KEY_FINGERPRINT, fingerprint);
+        for (Map.Entry<Integer, Integer> entry : newSequenceNumbers.entrySet()) {
+            editor.putInt(KEY_SEQUENCE_PREFIX + entry.getKey(), entry.getValue());
+        }
+        editor.apply();
+    }
+
+    /**
+     * Anything that changes the app list without changing the packages, i.e. the labels depend on the locale and
+     * the tracker counts depend on the tracker signatures. The sequence numbers are reset after a reboot.
+     */
+    @NonNull
+    private static String getFingerprint(@NonNull Context context) {
+        String bootCount = "";
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+            bootCount = String.valueOf(Settings.Global.getInt(context.getContentResolver(),
+                    Settings.Global.BOOT_COUNT, -1));
+        }
+        return BuildConfig.VERSION_CODE + "/" + StaticDataset.getTrackerSignaturesVersion() + "/" + Locale.getDefault()
+                + "/" + bootCount;
+    }
+}
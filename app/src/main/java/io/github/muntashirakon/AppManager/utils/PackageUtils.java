@@ -22,7 +22,6 @@ import android.app.usage.IStorageStatsManager;
 import android.app.usage.StorageStats;
 import android.content.ComponentName;
 import android.content.Context;
-import android.content.Intent;
 import android.content.pm.ActivityInfo;
 import android.content.pm.ApplicationInfo;
 import android.content.pm.ComponentInfo;
@@ -61,14 +60,18 @@ import java.security.interfaces.RSAPublicKey;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
@@ -79,6 +82,7 @@ import io.github.muntashirakon.AppManager.R;
 import io.github.muntashirakon.AppManager.appops.AppOpsManager;
 import io.github.muntashirakon.AppManager.appops.AppOpsService;
 import io.github.muntashirakon.AppManager.backup.MetadataManager;
+import io.github.muntashirakon.AppManager.db.dao.RuleDao;
 import io.github.muntashirakon.AppManager.db.entity.App;
 import io.github.muntashirakon.AppManager.ipc.IPCUtils;
 import io.github.muntashirakon.AppManager.ipc.ProxyBinder;
@@ -87,12 +91,12 @@ import io.github.muntashirakon.AppManager.logs.Log;
 import io.github.muntashirakon.AppManager.main.ApplicationItem;
 import io.github.muntashirakon.AppManager.misc.OsEnvironment;
 import io.github.muntashirakon.AppManager.rules.RulesStorageManager;
+import io.github.muntashirakon.AppManager.rules.TsvRulesMigrator;
 import io.github.muntashirakon.AppManager.rules.compontents.ComponentUtils;
-import io.github.muntashirakon.AppManager.rules.compontents.ComponentsBlocker;
 import io.github.muntashirakon.AppManager.runner.Runner;
 import io.github.muntashirakon.AppManager.runner.RunnerUtils;
 import io.github.muntashirakon.AppManager.servermanager.PackageManagerCompat;
-import io.github.muntashirakon.AppManager.types.PackageChangeReceiver;
+import io.github.muntashirakon.AppManager.types.AppListDiff;
 import io.github.muntashirakon.AppManager.types.PackageSizeInfo;
 import io.github.muntashirakon.AppManager.types.UserPackagePair;
 import io.github.muntashirakon.AppManager.users.Users;
@@ -131,6 +135,18 @@ public final class PackageUtils {
         }
     }
 
+    /**
+     * Flags to load a package for the app list
+     */
+    private static final int FLAGS_APP_LIST = flagSigningInfo | PackageManager.GET_ACTIVITIES
+            | PackageManager.GET_RECEIVERS | PackageManager.GET_PROVIDERS | PackageManager.GET_SERVICES
+            | flagDisabledComponents | flagMatchUninstalled | SearchIndex.FLAGS;
+
+    /**
+     * Number of packages loaded before they are handed over during a sync
+     */
+    private static final int LOAD_BATCH_SIZE = 50;
+
     @SuppressWarnings("RegExpRedundantEscape")
     private static final Pattern SERVICE_REGEX = Pattern.compile("ServiceRecord\\{[0-9a-f]+ u(\\d+) ([^\\}]+)\\}");
     private static final String SERVICE_NOTHING = "(nothing)";
@@ -158,9 +174,24 @@ public final class PackageUtils {
     @NonNull
     public static List<ApplicationItem> getInstalledOrBackedUpApplicationsFromDb(@NonNull Context context,
                                                                                  @Nullable HashMap<String, MetadataManager.Metadata> backupMetadata) {
+        return getInstalledOrBackedUpApplicationsFromDb(context, backupMetadata, false);
+    }
+
+    /**
+     * @param loadInBackground Whether to load the apps in the background even if they are loaded for the first time.
+     *                         In that case, only the backups are returned and the apps are sent to the
+     *                         {@link io.github.muntashirakon.AppManager.types.PackageChangeReceiver}s in batches as
+     *                         soon as they are loaded.
+     */
+    @WorkerThread
+    @GuardedBy("metadataLock")
+    @NonNull
+    public static List<ApplicationItem> getInstalledOrBackedUpApplicationsFromDb(@NonNull Context context,
+                                                                                 @Nullable HashMap<String, MetadataManager.Metadata> backupMetadata,
+                                                                                 boolean loadInBackground) {
         List<ApplicationItem> applicationItems = new ArrayList<>();
         List<App> apps = AppManager.getDb().appDao().getAll();
-        if (apps.size() == 0) {
+        if (apps.size() == 0 && !loadInBackground) {
             // Load app list for the first time
             Log.d("PackageUtils", "Loading apps for the first time.");
             updateInstalledOrBackedUpApplications(context, backupMetadata);
@@ -169,32 +200,26 @@ public final class PackageUtils {
             // Update list of apps safely in the background
             new Thread(() -> updateInstalledOrBackedUpApplications(context, backupMetadata)).start();
         }
-        // Get application items from apps
+        // Get application items from apps, an app can be installed in more than one user
+        Map<String, ApplicationItem> applicationItemIndex = new HashMap<>(apps.size());
         for (App app : apps) {
+            ApplicationItem oldItem = applicationItemIndex.get(app.packageName);
+            if (oldItem != null) {
+                if (app.isInstalled) {
+                    // Item already exists, add the user handle
+                    oldItem.userHandles = ArrayUtils.appendInt(oldItem.userHandles, app.userId);
+                    oldItem.isInstalled = true;
+                } // else not installed in this profile, use the previous status
+                continue;
+            }
             ApplicationItem item = new ApplicationItem();
             item.packageName = app.packageName;
-            int i;
             if (app.isInstalled) {
-                if ((i = applicationItems.indexOf(item)) != -1) {
-                    // Item already exists, add the user handle and continue
-                    ApplicationItem oldItem = applicationItems.get(i);
-                    oldItem.userHandles = ArrayUtils.appendInt(oldItem.userHandles, app.userId);
-                    oldItem.isInstalled = true;
-                    continue;
-                } else {
-                    // Item doesn't exist, add the user handle
-                    item.userHandles = ArrayUtils.appendInt(item.userHandles, app.userId);
-                    item.isInstalled = true;
-                }
+                item.userHandles = ArrayUtils.appendInt(item.userHandles, app.userId);
+                item.isInstalled = true;
             } else {
-                // App not installed but may be installed in other profiles
-                if (applicationItems.contains(item)) {
-                    // Item exists, use the previous status
-                    continue;
-                } else {
-                    // Item doesn't exist, don't add user handle
-                    item.isInstalled = false;
-                }
+                // App not installed but may be installed in other profiles, don't add user handle
+                item.isInstalled = false;
             }
             if (backupMetadata != null) {
                 MetadataManager.Metadata metadata = backupMetadata.get(item.packageName);
@@ -222,6 +247,7 @@ public final class PackageUtils {
             item.trackerCount = app.trackerCount;
             item.lastActionTime = app.lastActionTime;
             applicationItems.add(item);
+            applicationItemIndex.put(item.packageName, item);
         }
         if (backupMetadata != null) {
             synchronized (metadataLock) {
@@ -250,38 +276,97 @@ public final class PackageUtils {
     private static void updateInstalledOrBackedUpApplications(@NonNull Context context,
                                                               @Nullable HashMap<String, MetadataManager.Metadata> backupMetadata) {
         List<App> newApps = new ArrayList<>();
-        List<Integer> newAppHashes = new ArrayList<>();
+        List<App> oldApps = AppManager.getDb().appDao().getAll();
+        // When the apps are loaded for the first time, they are saved in batches as soon as they are loaded
+        boolean isFirstLoad = oldApps.isEmpty();
+        List<App> savedApps = isFirstLoad ? new ArrayList<>() : oldApps;
+        PackageSyncState syncState = new PackageSyncState(context);
+        // The search index is built from the packages that are loaded again
+        if (oldApps.isEmpty() || SearchIndex.isEmpty()) syncState.reset();
+        Set<String> indexedPackages = new HashSet<>();
+        // Apps known from the package manager during the last sync, by user and package name
+        Map<Integer, Map<String, App>> oldPackageManagerApps = new HashMap<>();
+        for (App app : oldApps) {
+            if (app.isOnlyInBackup()) continue;
+            Map<String, App> apps = oldPackageManagerApps.get(app.userId);
+            if (apps == null) {
+                apps = new HashMap<>();
+                oldPackageManagerApps.put(app.userId, apps);
+            }
+            apps.put(app.packageName, app);
+        }
+        // Rules saved in the TSV files are copied to each user once the users are known, otherwise only the current
+        // user is known
+        if (Users.getUsers() != null) TsvRulesMigrator.migrate(Users.getUsersHandles());
+        // Number of rules by user and package name
+        Map<Integer, Map<String, Integer>> rulesCounts = new HashMap<>();
+        for (RuleDao.RuleCount ruleCount : AppManager.getDb().ruleDao().getCounts()) {
+            Map<String, Integer> counts = rulesCounts.get(ruleCount.userId);
+            if (counts == null) {
+                counts = new HashMap<>();
+                rulesCounts.put(ruleCount.userId, counts);
+            }
+            counts.put(ruleCount.packageName, ruleCount.count);
+        }
         int[] userHandles = Users.getUsersHandles();
         for (int userHandle : userHandles) {
-            List<PackageInfo> packageInfoList;
-            try {
-                packageInfoList = PackageManagerCompat.getInstalledPackages(flagSigningInfo
-                        | PackageManager.GET_ACTIVITIES | PackageManager.GET_RECEIVERS | PackageManager.GET_PROVIDERS
-                        | PackageManager.GET_SERVICES | flagDisabledComponents | flagMatchUninstalled, userHandle);
-            } catch (Exception e) {
-                Log.e("PackageUtils", "Could not retrieve package info list for user " + userHandle, e);
-                continue;
+            Map<String, App> oldUserApps = oldPackageManagerApps.get(userHandle);
+            if (oldUserApps == null) oldUserApps = Collections.emptyMap();
+            Set<String> changedPackages = syncState.getChangedPackages(userHandle, oldUserApps);
+            Collection<String> packagesToLoad;
+            if (changedPackages == null) {
+                // Load the names of all the packages of the user, the packages themselves are loaded in parallel
+                try {
+                    List<ApplicationInfo> applicationInfoList = PackageManagerCompat.getInstalledApplications(
+                            flagMatchUninstalled, userHandle);
+                    packagesToLoad = new ArrayList<>(applicationInfoList.size());
+                    for (ApplicationInfo applicationInfo : applicationInfoList) {
+                        packagesToLoad.add(applicationInfo.packageName);
+                    }
+                } catch (Exception e) {
+                    Log.e("PackageUtils", "Could not retrieve package list for user " + userHandle, e);
+                    continue;
+                }
+            } else {
+                // Keep the unchanged packages and only load the changed ones
+                for (App oldApp : oldUserApps.values()) {
+                    if (changedPackages.contains(oldApp.packageName)) continue;
+                    if (backupMetadata != null) {
+                        synchronized (metadataLock) {
+                            backupMetadata.remove(oldApp.packageName);
+                        }
+                    }
+                    App app = App.fromApp(oldApp);
+                    app.lastActionTime = oldApp.lastActionTime;
+                    app.rulesCount = getRulesCount(rulesCounts, app);
+                    newApps.add(app);
+                }
+                packagesToLoad = changedPackages;
+                Log.d("PackageUtils", "User " + userHandle + ": " + changedPackages.size() + " changed packages.");
             }
-            ApplicationInfo applicationInfo;
-            MetadataManager.Metadata metadata;
-
-            for (PackageInfo packageInfo : packageInfoList) {
-                applicationInfo = packageInfo.applicationInfo;
-                App app = App.fromPackageInfo(context, packageInfo);
-                if (backupMetadata != null) {
-                    synchronized (metadataLock) {
-                        metadata = backupMetadata.get(applicationInfo.packageName);
-                        if (metadata != null) {
-                            backupMetadata.remove(applicationInfo.packageName);
+            loadPackages(context, packagesToLoad, userHandle, (packageInfoList, apps) -> {
+                for (App app : apps) {
+                    if (backupMetadata != null) {
+                        synchronized (metadataLock) {
+                            backupMetadata.remove(app.packageName);
                         }
                     }
+                    app.rulesCount = getRulesCount(rulesCounts, app);
+                    newApps.add(app);
                 }
-                try (ComponentsBlocker cb = ComponentsBlocker.getInstance(app.packageName, app.userId, true)) {
-                    app.rulesCount = cb.entryCount();
+                // Packages installed in more than one user are only indexed once
+                List<PackageInfo> unindexedPackageInfoList = new ArrayList<>(packageInfoList.size());
+                for (PackageInfo packageInfo : packageInfoList) {
+                    if (indexedPackages.add(packageInfo.packageName)) unindexedPackageInfoList.add(packageInfo);
                 }
-                newApps.add(app);
-                newAppHashes.add(app.getHashCode());
-            }
+                SearchIndex.update(context, unindexedPackageInfoList);
+                if (isFirstLoad) {
+                    // Save and publish the apps right away instead of waiting for the rest
+                    AppManager.getDb().appDao().insert(apps);
+                    AppListDiff.compute(Collections.emptyList(), apps).sendBroadcasts(context);
+                    savedApps.addAll(apps);
+                }
+            });
         }
         if (backupMetadata != null) {
             synchronized (metadataLock) {
@@ -289,64 +374,88 @@ public final class PackageUtils {
                 for (MetadataManager.Metadata metadata : backupMetadata.values()) {
                     if (metadata == null) continue;
                     App app = App.fromBackupMetadata(metadata);
-                    try (ComponentsBlocker cb = ComponentsBlocker.getInstance(app.packageName, app.userId, true)) {
-                        app.rulesCount = cb.entryCount();
-                    }
+                    app.rulesCount = getRulesCount(rulesCounts, app);
                     newApps.add(app);
-                    newAppHashes.add(app.getHashCode());
                 }
             }
         }
         // Add new and delete old items
-        List<App> oldApps = AppManager.getDb().appDao().getAll();
-        List<App> updatedApps = new ArrayList<>();
-        ListIterator<App> iterator = oldApps.listIterator();
-        while (iterator.hasNext()) {
-            App oldApp = iterator.next();
-            int index = newApps.indexOf(oldApp);
-            if (index != -1) {
-                // DB already has this app
-                if (!newAppHashes.contains(oldApp.getHashCode())) {
-                    // Change detected, replace old with new
-                    updatedApps.add(newApps.get(index));
-                } // else no change between two versions, the app don't have to be updated or deleted
-                iterator.remove();
-                newApps.remove(index);
-            } // else the app is new
-        }
-        AppManager.getDb().appDao().delete(oldApps);
-        AppManager.getDb().appDao().insert(newApps);
-        AppManager.getDb().appDao().insert(updatedApps);
-        if (oldApps.size() > 0) {
-            // Delete broadcast
-            Intent intent = new Intent(PackageChangeReceiver.ACTION_PACKAGE_REMOVED);
-            intent.setPackage(context.getPackageName());
-            intent.putExtra(Intent.EXTRA_CHANGED_PACKAGE_LIST, getPackageNamesFromApps(oldApps));
-            context.sendBroadcast(intent);
-        }
-        if (newApps.size() > 0) {
-            // New apps
-            Intent intent = new Intent(PackageChangeReceiver.ACTION_PACKAGE_ADDED);
-            intent.setPackage(context.getPackageName());
-            intent.putExtra(Intent.EXTRA_CHANGED_PACKAGE_LIST, getPackageNamesFromApps(newApps));
-            context.sendBroadcast(intent);
-        }
-        if (updatedApps.size() > 0) {
-            // Altered apps
-            Intent intent = new Intent(PackageChangeReceiver.ACTION_PACKAGE_ALTERED);
-            intent.setPackage(context.getPackageName());
-            intent.putExtra(Intent.EXTRA_CHANGED_PACKAGE_LIST, getPackageNamesFromApps(updatedApps));
-            context.sendBroadcast(intent);
+        AppListDiff diff = AppListDiff.compute(savedApps, newApps);
+        AppManager.getDb().appDao().delete(diff.removed);
+        AppManager.getDb().appDao().insert(diff.added);
+        AppManager.getDb().appDao().insert(diff.changed);
+        if (!diff.removed.isEmpty()) {
+            // Remove the packages that are no longer installed in any user
+            Set<String> removedPackages = new HashSet<>(Arrays.asList(AppListDiff.getPackageNames(diff.removed)));
+            for (App app : newApps) {
+                if (!app.isOnlyInBackup()) removedPackages.remove(app.packageName);
+            }
+            SearchIndex.remove(removedPackages);
+            PackageAnalysisCache.remove(removedPackages);
         }
+        syncState.save();
+        diff.sendBroadcasts(context);
     }
 
-    @NonNull
-    private static String[] getPackageNamesFromApps(@NonNull List<App> apps) {
-        HashSet<String> packages = new HashSet<>(apps.size());
-        for (App app : apps) {
-            packages.add(app.packageName);
+    private interface PackageBatchCallback {
+        void onBatchLoaded(@NonNull List<PackageInfo> packageInfoList, @NonNull List<App> apps);
+    }
+
+    /**
+     * Load the given packages of a user, and create their apps, in parallel. The results are passed to the callback in
+     * the calling thread in batches of {@link #LOAD_BATCH_SIZE} packages. Packages that are not found are skipped.
+     */
+    @WorkerThread
+    private static void loadPackages(@NonNull Context context, @NonNull Collection<String> packageNames,
+                                     @UserIdInt int userHandle, @NonNull PackageBatchCallback callback) {
+        if (packageNames.isEmpty()) return;
+        MultithreadedExecutor executor = MultithreadedExecutor.getNewInstance();
+        try {
+            List<Future<Pair<PackageInfo, App>>> futures = new ArrayList<>(packageNames.size());
+            for (String packageName : packageNames) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        PackageInfo packageInfo = PackageManagerCompat.getPackageInfo(packageName, FLAGS_APP_LIST,
+                                userHandle);
+                        return new Pair<>(packageInfo, App.fromPackageInfo(context, packageInfo));
+                    } catch (PackageManager.NameNotFoundException ignore) {
+                        // Uninstalled
+                    } catch (Exception e) {
+                        Log.e("PackageUtils", "Could not retrieve package info for " + packageName, e);
+                    }
+                    return null;
+                }));
+            }
+            List<PackageInfo> packageInfoList = new ArrayList<>(LOAD_BATCH_SIZE);
+            List<App> apps = new ArrayList<>(LOAD_BATCH_SIZE);
+            for (Future<Pair<PackageInfo, App>> future : futures) {
+                Pair<PackageInfo, App> result;
+                try {
+                    result = future.get();
+                } catch (ExecutionException | InterruptedException e) {
+                    Log.e("PackageUtils", "Could not load a package for user " + userHandle, e);
+                    continue;
+                }
+                if (result == null) continue;
+                packageInfoList.add(result.first);
+                apps.add(result.second);
+                if (apps.size() == LOAD_BATCH_SIZE) {
+                    callback.onBatchLoaded(packageInfoList, apps);
+                    packageInfoList = new ArrayList<>(LOAD_BATCH_SIZE);
+                    apps = new ArrayList<>(LOAD_BATCH_SIZE);
+                }
+            }
+            if (!apps.isEmpty()) callback.onBatchLoaded(packageInfoList, apps);
+        } finally {
+            executor.shutdown();
         }
-        return packages.toArray(new String[0]);
+    }
+
+    private static int getRulesCount(@NonNull Map<Integer, Map<String, Integer>> rulesCounts, @NonNull App app) {
+        Map<String, Integer> counts = rulesCounts.get(app.userId);
+        if (counts == null) return 0;
+        Integer count = counts.get(app.packageName);
+        return count != null ? count : 0;
     }
 
     @Nullable
@@ -390,12 +499,7 @@ public final class PackageUtils {
     @NonNull
     public static HashMap<String, RulesStorageManager.Type> collectComponentClassNames(String packageName, @UserIdInt int userHandle) {
         try {
-            PackageInfo packageInfo = PackageManagerCompat.getPackageInfo(packageName,
-                    PackageManager.GET_ACTIVITIES | PackageManager.GET_RECEIVERS
-                            | PackageManager.GET_PROVIDERS | flagDisabledComponents
-                            | PackageManager.GET_URI_PERMISSION_PATTERNS
-                            | PackageManager.GET_SERVICES, userHandle);
-            return collectComponentClassNames(packageInfo);
+            return PackageAnalysisCache.getComponents(PackageAnalysisCache.get(packageName, userHandle));
         } catch (Throwable e) {
             e.printStackTrace();
         }
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Compress a stream using multiple threads, similar to pigz. The stream is split into fixed size blocks which are
+ * compressed independently and written in order. The output is a concatenation of independent compressed streams,
+ * i.e. it can be decompressed by any decompressor that supports concatenated streams, such as
+ * {@link org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream} and
+ * {@link org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream}.
+ */
+public class ParallelCompressorOutputStream extends OutputStream {
+    public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+    public interface CompressorFactory {
+        @NonNull
+        OutputStream getCompressor(@NonNull OutputStream out) throws IOException;
+    }
+
+    @NonNull
+    private final OutputStream out;
+    @NonNull
+    private final CompressorFactory compressorFactory;
+    @NonNull
+    private final ExecutorService executor;
+    private final Queue<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+    private final int maxPendingBlocks;
+    private final byte[] block;
+    private int blockLength = 0;
+    private boolean closed = false;
+
+    /**
+     * @param out               Stream where the compressed blocks are written
+     * @param compressorFactory Creates a compressor for each block
+     * @param blockSize         Size of each uncompressed block
+     * @param threadCount       Number of threads to use for compression
+     */
+    public ParallelCompressorOutputStream(@NonNull OutputStream out, @NonNull CompressorFactory compressorFactory,
+                                          int blockSize, int threadCount) {
+        if (blockSize <= 0) throw new IllegalArgumentException("Invalid block size " + blockSize);
+        if (threadCount <= 0) throw new IllegalArgumentException("Invalid thread count " + threadCount);
+        this.out = out;
+        this.compressorFactory = compressorFactory;
+        this.executor = Executors.newFixedThreadPool(threadCount);
+        // Limit the number of blocks in memory
+        this.maxPendingBlocks = threadCount * 2;
+        this.block = new byte[blockSize];
+    }
+
+    @WorkerThread
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        block[blockLength++] = (byte) b;
+        if (blockLength == block.length) submitBlock();
+    }
+
+    @WorkerThread
+    @Override
+    public void write(@NonNull byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if (off < 0 || len < 0 || off + len > b.length) throw new IndexOutOfBoundsException();
+        while (len > 0) {
+            int size = Math.min(len, block.length - blockLength);
+            System.arraycopy(b, off, block, blockLength, size);
+            blockLength += size;
+            off += size;
+            len -= size;
+            if (blockLength == block.length) submitBlock();
+        }
+    }
+
+    /**
+     * Write all the blocks that have been compressed so far. This does not compress the current incomplete block
+     * since doing so would reduce the compression ratio.
+     */
+    @WorkerThread
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        while (!pendingBlocks.isEmpty() && pendingBlocks.peek().isDone()) {
+            writeNextBlock();
+        }
+        out.flush();
+    }
+
+    @WorkerThread
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        // The wrapped stream is closed even if a block could not be compressed or written
+        try (OutputStream ignored = out) {
+            if (blockLength > 0 || pendingBlocks.isEmpty()) {
+                // An empty stream must still produce a valid compressed stream
+                submitBlock();
+            }
+            while (!pendingBlocks.isEmpty()) {
+                writeNextBlock();
+            }
+        } finally {
+            closed = true;
+            executor.shutdownNow();
+        }
+    }
+
+    @WorkerThread
+    private void submitBlock() throws IOException {
+        final byte[] data = Arrays.copyOf(block, blockLength);
+        blockLength = 0;
+        pendingBlocks.add(executor.submit(() -> {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(data.length / 2);
+            try (OutputStream compressor = compressorFactory.getCompressor(bos)) {
+                compressor.write(data);
+            }
+            return bos.toByteArray();
+        }));
+        while (pendingBlocks.size() >= maxPendingBlocks) {
+            writeNextBlock();
+        }
+    }
+
+    @WorkerThread
+    private void writeNextBlock() throws IOException {
+        Future<byte[]> future = pendingBlocks.remove();
+        try {
+            out.write(future.get());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            throw new IOException(cause);
+        } catch (InterruptedException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) throw new IOException("Stream closed");
+    }
+}
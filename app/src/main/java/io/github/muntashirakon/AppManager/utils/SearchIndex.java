@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.utils;
+
+import android.content.Context;
+import android.content.pm.ComponentInfo;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.github.muntashirakon.AppManager.AppManager;
+import io.github.muntashirakon.AppManager.StaticDataset;
+import io.github.muntashirakon.AppManager.db.dao.SearchEntryDao;
+import io.github.muntashirakon.AppManager.db.entity.SearchEntry;
+
+/**
+ * Full-text index of the package names, labels, components, requested permissions and trackers of the installed
+ * packages. It is updated along with the app list, so that all the packages can be searched without loading them.
+ */
+@WorkerThread
+public final class SearchIndex {
+    /**
+     * Flags required by {@link #update(Context, Collection)}
+     */
+    public static final int FLAGS = PackageManager.GET_ACTIVITIES | PackageManager.GET_RECEIVERS
+            | PackageManager.GET_PROVIDERS | PackageManager.GET_SERVICES | PackageManager.GET_PERMISSIONS;
+
+    /**
+     * SQLite limits the number of variables in a query
+     */
+    private static final int MAX_QUERY_PACKAGES = 500;
+
+    public static boolean isEmpty() {
+        return getDao().findAny() == null;
+    }
+
+    /**
+     * Index the packages again. A package installed in more than one user is only indexed once.
+     */
+    public static void update(@NonNull Context context, @NonNull Collection<PackageInfo> packageInfoList) {
+        List<String> packageNames = new ArrayList<>();
+        List<SearchEntry> entries = new ArrayList<>();
+        Set<String> indexedPackages = new LinkedHashSet<>();
+        for (PackageInfo packageInfo : packageInfoList) {
+            if (!indexedPackages.add(packageInfo.packageName)) continue;
+            packageNames.add(packageInfo.packageName);
+            addEntries(context, packageInfo, entries);
+            if (packageNames.size() == MAX_QUERY_PACKAGES) {
+                getDao().replace(packageNames, entries);
+                packageNames.clear();
+                entries.clear();
+            }
+        }
+        if (!packageNames.isEmpty()) getDao().replace(packageNames, entries);
+    }
+
+    /**
+     * Remove the packages that are no longer installed in any user
+     */
+    public static void remove(@NonNull Collection<String> packageNames) {
+        List<String> packageNameList = new ArrayList<>(packageNames);
+        for (int i = 0; i < packageNameList.size(); i += MAX_QUERY_PACKAGES) {
+            getDao().delete(packageNameList.subList(i, Math.min(i + MAX_QUERY_PACKAGES, packageNameList.size())));
+        }
+    }
+
+    /**
+     * Find the packages matching the query, e.g. {@code firebase.messaging} matches the packages having a component
+     * whose name contains {@code firebase.messaging} followed by any letters.
+     */
+    @NonNull
+    public static List<String> searchPackages(@NonNull String query) {
+        String ftsQuery = toFtsQuery(query);
+        if (ftsQuery == null) return Collections.emptyList();
+        return getDao().searchPackages(ftsQuery);
+    }
+
+    /**
+     * Convert a query to a phrase query, i.e. the words have to appear in the same order without anything between
+     * them, and the last word can be incomplete. Separators such as dots are not indexed, so they are ignored.
+     *
+     * @return The FTS query, or {@code null} if there's nothing to search
+     */
+    @VisibleForTesting
+    @Nullable
+    static String toFtsQuery(@NonNull String query) {
+        StringBuilder sb = new StringBuilder();
+        int start = -1;
+        for (int i = 0; i <= query.length(); ++i) {
+            boolean isTokenChar = i < query.length() && Character.isLetterOrDigit(query.charAt(i));
+            if (isTokenChar) {
+                if (start == -1) start = i;
+            } else if (start != -1) {
+                if (sb.length() > 0) sb.append(' ');
+                sb.append(query, start, i);
+                start = -1;
+            }
+        }
+        if (sb.length() == 0) return null;
+        return "\"" + sb + "*\"";
+    }
+
+    private static void addEntries(@NonNull Context context, @NonNull PackageInfo packageInfo,
+                                   @NonNull List<SearchEntry> entries) {
+        String packageName = packageInfo.packageName;
+        entries.add(new SearchEntry(packageName, SearchEntry.TYPE_PACKAGE_NAME, packageName));
+        if (packageInfo.applicationInfo != null) {
+            String label = packageInfo.applicationInfo.loadLabel(context.getPackageManager()).toString();
+            entries.add(new SearchEntry(packageName, SearchEntry.TYPE_LABEL, label));
+        }
+        Set<String> trackers = new LinkedHashSet<>();
+        addComponents(packageName, packageInfo.activities, entries, trackers);
+        addComponents(packageName, packageInfo.services, entries, trackers);
+        addComponents(packageName, packageInfo.receivers, entries, trackers);
+        addComponents(packageName, packageInfo.providers, entries, trackers);
+        for (String tracker : trackers) {
+            entries.add(new SearchEntry(packageName, SearchEntry.TYPE_TRACKER, tracker));
+        }
+        if (packageInfo.requestedPermissions != null) {
+            for (String permission : packageInfo.requestedPermissions) {
+                entries.add(new SearchEntry(packageName, SearchEntry.TYPE_PERMISSION, permission));
+            }
+        }
+    }
+
+    private static void addComponents(@NonNull String packageName, @Nullable ComponentInfo[] components,
+                                      @NonNull List<SearchEntry> entries, @NonNull Set<String> trackers) {
+        if (components == null) return;
+        SignatureMatcher trackerMatcher = StaticDataset.getTrackerMatcher();
+        String[] trackerNames = StaticDataset.getTrackerNames();
+        for (ComponentInfo componentInfo : components) {
+            entries.add(new SearchEntry(packageName, SearchEntry.TYPE_COMPONENT, componentInfo.name));
+            for (int i : trackerMatcher.findAll(componentInfo.name)) {
+                if (i < trackerNames.length) trackers.add(trackerNames[i]);
+            }
+        }
+    }
+
+    @NonNull
+    private static SearchEntryDao getDao() {
+        return AppManager.getDb().searchEntryDao();
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.utils;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Find the signatures (e.g. of trackers or libraries) contained in a class name using an Aho-Corasick automaton. A
+ * name is scanned once regardless of the number of signatures, instead of once for each signature.
+ */
+public final class SignatureMatcher {
+    private static final int ROOT = 0;
+
+    // The trie is stored in arrays. The children of a state are sorted by their characters, and they are stored in
+    // childChars and childStates from firstChild[state] to firstChild[state + 1].
+    private final int[] firstChild;
+    private final char[] childChars;
+    private final int[] childStates;
+    // The state for the longest proper suffix of the current state which is also in the trie
+    private final int[] failure;
+    // The indexes of the signatures ending at a state, i.e. more than one if a signature is repeated, are stored in
+    // ownMatches from firstOwnMatch[state] to firstOwnMatch[state + 1] in ascending order.
+    private final int[] firstOwnMatch;
+    private final int[] ownMatches;
+    // The lowest index of the signatures ending at a state or at its failure states, -1 if there's none
+    private final int[] firstMatch;
+    private final int signatureCount;
+
+    public SignatureMatcher(@NonNull String[] signatures) {
+        signatureCount = signatures.length;
+        // Build the trie using maps first
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<List<Integer>> matches = new ArrayList<>();
+        children.add(new TreeMap<>());
+        matches.add(null);
+        for (int i = 0; i < signatures.length; ++i) {
+            String signature = signatures[i];
+            if (signature.isEmpty()) continue;
+            int state = ROOT;
+            for (int j = 0; j < signature.length(); ++j) {
+                char c = signature.charAt(j);
+                Integer next = children.get(state).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    matches.add(null);
+                    children.get(state).put(c, next);
+                }
+                state = next;
+            }
+            if (matches.get(state) == null) matches.set(state, new ArrayList<>(1));
+            matches.get(state).add(i);
+        }
+        // Flatten the trie
+        int stateCount = children.size();
+        firstChild = new int[stateCount + 1];
+        childChars = new char[stateCount - 1];
+        childStates = new int[stateCount - 1];
+        int edge = 0;
+        for (int state = 0; state < stateCount; ++state) {
+            firstChild[state] = edge;
+            for (Map.Entry<Character, Integer> entry : children.get(state).entrySet()) {
+                childChars[edge] = entry.getKey();
+                childStates[edge] = entry.getValue();
+                ++edge;
+            }
+        }
+        firstChild[stateCount] = edge;
+        firstOwnMatch = new int[stateCount + 1];
+        int matchCount = 0;
+        for (int state = 0; state < stateCount; ++state) {
+            firstOwnMatch[state] = matchCount;
+            if (matches.get(state) != null) matchCount += matches.get(state).size();
+        }
+        firstOwnMatch[stateCount] = matchCount;
+        ownMatches = new int[matchCount];
+        for (int state = 0; state < stateCount; ++state) {
+            if (matches.get(state) == null) continue;
+            for (int i = 0; i < matches.get(state).size(); ++i) {
+                ownMatches[firstOwnMatch[state] + i] = matches.get(state).get(i);
+            }
+        }
+        // Set the failure states in breadth-first order, so that the failure state of a state is always set before
+        // the state itself
+        failure = new int[stateCount];
+        firstMatch = new int[stateCount];
+        for (int state = 0; state < stateCount; ++state) {
+            boolean hasMatch = firstOwnMatch[state] != firstOwnMatch[state + 1];
+            firstMatch[state] = hasMatch ? ownMatches[firstOwnMatch[state]] : -1;
+        }
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int i = firstChild[ROOT]; i < firstChild[ROOT + 1]; ++i) {
+            failure[childStates[i]] = ROOT;
+            queue.add(childStates[i]);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = firstChild[state]; i < firstChild[state + 1]; ++i) {
+                int child = childStates[i];
+                failure[child] = next(failure[state], childChars[i]);
+                int inherited = firstMatch[failure[child]];
+                if (inherited != -1 && (firstMatch[child] == -1 || inherited < firstMatch[child])) {
+                    firstMatch[child] = inherited;
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    public int getSignatureCount() {
+        return signatureCount;
+    }
+
+    /**
+     * Whether the name contains any of the signatures
+     */
+    public boolean matches(@NonNull CharSequence name) {
+        int state = ROOT;
+        for (int i = 0; i < name.length(); ++i) {
+            state = next(state, name.charAt(i));
+            if (firstMatch[state] != -1) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Find the first signature contained in the name, i.e. the one with the lowest index
+     *
+     * @return Index of the signature, or -1 if the name contains none of them
+     */
+    public int findFirst(@NonNull CharSequence name) {
+        int match = -1;
+        int state = ROOT;
+        for (int i = 0; i < name.length(); ++i) {
+            state = next(state, name.charAt(i));
+            int index = firstMatch[state];
+            if (index != -1 && (match == -1 || index < match)) {
+                match = index;
+                if (match == 0) break;
+            }
+        }
+        return match;
+    }
+
+    /**
+     * Find all the signatures contained in the name. A signature that is repeated in the list of signatures is found
+     * at each of its indexes.
+     *
+     * @return Indexes of the signatures in ascending order without duplicates
+     */
+    @NonNull
+    public int[] findAll(@NonNull CharSequence name) {
+        BitSet found = new BitSet(signatureCount);
+        int state = ROOT;
+        for (int i = 0; i < name.length(); ++i) {
+            state = next(state, name.charAt(i));
+            // The signatures ending here are found by following the failure states
+            for (int s = state; firstMatch[s] != -1; s = failure[s]) {
+                for (int j = firstOwnMatch[s]; j < firstOwnMatch[s + 1]; ++j) {
+                    found.set(ownMatches[j]);
+                }
+            }
+        }
+        int[] indexes = new int[found.cardinality()];
+        for (int i = 0, index = found.nextSetBit(0); index != -1; ++i, index = found.nextSetBit(index + 1)) {
+            indexes[i] = index;
+        }
+        return indexes;
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            int child = findChild(state, c);
+            if (child != -1) return child;
+            if (state == ROOT) return ROOT;
+            state = failure[state];
+        }
+    }
+
+    private int findChild(int state, char c) {
+        int low = firstChild[state];
+        int high = firstChild[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = childChars[mid];
+            if (midChar < c) low = mid + 1;
+            else if (midChar > c) high = mid - 1;
+            else return childStates[mid];
+        }
+        return -1;
+    }
+}
@@ -35,6 +35,17 @@ import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipParameters;
+import org.apache.commons.compress.utils.CountingOutputStream;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+import net.jpountz.xxhash.XXHashFactory;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
@@ -46,9 +57,11 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import io.github.muntashirakon.AppManager.runner.Runner;
 import io.github.muntashirakon.io.FileStatus;
 import io.github.muntashirakon.io.ProxyFile;
 import io.github.muntashirakon.io.ProxyFiles;
@@ -62,7 +75,11 @@ public final class TarUtils {
 
     @StringDef(value = {
             TAR_GZIP,
-            TAR_BZIP2
+            TAR_BZIP2,
+            TAR_PGZIP,
+            TAR_PBZIP2,
+            TAR_ZSTD,
+            TAR_LZ4,
     })
     @Retention(RetentionPolicy.SOURCE)
     public @interface TarType {
@@ -70,6 +87,40 @@ public final class TarUtils {
 
     public static final String TAR_GZIP = "z";
     public static final String TAR_BZIP2 = "j";
+    /**
+     * GZip compressed using multiple threads (like pigz). The archive consists of independently compressed GZip
+     * members of {@link ParallelCompressorOutputStream#DEFAULT_BLOCK_SIZE} each.
+     */
+    public static final String TAR_PGZIP = "pz";
+    /**
+     * BZip2 compressed using multiple threads (like pbzip2). The archive consists of independently compressed BZip2
+     * streams of {@link ParallelCompressorOutputStream#DEFAULT_BLOCK_SIZE} each.
+     */
+    public static final String TAR_PBZIP2 = "pj";
+    /**
+     * Zstandard compressed using all the available cores
+     */
+    public static final String TAR_ZSTD = "zstd";
+    /**
+     * LZ4 frame format, fast but with a lower compression ratio, suitable for snapshot backups
+     */
+    public static final String TAR_LZ4 = "lz4";
+
+    /**
+     * Use the default compression level of the compression method
+     */
+    public static final int DEFAULT_COMPRESSION_LEVEL = 0;
+
+    public interface OnChecksumListener {
+        /**
+         * Called after a regular file is added to the archive.
+         *
+         * @param file     The file added to the archive
+         * @param checksum Checksum of the contents of the file
+         */
+        @WorkerThread
+        void onChecksum(@NonNull File file, @NonNull String checksum);
+    }
 
     /**
      * Create a tar file using the given compression method and split it into multiple files based
@@ -90,46 +141,118 @@ public final class TarUtils {
                                     @Nullable String[] filters, @Nullable Long splitSize, @Nullable String[] exclude,
                                     boolean followLinks)
             throws IOException, RemoteException, ErrnoException {
-        try (SplitOutputStream sos = new SplitOutputStream(dest, splitSize == null ? DEFAULT_SPLIT_SIZE : splitSize);
-             BufferedOutputStream bos = new BufferedOutputStream(sos)) {
-            OutputStream os;
-            if (TAR_GZIP.equals(type)) {
-                os = new GzipCompressorOutputStream(bos);
-            } else if (TAR_BZIP2.equals(type)) {
-                os = new BZip2CompressorOutputStream(bos);
-            } else {
-                throw new IllegalArgumentException("Invalid compression type: " + type);
+        try (SplitOutputStream sos = new SplitOutputStream(dest, splitSize == null ? DEFAULT_SPLIT_SIZE : splitSize)) {
+            create(type, DEFAULT_COMPRESSION_LEVEL, source, sos, filters, exclude, followLinks);
+            return sos.getFiles();
+        }
+    }
+
+    /**
+     * Create a tar file using the given compression method and write it to the given stream. The stream is closed
+     * after the archive is written.
+     *
+     * @param type         Compression type
+     * @param level        Compression level, {@link #DEFAULT_COMPRESSION_LEVEL} to use the default level. The level
+     *                     is clamped to the range supported by the compression type.
+     * @param source       Source directory
+     * @param outputStream Stream where the compressed archive is written
+     * @param filters      A list of mutually exclusive regex filters
+     * @param exclude      A list of mutually exclusive regex patterns to be excluded
+     * @param followLinks  Whether to follow the links
+     * @return Size of the uncompressed archive
+     */
+    @WorkerThread
+    public static long create(@NonNull @TarType String type, int level, @NonNull File source,
+                              @NonNull OutputStream outputStream, @Nullable String[] filters,
+                              @Nullable String[] exclude, boolean followLinks)
+            throws IOException, RemoteException, ErrnoException {
+        return create(type, level, source, gatherFiles(source, filters, exclude, followLinks), outputStream,
+                followLinks, null, null);
+    }
+
+    /**
+     * Create a tar file containing only the given files using the given compression method and write it to the given
+     * stream. The stream is closed after the archive is written.
+     *
+     * @param type         Compression type
+     * @param level        Compression level, {@link #DEFAULT_COMPRESSION_LEVEL} to use the default level
+     * @param source       Source directory, the files are stored relative to this directory
+     * @param files        Files to be added, usually a subset of {@link #gatherFiles(File, String[], String[], boolean)}
+     * @param outputStream Stream where the compressed archive is written
+     * @param followLinks  Whether to follow the links
+     * @param checksumAlgo Algorithm used to calculate the checksum of each regular file while it is being archived, or
+     *                     {@code null} if no checksum is needed
+     * @param listener     Receives the checksum of each regular file, required if {@code checksumAlgo} is not null
+     * @return Size of the uncompressed archive
+     */
+    @WorkerThread
+    public static long create(@NonNull @TarType String type, int level, @NonNull File source,
+                              @NonNull List<File> files, @NonNull OutputStream outputStream, boolean followLinks,
+                              @Nullable @DigestUtils.Algorithm String checksumAlgo,
+                              @Nullable OnChecksumListener listener)
+            throws IOException, RemoteException, ErrnoException {
+        try (BufferedOutputStream bos = new BufferedOutputStream(outputStream)) {
+            OutputStream os = getCompressorOutputStream(type, level, bos);
+            try {
+                return createTar(source, files, os, followLinks, checksumAlgo, listener);
+            } finally {
+                os.close();
             }
-            try (TarArchiveOutputStream tos = new TarArchiveOutputStream(os)) {
-                tos.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
-                tos.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
-                List<File> files = new ArrayList<>();
-                gatherFiles(files, source, source, filters, exclude, followLinks);
-                for (File file : files) {
-                    // For links, check if followLinks is enabled
-                    if (!followLinks && isSymbolicLink(file)) {
-                        // Add the link as is
-                        TarArchiveEntry tarEntry = new TarArchiveEntry(getRelativePath(file, source),
-                                TarConstants.LF_SYMLINK);
-                        tarEntry.setLinkName(file.getCanonicalFile().getAbsolutePath());
-                        tos.putArchiveEntry(tarEntry);
-                    } else {
-                        TarArchiveEntry tarEntry = new TarArchiveEntry(file, getRelativePath(file, source));
-                        tos.putArchiveEntry(tarEntry);
-                        if (!file.isDirectory()) {
-                            try (InputStream is = new ProxyInputStream(file)) {
+        }
+    }
+
+    /**
+     * Same as {@link #create(String, int, File, List, OutputStream, boolean, String, OnChecksumListener)} except that
+     * the archive is not compressed. This is useful when the archive is further processed (e.g. chunked) before
+     * compression.
+     */
+    @WorkerThread
+    public static long createUncompressed(@NonNull File source, @NonNull List<File> files,
+                                          @NonNull OutputStream outputStream, boolean followLinks,
+                                          @Nullable @DigestUtils.Algorithm String checksumAlgo,
+                                          @Nullable OnChecksumListener listener)
+            throws IOException, RemoteException, ErrnoException {
+        try (BufferedOutputStream bos = new BufferedOutputStream(outputStream)) {
+            return createTar(source, files, bos, followLinks, checksumAlgo, listener);
+        }
+    }
+
+    private static long createTar(@NonNull File source, @NonNull List<File> files, @NonNull OutputStream os,
+                                  boolean followLinks, @Nullable @DigestUtils.Algorithm String checksumAlgo,
+                                  @Nullable OnChecksumListener listener)
+            throws IOException, RemoteException, ErrnoException {
+        CountingOutputStream cos = new CountingOutputStream(os);
+        try (TarArchiveOutputStream tos = new TarArchiveOutputStream(cos)) {
+            tos.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            tos.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+            for (File file : files) {
+                // For links, check if followLinks is enabled
+                if (!followLinks && isSymbolicLink(file)) {
+                    // Add the link as is
+                    TarArchiveEntry tarEntry = new TarArchiveEntry(getRelativePath(file, source),
+                            TarConstants.LF_SYMLINK);
+                    tarEntry.setLinkName(file.getCanonicalFile().getAbsolutePath());
+                    tos.putArchiveEntry(tarEntry);
+                } else {
+                    TarArchiveEntry tarEntry = new TarArchiveEntry(file, getRelativePath(file, source));
+                    tos.putArchiveEntry(tarEntry);
+                    if (!file.isDirectory()) {
+                        try (InputStream is = new ProxyInputStream(file)) {
+                            if (checksumAlgo != null && listener != null) {
+                                ChecksumInputStream cis = new ChecksumInputStream(is, checksumAlgo);
+                                IOUtils.copy(cis, tos);
+                                listener.onChecksum(file, cis.getChecksum());
+                            } else {
                                 IOUtils.copy(is, tos);
                             }
                         }
                     }
-                    tos.closeArchiveEntry();
                 }
-                tos.finish();
-            } finally {
-                os.close();
+                tos.closeArchiveEntry();
             }
-            return sos.getFiles();
+            tos.finish();
         }
+        return cos.getBytesWritten();
     }
 
     /**
@@ -146,76 +269,230 @@ public final class TarUtils {
     public static void extract(@NonNull @TarType String type, @NonNull File[] sources, @NonNull File dest,
                                @Nullable String[] filters, @Nullable String[] exclude)
             throws IOException, RemoteException {
-        try (SplitInputStream sis = new SplitInputStream(sources);
-             BufferedInputStream bis = new BufferedInputStream(sis)) {
-            InputStream is;
-            if (TAR_GZIP.equals(type)) {
-                is = new GzipCompressorInputStream(bis, true);
-            } else if (TAR_BZIP2.equals(type)) {
-                is = new BZip2CompressorInputStream(bis, true);
-            } else {
-                throw new IllegalArgumentException("Invalid compression type: " + type);
+        try (SplitInputStream sis = new SplitInputStream(sources)) {
+            extract(type, sis, dest, filters, exclude);
+        }
+    }
+
+    /**
+     * Extract a tar file compressed using the given compression method. The input stream is read completely, even if
+     * it contains trailing data after the end of the archive, and it is closed afterwards.
+     *
+     * @param type        Compression type
+     * @param inputStream Stream from which the compressed archive is read
+     * @param dest        Destination directory
+     * @param filters     A list of mutually exclusive regex filters
+     * @param exclude     A list of mutually exclusive regex patterns to be excluded
+     */
+    @WorkerThread
+    public static void extract(@NonNull @TarType String type, @NonNull InputStream inputStream, @NonNull File dest,
+                               @Nullable String[] filters, @Nullable String[] exclude)
+            throws IOException, RemoteException {
+        try (BufferedInputStream bis = new BufferedInputStream(inputStream)) {
+            InputStream is = getCompressorInputStream(type, bis);
+            try {
+                extractTar(is, bis, dest, filters, exclude);
+            } finally {
+                is.close();
             }
-            try (TarArchiveInputStream tis = new TarArchiveInputStream(is)) {
-                String realDestPath = dest.getCanonicalFile().toURI().getPath();
-                TarArchiveEntry entry;
-                while ((entry = tis.getNextEntry()) != null) {
-                    File file = new ProxyFile(dest, entry.getName());
-                    if (!entry.isDirectory() && (!isUnderFilter(file, dest, filters)
-                            || willExclude(file, dest, exclude))) {
-                        // Unlike create, there's no efficient way to detect if a directory contains any filters.
-                        // Therefore, directory can't be filtered during extraction
-                        continue;
+        }
+    }
+
+    /**
+     * Same as {@link #extract(String, InputStream, File, String[], String[])} except that the archive is not
+     * compressed.
+     */
+    @WorkerThread
+    public static void extractUncompressed(@NonNull InputStream inputStream, @NonNull File dest,
+                                           @Nullable String[] filters, @Nullable String[] exclude)
+            throws IOException {
+        try (BufferedInputStream bis = new BufferedInputStream(inputStream)) {
+            extractTar(bis, bis, dest, filters, exclude);
+        }
+    }
+
+    /**
+     * @param is        Stream from which the uncompressed archive is read
+     * @param rawStream Stream that is drained after the archive is read so that it can verify itself
+     */
+    private static void extractTar(@NonNull InputStream is, @NonNull InputStream rawStream, @NonNull File dest,
+                                   @Nullable String[] filters, @Nullable String[] exclude) throws IOException {
+        try (TarArchiveInputStream tis = new TarArchiveInputStream(is)) {
+            String realDestPath = dest.getCanonicalFile().toURI().getPath();
+            TarArchiveEntry entry;
+            while ((entry = tis.getNextEntry()) != null) {
+                File file = new ProxyFile(dest, entry.getName());
+                if (!entry.isDirectory() && (!isUnderFilter(file, dest, filters)
+                        || willExclude(file, dest, exclude))) {
+                    // Unlike create, there's no efficient way to detect if a directory contains any filters.
+                    // Therefore, directory can't be filtered during extraction
+                    continue;
+                }
+                // Check if the given entry is a link. If it's a link, check if the linked file actually exist
+                // before creating the link
+                if (entry.isSymbolicLink()) {
+                    String linkName = entry.getLinkName();
+                    // There's no need to check if the linkName exists as it may be extracted
+                    // after the link has been created
+                    try {
+                        ProxyFiles.symlink(linkName, file);
+                    } catch (IOException e) {
+                        throw new IOException("Couldn't create symbolic link " + file + " pointing to "
+                                + linkName, e);
                     }
-                    // Check if the given entry is a link. If it's a link, check if the linked file actually exist
-                    // before creating the link
-                    if (entry.isSymbolicLink()) {
-                        String linkName = entry.getLinkName();
-                        // There's no need to check if the linkName exists as it may be extracted
-                        // after the link has been created
-                        if (!Runner.runCommand(new String[]{"ln", "-s", linkName, file.getAbsolutePath()})
-                                .isSuccessful()) {
-                            throw new IOException("Couldn't create symbolic link " + file + " pointing to "
-                                    + linkName);
-                        }
-                        continue;  // links do not need permission fixes
+                    continue;  // links do not need permission fixes
+                } else {
+                    // Zip slip vulnerability check
+                    if (!file.getCanonicalFile().toURI().getPath().startsWith(realDestPath)) {
+                        throw new IOException("Zip slip vulnerability detected!" +
+                                "\nExpected dest: " + new File(realDestPath, entry.getName()) +
+                                "\nActual path: " + file.getCanonicalFile().toURI().getPath());
+                    }
+                    if (entry.isDirectory()) {
+                        file.mkdir();
                     } else {
-                        // Zip slip vulnerability check
-                        if (!file.getCanonicalFile().toURI().getPath().startsWith(realDestPath)) {
-                            throw new IOException("Zip slip vulnerability detected!" +
-                                    "\nExpected dest: " + new File(realDestPath, entry.getName()) +
-                                    "\nActual path: " + file.getCanonicalFile().toURI().getPath());
-                        }
-                        if (entry.isDirectory()) {
-                            file.mkdir();
-                        } else {
-                            try (OutputStream os = new ProxyOutputStream(file)) {
-                                IOUtils.copy(tis, os);
-                            }
+                        try (OutputStream os = new ProxyOutputStream(file)) {
+                            IOUtils.copy(tis, os);
                         }
                     }
-                    // Fix permissions
-                    try {
-                        ProxyFiles.setPermissions(file, entry.getMode(), entry.getUserId(), entry.getGroupId());
-                    } catch (RuntimeException e) {
-                        if (e.getMessage() == null || !e.getMessage().contains("mocked")) {
-                            throw e;
-                        }
+                }
+                // Fix permissions
+                try {
+                    ProxyFiles.setPermissions(file, entry.getMode(), entry.getUserId(), entry.getGroupId());
+                } catch (RuntimeException e) {
+                    if (e.getMessage() == null || !e.getMessage().contains("mocked")) {
+                        throw e;
                     }
                 }
-                // Delete unwanted files
-                validateFiles(dest, dest, filters, exclude);
-            } catch (ErrnoException | RemoteException e) {
-                throw new IOException(e);
-            } finally {
-                is.close();
             }
+            // Read the rest of the stream (e.g. padding) so that the underlying stream can verify it
+            byte[] buffer = new byte[IOUtils.DEFAULT_BUFFER_SIZE];
+            //noinspection StatementWithEmptyBody
+            while (rawStream.read(buffer) != -1) {
+            }
+            // Delete unwanted files
+            validateFiles(dest, dest, filters, exclude);
+        } catch (ErrnoException | RemoteException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Wrap the given stream with the compressor of the given type. Closing the returned stream finishes the
+     * compression and closes the underlying stream.
+     */
+    @NonNull
+    public static OutputStream getCompressorOutputStream(@NonNull @TarType String type, int level,
+                                                         @NonNull OutputStream os) throws IOException {
+        switch (type) {
+            case TAR_GZIP:
+                return getGzipOutputStream(os, level);
+            case TAR_BZIP2:
+                return getBZip2OutputStream(os, level);
+            case TAR_PGZIP:
+                return new ParallelCompressorOutputStream(os, out -> getGzipOutputStream(out, level),
+                        ParallelCompressorOutputStream.DEFAULT_BLOCK_SIZE, Utils.getTotalCores());
+            case TAR_PBZIP2:
+                return new ParallelCompressorOutputStream(os, out -> getBZip2OutputStream(out, level),
+                        ParallelCompressorOutputStream.DEFAULT_BLOCK_SIZE, Utils.getTotalCores());
+            case TAR_ZSTD: {
+                ZstdOutputStream zos = new ZstdOutputStream(os);
+                if (level != DEFAULT_COMPRESSION_LEVEL) {
+                    zos.setLevel(clamp(level, 1, 19));
+                }
+                zos.setWorkers(Utils.getTotalCores());
+                return zos;
+            }
+            case TAR_LZ4: {
+                LZ4Compressor compressor;
+                if (level == DEFAULT_COMPRESSION_LEVEL || level == 1) {
+                    compressor = LZ4Factory.fastestInstance().fastCompressor();
+                } else {
+                    // Levels above 1 use LZ4 HC
+                    compressor = LZ4Factory.fastestInstance().highCompressor(clamp(level, 2, 17));
+                }
+                return new LZ4FrameOutputStream(os, LZ4FrameOutputStream.BLOCKSIZE.SIZE_4MB, -1L, compressor,
+                        XXHashFactory.fastestInstance().hash32(), LZ4FrameOutputStream.FLG.Bits.BLOCK_INDEPENDENCE);
+            }
+            default:
+                throw new IllegalArgumentException("Invalid compression type: " + type);
+        }
+    }
+
+    @NonNull
+    private static OutputStream getGzipOutputStream(@NonNull OutputStream os, int level) throws IOException {
+        if (level == DEFAULT_COMPRESSION_LEVEL) {
+            return new GzipCompressorOutputStream(os);
+        }
+        GzipParameters parameters = new GzipParameters();
+        parameters.setCompressionLevel(clamp(level, 1, 9));
+        return new GzipCompressorOutputStream(os, parameters);
+    }
+
+    @NonNull
+    private static OutputStream getBZip2OutputStream(@NonNull OutputStream os, int level) throws IOException {
+        if (level == DEFAULT_COMPRESSION_LEVEL) {
+            return new BZip2CompressorOutputStream(os);
+        }
+        // The block size (in 100k units) is the compression level for BZip2
+        return new BZip2CompressorOutputStream(os, clamp(level, 1, 9));
+    }
+
+    /**
+     * Wrap the given stream with the decompressor of the given type
+     */
+    @NonNull
+    public static InputStream getCompressorInputStream(@NonNull @TarType String type, @NonNull InputStream is)
+            throws IOException {
+        // Concatenated streams are always decompressed, which also makes the parallel variants readable
+        switch (type) {
+            case TAR_GZIP:
+            case TAR_PGZIP:
+                return new GzipCompressorInputStream(is, true);
+            case TAR_BZIP2:
+            case TAR_PBZIP2:
+                return new BZip2CompressorInputStream(is, true);
+            case TAR_ZSTD:
+                return new ZstdInputStream(is);
+            case TAR_LZ4:
+                return new LZ4FrameInputStream(is);
+            default:
+                throw new IllegalArgumentException("Invalid compression type: " + type);
         }
     }
 
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * List the files inside the source in the order they are added to an archive, i.e. a directory always comes before
+     * its children.
+     *
+     * @param source      Source directory
+     * @param filters     A list of mutually exclusive regex filters
+     * @param exclude     A list of mutually exclusive regex patterns to be excluded
+     * @param followLinks Whether to follow the links
+     */
+    @WorkerThread
+    @NonNull
+    public static List<File> gatherFiles(@NonNull File source, @Nullable String[] filters, @Nullable String[] exclude,
+                                         boolean followLinks) throws ErrnoException, RemoteException {
+        List<File> files = new ArrayList<>();
+        // List the whole tree at once instead of querying each file separately
+        Map<String, List<File>> tree = getTree(ProxyFiles.walk(source, followLinks));
+        gatherFiles(files, source, source, tree, filters, exclude, followLinks);
+        // The files are archived later, by then their status may have changed
+        for (int i = 0; i < files.size(); ++i) {
+            files.set(i, ProxyFiles.uncached(files.get(i)));
+        }
+        return files;
+    }
+
     @VisibleForTesting
     static void gatherFiles(@NonNull List<File> files, @NonNull File basePath, @NonNull File source,
-                            @Nullable String[] filters, @Nullable String[] exclude, boolean followLinks)
+                            @NonNull Map<String, List<File>> tree, @Nullable String[] filters,
+                            @Nullable String[] exclude, boolean followLinks)
             throws ErrnoException, RemoteException {
         if (source.isDirectory()) {  // OsConstants#S_ISDIR
             // Is a directory, add only the directory if it's a symboilic link and followLinks is disabled
@@ -224,9 +501,14 @@ public final class TarUtils {
                 return;
             }
             // Check if the contents of the directory matches the filters
-            File[] children = source.listFiles(pathname -> pathname.isDirectory()
-                    || (isUnderFilter(pathname, basePath, filters) && !willExclude(pathname, basePath, exclude)));
-            if (children == null || children.length == 0) {
+            List<File> children = new ArrayList<>();
+            for (File child : getChildren(tree, source)) {
+                if (child.isDirectory() || (isUnderFilter(child, basePath, filters)
+                        && !willExclude(child, basePath, exclude))) {
+                    children.add(child);
+                }
+            }
+            if (children.isEmpty()) {
                 // Add this directory nonetheless if it matches one of the filters
                 if (isUnderFilter(source, basePath, filters) && !willExclude(source, basePath, exclude)) {
                     files.add(source);
@@ -237,7 +519,7 @@ public final class TarUtils {
                 files.add(source);
             }
             for (File child : children) {
-                gatherFiles(files, basePath, child, filters, exclude, followLinks);
+                gatherFiles(files, basePath, child, tree, filters, exclude, followLinks);
             }
         } else if (source.isFile()) {  // OsConstants#S_ISREG
             // Not directory, add it
@@ -245,7 +527,35 @@ public final class TarUtils {
         } // else we don't support other type of files
     }
 
-    private static boolean isSymbolicLink(@NonNull File file) throws ErrnoException, RemoteException {
+    /**
+     * Group the files listed by {@link ProxyFiles#walk(File, boolean)} by their parents
+     */
+    @NonNull
+    private static Map<String, List<File>> getTree(@NonNull List<File> files) {
+        Map<String, List<File>> tree = new HashMap<>();
+        for (File file : files) {
+            String parent = file.getAbsoluteFile().getParent();
+            if (parent == null) continue;
+            List<File> children = tree.get(parent);
+            if (children == null) {
+                children = new ArrayList<>();
+                tree.put(parent, children);
+            }
+            children.add(file);
+        }
+        return tree;
+    }
+
+    @NonNull
+    private static List<File> getChildren(@NonNull Map<String, List<File>> tree, @NonNull File dir) {
+        List<File> children = tree.get(dir.getAbsolutePath());
+        return children != null ? children : Collections.emptyList();
+    }
+
+    /**
+     * Whether the file is a symbolic link. Unlike {@link File#isDirectory()}, the link is not followed.
+     */
+    public static boolean isSymbolicLink(@NonNull File file) throws ErrnoException, RemoteException {
         try {
             FileStatus lstat = ProxyFiles.lstat(file);
             // https://github.com/win32ports/unistd_h/blob/master/unistd.h
@@ -263,11 +573,25 @@ public final class TarUtils {
                                       @NonNull File source,
                                       @Nullable String[] filters,
                                       @Nullable String[] exclude) {
+        validateFiles(basePath, source, getTree(ProxyFiles.walk(source, true)), filters, exclude);
+    }
+
+    private static void validateFiles(@NonNull File basePath,
+                                      @NonNull File source,
+                                      @NonNull Map<String, List<File>> tree,
+                                      @Nullable String[] filters,
+                                      @Nullable String[] exclude) {
         if (source.isDirectory()) {
             // Check if the contents of the directory matches the filters
-            File[] children = source.listFiles(pathname -> pathname.isDirectory()
-                    || (isUnderFilter(pathname, basePath, filters) && !willExclude(pathname, basePath, exclude)));
-            if (children == null || children.length == 0) {
+            List<File> children = new ArrayList<>();
+            List<File> unmatchedChildren = new ArrayList<>();
+            for (File child : getChildren(tree, source)) {
+                if (child.isDirectory() || (isUnderFilter(child, basePath, filters)
+                        && !willExclude(child, basePath, exclude))) {
+                    children.add(child);
+                } else unmatchedChildren.add(child);
+            }
+            if (children.isEmpty()) {
                 // No child has matched, delete this directory
                 IOUtils.deleteDir(source);
                 // Create this directory again if it matches one of the filters
@@ -276,17 +600,13 @@ public final class TarUtils {
                 }
                 return;
             }
-            // Check for unmatched children
-            File[] unmatchedChildren = source.listFiles(pathname -> !ArrayUtils.contains(children, pathname));
             // Delete unmatched children
-            if (unmatchedChildren != null) {
-                for (File child : unmatchedChildren) {
-                    IOUtils.deleteDir(child);
-                }
+            for (File child : unmatchedChildren) {
+                IOUtils.deleteDir(child);
             }
             // Validate matched children
             for (File child : children) {
-                validateFiles(basePath, child, filters, exclude);
+                validateFiles(basePath, child, tree, filters, exclude);
             }
         }
     }
@@ -309,8 +629,11 @@ public final class TarUtils {
         return false;
     }
 
+    /**
+     * Path of the file relative to the base directory, as stored in the archive
+     */
     @NonNull
-    private static String getRelativePath(@NonNull File file, @NonNull File baseFile) {
+    public static String getRelativePath(@NonNull File file, @NonNull File baseFile) {
         URI childPath = file.toURI();
         URI basePath = baseFile.toURI();
         URI relPath = basePath.relativize(childPath);
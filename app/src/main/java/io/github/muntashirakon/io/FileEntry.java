@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.io;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+import android.system.OsConstants;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * A file found during a walk along with its status, so that the status does not have to be queried again.
+ */
+public class FileEntry implements Parcelable {
+    private static final int STAT_SAME = 0;
+    private static final int STAT_DIFFERENT = 1;
+    private static final int STAT_NONE = 2;
+
+    @NonNull
+    public final String path;
+    /**
+     * Status of the file itself, i.e. links are not followed
+     */
+    @NonNull
+    public final FileStatus lstat;
+    /**
+     * Status of the file after following links, {@code null} if it is a dangling link
+     */
+    @Nullable
+    public final FileStatus stat;
+    /**
+     * Same as {@link java.io.File#lastModified()}, which has a better precision than {@link FileStatus#st_mtime}
+     */
+    public final long lastModified;
+
+    public FileEntry(@NonNull String path, @NonNull FileStatus lstat, @Nullable FileStatus stat, long lastModified) {
+        this.path = path;
+        this.lstat = lstat;
+        this.stat = stat;
+        this.lastModified = lastModified;
+    }
+
+    protected FileEntry(@NonNull Parcel in) {
+        path = in.readString();
+        lstat = FileStatus.CREATOR.createFromParcel(in);
+        switch (in.readInt()) {
+            case STAT_SAME:
+                stat = lstat;
+                break;
+            case STAT_DIFFERENT:
+                stat = FileStatus.CREATOR.createFromParcel(in);
+                break;
+            default:
+                stat = null;
+        }
+        lastModified = in.readLong();
+    }
+
+    public boolean isSymbolicLink() {
+        return OsConstants.S_ISLNK(lstat.st_mode);
+    }
+
+    public boolean isDirectory() {
+        return stat != null && OsConstants.S_ISDIR(stat.st_mode);
+    }
+
+    public boolean isFile() {
+        return stat != null && OsConstants.S_ISREG(stat.st_mode);
+    }
+
+    public static final Creator<FileEntry> CREATOR = new Creator<FileEntry>() {
+        @NonNull
+        @Override
+        public FileEntry createFromParcel(Parcel in) {
+            return new FileEntry(in);
+        }
+
+        @NonNull
+        @Override
+        public FileEntry[] newArray(int size) {
+            return new FileEntry[size];
+        }
+    };
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(@NonNull Parcel dest, int flags) {
+        dest.writeString(path);
+        lstat.writeToParcel(dest, flags);
+        // Only links have a different status, no need to write it twice for the rest
+        if (stat == lstat) {
+            dest.writeInt(STAT_SAME);
+        } else if (stat != null) {
+            dest.writeInt(STAT_DIFFERENT);
+            stat.writeToParcel(dest, flags);
+        } else {
+            dest.writeInt(STAT_NONE);
+        }
+        dest.writeLong(lastModified);
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.io;
+
+import android.os.SystemClock;
+import android.system.ErrnoException;
+import android.system.Os;
+import android.system.OsConstants;
+import android.system.StructStat;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Recursive file operations. They are run in the privileged process for {@link ProxyFile}s (see {@link ProxyFiles}),
+ * so that an operation on a whole tree costs a single transaction. Links are never followed, i.e. a link is deleted,
+ * copied or changed itself rather than the file it points to.
+ */
+@WorkerThread
+public final class FileOperations {
+    public interface ProgressListener {
+        /**
+         * @param path  The file being processed
+         * @param bytes Number of bytes processed so far
+         * @param files Number of files processed so far
+         */
+        void onProgress(@NonNull String path, long bytes, int files);
+    }
+
+    /**
+     * Minimum interval between two progress reports
+     */
+    private static final long PROGRESS_INTERVAL = 100;
+    /**
+     * A cached size is only used for this long, as the files inside a directory can change without changing the
+     * directory itself
+     */
+    private static final long SIZE_CACHE_DURATION = 60_000;
+
+    private static final Map<String, CachedSize> sSizeCache = new HashMap<>();
+
+    private static class CachedSize {
+        final long size;
+        final long mtime;
+        final long ctime;
+        final long time;
+
+        CachedSize(long size, @NonNull StructStat stat) {
+            this.size = size;
+            this.mtime = stat.st_mtime;
+            this.ctime = stat.st_ctime;
+            this.time = SystemClock.elapsedRealtime();
+        }
+
+        boolean isValid(@NonNull StructStat stat) {
+            return stat.st_mtime == mtime && stat.st_ctime == ctime
+                    && SystemClock.elapsedRealtime() - time < SIZE_CACHE_DURATION;
+        }
+    }
+
+    private static class Progress {
+        @Nullable
+        private final ProgressListener listener;
+        private long bytes = 0;
+        private int files = 0;
+        private long lastReport = 0;
+
+        Progress(@Nullable ProgressListener listener) {
+            this.listener = listener;
+        }
+
+        void add(@NonNull File file, long bytes) {
+            this.bytes += bytes;
+            ++files;
+            if (listener == null) return;
+            long now = SystemClock.elapsedRealtime();
+            if (now - lastReport >= PROGRESS_INTERVAL) {
+                lastReport = now;
+                listener.onProgress(file.getPath(), this.bytes, files);
+            }
+        }
+
+        void finish(@NonNull File file) {
+            if (listener != null) listener.onProgress(file.getPath(), bytes, files);
+        }
+    }
+
+    /**
+     * Delete a file or a directory along with its contents.
+     */
+    public static void delete(@NonNull File file, @Nullable ProgressListener listener) throws IOException {
+        lstat(file);  // Check existence
+        invalidateSizes(file);
+        Progress progress = new Progress(listener);
+        delete(file, progress);
+        progress.finish(file);
+    }
+
+    /**
+     * Copy a file or a directory along with its contents. The permission bits are copied but not the owners, i.e. the
+     * copies are owned by the caller.
+     *
+     * @param to Must not exist inside {@code from}
+     * @return Number of bytes copied
+     */
+    public static long copy(@NonNull File from, @NonNull File to, @Nullable ProgressListener listener)
+            throws IOException {
+        StructStat stat = lstat(from);
+        if (OsConstants.S_ISDIR(stat.st_mode) && isInside(to.getCanonicalFile(), from.getCanonicalFile())) {
+            throw new IOException("Cannot copy " + from + " into itself.");
+        }
+        invalidateSizes(to);
+        Progress progress = new Progress(listener);
+        copy(from, stat, to, progress);
+        progress.finish(to);
+        return progress.bytes;
+    }
+
+    /**
+     * Move a file or a directory. If it cannot be renamed (e.g. it is on a different file system), it is copied and
+     * then deleted.
+     */
+    public static void move(@NonNull File from, @NonNull File to, @Nullable ProgressListener listener)
+            throws IOException {
+        StructStat stat = lstat(from);
+        invalidateSizes(from);
+        invalidateSizes(to);
+        try {
+            Os.rename(from.getPath(), to.getPath());
+            Progress progress = new Progress(listener);
+            progress.add(to, 0);
+            progress.finish(to);
+            return;
+        } catch (ErrnoException e) {
+            if (e.errno != OsConstants.EXDEV) throw new IOException(e);
+        }
+        Progress progress = new Progress(listener);
+        copy(from, stat, to, progress);
+        delete(from, progress);
+        progress.finish(to);
+    }
+
+    /**
+     * Size of a file, or the total size of the files inside a directory. Links to files are counted with the size of
+     * the target, links to directories are not followed.
+     *
+     * @param useCache Whether to use the size calculated in the last minute if the file itself hasn't changed
+     */
+    public static long getSize(@NonNull File file, boolean useCache) throws IOException {
+        StructStat lstat = lstat(file);
+        String path = file.getAbsolutePath();
+        if (useCache) {
+            synchronized (sSizeCache) {
+                CachedSize cachedSize = sSizeCache.get(path);
+                if (cachedSize != null && cachedSize.isValid(lstat)) return cachedSize.size;
+            }
+        }
+        long size = getSize(file, lstat);
+        synchronized (sSizeCache) {
+            sSizeCache.put(path, new CachedSize(size, lstat));
+        }
+        return size;
+    }
+
+    /**
+     * Set the mode and the owners of a file or a directory along with its contents. Links are not followed, but their
+     * owners are changed.
+     *
+     * @param dirMode  Mode for the directories, or -1 to leave unchanged
+     * @param fileMode Mode for the rest of the files, or -1 to leave unchanged
+     * @param uid      Owner UID, or -1 to leave unchanged
+     * @param gid      Owner GID, or -1 to leave unchanged
+     */
+    public static void setPermissions(@NonNull File file, int dirMode, int fileMode, int uid, int gid,
+                                      @Nullable ProgressListener listener) throws IOException {
+        StructStat stat = lstat(file);
+        invalidateSizes(file);
+        Progress progress = new Progress(listener);
+        setPermissions(file, stat, dirMode, fileMode, uid, gid, progress);
+        progress.finish(file);
+    }
+
+    /**
+     * Create a symbolic link.
+     *
+     * @param target Path the link points to, it does not have to exist
+     */
+    public static void symlink(@NonNull String target, @NonNull File link) throws IOException {
+        invalidateSizes(link);
+        try {
+            Os.symlink(target, link.getPath());
+        } catch (ErrnoException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static void delete(@NonNull File file, @NonNull Progress progress) throws IOException {
+        StructStat stat = lstat(file);
+        if (OsConstants.S_ISDIR(stat.st_mode)) {
+            for (File child : listFiles(file)) {
+                delete(child, progress);
+            }
+        }
+        if (!file.delete()) {
+            throw new IOException("Could not delete " + file);
+        }
+        progress.add(file, OsConstants.S_ISREG(stat.st_mode) ? stat.st_size : 0);
+    }
+
+    private static void copy(@NonNull File from, @NonNull StructStat stat, @NonNull File to,
+                             @NonNull Progress progress) throws IOException {
+        try {
+            if (OsConstants.S_ISLNK(stat.st_mode)) {
+                Os.symlink(Os.readlink(from.getPath()), to.getPath());
+                progress.add(to, 0);
+            } else if (OsConstants.S_ISDIR(stat.st_mode)) {
+                if (!to.isDirectory() && !to.mkdir()) {
+                    throw new IOException("Could not create directory " + to);
+                }
+                Os.chmod(to.getPath(), stat.st_mode & 07777);
+                progress.add(to, 0);
+                for (File child : listFiles(from)) {
+                    copy(child, lstat(child), new File(to, child.getName()), progress);
+                }
+            } else if (OsConstants.S_ISREG(stat.st_mode)) {
+                try (FileInputStream is = new FileInputStream(from);
+                     FileOutputStream os = new FileOutputStream(to)) {
+                    // The data is copied inside the kernel if possible
+                    FileChannel in = is.getChannel();
+                    FileChannel out = os.getChannel();
+                    long size = in.size();
+                    long position = 0;
+                    while (position < size) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
+                Os.chmod(to.getPath(), stat.st_mode & 07777);
+                progress.add(to, stat.st_size);
+            } // else we don't support other type of files
+        } catch (ErrnoException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static long getSize(@NonNull File file, @NonNull StructStat lstat) throws IOException {
+        if (OsConstants.S_ISREG(lstat.st_mode)) {
+            return lstat.st_size;
+        }
+        if (OsConstants.S_ISLNK(lstat.st_mode)) {
+            try {
+                StructStat stat = Os.stat(file.getPath());
+                return OsConstants.S_ISREG(stat.st_mode) ? stat.st_size : 0;
+            } catch (ErrnoException e) {
+                // Dangling link
+                return 0;
+            }
+        }
+        if (!OsConstants.S_ISDIR(lstat.st_mode)) {
+            return 0;
+        }
+        long size = 0;
+        for (File child : listFiles(file)) {
+            try {
+                size += getSize(child, lstat(child));
+            } catch (FileNotFoundException ignore) {
+                // Removed in the meantime
+            }
+        }
+        return size;
+    }
+
+    private static void setPermissions(@NonNull File file, @NonNull StructStat stat, int dirMode, int fileMode,
+                                       int uid, int gid, @NonNull Progress progress) throws IOException {
+        try {
+            boolean isDirectory = OsConstants.S_ISDIR(stat.st_mode);
+            if (!OsConstants.S_ISLNK(stat.st_mode)) {
+                int mode = isDirectory ? dirMode : fileMode;
+                if (mode >= 0) Os.chmod(file.getPath(), mode);
+            }
+            if (uid >= 0 || gid >= 0) {
+                Os.lchown(file.getPath(), uid, gid);
+            }
+            progress.add(file, 0);
+            if (isDirectory) {
+                for (File child : listFiles(file)) {
+                    setPermissions(child, lstat(child), dirMode, fileMode, uid, gid, progress);
+                }
+            }
+        } catch (ErrnoException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Forget the cached sizes of the file, its parents and its children
+     */
+    private static void invalidateSizes(@NonNull File file) {
+        File absoluteFile = file.getAbsoluteFile();
+        synchronized (sSizeCache) {
+            Iterator<String> iterator = sSizeCache.keySet().iterator();
+            while (iterator.hasNext()) {
+                File cachedFile = new File(iterator.next());
+                if (isInside(absoluteFile, cachedFile) || isInside(cachedFile, absoluteFile)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether the file is the directory itself or inside it
+     */
+    private static boolean isInside(@NonNull File file, @NonNull File dir) {
+        for (File parent = file; parent != null; parent = parent.getParentFile()) {
+            if (parent.equals(dir)) return true;
+        }
+        return false;
+    }
+
+    @NonNull
+    private static StructStat lstat(@NonNull File file) throws IOException {
+        try {
+            return Os.lstat(file.getPath());
+        } catch (ErrnoException e) {
+            if (e.errno == OsConstants.ENOENT) throw new FileNotFoundException(file + " does not exist.");
+            throw new IOException(e);
+        }
+    }
+
+    @NonNull
+    private static File[] listFiles(@NonNull File dir) throws IOException {
+        File[] children = dir.listFiles();
+        if (children == null) throw new IOException("Could not list " + dir);
+        return children;
+    }
+}
@@ -17,10 +17,14 @@
 
 package io.github.muntashirakon.io;
 
+import android.os.ParcelFileDescriptor;
 import android.os.RemoteException;
+import android.system.ErrnoException;
+import android.system.Os;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
 
 import java.io.File;
 import java.io.FileFilter;
@@ -32,35 +36,52 @@ import java.util.List;
 import io.github.muntashirakon.AppManager.IAMService;
 import io.github.muntashirakon.AppManager.IRemoteFile;
 import io.github.muntashirakon.AppManager.IRemoteFileReader;
+import io.github.muntashirakon.AppManager.IRemoteFileWalker;
 import io.github.muntashirakon.AppManager.IRemoteFileWriter;
 import io.github.muntashirakon.AppManager.ipc.IPCUtils;
 
 public class ProxyFile extends File {
     @Nullable
     IRemoteFile file;
+    // Set after file, so that file is visible to a thread that sees it set
+    private volatile boolean remoteFileRequested = false;
+    /**
+     * Status of the file when it was listed by {@link ProxyFiles#walk(File, boolean)}, cleared when the file is
+     * modified via this object. It saves a transaction for each query while walking a tree, and is only meant for the
+     * traversal that produced it. Copies of this file do not have it.
+     */
+    @Nullable
+    private FileEntry cachedEntry;
 
     public ProxyFile(@NonNull String pathname) {
         super(pathname);
-        getRemoteFile();
     }
 
     public ProxyFile(@NonNull File file) {
         super(file.getAbsolutePath());
-        getRemoteFile();
     }
 
     public ProxyFile(@Nullable String parent, @NonNull String child) {
         super(parent, child);
-        getRemoteFile();
     }
 
     public ProxyFile(@Nullable File parent, @NonNull String child) {
         super(parent, child);
-        getRemoteFile();
+    }
+
+    ProxyFile(@NonNull FileEntry entry) {
+        super(entry.path);
+        cachedEntry = entry;
+    }
+
+    @Nullable
+    FileEntry getCachedEntry() {
+        return cachedEntry;
     }
 
     @Override
     public long length() {
+        if (cachedEntry != null) return cachedEntry.stat != null ? cachedEntry.stat.st_size : 0;
         if (isRemoteAlive()) {
             try {
                 //noinspection ConstantConditions
@@ -73,6 +94,7 @@ public class ProxyFile extends File {
 
     @Override
     public boolean createNewFile() throws IOException {
+        cachedEntry = null;
         if (isRemoteAlive()) {
             try {
                 //noinspection ConstantConditions
@@ -85,6 +107,7 @@ public class ProxyFile extends File {
 
     @Override
     public boolean delete() {
+        cachedEntry = null;
         if (isRemoteAlive()) {
             try {
                 //noinspection ConstantConditions
@@ -96,8 +119,13 @@ public class ProxyFile extends File {
     }
 
     public boolean forceDelete() {
-        if (isFile()) return super.delete();
-        else return deleteDir(this);
+        cachedEntry = null;
+        try {
+            ProxyFiles.delete(this, null);
+            return true;
+        } catch (IOException | RemoteException e) {
+            return false;
+        }
     }
 
     @Nullable
@@ -110,6 +138,7 @@ public class ProxyFile extends File {
 
     @Override
     public boolean exists() {
+        if (cachedEntry != null) return cachedEntry.stat != null;
         if (isRemoteAlive()) {
             try {
                 //noinspection ConstantConditions
@@ -122,6 +151,7 @@ public class ProxyFile extends File {
 
     @Override
     public boolean isDirectory() {
+        if (cachedEntry != null) return cachedEntry.isDirectory();
         if (isRemoteAlive()) {
             try {
                 //noinspection ConstantConditions
@@ -134,6 +164,7 @@ public class ProxyFile extends File {
 
     @Override
     public boolean isFile() {
+        if (cachedEntry != null) return cachedEntry.isFile();
         if (isRemoteAlive()) {
             try {
                 //noinspection ConstantConditions
@@ -146,6 +177,7 @@ public class ProxyFile extends File {
 
     @Override
     public long lastModified() {
+        if (cachedEntry != null) return cachedEntry.lastModified;
         if (isRemoteAlive()) {
             try {
                 //noinspection ConstantConditions
@@ -158,6 +190,7 @@ public class ProxyFile extends File {
 
     @Override
     public boolean mkdir() {
+        cachedEntry = null;
         if (isRemoteAlive()) {
             try {
                 //noinspection ConstantConditions
@@ -170,6 +203,7 @@ public class ProxyFile extends File {
 
     @Override
     public boolean mkdirs() {
+        cachedEntry = null;
         if (isRemoteAlive()) {
             try {
                 //noinspection ConstantConditions
@@ -182,6 +216,7 @@ public class ProxyFile extends File {
 
     @Override
     public boolean renameTo(@NonNull File dest) {
+        cachedEntry = null;
         if (isRemoteAlive()) {
             try {
                 //noinspection ConstantConditions
@@ -302,6 +337,78 @@ public class ProxyFile extends File {
         } else throw new RemoteException("Remote service isn't alive.");
     }
 
+    /**
+     * Open the file in the remote process and use its file descriptor directly, so that reading from or writing to
+     * the file does not require a binder transaction for each buffer.
+     *
+     * @param mode One of the {@code ParcelFileDescriptor#MODE_*} flags
+     * @return The file descriptor, or {@code null} if the remote service is not alive or this process is not allowed
+     * to use the file descriptor (e.g. SELinux denies access to the data of other apps)
+     */
+    @WorkerThread
+    @Nullable
+    public ParcelFileDescriptor openFileDescriptor(int mode) {
+        if (!isRemoteAlive()) return null;
+        ParcelFileDescriptor fd;
+        try {
+            //noinspection ConstantConditions
+            fd = file.openFileDescriptor(mode);
+        } catch (RemoteException | RuntimeException e) {
+            // Either the file cannot be opened or the transaction has been refused
+            return null;
+        }
+        if (fd == null) return null;
+        try {
+            // A zero-length read or write still goes through the permission checks of the kernel
+            if ((mode & ParcelFileDescriptor.MODE_WRITE_ONLY) != 0) {  // Also true for MODE_READ_WRITE
+                Os.write(fd.getFileDescriptor(), new byte[0], 0, 0);
+            } else {
+                Os.read(fd.getFileDescriptor(), new byte[0], 0, 0);
+            }
+            return fd;
+        } catch (ErrnoException | IOException e) {
+            try {
+                fd.close();
+            } catch (IOException ignore) {
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Stream the file from the remote process through a pipe. Unlike {@link #openFileDescriptor(int)}, this works
+     * even if this process cannot access the file itself. The pipe is reliable, i.e. {@link
+     * ParcelFileDescriptor#checkError()} throws an exception if the file could not be read completely.
+     *
+     * @return The read side of the pipe, or {@code null} if the remote service is not alive or doesn't support pipes
+     */
+    @WorkerThread
+    @Nullable
+    public ParcelFileDescriptor openReadPipe() {
+        if (!isRemoteAlive()) return null;
+        try {
+            //noinspection ConstantConditions
+            return file.openReadPipe();
+        } catch (RemoteException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Walk the tree rooted at this file in the remote process.
+     *
+     * @see ProxyFiles#walk(File, boolean)
+     */
+    @NonNull
+    IRemoteFileWalker walk(boolean followLinks, int maxDepth) throws RemoteException {
+        if (isRemoteAlive()) {
+            //noinspection ConstantConditions
+            IRemoteFileWalker walker = file.walk(followLinks, maxDepth);
+            if (walker == null) throw new RemoteException(getAbsolutePath() + ": Couldn't get remote file walker.");
+            return walker;
+        } else throw new RemoteException("Remote service isn't alive.");
+    }
+
     private void getRemoteFile() {
         IAMService amService = IPCUtils.getService();
         if (amService != null) {
@@ -314,20 +421,15 @@ public class ProxyFile extends File {
     }
 
     private boolean isRemoteAlive() {
-        return file != null && file.asBinder().pingBinder();
-    }
-
-    private static boolean deleteDir(ProxyFile dir) {
-        if (dir != null && dir.isDirectory()) {
-            String[] children = dir.list();
-            if (children == null) return false;
-            for (String child : children) {
-                boolean success = deleteDir(new ProxyFile(dir, child));
-                if (!success) return false;
+        // The remote file is only requested when needed, as many files are only used as paths
+        if (!remoteFileRequested) {
+            synchronized (this) {
+                if (!remoteFileRequested) {
+                    getRemoteFile();
+                    remoteFileRequested = true;
+                }
             }
-            return dir.delete();
-        } else if (dir != null && dir.isFile()) {
-            return dir.delete();
-        } else return false;
+        }
+        return file != null && file.asBinder().pingBinder();
     }
 }
@@ -20,21 +20,38 @@ package io.github.muntashirakon.io;
 import android.os.RemoteException;
 import android.system.ErrnoException;
 import android.system.Os;
+import android.system.OsConstants;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.WorkerThread;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
+import io.github.muntashirakon.AppManager.IFileOperationCallback;
+import io.github.muntashirakon.AppManager.IRemoteFileWalker;
 import io.github.muntashirakon.AppManager.ipc.IPCUtils;
+import io.github.muntashirakon.AppManager.logs.Log;
 import io.github.muntashirakon.AppManager.servermanager.LocalServer;
 
 @WorkerThread
 public final class ProxyFiles {
     public static final String TAG = ProxyFiles.class.getSimpleName();
 
+    /**
+     * Maximum number of entries returned by the remote walker at once. The walker also limits the size of a batch.
+     */
+    private static final int WALK_BATCH_COUNT = 2000;
+
     @NonNull
     public static FileStatus stat(@NonNull File path) throws ErrnoException, RemoteException {
+        if (path instanceof ProxyFile) {
+            FileEntry entry = ((ProxyFile) path).getCachedEntry();
+            if (entry != null && entry.stat != null) return entry.stat;
+        }
         if (path instanceof ProxyFile && LocalServer.isAMServiceAlive()) {
             return IPCUtils.getAmService().stat(path.getAbsolutePath());
         }
@@ -43,6 +60,10 @@ public final class ProxyFiles {
 
     @NonNull
     public static FileStatus lstat(@NonNull File path) throws ErrnoException, RemoteException {
+        if (path instanceof ProxyFile) {
+            FileEntry entry = ((ProxyFile) path).getCachedEntry();
+            if (entry != null) return entry.lstat;
+        }
         if (path instanceof ProxyFile && LocalServer.isAMServiceAlive()) {
             return IPCUtils.getAmService().lstat(path.getAbsolutePath());
         }
@@ -86,4 +107,165 @@ public final class ProxyFiles {
         chmod(to, stat.st_mode);
         chown(to, stat.st_uid, stat.st_gid);
     }
+
+    /**
+     * Delete a file or a directory along with its contents in a single transaction. Links are not followed.
+     *
+     * @see FileOperations#delete(File, FileOperations.ProgressListener)
+     */
+    public static void delete(@NonNull File file, @Nullable FileOperations.ProgressListener listener)
+            throws IOException, RemoteException {
+        if (file instanceof ProxyFile && LocalServer.isAMServiceAlive()) {
+            IPCUtils.getAmService().delete(file.getAbsolutePath(), getCallback(listener));
+        } else FileOperations.delete(file, listener);
+    }
+
+    /**
+     * Copy a file or a directory along with its contents in a single transaction.
+     *
+     * @return Number of bytes copied
+     * @see FileOperations#copy(File, File, FileOperations.ProgressListener)
+     */
+    public static long copy(@NonNull File from, @NonNull File to, @Nullable FileOperations.ProgressListener listener)
+            throws IOException, RemoteException {
+        if ((from instanceof ProxyFile || to instanceof ProxyFile) && LocalServer.isAMServiceAlive()) {
+            return IPCUtils.getAmService().copy(from.getAbsolutePath(), to.getAbsolutePath(), getCallback(listener));
+        } else return FileOperations.copy(from, to, listener);
+    }
+
+    /**
+     * Move a file or a directory in a single transaction.
+     *
+     * @see FileOperations#move(File, File, FileOperations.ProgressListener)
+     */
+    public static void move(@NonNull File from, @NonNull File to, @Nullable FileOperations.ProgressListener listener)
+            throws IOException, RemoteException {
+        if ((from instanceof ProxyFile || to instanceof ProxyFile) && LocalServer.isAMServiceAlive()) {
+            IPCUtils.getAmService().move(from.getAbsolutePath(), to.getAbsolutePath(), getCallback(listener));
+        } else FileOperations.move(from, to, listener);
+    }
+
+    /**
+     * Total size of the files inside a directory calculated in a single transaction.
+     *
+     * @see FileOperations#getSize(File, boolean)
+     */
+    public static long getSize(@NonNull File file, boolean useCache) throws IOException, RemoteException {
+        if (file instanceof ProxyFile && LocalServer.isAMServiceAlive()) {
+            return IPCUtils.getAmService().getSize(file.getAbsolutePath(), useCache);
+        } else return FileOperations.getSize(file, useCache);
+    }
+
+    /**
+     * Set the mode and the owners of a file or a directory along with its contents in a single transaction.
+     *
+     * @see FileOperations#setPermissions(File, int, int, int, int, FileOperations.ProgressListener)
+     */
+    public static void setPermissionsRecursive(@NonNull File file, int dirMode, int fileMode, int uid, int gid,
+                                               @Nullable FileOperations.ProgressListener listener)
+            throws IOException, RemoteException {
+        if (file instanceof ProxyFile && LocalServer.isAMServiceAlive()) {
+            IPCUtils.getAmService().setPermissions(file.getAbsolutePath(), dirMode, fileMode, uid, gid,
+                    getCallback(listener));
+        } else FileOperations.setPermissions(file, dirMode, fileMode, uid, gid, listener);
+    }
+
+    /**
+     * Create a symbolic link pointing to the target.
+     */
+    public static void symlink(@NonNull String target, @NonNull File link) throws IOException, RemoteException {
+        if (link instanceof ProxyFile && LocalServer.isAMServiceAlive()) {
+            IPCUtils.getAmService().symlink(target, link.getAbsolutePath());
+        } else FileOperations.symlink(target, link);
+    }
+
+    @Nullable
+    private static IFileOperationCallback getCallback(@Nullable FileOperations.ProgressListener listener) {
+        if (listener == null) return null;
+        return new IFileOperationCallback.Stub() {
+            @Override
+            public void onProgress(String path, long bytes, int files) {
+                listener.onProgress(path, bytes, files);
+            }
+        };
+    }
+
+    /**
+     * List the tree rooted at the given file in pre-order, i.e. a directory always comes before its children, and the
+     * children are in the same order as {@link File#list()}. For a {@link ProxyFile}, the whole tree is listed in
+     * the remote process in a few transactions and the returned files remember their status, so that
+     * {@link File#isDirectory()}, {@link File#length()}, {@link #stat(File)}, etc. do not require any further
+     * transactions. The status is a snapshot which is only valid while the tree is being traversed, files that are
+     * kept for later must be passed through {@link #uncached(File)}.
+     *
+     * @param root        The first item of the returned list, unless it does not exist
+     * @param followLinks Whether to list the contents of the linked directories
+     */
+    @NonNull
+    public static List<File> walk(@NonNull File root, boolean followLinks) {
+        return walk(root, followLinks, -1);
+    }
+
+    /**
+     * Same file without the status remembered by {@link #walk(File, boolean)}, i.e. it reports the current status
+     */
+    @NonNull
+    public static File uncached(@NonNull File file) {
+        return file instanceof ProxyFile ? new ProxyFile(file) : file;
+    }
+
+    @NonNull
+    private static List<File> walk(@NonNull File root, boolean followLinks, int maxDepth) {
+        List<File> files = new ArrayList<>();
+        if (root instanceof ProxyFile) {
+            IRemoteFileWalker walker = null;
+            try {
+                walker = ((ProxyFile) root).walk(followLinks, maxDepth);
+                List<FileEntry> entries;
+                while (!(entries = walker.next(WALK_BATCH_COUNT)).isEmpty()) {
+                    for (FileEntry entry : entries) {
+                        files.add(new ProxyFile(entry));
+                    }
+                }
+                // The walker is closed automatically after the last batch
+                walker = null;
+                return files;
+            } catch (RemoteException | RuntimeException e) {
+                Log.w(TAG, "Could not walk " + root + " remotely, walking locally.", e);
+                files.clear();
+            } finally {
+                if (walker != null) {
+                    try {
+                        walker.close();
+                    } catch (RemoteException ignore) {
+                    }
+                }
+            }
+        }
+        if (root.exists() || isSymbolicLink(root)) {
+            files.add(root);
+            walkLocal(files, root, followLinks, maxDepth, 1);
+        }
+        return files;
+    }
+
+    private static void walkLocal(@NonNull List<File> files, @NonNull File dir, boolean followLinks, int maxDepth,
+                                  int depth) {
+        if (!dir.isDirectory() || (maxDepth >= 0 && depth > maxDepth)) return;
+        if (!followLinks && isSymbolicLink(dir)) return;
+        File[] children = dir.listFiles();
+        if (children == null) return;
+        for (File child : children) {
+            files.add(child);
+            walkLocal(files, child, followLinks, maxDepth, depth + 1);
+        }
+    }
+
+    private static boolean isSymbolicLink(@NonNull File file) {
+        try {
+            return OsConstants.S_ISLNK(lstat(file).st_mode);
+        } catch (ErrnoException | RemoteException | RuntimeException e) {
+            return false;
+        }
+    }
 }
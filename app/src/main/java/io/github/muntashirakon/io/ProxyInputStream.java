@@ -17,6 +17,7 @@
 
 package io.github.muntashirakon.io;
 
+import android.os.ParcelFileDescriptor;
 import android.os.RemoteException;
 
 import androidx.annotation.Nullable;
@@ -36,15 +37,35 @@ public class ProxyInputStream extends InputStream {
     private final FileInputStream privateInputStream;
     @Nullable
     private final IRemoteFileReader fileReader;
+    // Read side of a reliable pipe if the file is streamed by the remote process
+    @Nullable
+    private final ParcelFileDescriptor pipe;
 
+    /**
+     * Open a file for reading. For a {@link ProxyFile}, the file is opened in the remote process and its file
+     * descriptor (or a pipe if the file descriptor cannot be used) is read directly. Reading through binder
+     * transactions is only used as a fallback.
+     */
     @WorkerThread
     public ProxyInputStream(File file) throws FileNotFoundException, RemoteException {
         if (file instanceof ProxyFile && LocalServer.isAMServiceAlive()) {
-            privateInputStream = null;
-            fileReader = ((ProxyFile) file).getFileReader();
+            ProxyFile proxyFile = (ProxyFile) file;
+            ParcelFileDescriptor fd = proxyFile.openFileDescriptor(ParcelFileDescriptor.MODE_READ_ONLY);
+            if (fd == null) {
+                pipe = proxyFile.openReadPipe();
+                fd = pipe;
+            } else pipe = null;
+            if (fd != null) {
+                privateInputStream = new ParcelFileDescriptor.AutoCloseInputStream(fd);
+                fileReader = null;
+            } else {
+                privateInputStream = null;
+                fileReader = proxyFile.getFileReader();
+            }
         } else {
             privateInputStream = new FileInputStream(file);
             fileReader = null;
+            pipe = null;
         }
     }
 
@@ -61,7 +82,7 @@ public class ProxyInputStream extends InputStream {
             } catch (RemoteException e) {
                 throw new IOException(e);
             }
-        } else if (privateInputStream != null) return privateInputStream.read();
+        } else if (privateInputStream != null) return checkError(privateInputStream.read());
         throw new IOException("Invalid stream.");
     }
 
@@ -73,7 +94,7 @@ public class ProxyInputStream extends InputStream {
             } catch (RemoteException e) {
                 throw new IOException(e);
             }
-        } else if (privateInputStream != null) return privateInputStream.read(b);
+        } else if (privateInputStream != null) return checkError(privateInputStream.read(b));
         throw new IOException("Invalid stream.");
     }
 
@@ -85,7 +106,7 @@ public class ProxyInputStream extends InputStream {
             } catch (RemoteException e) {
                 throw new IOException(e);
             }
-        } else if (privateInputStream != null) return privateInputStream.read(b, off, len);
+        } else if (privateInputStream != null) return checkError(privateInputStream.read(b, off, len));
         throw new IOException("Invalid stream.");
     }
 
@@ -97,6 +118,9 @@ public class ProxyInputStream extends InputStream {
             } catch (RemoteException e) {
                 throw new IOException(e);
             }
+        } else if (pipe != null) {
+            // Pipes are not seekable
+            return super.skip(n);
         } else if (privateInputStream != null) return privateInputStream.skip(n);
         throw new IOException("Invalid stream.");
     }
@@ -163,4 +187,15 @@ public class ProxyInputStream extends InputStream {
         if (privateInputStream != null) return privateInputStream.markSupported();
         return false;
     }
+
+    /**
+     * Check whether the remote process could stream the whole file through the pipe once the end of the stream is
+     * reached.
+     */
+    private int checkError(int result) throws IOException {
+        if (result == -1 && pipe != null) {
+            pipe.checkError();
+        }
+        return result;
+    }
 }
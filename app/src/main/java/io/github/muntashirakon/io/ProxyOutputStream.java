@@ -17,6 +17,7 @@
 
 package io.github.muntashirakon.io;
 
+import android.os.ParcelFileDescriptor;
 import android.os.RemoteException;
 
 import androidx.annotation.Nullable;
@@ -37,11 +38,22 @@ public class ProxyOutputStream extends OutputStream {
     @Nullable
     private final IRemoteFileWriter fileWriter;
 
+    /**
+     * Open a file for writing. For a {@link ProxyFile}, the file is opened in the remote process and its file
+     * descriptor is written to directly. Writing through binder transactions is only used as a fallback.
+     */
     @WorkerThread
     public ProxyOutputStream(File file) throws FileNotFoundException, RemoteException {
         if (file instanceof ProxyFile && LocalServer.isAMServiceAlive()) {
-            privateOutputStream = null;
-            fileWriter = ((ProxyFile) file).getFileWriter();
+            ParcelFileDescriptor fd = ((ProxyFile) file).openFileDescriptor(ParcelFileDescriptor.MODE_WRITE_ONLY
+                    | ParcelFileDescriptor.MODE_CREATE | ParcelFileDescriptor.MODE_TRUNCATE);
+            if (fd != null) {
+                privateOutputStream = new ParcelFileDescriptor.AutoCloseOutputStream(fd);
+                fileWriter = null;
+            } else {
+                privateOutputStream = null;
+                fileWriter = ((ProxyFile) file).getFileWriter();
+            }
         } else {
             privateOutputStream = new FileOutputStream(file);
             fileWriter = null;
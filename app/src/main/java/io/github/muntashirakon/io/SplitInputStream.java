@@ -17,6 +17,8 @@
 
 package io.github.muntashirakon.io;
 
+import android.os.RemoteException;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.WorkerThread;
 
@@ -94,10 +96,27 @@ public class SplitInputStream extends InputStream {
     @Override
     public void close() throws IOException {
         for (InputStream stream : inputStreams) {
-            stream.close();
+            if (stream != null) stream.close();
         }
     }
 
+    /**
+     * Open a stream for the given part. Subclasses may override this to transform the bytes of the part before they
+     * are read, e.g. for decryption.
+     */
+    @WorkerThread
+    @NonNull
+    protected InputStream openStream(@NonNull File file) throws IOException, RemoteException {
+        return new ProxyInputStream(file);
+    }
+
+    /**
+     * Called after a part has been read completely and its stream has been closed.
+     */
+    @WorkerThread
+    protected void onStreamFinished(@NonNull File file, @NonNull InputStream stream) throws IOException {
+    }
+
     @Override
     public synchronized void mark(int readlimit) {
         // Reset mark
@@ -220,15 +239,21 @@ public class SplitInputStream extends InputStream {
                 return -1;
             } else if (currentIndex == -1) {
                 // Initialize a new stream
-                inputStreams.add(new ProxyInputStream(files.get(0)));
+                inputStreams.add(openStream(files.get(0)));
                 ++currentIndex;
             }
             do {
-                int readCount = inputStreams.get(currentIndex).read(b, off, len);
+                InputStream currentStream = inputStreams.get(currentIndex);
+                int readCount = currentStream == null ? -1 : currentStream.read(b, off, len);
                 if (readCount <= 0) {
-                    // This stream has been read completely, initialize new stream if available
+                    // This stream has been read completely, close it and initialize new stream if available
+                    if (currentStream != null) {
+                        inputStreams.set(currentIndex, null);
+                        currentStream.close();
+                        onStreamFinished(files.get(currentIndex), currentStream);
+                    }
                     if (currentIndex + 1 != files.size()) {
-                        inputStreams.add(new ProxyInputStream(files.get(currentIndex + 1)));
+                        inputStreams.add(openStream(files.get(currentIndex + 1)));
                         ++currentIndex;
                     } else {
                         // Last stream reached
@@ -17,6 +17,8 @@
 
 package io.github.muntashirakon.io;
 
+import android.os.RemoteException;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.WorkerThread;
 
@@ -29,10 +31,11 @@ import java.util.List;
 public class SplitOutputStream extends OutputStream {
     private static final long MAX_BYTES_WRITTEN = 1024*1024*1024;  // 1GB
 
-    private final List<ProxyOutputStream> outputStreams = new ArrayList<>(1);
+    private final List<OutputStream> outputStreams = new ArrayList<>(1);
     private final List<File> files = new ArrayList<>(1);
     private int currentIndex = -1;
     private long bytesWritten;
+    private long totalBytesWritten;
     private final long maxBytesPerFile;
     private final String baseFile;
 
@@ -58,12 +61,20 @@ public class SplitOutputStream extends OutputStream {
         return files;
     }
 
+    /**
+     * Total number of bytes written to this stream, i.e. the sum of the sizes of the parts.
+     */
+    public long getTotalBytesWritten() {
+        return totalBytesWritten;
+    }
+
     @WorkerThread
     @Override
     public void write(int b) throws IOException {
         checkCurrentStream(1);
         outputStreams.get(currentIndex).write(b);
         ++bytesWritten;
+        ++totalBytesWritten;
     }
 
     @WorkerThread
@@ -72,6 +83,7 @@ public class SplitOutputStream extends OutputStream {
         checkCurrentStream(b.length);
         outputStreams.get(currentIndex).write(b);
         bytesWritten += b.length;
+        totalBytesWritten += b.length;
     }
 
     @WorkerThread
@@ -80,12 +92,14 @@ public class SplitOutputStream extends OutputStream {
         checkCurrentStream(len);
         outputStreams.get(currentIndex).write(b, off, len);
         bytesWritten += len;
+        totalBytesWritten += len;
     }
 
     @WorkerThread
     @Override
     public void flush() throws IOException {
-        for (ProxyOutputStream stream : outputStreams) {
+        OutputStream stream = currentIndex >= 0 ? outputStreams.get(currentIndex) : null;
+        if (stream != null) {
             stream.flush();
         }
     }
@@ -93,29 +107,64 @@ public class SplitOutputStream extends OutputStream {
     @WorkerThread
     @Override
     public void close() throws IOException {
-        for (ProxyOutputStream stream : outputStreams) {
-            stream.close();
+        if (currentIndex >= 0) {
+            closeStream(currentIndex);
         }
     }
 
+    /**
+     * Open a stream for the given part. Subclasses may override this to transform the bytes before they are written
+     * to the part, e.g. for encryption.
+     */
+    @WorkerThread
+    @NonNull
+    protected OutputStream openStream(@NonNull File file) throws IOException, RemoteException {
+        return new ProxyOutputStream(file);
+    }
+
+    /**
+     * Called after the stream for a part has been closed, i.e. no more bytes will be written to the part.
+     */
+    @WorkerThread
+    protected void onStreamClosed(@NonNull File file, @NonNull OutputStream stream) throws IOException {
+    }
+
+    /**
+     * Get the file for the given part.
+     */
+    @NonNull
+    protected File getFile(int index) {
+        return new ProxyFile(baseFile + "." + index);
+    }
+
+    @WorkerThread
+    private void closeStream(int index) throws IOException {
+        OutputStream stream = outputStreams.get(index);
+        if (stream == null) return;
+        // Mark the stream as closed to prevent closing it again
+        outputStreams.set(index, null);
+        stream.close();
+        onStreamClosed(files.get(index), stream);
+    }
+
     @WorkerThread
     private void checkCurrentStream(int nextBytesSize) throws IOException {
         if (bytesWritten + nextBytesSize > maxBytesPerFile) {
-            // Need to create a new stream
+            // Need to create a new stream, close the current one as it will no longer be used
+            if (currentIndex >= 0) {
+                closeStream(currentIndex);
+            }
             try {
-                File newFile = getNextFile();
+                File newFile = getFile(currentIndex + 1);
                 files.add(newFile);
-                outputStreams.add(new ProxyOutputStream(newFile));
+                outputStreams.add(openStream(newFile));
                 ++currentIndex;
                 bytesWritten = 0;
+            } catch (IOException e) {
+                throw e;
             } catch (Throwable th) {
                 throw new IOException(th);
             }
         }
     }
-
-    @NonNull
-    private File getNextFile() {
-        return new ProxyFile(baseFile + "." + (currentIndex + 1));
-    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.backup;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BackupManifestTest {
+    @Test
+    public void testWriteAndRead() throws IOException {
+        BackupManifest base = new BackupManifest();
+        base.addEntry(new BackupManifest.Entry(BackupManifest.TYPE_DIRECTORY, "files/", 0, 1000, null));
+        base.addEntry(new BackupManifest.Entry(BackupManifest.TYPE_FILE, "files/a\tb\\c\nd", 3, 2000, "abc"));
+        base.addEntry(new BackupManifest.Entry(BackupManifest.TYPE_FILE, "files/deleted", 5, 3000, "def"));
+        BackupManifest manifest = new BackupManifest();
+        manifest.addEntry(new BackupManifest.Entry(BackupManifest.TYPE_DIRECTORY, "files/", 0, 1000, null));
+        manifest.addEntry(new BackupManifest.Entry(BackupManifest.TYPE_FILE, "files/a\tb\\c\nd", 3, 2000, "abc"));
+        manifest.setDeletedPaths(base);
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        manifest.write(os);
+        BackupManifest readManifest = BackupManifest.read(new ByteArrayInputStream(os.toByteArray()));
+
+        assertEquals(2, readManifest.getEntries().size());
+        BackupManifest.Entry entry = readManifest.getEntry("files/a\tb\\c\nd");
+        assertNotNull(entry);
+        assertEquals(BackupManifest.TYPE_FILE, entry.type);
+        assertEquals(3, entry.size);
+        assertEquals(2000, entry.mtime);
+        assertEquals("abc", entry.hash);
+        BackupManifest.Entry dirEntry = readManifest.getEntry("files/");
+        assertNotNull(dirEntry);
+        assertNull(dirEntry.hash);
+        assertEquals(Collections.singletonList("files/deleted"), readManifest.getDeletedPaths());
+    }
+
+    @Test
+    public void testHasChanged() {
+        BackupManifest base = new BackupManifest();
+        base.addEntry(new BackupManifest.Entry(BackupManifest.TYPE_FILE, "a", 3, 2000, "abc"));
+        base.addEntry(new BackupManifest.Entry(BackupManifest.TYPE_LINK, "b", 0, 2000, "/data/a"));
+
+        assertFalse(base.hasChanged(new BackupManifest.Entry(BackupManifest.TYPE_FILE, "a", 3, 2000, null)));
+        assertTrue(base.hasChanged(new BackupManifest.Entry(BackupManifest.TYPE_FILE, "a", 4, 2000, null)));
+        assertTrue(base.hasChanged(new BackupManifest.Entry(BackupManifest.TYPE_FILE, "a", 3, 2001, null)));
+        assertFalse(base.hasChanged(new BackupManifest.Entry(BackupManifest.TYPE_LINK, "b", 0, 3000, "/data/a")));
+        assertTrue(base.hasChanged(new BackupManifest.Entry(BackupManifest.TYPE_LINK, "b", 0, 2000, "/data/c")));
+        assertTrue(base.hasChanged(new BackupManifest.Entry(BackupManifest.TYPE_FILE, "c", 3, 2000, null)));
+        assertTrue(base.hasChanged(new BackupManifest.Entry(BackupManifest.TYPE_DIRECTORY, "a", 0, 2000, null)));
+    }
+
+    @Test
+    public void testDeletedPathsWithChangedType() {
+        BackupManifest base = new BackupManifest();
+        base.addEntry(new BackupManifest.Entry(BackupManifest.TYPE_DIRECTORY, "a", 0, 1000, null));
+        base.addEntry(new BackupManifest.Entry(BackupManifest.TYPE_FILE, "a/b", 3, 1000, null));
+        base.addEntry(new BackupManifest.Entry(BackupManifest.TYPE_FILE, "c", 3, 1000, null));
+        base.addEntry(new BackupManifest.Entry(BackupManifest.TYPE_FILE, "d", 3, 1000, null));
+        BackupManifest manifest = new BackupManifest();
+        manifest.addEntry(new BackupManifest.Entry(BackupManifest.TYPE_FILE, "a", 3, 2000, null));
+        manifest.addEntry(new BackupManifest.Entry(BackupManifest.TYPE_DIRECTORY, "c", 0, 2000, null));
+        manifest.addEntry(new BackupManifest.Entry(BackupManifest.TYPE_FILE, "d", 3, 1000, null));
+        manifest.setDeletedPaths(base);
+
+        assertEquals(Arrays.asList("a", "a/b", "c"), manifest.getDeletedPaths());
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidHeader() throws IOException {
+        BackupManifest.read(new ByteArrayInputStream("f\t0\t0\t-\ta\n".getBytes()));
+    }
+}
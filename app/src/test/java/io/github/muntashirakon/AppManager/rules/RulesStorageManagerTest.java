@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.rules;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class RulesStorageManagerTest {
+    private static final String PACKAGE_NAME = "com.google.android.gms";
+
+    @Test
+    public void componentsAreUniqueByName() {
+        RulesStorageManager rules = newRules();
+        rules.setComponent("a.Activity", RulesStorageManager.Type.ACTIVITY, RulesStorageManager.COMPONENT_TO_BE_BLOCKED);
+        rules.setComponent("a.Service", RulesStorageManager.Type.SERVICE, RulesStorageManager.COMPONENT_TO_BE_BLOCKED);
+        rules.setComponent("a.Activity", RulesStorageManager.Type.ACTIVITY, RulesStorageManager.COMPONENT_BLOCKED);
+        rules.setAppOp("10", 1);
+        assertEquals(3, rules.entryCount());
+        assertEquals(2, rules.getAllComponents().size());
+        assertEquals(RulesStorageManager.COMPONENT_BLOCKED, rules.get("a.Activity").extra);
+        assertTrue(rules.hasName("10"));
+        assertFalse(rules.hasName("a.Receiver"));
+        rules.removeEntries("a.Service", RulesStorageManager.Type.SERVICE);
+        assertNull(rules.get("a.Service"));
+        assertEquals(2, rules.entryCount());
+        assertEquals(1, rules.getAll(RulesStorageManager.Type.APP_OP).size());
+        assertEquals(0, rules.getAll(RulesStorageManager.Type.PERMISSION).size());
+    }
+
+    @Test
+    public void removeEntryRemovesTheSameEntry() {
+        RulesStorageManager rules = newRules();
+        rules.setPermission("android.permission.CAMERA", true);
+        RulesStorageManager.Entry entry = rules.get("android.permission.CAMERA");
+        rules.removeEntry(new RulesStorageManager.Entry("android.permission.CAMERA",
+                RulesStorageManager.Type.PERMISSION, true));
+        assertEquals(1, rules.entryCount());
+        rules.removeEntry(entry);
+        assertEquals(0, rules.entryCount());
+        assertTrue(rules.getAll().isEmpty());
+    }
+
+    @Test
+    public void entriesWithoutUniqueNamesAreKept() {
+        RulesStorageManager rules = newRules();
+        rules.setSsaid("1234");
+        rules.setSsaid("5678");
+        assertEquals(2, rules.getAll(RulesStorageManager.Type.SSAID).size());
+        RulesStorageManager.Entry entry = rules.getAll(RulesStorageManager.Type.SSAID).get(0);
+        rules.addEntry(entry);
+        // The same entry is moved to the end
+        assertEquals(2, rules.entryCount());
+        assertSame(entry, rules.getAll(RulesStorageManager.Type.SSAID).get(1));
+    }
+
+    @Test
+    public void setComponentUsing5000Components() {
+        int count = 5000;
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            names.add(PACKAGE_NAME + ".component.Component" + i);
+        }
+        RulesStorageManager rules = newRules();
+        for (String name : names) {
+            rules.setComponent(name, RulesStorageManager.Type.SERVICE, RulesStorageManager.COMPONENT_TO_BE_BLOCKED);
+        }
+        // Setting the components again replaces them
+        for (String name : names) {
+            rules.setComponent(name, RulesStorageManager.Type.SERVICE, RulesStorageManager.COMPONENT_BLOCKED);
+        }
+        assertEquals(count, rules.entryCount());
+        for (String name : names) {
+            assertTrue(name, rules.hasName(name));
+            assertEquals(RulesStorageManager.COMPONENT_BLOCKED, rules.get(name).extra);
+        }
+        assertFalse(rules.hasName(PACKAGE_NAME + ".component.Component" + count));
+    }
+
+    private static RulesStorageManager newRules() {
+        // PseudoRules loads nothing from the database
+        //noinspection ConstantConditions
+        return new PseudoRules(null, PACKAGE_NAME, 0);
+    }
+}
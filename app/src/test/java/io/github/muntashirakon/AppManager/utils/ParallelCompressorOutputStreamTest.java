@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.utils;
+
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ParallelCompressorOutputStreamTest {
+    private final ClassLoader classLoader = getClass().getClassLoader();
+
+    @Test
+    public void testParallelGzip() throws IOException {
+        byte[] original = getSampleBytes();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream os = new ParallelCompressorOutputStream(compressed, GzipCompressorOutputStream::new,
+                64 * 1024, 4)) {
+            os.write(original);
+        }
+        byte[] decompressed;
+        try (InputStream is = new GzipCompressorInputStream(new ByteArrayInputStream(compressed.toByteArray()), true)) {
+            decompressed = readAll(is);
+        }
+        assertArrayEquals(original, decompressed);
+    }
+
+    @Test
+    public void testParallelBZip2() throws IOException {
+        byte[] original = getSampleBytes();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream os = new ParallelCompressorOutputStream(compressed, BZip2CompressorOutputStream::new,
+                64 * 1024, 4)) {
+            // Write byte by byte for a part of the data to test the single byte write as well
+            for (int i = 0; i < 1000; ++i) {
+                os.write(original[i]);
+            }
+            os.write(original, 1000, original.length - 1000);
+        }
+        byte[] decompressed;
+        try (InputStream is = new BZip2CompressorInputStream(new ByteArrayInputStream(compressed.toByteArray()), true)) {
+            decompressed = readAll(is);
+        }
+        assertArrayEquals(original, decompressed);
+    }
+
+    @Test
+    public void testEmptyStream() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        new ParallelCompressorOutputStream(compressed, GzipCompressorOutputStream::new, 64 * 1024, 2).close();
+        assertTrue(compressed.size() > 0);
+        try (InputStream is = new GzipCompressorInputStream(new ByteArrayInputStream(compressed.toByteArray()), true)) {
+            assertArrayEquals(new byte[0], readAll(is));
+        }
+    }
+
+    @Test
+    public void testOutputIsClosedOnFailure() {
+        boolean[] closed = new boolean[1];
+        OutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        ParallelCompressorOutputStream os = new ParallelCompressorOutputStream(out, bos -> {
+            throw new IOException("Compressor failed");
+        }, 64 * 1024, 2);
+        try {
+            os.close();
+            fail("The failure of the compressor is not reported");
+        } catch (IOException e) {
+            assertEquals("Compressor failed", e.getMessage());
+        }
+        assertTrue(closed[0]);
+    }
+
+    private byte[] getSampleBytes() throws IOException {
+        assert classLoader != null;
+        File sampleFile = new File(classLoader.getResource("AppManager_v2.5.22.apks.0").getFile());
+        try (InputStream is = new FileInputStream(sampleFile)) {
+            return readAll(is);
+        }
+    }
+
+    private static byte[] readAll(InputStream is) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = is.read(buffer)) != -1) {
+            bos.write(buffer, 0, read);
+        }
+        return bos.toByteArray();
+    }
+}
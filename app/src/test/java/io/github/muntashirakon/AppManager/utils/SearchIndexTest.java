@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SearchIndexTest {
+    @Test
+    public void toFtsQuery() {
+        assertEquals("\"firebase messaging*\"", SearchIndex.toFtsQuery("firebase.messaging"));
+        assertEquals("\"com google android gms*\"", SearchIndex.toFtsQuery("  com.google.android.gms  "));
+        assertEquals("\"caf\u00e9*\"", SearchIndex.toFtsQuery("caf\u00e9"));
+    }
+
+    @Test
+    public void toFtsQueryEscapesQuotes() {
+        // A quote would end the phrase early
+        assertEquals("\"ads analytics*\"", SearchIndex.toFtsQuery("\"ads\" \"analytics"));
+        assertEquals("\"ads*\"", SearchIndex.toFtsQuery("ads\""));
+    }
+
+    @Test
+    public void toFtsQueryEscapesOperators() {
+        // Operators are only words inside a phrase, and the operator characters are dropped
+        assertEquals("\"ads OR analytics*\"", SearchIndex.toFtsQuery("ads OR analytics"));
+        assertEquals("\"NEAR ads analytics*\"", SearchIndex.toFtsQuery("NEAR(ads analytics)"));
+        assertEquals("\"content ads*\"", SearchIndex.toFtsQuery("content:ads"));
+        assertEquals("\"ads analytics*\"", SearchIndex.toFtsQuery("-ads +analytics*"));
+        assertEquals("\"ads analytics*\"", SearchIndex.toFtsQuery("^ads (analytics)"));
+    }
+
+    @Test
+    public void toFtsQueryWithoutWords() {
+        assertNull(SearchIndex.toFtsQuery(""));
+        assertNull(SearchIndex.toFtsQuery(" . "));
+        assertNull(SearchIndex.toFtsQuery("\"*\"()-+:^"));
+    }
+}
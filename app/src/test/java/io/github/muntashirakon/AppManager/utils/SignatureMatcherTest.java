@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.github.muntashirakon.AppManager.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SignatureMatcherTest {
+    private static final String[] SIGNATURES = {"com.facebook.ads", "com.google.firebase.analytics", "ads.", "com.fb",
+            "analytics", "com.google.ads"};
+
+    @Test
+    public void findFirst() {
+        SignatureMatcher matcher = new SignatureMatcher(SIGNATURES);
+        assertEquals(6, matcher.getSignatureCount());
+        assertEquals(0, matcher.findFirst("com.facebook.ads.AdActivity"));
+        assertEquals(1, matcher.findFirst("com.google.firebase.analytics.AnalyticsReceiver"));
+        // Both com.google.ads and ads. match, the first one in the list is returned
+        assertEquals(2, matcher.findFirst("com.google.ads.AdService"));
+        assertEquals(4, matcher.findFirst("io.analytics"));
+        assertEquals(-1, matcher.findFirst("com.google.firebase.messaging.FirebaseMessagingService"));
+        assertEquals(-1, matcher.findFirst(""));
+        assertEquals(3, matcher.findFirst("com.fbads"));
+    }
+
+    @Test
+    public void findAll() {
+        SignatureMatcher matcher = new SignatureMatcher(SIGNATURES);
+        assertArrayEquals(new int[]{2, 5}, matcher.findAll("com.google.ads.AdService"));
+        assertArrayEquals(new int[]{1, 4}, matcher.findAll("com.google.firebase.analytics.analytics"));
+        assertArrayEquals(new int[0], matcher.findAll("org.example.Activity"));
+        // A repeated signature is found at each of its indexes
+        matcher = new SignatureMatcher(new String[]{"ads.", "com.google", "ads."});
+        assertArrayEquals(new int[]{0, 1, 2}, matcher.findAll("com.google.ads.ads.AdService"));
+    }
+
+    @Test
+    public void matches() {
+        SignatureMatcher matcher = new SignatureMatcher(SIGNATURES);
+        assertTrue(matcher.matches("org.example.ads.Banner"));
+        assertFalse(matcher.matches("org.example.Banner"));
+        assertFalse(new SignatureMatcher(new String[0]).matches("com.facebook.ads"));
+    }
+
+    @Test
+    public void compareWithLoops() {
+        String[] signatures = generateSignatures(500);
+        List<String> classNames = generateClassNames(signatures, 20_000);
+        SignatureMatcher matcher = new SignatureMatcher(signatures);
+        for (String className : classNames) {
+            assertEquals(className, findFirstUsingLoop(signatures, className), matcher.findFirst(className));
+            assertArrayEquals(className, findAllUsingLoop(signatures, className), matcher.findAll(className));
+        }
+    }
+
+    private static int findFirstUsingLoop(String[] signatures, String className) {
+        for (int i = 0; i < signatures.length; ++i) {
+            if (className.contains(signatures[i])) return i;
+        }
+        return -1;
+    }
+
+    private static int[] findAllUsingLoop(String[] signatures, String className) {
+        List<Integer> found = new ArrayList<>();
+        for (int i = 0; i < signatures.length; ++i) {
+            if (className.contains(signatures[i])) found.add(i);
+        }
+        int[] indexes = new int[found.size()];
+        for (int i = 0; i < indexes.length; ++i) {
+            indexes[i] = found.get(i);
+        }
+        return indexes;
+    }
+
+    private static List<String> generateClassNames(String[] signatures, int count) {
+        Random random = new Random(0);
+        List<String> classNames = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            if (random.nextInt(10) == 0) {
+                classNames.add(signatures[random.nextInt(signatures.length)] + ".Class" + i);
+            } else {
+                classNames.add("org.example.app" + random.nextInt(100) + ".ui.Activity" + i);
+            }
+        }
+        return classNames;
+    }
+
+    /**
+     * Signatures similar to the tracker signatures, some of them are contained in the others
+     */
+    private static String[] generateSignatures(int count) {
+        Random random = new Random(0);
+        String[] parts = {"com", "io", "net", "google", "facebook", "ads", "analytics", "sdk", "tracker", "ad", "a"};
+        String[] signatures = new String[count];
+        for (int i = 0; i < count; ++i) {
+            if (i > 0 && random.nextInt(5) == 0) {
+                // Part of an earlier signature
+                String signature = signatures[random.nextInt(i)];
+                int begin = random.nextInt(signature.length());
+                signatures[i] = signature.substring(begin, begin + 1 + random.nextInt(signature.length() - begin));
+                continue;
+            }
+            StringBuilder sb = new StringBuilder();
+            for (int j = random.nextInt(4); j >= 0; --j) {
+                sb.append(parts[random.nextInt(parts.length)]).append('.');
+            }
+            if (random.nextBoolean()) sb.append(parts[random.nextInt(parts.length)]).append(i);
+            signatures[i] = sb.toString();
+        }
+        return signatures;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.dongliu.apk.parser.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ResourceLoaderTest {
+    @Test
+    public void systemAttrIds() {
+        IdNameTable attrIds = ResourceLoader.loadSystemAttrIds();
+        assertSame(attrIds, ResourceLoader.loadSystemAttrIds());
+        assertEquals(1402, attrIds.size());
+        assertEquals("theme", attrIds.get(0x01010000));
+        assertEquals("absListViewStyle", attrIds.get(16842858));
+        assertEquals("zygotePreloadName", attrIds.get(16844189));
+        assertNull(attrIds.get(0x0101ffff));
+        assertNull(attrIds.get(0x7f010000));
+    }
+
+    @Test
+    public void systemStyles() {
+        IdNameTable styles = ResourceLoader.loadSystemStyles();
+        assertEquals(736, styles.size());
+        assertEquals("Animation", styles.get(16973824));
+        assertEquals("DeviceDefault_ButtonBar", styles.get(16974287));
+        assertNull(styles.get(0x01030000 - 1));
+    }
+
+    @Test
+    public void table() {
+        IdNameTable table = new IdNameTable(0x100, "\000\002\u0100", "\000\001\003\006", "abbccc");
+        assertEquals("a", table.get(0x100));
+        assertEquals("bb", table.get(0x102));
+        assertEquals("ccc", table.get(0x200));
+        assertNull(table.get(0x101));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unsortedTable() {
+        new IdNameTable(0, "\002\001", "\000\001\002", "ab");
+    }
+}
@@ -2,5 +2,14 @@ package android.content.pm;
 
 import android.os.Parcelable;
 
+import java.util.List;
+
 public final class ChangedPackages implements Parcelable {
-}
\ No newline at end of file
+    public int getSequenceNumber() {
+        throw new UnsupportedOperationException();
+    }
+
+    public List<String> getPackageNames() {
+        throw new UnsupportedOperationException();
+    }
+}
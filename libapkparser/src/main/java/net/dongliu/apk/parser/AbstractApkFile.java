@@ -36,11 +36,14 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 
@@ -49,8 +52,6 @@ import javax.security.cert.X509Certificate;
 
 import androidx.annotation.NonNull;
 
-import static java.lang.System.arraycopy;
-
 /**
  * Common Apk Parser methods.
  * This Class is not thread-safe.
@@ -219,11 +220,11 @@ public abstract class AbstractApkFile implements Closeable {
         ApkMetaTranslator apkTranslator = new ApkMetaTranslator(this.resourceTable, this.preferredLocale);
         XmlStreamer xmlStreamer = new CompositeXmlStreamer(xmlTranslator, apkTranslator);
 
-        byte[] data = getFileData(AndroidConstants.MANIFEST_FILE);
-        if (data == null) {
+        ByteBuffer buffer = getFileBuffer(AndroidConstants.MANIFEST_FILE);
+        if (buffer == null) {
             throw new ParserException("Manifest file not found");
         }
-        transBinaryXml(data, xmlStreamer);
+        transBinaryXml(buffer, xmlStreamer);
         this.manifestXml = xmlTranslator.getXml();
         this.apkMeta = apkTranslator.getApkMeta();
         this.iconPaths = apkTranslator.getIconPaths();
@@ -235,6 +236,19 @@ public abstract class AbstractApkFile implements Closeable {
      */
     public abstract byte[] getFileData(String path) throws IOException;
 
+    /**
+     * read file in apk into a buffer, which may share its content with the apk file and must not be modified.
+     *
+     * @return null if file not exists
+     */
+    protected ByteBuffer getFileBuffer(String path) throws IOException {
+        byte[] data = getFileData(path);
+        if (data == null) {
+            return null;
+        }
+        return ByteBuffer.wrap(data);
+    }
+
     /**
      * return the whole apk file as ByteBuffer
      */
@@ -248,21 +262,20 @@ public abstract class AbstractApkFile implements Closeable {
      * @throws IOException
      */
     public String transBinaryXml(String path) throws IOException {
-        byte[] data = getFileData(path);
-        if (data == null) {
+        ByteBuffer buffer = getFileBuffer(path);
+        if (buffer == null) {
             return null;
         }
         parseResourceTable();
 
         XmlTranslator xmlTranslator = new XmlTranslator();
-        transBinaryXml(data, xmlTranslator);
+        transBinaryXml(buffer, xmlTranslator);
         return xmlTranslator.getXml();
     }
 
-    private void transBinaryXml(byte[] data, XmlStreamer xmlStreamer) throws IOException {
+    private void transBinaryXml(ByteBuffer buffer, XmlStreamer xmlStreamer) throws IOException {
         parseResourceTable();
 
-        ByteBuffer buffer = ByteBuffer.wrap(data);
         BinaryXmlParser binaryXmlParser = new BinaryXmlParser(buffer, resourceTable);
         binaryXmlParser.setLocale(preferredLocale);
         binaryXmlParser.setXmlStreamer(xmlStreamer);
@@ -285,14 +298,14 @@ public abstract class AbstractApkFile implements Closeable {
             String filePath = iconPath.getPath();
             if (filePath.endsWith(".xml")) {
                 // adaptive icon?
-                byte[] data = getFileData(filePath);
-                if (data == null) {
+                ByteBuffer buffer = getFileBuffer(filePath);
+                if (buffer == null) {
                     continue;
                 }
                 parseResourceTable();
 
                 AdaptiveIconParser iconParser = new AdaptiveIconParser();
-                transBinaryXml(data, iconParser);
+                transBinaryXml(buffer, iconParser);
                 Icon backgroundIcon = null;
                 if (iconParser.getBackground() != null) {
                     backgroundIcon = newFileIcon(iconParser.getBackground(), iconPath.getDensity());
@@ -363,39 +376,107 @@ public abstract class AbstractApkFile implements Closeable {
      */
     public DexClass[] getDexClasses() throws IOException {
         if (this.dexClasses == null) {
-            parseDexFiles();
+            List<DexClass> dexClassList = new ArrayList<>();
+            for (DexClass[] classes : new DexFileIterable()) {
+                Collections.addAll(dexClassList, classes);
+            }
+            this.dexClasses = dexClassList.toArray(new DexClass[0]);
         }
         return this.dexClasses;
     }
 
-    private DexClass[] mergeDexClasses(DexClass[] first, DexClass[] second) {
-        DexClass[] result = new DexClass[first.length + second.length];
-        arraycopy(first, 0, result, 0, first.length);
-        arraycopy(second, 0, result, first.length, second.length);
-        return result;
+    /**
+     * iterate over the classes of all the dex files. The dex files are parsed one at a time while iterating, and the
+     * names of the classes are only decoded when they are asked for.
+     */
+    public Iterable<DexClass> iterateDexClasses() {
+        if (this.dexClasses != null) {
+            return Arrays.asList(this.dexClasses);
+        }
+        return () -> new Iterator<DexClass>() {
+            private final Iterator<DexClass[]> dexFiles = new DexFileIterable().iterator();
+            private DexClass[] classes = new DexClass[0];
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                while (index == classes.length) {
+                    if (!dexFiles.hasNext()) {
+                        return false;
+                    }
+                    classes = dexFiles.next();
+                    index = 0;
+                }
+                return true;
+            }
+
+            @Override
+            public DexClass next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return classes[index++];
+            }
+        };
     }
 
     private DexClass[] parseDexFile(String path) throws IOException {
-        byte[] data = getFileData(path);
-        if (data == null) {
-            String msg = String.format("Dex file %s not found", path);
-            throw new ParserException(msg);
+        ByteBuffer buffer = getFileBuffer(path);
+        if (buffer == null) {
+            return null;
         }
-        ByteBuffer buffer = ByteBuffer.wrap(data);
         DexParser dexParser = new DexParser(buffer);
         return dexParser.parse();
     }
 
-    private void parseDexFiles() throws IOException {
-        this.dexClasses = parseDexFile(AndroidConstants.DEX_FILE);
-        for (int i = 2; i < 1000; i++) {
-            String path = String.format(Locale.ROOT, AndroidConstants.DEX_ADDITIONAL, i);
-            try {
-                DexClass[] classes = parseDexFile(path);
-                this.dexClasses = mergeDexClasses(this.dexClasses, classes);
-            } catch (ParserException e) {
-                break;
-            }
+    /**
+     * the classes of classes.dex, classes2.dex, etc. until one of them is missing.
+     */
+    private class DexFileIterable implements Iterable<DexClass[]> {
+        @Override
+        public Iterator<DexClass[]> iterator() {
+            return new Iterator<DexClass[]>() {
+                private int dexNumber = 1;
+                private DexClass[] next;
+
+                @Override
+                public boolean hasNext() {
+                    if (next == null && dexNumber > 0) {
+                        String path = dexNumber == 1 ? AndroidConstants.DEX_FILE
+                                : String.format(Locale.ROOT, AndroidConstants.DEX_ADDITIONAL, dexNumber);
+                        try {
+                            next = parseDexFile(path);
+                        } catch (IOException e) {
+                            throw new ParserException(e);
+                        } catch (ParserException e) {
+                            if (dexNumber == 1) {
+                                throw e;
+                            }
+                            next = null;
+                        }
+                        if (next == null) {
+                            if (dexNumber == 1) {
+                                throw new ParserException(String.format("Dex file %s not found", path));
+                            }
+                            // no more dex files
+                            dexNumber = -1;
+                        } else {
+                            ++dexNumber;
+                        }
+                    }
+                    return next != null;
+                }
+
+                @Override
+                public DexClass[] next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    DexClass[] classes = next;
+                    next = null;
+                    return classes;
+                }
+            };
         }
     }
 
@@ -407,15 +488,14 @@ public abstract class AbstractApkFile implements Closeable {
             return;
         }
         resourceTableParsed = true;
-        byte[] data = getFileData(AndroidConstants.RESOURCE_FILE);
-        if (data == null) {
+        ByteBuffer buffer = getFileBuffer(AndroidConstants.RESOURCE_FILE);
+        if (buffer == null) {
             // if no resource entry has been found, we assume it is not needed by this APK
             this.resourceTable = new ResourceTable();
             this.locales = Collections.emptySet();
             return;
         }
 
-        ByteBuffer buffer = ByteBuffer.wrap(data);
         ResourceTableParser resourceTableParser = new ResourceTableParser(buffer);
         resourceTableParser.parse();
         this.resourceTable = resourceTableParser.getResourceTable();
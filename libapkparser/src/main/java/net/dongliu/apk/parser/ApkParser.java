@@ -1,7 +1,9 @@
 package net.dongliu.apk.parser;
 
 import net.dongliu.apk.parser.bean.ApkSignStatus;
+import net.dongliu.apk.parser.exception.ParserException;
 import net.dongliu.apk.parser.utils.Inputs;
+import net.dongliu.apk.parser.utils.ZipBuffers;
 
 import java.io.*;
 import java.nio.ByteBuffer;
@@ -29,7 +31,10 @@ public class ApkParser extends AbstractApkFile implements Closeable {
     private final ZipFile zf;
     private final File apkFile;
     @Nullable
-    private FileChannel fileChannel;
+    private ByteBuffer mappedApk;
+    @Nullable
+    private ZipBuffers zipBuffers;
+    private boolean zipBuffersUnavailable;
 
     public ApkParser(File apkFile) throws IOException {
         this.apkFile = apkFile;
@@ -69,10 +74,40 @@ public class ApkParser extends AbstractApkFile implements Closeable {
         return Inputs.readAllAndClose(inputStream);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The entries are read from the apk file mapped into memory, so that stored entries are not copied at all.
+     */
+    @Override
+    protected ByteBuffer getFileBuffer(String path) throws IOException {
+        if (zipBuffers == null && !zipBuffersUnavailable) {
+            try {
+                zipBuffers = new ZipBuffers(fileData());
+            } catch (ParserException e) {
+                // e.g. zip64, fallback to ZipFile
+                zipBuffersUnavailable = true;
+            }
+        }
+        if (zipBuffers != null) {
+            try {
+                return zipBuffers.getEntry(path);
+            } catch (ParserException ignore) {
+                // Fallback to ZipFile
+            }
+        }
+        return super.getFileBuffer(path);
+    }
+
     @Override
     protected ByteBuffer fileData() throws IOException {
-        fileChannel = new FileInputStream(apkFile).getChannel();
-        return fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+        // the apk file is mapped only once
+        if (mappedApk == null) {
+            try (FileChannel fileChannel = new FileInputStream(apkFile).getChannel()) {
+                mappedApk = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+            }
+        }
+        return mappedApk.duplicate();
     }
 
 
@@ -114,9 +149,10 @@ public class ApkParser extends AbstractApkFile implements Closeable {
 
     @Override
     public void close() throws IOException {
+        zipBuffers = null;
+        mappedApk = null;
         try (Closeable ignored = ApkParser.super::close;
-             Closeable ignored1 = zf;
-             Closeable ignored2 = fileChannel) {
+             Closeable ignored1 = zf) {
         }
     }
 }
@@ -1,7 +1,9 @@
 package net.dongliu.apk.parser;
 
 import net.dongliu.apk.parser.bean.ApkSignStatus;
+import net.dongliu.apk.parser.exception.ParserException;
 import net.dongliu.apk.parser.utils.Inputs;
+import net.dongliu.apk.parser.utils.ZipBuffers;
 
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
@@ -23,6 +25,7 @@ import java.util.zip.ZipInputStream;
 public class ByteArrayApkFile extends AbstractApkFile implements Closeable {
 
     private byte[] apkData;
+    private ZipBuffers zipBuffers;
 
     public ByteArrayApkFile(byte[] apkData) {
         this.apkData = apkData;
@@ -58,6 +61,19 @@ public class ByteArrayApkFile extends AbstractApkFile implements Closeable {
         return null;
     }
 
+    @Override
+    protected ByteBuffer getFileBuffer(String path) throws IOException {
+        // entries are read from the array itself instead of inflating every entry before them
+        try {
+            if (zipBuffers == null) {
+                zipBuffers = new ZipBuffers(fileData());
+            }
+            return zipBuffers.getEntry(path);
+        } catch (ParserException e) {
+            return super.getFileBuffer(path);
+        }
+    }
+
     @Override
     protected ByteBuffer fileData() {
         return ByteBuffer.wrap(apkData).asReadOnlyBuffer();
@@ -73,5 +89,6 @@ public class ByteArrayApkFile extends AbstractApkFile implements Closeable {
     public void close() throws IOException {
         super.close();
         this.apkData = null;
+        this.zipBuffers = null;
     }
 }
@@ -1,27 +1,51 @@
 package net.dongliu.apk.parser.bean;
 
+import net.dongliu.apk.parser.struct.StringPool;
 import net.dongliu.apk.parser.struct.dex.DexClassStruct;
 
 import androidx.annotation.Nullable;
 
 /**
+ * A class of a dex file. When created from a string pool, the names are only decoded when they are asked for. The
+ * names are cached without locking, which is safe as strings are immutable: a thread that does not see the cached name
+ * decodes it again.
+ *
  * @author dongliu
  */
 public class DexClass {
     /**
      * the class name
      */
-    private final String classType;
-    private final String superClass;
+    private String classType;
+    private String superClass;
     private final int accessFlags;
+    @Nullable
+    private final StringPool stringPool;
+    private final int classTypeIdx;
+    private final int superClassIdx;
 
     public DexClass(String classType, String superClass, int accessFlags) {
         this.classType = classType;
         this.superClass = superClass;
         this.accessFlags = accessFlags;
+        this.stringPool = null;
+        this.classTypeIdx = -1;
+        this.superClassIdx = -1;
+    }
+
+    /**
+     * @param classTypeIdx  the index of the class type in the string pool
+     * @param superClassIdx the index of the super class type in the string pool, or -1 if there is none
+     */
+    public DexClass(StringPool stringPool, int classTypeIdx, int superClassIdx, int accessFlags) {
+        this.stringPool = stringPool;
+        this.classTypeIdx = classTypeIdx;
+        this.superClassIdx = superClassIdx;
+        this.accessFlags = accessFlags;
     }
 
     public String getPackageName() {
+        String classType = getClassType();
         String packageName = classType;
         if (packageName.length() > 0) {
             if (packageName.charAt(0) == 'L') {
@@ -40,11 +64,22 @@ public class DexClass {
     }
 
     public String getClassType() {
+        // Read the field only once, as another thread may set it in the meantime
+        String classType = this.classType;
+        if (classType == null && stringPool != null) {
+            classType = stringPool.get(classTypeIdx);
+            this.classType = classType;
+        }
         return classType;
     }
 
     @Nullable
     public String getSuperClass() {
+        String superClass = this.superClass;
+        if (superClass == null && stringPool != null && superClassIdx != -1) {
+            superClass = stringPool.get(superClassIdx);
+            this.superClass = superClass;
+        }
         return superClass;
     }
 
@@ -74,6 +109,6 @@ public class DexClass {
 
     @Override
     public String toString() {
-        return classType;
+        return getClassType();
     }
 }
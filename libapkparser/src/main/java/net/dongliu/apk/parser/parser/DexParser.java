@@ -22,9 +22,9 @@ import java.nio.ByteOrder;
  */
 public class DexParser {
 
-    private ByteBuffer buffer;
+    protected final ByteBuffer buffer;
 
-    private static final int NO_INDEX = 0xffffffff;
+    protected static final int NO_INDEX = 0xffffffff;
 
     public DexParser(ByteBuffer buffer) {
         this.buffer = buffer.duplicate();
@@ -32,25 +32,13 @@ public class DexParser {
     }
 
     public DexClass[] parse() {
-        // read magic
-        String magic = new String(Buffers.readBytes(buffer, 8));
-        if (!magic.startsWith("dex\n")) {
+        DexHeader header = readHeader();
+        if (header == null) {
             return new DexClass[0];
         }
-        int version = Integer.parseInt(magic.substring(4, 7));
-        // now the version is 035
-        if (version < 35) {
-            // version 009 was used for the M3 releases of the Android platform (November–December 2007),
-            // and version 013 was used for the M5 releases of the Android platform (February–March 2008)
-            throw new ParserException("Dex file version: " + version + " is not supported");
-        }
-
-        // read header
-        DexHeader header = readDexHeader();
-        header.setVersion(version);
 
-        // read string pool
-        long[] stringOffsets = readStringPool(header.getStringIdsOff(), header.getStringIdsSize());
+        // read string pool, the strings are decoded on demand
+        StringPool stringPool = readStrings(readStringPool(header.getStringIdsOff(), header.getStringIdsSize()));
 
         // read types
         int[] typeIds = readTypes(header.getTypeIdsOff(), header.getTypeIdsSize());
@@ -59,32 +47,51 @@ public class DexParser {
         DexClassStruct[] dexClassStructs = readClass(header.getClassDefsOff(),
                 header.getClassDefsSize());
 
-        StringPool stringpool = readStrings(stringOffsets);
-
-        String[] types = new String[typeIds.length];
-        for (int i = 0; i < typeIds.length; i++) {
-            types[i] = stringpool.get(typeIds[i]);
-        }
-
         DexClass[] dexClasses = new DexClass[dexClassStructs.length];
         for (int i = 0; i < dexClassStructs.length; i++) {
             DexClassStruct dexClassStruct = dexClassStructs[i];
-            String superClass = null;
+            int superClassIdx = -1;
             if (dexClassStruct.getSuperclassIdx() != NO_INDEX) {
-                superClass = types[dexClassStruct.getSuperclassIdx()];
+                superClassIdx = typeIds[dexClassStruct.getSuperclassIdx()];
             }
-            dexClasses[i] = new DexClass(
-                    types[dexClassStruct.getClassIdx()],
-                    superClass,
+            dexClasses[i] = new DexClass(stringPool,
+                    typeIds[dexClassStruct.getClassIdx()],
+                    superClassIdx,
                     dexClassStruct.getAccessFlags());
         }
         return dexClasses;
     }
 
+    /**
+     * read magic and dex header.
+     *
+     * @return the header, or null if this is not a dex file
+     */
+    protected DexHeader readHeader() {
+        Buffers.position(buffer, 0);
+        // read magic
+        String magic = new String(Buffers.readBytes(buffer, 8));
+        if (!magic.startsWith("dex\n")) {
+            return null;
+        }
+        int version = Integer.parseInt(magic.substring(4, 7));
+        // now the version is 035
+        if (version < 35) {
+            // version 009 was used for the M3 releases of the Android platform (November–December 2007),
+            // and version 013 was used for the M5 releases of the Android platform (February–March 2008)
+            throw new ParserException("Dex file version: " + version + " is not supported");
+        }
+
+        // read header
+        DexHeader header = readDexHeader();
+        header.setVersion(version);
+        return header;
+    }
+
     /**
      * read class info.
      */
-    private DexClassStruct[] readClass(long classDefsOff, int classDefsSize) {
+    protected DexClassStruct[] readClass(long classDefsOff, int classDefsSize) {
         Buffers.position(buffer, classDefsOff);
 
         DexClassStruct[] dexClassStructs = new DexClassStruct[classDefsSize];
@@ -109,7 +116,7 @@ public class DexParser {
     /**
      * read types.
      */
-    private int[] readTypes(long typeIdsOff, int typeIdsSize) {
+    protected int[] readTypes(long typeIdsOff, int typeIdsSize) {
         Buffers.position(buffer, typeIdsOff);
         int[] typeIds = new int[typeIdsSize];
         for (int i = 0; i < typeIdsSize; i++) {
@@ -119,43 +126,19 @@ public class DexParser {
     }
 
     /**
-     * read string pool for dex file.
+     * create a lazy string pool for dex file.
      * dex file string pool diff a bit with binary xml file or resource table.
      *
-     * @param offsets
-     * @return
-     * @throws IOException
+     * @param offsets the offsets of the strings, see {@link #readStringPool(long, int)}
      */
-    private StringPool readStrings(long[] offsets) {
-        // read strings.
-        // buffer some apk, the strings' offsets may not well ordered. we sort it first
-
-        StringPoolEntry[] entries = new StringPoolEntry[offsets.length];
-        for (int i = 0; i < offsets.length; i++) {
-            entries[i] = new StringPoolEntry(i, offsets[i]);
-        }
-
-        String lastStr = null;
-        long lastOffset = -1;
-        StringPool stringpool = new StringPool(offsets.length);
-        for (StringPoolEntry entry : entries) {
-            if (entry.getOffset() == lastOffset) {
-                stringpool.set(entry.getIdx(), lastStr);
-                continue;
-            }
-            Buffers.position(buffer, entry.getOffset());
-            lastOffset = entry.getOffset();
-            String str = readString();
-            lastStr = str;
-            stringpool.set(entry.getIdx(), str);
-        }
-        return stringpool;
+    protected StringPool readStrings(long[] offsets) {
+        return new StringPool(buffer, offsets, DexParser::readString);
     }
 
     /*
      * read string identifiers list.
      */
-    private long[] readStringPool(long stringIdsOff, int stringIdsSize) {
+    protected long[] readStringPool(long stringIdsOff, int stringIdsSize) {
         Buffers.position(buffer, stringIdsOff);
         long offsets[] = new long[stringIdsSize];
         for (int i = 0; i < stringIdsSize; i++) {
@@ -166,12 +149,16 @@ public class DexParser {
     }
 
     /**
-     * read dex encoding string.
+     * read dex encoding string at the current position.
      */
-    private String readString() {
+    protected String readString() {
+        return readString(buffer);
+    }
+
+    private static String readString(ByteBuffer buffer) {
         // the length is char len, not byte len
-        int strLen = readVarInts();
-        return readString(strLen);
+        int strLen = readVarInts(buffer);
+        return readString(buffer, strLen);
     }
 
     /**
@@ -179,7 +166,7 @@ public class DexParser {
      *
      * @param strLen the java-utf16-char len, not strLen nor bytes len.
      */
-    private String readString(int strLen) {
+    private static String readString(ByteBuffer buffer, int strLen) {
         char[] chars = new char[strLen];
 
         for (int i = 0; i < strLen; i++) {
@@ -216,7 +203,7 @@ public class DexParser {
      * @return
      * @throws IOException
      */
-    private int readVarInts() {
+    private static int readVarInts(ByteBuffer buffer) {
         int i = 0;
         int count = 0;
         short s;
@@ -2,6 +2,7 @@ package net.dongliu.apk.parser.struct;
 
 import net.dongliu.apk.parser.struct.resource.*;
 import net.dongliu.apk.parser.utils.Locales;
+import net.dongliu.apk.parser.utils.ResourceLoader;
 
 import java.util.List;
 import java.util.Locale;
@@ -137,7 +138,7 @@ public abstract class ResourceValue {
             long resourceId = getReferenceResourceId();
             // android system styles.
             if (resourceId > AndroidConstants.SYS_STYLE_ID_START && resourceId < AndroidConstants.SYS_STYLE_ID_END) {
-                return "@android:style/" + ResourceTable.sysStyle.get((int) resourceId);
+                return "@android:style/" + ResourceLoader.loadSystemStyles().get((int) resourceId);
             }
 
             String raw = "resourceId:0x" + Long.toHexString(resourceId);
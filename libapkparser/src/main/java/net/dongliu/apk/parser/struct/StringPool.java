@@ -1,22 +1,65 @@
 package net.dongliu.apk.parser.struct;
 
+import net.dongliu.apk.parser.utils.Buffers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 /**
- * String pool.
+ * String pool. A pool created from a buffer decodes its strings on first access and caches them. Such a pool may be
+ * read from several threads: the position of the shared buffer is never changed, and a string decoded by more than one
+ * thread at the same time is simply decoded twice.
  *
  * @author dongliu
  */
 public class StringPool {
-    private String[] pool;
+    /**
+     * Decode one string at the current position of a buffer.
+     */
+    public interface StringDecoder {
+        String decode(ByteBuffer buffer);
+    }
+
+    private final String[] pool;
+    // The position of this buffer is never changed, each decoding uses a duplicate
+    private final ByteBuffer buffer;
+    private final long[] offsets;
+    private final StringDecoder decoder;
 
     public StringPool(int poolSize) {
         pool = new String[poolSize];
+        buffer = null;
+        offsets = null;
+        decoder = null;
+    }
+
+    /**
+     * @param buffer  the buffer containing the strings, it is not copied
+     * @param offsets the absolute offsets of the strings in the buffer, by index
+     */
+    public StringPool(ByteBuffer buffer, long[] offsets, StringDecoder decoder) {
+        this.pool = new String[offsets.length];
+        this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.offsets = offsets;
+        this.decoder = decoder;
     }
 
     public String get(int idx) {
-        return pool[idx];
+        String str = pool[idx];
+        if (str == null && decoder != null) {
+            ByteBuffer buffer = this.buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            Buffers.position(buffer, offsets[idx]);
+            str = decoder.decode(buffer);
+            pool[idx] = str;
+        }
+        return str;
     }
 
     public void set(int idx, String value) {
         pool[idx] = value;
     }
+
+    public int size() {
+        return pool.length;
+    }
 }
@@ -1,10 +1,7 @@
 package net.dongliu.apk.parser.struct.resource;
 
-import android.util.SparseArray;
-
 import net.dongliu.apk.parser.struct.ResourceValue;
 import net.dongliu.apk.parser.struct.StringPool;
-import net.dongliu.apk.parser.utils.ResourceLoader;
 
 import java.util.*;
 
@@ -19,8 +16,6 @@ public class ResourceTable {
     private Map<Short, ResourcePackage> packageMap = new HashMap<>();
     private StringPool stringPool;
 
-    public static SparseArray<String> sysStyle = ResourceLoader.loadSystemStyles();
-
     public void addPackage(ResourcePackage resourcePackage) {
         this.packageMap.put(resourcePackage.getId(), resourcePackage);
     }
@@ -1,9 +1,8 @@
 package net.dongliu.apk.parser.struct.xml;
 
-import android.util.SparseArray;
-
 import net.dongliu.apk.parser.struct.ResourceValue;
 import net.dongliu.apk.parser.struct.resource.ResourceTable;
+import net.dongliu.apk.parser.utils.IdNameTable;
 import net.dongliu.apk.parser.utils.ResourceLoader;
 
 import java.util.Locale;
@@ -42,7 +41,7 @@ public class Attribute {
      */
     public static class AttrIds {
 
-        private static final SparseArray<String> ids = ResourceLoader.loadSystemAttrIds();
+        private static final IdNameTable ids = ResourceLoader.loadSystemAttrIds();
 
         public static String getString(long id) {
             String value = ids.get((int) id);
@@ -0,0 +1,66 @@
+package net.dongliu.apk.parser.utils;
+
+import java.util.Arrays;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * An immutable table of resource IDs and their names. The IDs are kept in a sorted array and looked up using binary
+ * search, while the names are kept in a single string and extracted on first access.
+ * <p>
+ * The table is built from three strings so that it can be stored as constants:
+ * <ul>
+ *     <li>IDs: each char is the offset of an ID from a base ID, in ascending order</li>
+ *     <li>Name offsets: each char is the offset of a name in the names, followed by the length of the names</li>
+ *     <li>Names: all the names concatenated</li>
+ * </ul>
+ */
+public final class IdNameTable {
+    private final int[] ids;
+    private final String nameOffsets;
+    private final String names;
+    private final String[] cache;
+
+    /**
+     * @throws IllegalArgumentException if the strings do not form a valid table
+     */
+    public IdNameTable(int baseId, @NonNull String ids, @NonNull String nameOffsets, @NonNull String names) {
+        int count = ids.length();
+        if (nameOffsets.length() != count + 1 || nameOffsets.charAt(count) != names.length()) {
+            throw new IllegalArgumentException("Invalid name offsets");
+        }
+        this.ids = new int[count];
+        for (int i = 0; i < count; ++i) {
+            this.ids[i] = baseId + ids.charAt(i);
+            if (i > 0 && this.ids[i - 1] >= this.ids[i]) {
+                throw new IllegalArgumentException("IDs are not sorted at index " + i);
+            }
+        }
+        this.nameOffsets = nameOffsets;
+        this.names = names;
+        this.cache = new String[count];
+    }
+
+    /**
+     * @return the name of the ID, or null if the ID is not in the table
+     */
+    @Nullable
+    public String get(int id) {
+        int idx = Arrays.binarySearch(ids, id);
+        if (idx < 0) {
+            return null;
+        }
+        // Strings are immutable, concurrent access could only extract the same name twice
+        String name = cache[idx];
+        if (name == null) {
+            name = names.substring(nameOffsets.charAt(idx), nameOffsets.charAt(idx + 1));
+            cache[idx] = name;
+        }
+        return name;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+}
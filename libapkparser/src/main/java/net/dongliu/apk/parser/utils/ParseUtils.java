@@ -1,7 +1,6 @@
 package net.dongliu.apk.parser.utils;
 
 import net.dongliu.apk.parser.exception.ParserException;
-import net.dongliu.apk.parser.parser.StringPoolEntry;
 import net.dongliu.apk.parser.struct.ResValue;
 import net.dongliu.apk.parser.struct.ResourceValue;
 import net.dongliu.apk.parser.struct.StringPool;
@@ -114,26 +113,12 @@ public class ParseUtils {
         long stringPos = beginPos + stringPoolHeader.getStringsStart() - stringPoolHeader.getHeaderSize();
         Buffers.position(buffer, stringPos);
 
-        StringPoolEntry[] entries = new StringPoolEntry[offsets.length];
+        // strings are decoded when they are first used
+        long[] stringOffsets = new long[offsets.length];
         for (int i = 0; i < offsets.length; i++) {
-            entries[i] = new StringPoolEntry(i, stringPos + Unsigned.toLong(offsets[i]));
-        }
-
-        String lastStr = null;
-        long lastOffset = -1;
-        StringPool stringPool = new StringPool(stringPoolHeader.getStringCount());
-        for (StringPoolEntry entry : entries) {
-            if (entry.getOffset() == lastOffset) {
-                stringPool.set(entry.getIdx(), lastStr);
-                continue;
-            }
-
-            Buffers.position(buffer, entry.getOffset());
-            lastOffset = entry.getOffset();
-            String str = ParseUtils.readString(buffer, utf8);
-            lastStr = str;
-            stringPool.set(entry.getIdx(), str);
+            stringOffsets[i] = stringPos + Unsigned.toLong(offsets[i]);
         }
+        StringPool stringPool = new StringPool(buffer, stringOffsets, b -> ParseUtils.readString(b, utf8));
 
         // read styles
         if (stringPoolHeader.getStyleCount() > 0) {
@@ -0,0 +1,771 @@
+package net.dongliu.apk.parser.utils;
+
+/**
+ * Names of the platform resources, as found in android.R, stored in the format of {@link IdNameTable}.
+ * <p>
+ * Generated by scripts/make_res_tables.php, do not edit.
+ */
+final class SystemResources {
+    private static final int ATTR_BASE = 0x01010000;
+
+    private static final String ATTR_IDS = "\000\001\002\003\004\005\006\007\010\011\012\013\014\015\016\017\020\021\022\023\024\025\026\027"
+            + "\030\031\032\033\034\035\036\037 !\"#$%&'()*+,-./0123456789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ[\\]"
+            + "^_`abcdefghijklmnopqrstuvwxyz{|}~\177\200\201\202\203\204\205\206\207\210\211\212\213\214\215"
+            + "\216\217\220\221\222\223\224\225\226\227\230\231\232\233\234\235\236\237\240\241\242\243\244\245"
+            + "\246\247\250\251\252\253\254\255\256\257\260\261\262\263\264\265\266\267\270\271\272\273\274\275"
+            + "\276\277\300\301\302\303\304\305\306\307\310\311\312\313\314\315\316\317\320\321\322\323\324\325"
+            + "\326\327\330\331\332\333\334\335\336\337\340\341\342\343\344\345\346\347\350\351\352\353\354\355"
+            + "\356\357\360\361\362\363\364\365\366\367\370\371\372\373\374\375\376\377\u0100\u0101\u0102\u0103"
+            + "\u0104\u0105\u0106\u0107\u0108\u0109\u010a\u010b\u010c\u010d\u010e\u010f\u0110\u0111\u0112\u0113"
+            + "\u0114\u0115\u0116\u0117\u0118\u0119\u011a\u011b\u011c\u011d\u011e\u011f\u0120\u0121\u0122\u0123"
+            + "\u0124\u0125\u0126\u0127\u0128\u0129\u012a\u012b\u012c\u012d\u012e\u012f\u0130\u0131\u0132\u0133"
+            + "\u0134\u0135\u0136\u0137\u0138\u0139\u013a\u013b\u013c\u013d\u013e\u013f\u0140\u0141\u0142\u0143"
+            + "\u0144\u0145\u0146\u0147\u0148\u0149\u014a\u014b\u014c\u014d\u014e\u014f\u0150\u0151\u0152\u0153"
+            + "\u0154\u0155\u0156\u0157\u0158\u0159\u015a\u015b\u015c\u015d\u015e\u015f\u0160\u0161\u0162\u0163"
+            + "\u0164\u0165\u0166\u0167\u0168\u0169\u016a\u016b\u016c\u016d\u016e\u016f\u0170\u0171\u0172\u0173"
+            + "\u0174\u0175\u0176\u0177\u0178\u0179\u017a\u017b\u017c\u017d\u017e\u017f\u0180\u0181\u0182\u0183"
+            + "\u0184\u0185\u0186\u0187\u0188\u0189\u018a\u018b\u018c\u018d\u018e\u018f\u0190\u0191\u0192\u0193"
+            + "\u0194\u0195\u0196\u0197\u0198\u0199\u019a\u019b\u019c\u019d\u019e\u019f\u01a0\u01a1\u01a2\u01a3"
+            + "\u01a4\u01a5\u01a6\u01a7\u01a8\u01a9\u01aa\u01ab\u01ac\u01ad\u01ae\u01af\u01b0\u01b1\u01b2\u01b3"
+            + "\u01b4\u01b5\u01b6\u01b7\u01b8\u01b9\u01ba\u01bb\u01bc\u01bd\u01be\u01bf\u01c0\u01c1\u01c2\u01c3"
+            + "\u01c4\u01c5\u01c6\u01c7\u01c8\u01c9\u01ca\u01cb\u01cc\u01cd\u01ce\u01cf\u01d0\u01d1\u01d2\u01d3"
+            + "\u01d4\u01d5\u01d6\u01d7\u01d8\u01d9\u01da\u01db\u01dc\u01dd\u01de\u01df\u01e0\u01e1\u01e2\u01e3"
+            + "\u01e4\u01e5\u01e6\u01e7\u01e8\u01e9\u01ea\u01eb\u01ec\u01ed\u01ee\u01ef\u01f0\u01f1\u01f2\u01f3"
+            + "\u01f4\u01f5\u01f6\u01f7\u01f8\u01f9\u01fa\u01fb\u01fc\u01fd\u01fe\u01ff\u0200\u0201\u0202\u0203"
+            + "\u0204\u0205\u0206\u0207\u0208\u0209\u020a\u020b\u020c\u020d\u020e\u020f\u0210\u0211\u0212\u0213"
+            + "\u0214\u0215\u0216\u0217\u0218\u0219\u021a\u021b\u021c\u021d\u021e\u021f\u0220\u0221\u0222\u0223"
+            + "\u0224\u0225\u0226\u0227\u0228\u0229\u022a\u022b\u022c\u022d\u022e\u022f\u0230\u0231\u0232\u0233"
+            + "\u0234\u0235\u0236\u0237\u0238\u0239\u023a\u023b\u023c\u023d\u023e\u023f\u0240\u0241\u0242\u0243"
+            + "\u0244\u0245\u0246\u0247\u0248\u0249\u024a\u024b\u024c\u024d\u024e\u024f\u0250\u0251\u0252\u0253"
+            + "\u0254\u0255\u0256\u0257\u0258\u0259\u025a\u025b\u025c\u025d\u025e\u025f\u0260\u0261\u0262\u0263"
+            + "\u0264\u0265\u0266\u0268\u0269\u026a\u026b\u026c\u026d\u026e\u026f\u0270\u0271\u0272\u0273\u0274"
+            + "\u0275\u0276\u0277\u0278\u0279\u027a\u027b\u027c\u027d\u027e\u027f\u0280\u0281\u0282\u0283\u0284"
+            + "\u0285\u0286\u0287\u0288\u0289\u028a\u028b\u028c\u028d\u028e\u028f\u0290\u0291\u0292\u0293\u0294"
+            + "\u0295\u0296\u0297\u0298\u0299\u029a\u029b\u029c\u029d\u029e\u029f\u02a0\u02a1\u02a2\u02a3\u02a4"
+            + "\u02a5\u02a6\u02a7\u02a8\u02a9\u02aa\u02ab\u02ac\u02ad\u02ae\u02af\u02b0\u02b1\u02b2\u02b3\u02b4"
+            + "\u02b5\u02b6\u02b7\u02b8\u02b9\u02ba\u02bb\u02bc\u02bd\u02be\u02bf\u02c0\u02c1\u02c2\u02c3\u02c4"
+            + "\u02c5\u02c6\u02c7\u02c8\u02c9\u02ca\u02cb\u02cc\u02cd\u02ce\u02cf\u02d0\u02d1\u02d2\u02d3\u02d4"
+            + "\u02d5\u02d6\u02d7\u02d8\u02d9\u02da\u02db\u02dc\u02dd\u02de\u02df\u02e0\u02e1\u02e2\u02e3\u02e4"
+            + "\u02e5\u02e6\u02e7\u02e8\u02e9\u02ea\u02eb\u02ec\u02ed\u02ee\u02ef\u02f0\u02f1\u02f2\u02f3\u02f4"
+            + "\u02f5\u02f6\u02f7\u02f8\u02f9\u02fa\u02fb\u02fc\u02fd\u02fe\u02ff\u0300\u0301\u0302\u0303\u0304"
+            + "\u0305\u0306\u0307\u0308\u0309\u030a\u030b\u030c\u030d\u030e\u030f\u0310\u0311\u0312\u0313\u0314"
+            + "\u0315\u0316\u0317\u0318\u0319\u031a\u031b\u031c\u031d\u031e\u031f\u0320\u0321\u0322\u0323\u0324"
+            + "\u0325\u0326\u0327\u0328\u0329\u032a\u032b\u032c\u032d\u032e\u032f\u0330\u0331\u0332\u0333\u0334"
+            + "\u0335\u0336\u0337\u0338\u0339\u033a\u033b\u033c\u033d\u033e\u033f\u0340\u0341\u0342\u0343\u0344"
+            + "\u0345\u0346\u0347\u0348\u0349\u034b\u034c\u034d\u034e\u034f\u0350\u0351\u0352\u0353\u0354\u0355"
+            + "\u0356\u0357\u0358\u0359\u035a\u035b\u035c\u035d\u035e\u035f\u0360\u0361\u0362\u0363\u0364\u0365"
+            + "\u0366\u0367\u0368\u0369\u036a\u036b\u036c\u036d\u036e\u036f\u0370\u0371\u0372\u0373\u0374\u0375"
+            + "\u0376\u0377\u0378\u0379\u037a\u037b\u037c\u037d\u037e\u037f\u0380\u0381\u0382\u0383\u0384\u0385"
+            + "\u0386\u0387\u0388\u0389\u038a\u038b\u038c\u038d\u038e\u038f\u0390\u0391\u0392\u0393\u0394\u0395"
+            + "\u0396\u0397\u0398\u0399\u039a\u039b\u039c\u039d\u039e\u039f\u03a0\u03a1\u03a2\u03a3\u03a4\u03a5"
+            + "\u03a6\u03a7\u03a9\u03aa\u03ab\u03ac\u03ad\u03ae\u03af\u03b0\u03b1\u03b2\u03b3\u03b4\u03b5\u03b6"
+            + "\u03b7\u03b8\u03b9\u03ba\u03bb\u03bc\u03bd\u03be\u03bf\u03c0\u03c1\u03c2\u03c4\u03c5\u03c6\u03c7"
+            + "\u03c8\u03c9\u03ca\u03cb\u03cc\u03cd\u03ce\u03cf\u03d0\u03d1\u03d2\u03d3\u03d4\u03d5\u03d6\u03d7"
+            + "\u03d8\u03d9\u03da\u03db\u03dc\u03dd\u03de\u03df\u03e0\u03e1\u03e2\u03e3\u03e4\u03e5\u03e6\u03e7"
+            + "\u03e8\u03e9\u03ea\u03eb\u03ec\u03ed\u03ee\u03ef\u03f0\u03f1\u03f2\u03f3\u03f4\u03f5\u03f6\u03f7"
+            + "\u03f8\u03f9\u03fa\u03fb\u03fc\u03fd\u03fe\u03ff\u0400\u0401\u0402\u0403\u0404\u0405\u0406\u0407"
+            + "\u0408\u0409\u040a\u040b\u040c\u040d\u0429\u042a\u042b\u042c\u042d\u042e\u042f\u0430\u0431\u0432"
+            + "\u0433\u0434\u0435\u0436\u0437\u0438\u0439\u043a\u043b\u043c\u043d\u043e\u043f\u0440\u0441\u0442"
+            + "\u0443\u0444\u0445\u0446\u0447\u0448\u0449\u044a\u044b\u044c\u044d\u044e\u044f\u0450\u0451\u0452"
+            + "\u0453\u0454\u0455\u0456\u0457\u0458\u0459\u045a\u045b\u045c\u045d\u0461\u0462\u0463\u0464\u0465"
+            + "\u0466\u0467\u0468\u0469\u046a\u046b\u046c\u046d\u046e\u046f\u0470\u0471\u0472\u0473\u0474\u0475"
+            + "\u0476\u0477\u0478\u0479\u047a\u047b\u047c\u047d\u047e\u047f\u0480\u0481\u0482\u0483\u0484\u0485"
+            + "\u0486\u0487\u0488\u0489\u048a\u048b\u048c\u048d\u048e\u048f\u0490\u0491\u0492\u0493\u0494\u0495"
+            + "\u0496\u0497\u0498\u0499\u049a\u049b\u049c\u049d\u049e\u049f\u04a0\u04a1\u04a2\u04a3\u04a4\u04a5"
+            + "\u04a7\u04a8\u04a9\u04aa\u04ab\u04ac\u04ad\u04ae\u04af\u04b0\u04b1\u04b2\u04b3\u04b4\u04b5\u04b6"
+            + "\u04b7\u04b8\u04b9\u04ba\u04bb\u04bc\u04bd\u04be\u04bf\u04c0\u04c1\u04c2\u04c3\u04c4\u04c5\u04c6"
+            + "\u04c7\u04c8\u04c9\u04ca\u04cb\u04cc\u04cd\u04ce\u04cf\u04d0\u04d1\u04d2\u04d3\u04d4\u04d5\u04d6"
+            + "\u04d7\u04d8\u04d9\u04da\u04db\u04dc\u04dd\u04de\u04df\u04e0\u04e1\u04e2\u04e3\u04e4\u04e5\u04e6"
+            + "\u04e7\u04e8\u04e9\u04ea\u04eb\u04ec\u04ed\u04ee\u04ef\u04f0\u04f1\u04f2\u04f3\u04f4\u04f5\u04f6"
+            + "\u04f7\u04f8\u04f9\u04fa\u04fb\u04fc\u04fd\u04fe\u04ff\u0500\u0501\u0502\u0503\u0504\u0505\u0506"
+            + "\u0507\u0508\u0509\u050a\u050b\u050c\u050d\u050e\u050f\u0510\u0511\u0512\u0513\u0514\u0515\u0516"
+            + "\u0517\u0518\u0519\u051a\u051b\u051c\u051d\u051e\u051f\u0520\u0521\u0522\u0523\u0524\u0525\u0527"
+            + "\u0528\u0529\u052a\u052b\u052c\u052d\u052e\u052f\u0530\u0531\u0532\u0533\u0534\u0535\u0536\u0537"
+            + "\u0538\u0539\u053a\u053b\u053c\u053d\u053e\u053f\u0540\u0541\u0542\u0543\u0544\u0545\u0546\u0547"
+            + "\u0548\u0549\u054a\u054b\u054c\u054d\u054e\u054f\u0550\u0551\u0552\u0553\u0554\u0555\u0556\u0557"
+            + "\u0558\u0559\u055a\u055b\u055c\u055d\u055e\u055f\u0560\u0561\u0562\u0563\u0564\u0567\u0568\u0569"
+            + "\u056a\u056b\u056c\u056d\u056e\u056f\u0570\u0571\u0574\u0575\u0576\u0577\u0579\u057a\u057b\u057c"
+            + "\u057d\u057e\u057f\u0580\u0581\u0582\u0583\u0585\u0586\u0587\u0588\u0589\u058a\u058b\u058c\u058f"
+            + "\u0590\u0591\u0592\u0593\u0594\u0595\u0596\u0597\u0598\u0599\u059a\u059b\u059c\u059d\u059e\u059f"
+            + "\u0601\u0602\u0603\u0604\u0605\u0606";
+
+    private static final String ATTR_NAME_OFFSETS = "\000\005\012\016\022%7AO^m|\210\217\231\240\252\262\271\305\321\343\364\u0102\u0114\u011f\u0127"
+            + "\u0130\u0143\u014b\u0155\u0166\u0173\u017e\u018b\u019a\u01a8\u01ad\u01b5\u01bd\u01c3\u01c7\u01cb"
+            + "\u01cf\u01d9\u01e4\u01ea\u01ee\u01f9\u0208\u0217\u022a\u0237\u0245\u025a\u026a\u0285\u0297\u02ae"
+            + "\u02c7\u02e0\u02fb\u031b\u033d\u0351\u0364\u0378\u038b\u03a5\u03c0\u03da\u03e7\u03fb\u0406\u0416"
+            + "\u0426\u0437\u044c\u0463\u0489\u04b0\u04d8\u0501\u052a\u0554\u0564\u056f\u057c\u058c\u059f\u05b3"
+            + "\u05c2\u05d2\u05ec\u05fc\u060b\u061e\u0632\u0646\u0659\u0666\u067e\u0694\u06ac\u06c2\u06e4\u0704"
+            + "\u0714\u072d\u073a\u074f\u075c\u0773\u077f\u078c\u079c\u07aa\u07b7\u07c9\u07d9\u07e9\u0803\u0818"
+            + "\u082d\u0839\u0847\u085a\u086a\u0878\u0887\u0893\u089c\u08aa\u08b7\u08c3\u08d4\u08ec\u0902\u0912"
+            + "\u091e\u0933\u094a\u0964\u0973\u098a\u099e\u09b3\u09ca\u09e1\u09f6\u09fe\u0a06\u0a0f\u0a18\u0a2a"
+            + "\u0a37\u0a44\u0a51\u0a65\u0a72\u0a81\u0a8e\u0a9c\u0aa8\u0ab4\u0abf\u0acb\u0ad5\u0ae2\u0af0\u0afb"
+            + "\u0b0d\u0b16\u0b17\u0b18\u0b2c\u0b33\u0b3b\u0b49\u0b50\u0b5e\u0b72\u0b85\u0b98\u0bab\u0bc5\u0bde"
+            + "\u0bf9\u0c13\u0c29\u0c3e\u0c55\u0c6b\u0c84\u0c9c\u0cb4\u0ccb\u0cd6\u0cdd\u0ce5\u0cec\u0cf6\u0d00"
+            + "\u0d0a\u0d13\u0d1f\u0d2b\u0d37\u0d43\u0d45\u0d48\u0d4f\u0d56\u0d60\u0d67\u0d72\u0d7c\u0d88\u0d95"
+            + "\u0d9e\u0db2\u0dbc\u0dcd\u0dd7\u0de1\u0df1\u0dfe\u0e0c\u0e17\u0e24\u0e2d\u0e3a\u0e45\u0e58\u0e6c"
+            + "\u0e78\u0e85\u0e94\u0ea2\u0eb8\u0ecc\u0ee1\u0ef7\u0efd\u0f07\u0f13\u0f20\u0f2d\u0f3e\u0f4e\u0f60"
+            + "\u0f73\u0f7f\u0f90\u0f9f\u0fad\u0fbe\u0fcc\u0fda\u0fde\u0fe7\u0ff2\u0ff8\u0fff\u1005\u100e\u1018"
+            + "\u102a\u1038\u1046\u1053\u1061\u1073\u1086\u1092\u10a3\u10aa\u10bb\u10ca\u10d5\u10e0\u10ea\u10ed"
+            + "\u10f6\u10fc\u1102\u110b\u111b\u1123\u112c\u1130\u1143\u1150\u1156\u115d\u116c\u1185\u118e\u1195"
+            + "\u11a2\u11ac\u11be\u11cf\u11de\u11ee\u11fc\u1211\u121a\u1221\u122f\u1237\u123a\u1242\u1253\u1260"
+            + "\u1271\u1286\u1296\u12ab\u12c0\u12c8\u12d1\u12dd\u12e2\u12ed\u12f5\u12fb\u1303\u130e\u131b\u1329"
+            + "\u1336\u1345\u1352\u135d\u1367\u136b\u136f\u1379\u1386\u138e\u1393\u1399\u13a1\u13a7\u13aa\u13af"
+            + "\u13b5\u13c7\u13cf\u13d9\u13e9\u13fb\u1404\u140f\u1417\u141f\u142b\u1432\u1438\u1443\u144e\u1458"
+            + "\u1460\u1468\u1473\u147e\u148c\u1498\u14a5\u14b4\u14c2\u14d4\u14e7\u14f7\u1506\u1511\u151d\u1529"
+            + "\u1535\u153b\u1544\u154b\u154f\u1557\u155f\u156c\u157b\u158b\u1597\u15a3\u15b7\u15c7\u15d6\u15e7"
+            + "\u15f9\u160f\u1624\u163b\u1653\u1668\u167f\u1694\u16b3\u16bf\u16c6\u16d5\u16e1\u16e8\u16f0\u16f8"
+            + "\u16fd\u170d\u171b\u1725\u172d\u1735\u173a\u173e\u1745\u174c\u175a\u175f\u1768\u176f\u1775\u1782"
+            + "\u1790\u17a0\u17b1\u17b5\u17b8\u17bd\u17c3\u17cb\u17d3\u17de\u17e7\u17ed\u17f3\u17fc\u1806\u180e"
+            + "\u1819\u182a\u1834\u183d\u1848\u1853\u185d\u1868\u1872\u187a\u1884\u188c\u1896\u189e\u18a8\u18b0"
+            + "\u18b9\u18c0\u18c5\u18ce\u18dc\u18e7\u18ef\u18f8\u1909\u190f\u1915\u191f\u1935\u1946\u195c\u1975"
+            + "\u198c\u199a\u19aa\u19c0\u19cc\u19db\u19ec\u19f1\u19ff\u1a11\u1a20\u1a29\u1a33\u1a42\u1a45\u1a4c"
+            + "\u1a51\u1a5d\u1a67\u1a73\u1a84\u1a8d\u1a97\u1aad\u1ab8\u1ac5\u1acf\u1ae1\u1af3\u1aff\u1b0a\u1b16"
+            + "\u1b21\u1b2b\u1b35\u1b40\u1b4c\u1b59\u1b6a\u1b72\u1b80\u1b95\u1ba9\u1bb9\u1bcf\u1be3\u1bfd\u1c07"
+            + "\u1c16\u1c21\u1c2e\u1c3e\u1c4d\u1c67\u1c7e\u1c84\u1c95\u1cad\u1cb8\u1ccb\u1cd7\u1ce7\u1cfc\u1d15"
+            + "\u1d30\u1d3b\u1d46\u1d58\u1d67\u1d7b\u1d84\u1d8d\u1da1\u1db2\u1dbe\u1dce\u1ddf\u1ded\u1dfc\u1e0b"
+            + "\u1e18\u1e2b\u1e42\u1e4b\u1e60\u1e75\u1e8d\u1e9c\u1ea9\u1eb6\u1ec1\u1ece\u1eda\u1eea\u1efa\u1f0a"
+            + "\u1f1c\u1f27\u1f3b\u1f43\u1f4c\u1f59\u1f64\u1f70\u1f75\u1f82\u1f91\u1f9d\u1fa7\u1faf\u1fbb\u1fc6"
+            + "\u1fd3\u1fdb\u1fe2\u1fee\u1fff\u200a\u201c\u2029\u2038\u204a\u2059\u2066\u2075\u2081\u208a\u2098"
+            + "\u209e\u20a5\u20b3\u20bc\u20d1\u20dc\u20e5\u20f4\u2101\u210f\u2119\u2127\u2132\u214a\u2161\u2168"
+            + "\u2174\u217e\u2194\u21a9\u21b0\u21c0\u21cd\u21d5\u21e7\u21f9\u2205\u221a\u2224\u2230\u2241\u225d"
+            + "\u227d\u2298\u22b1\u22bc\u22c7\u22d2\u22dd\u22f2\u2300\u230c\u2319\u2325\u233c\u2358\u2374\u238d"
+            + "\u23af\u23bc\u23c6\u23ce\u23d9\u23e9\u23f4\u2407\u2422\u243c\u2458\u2473\u2493\u24b2\u24d3\u24f3"
+            + "\u2504\u2514\u252b\u2534\u2546\u2568\u2587\u2594\u25a0\u25b3\u25bc\u25cb\u25e5\u25fa\u2619\u2627"
+            + "\u263f\u2657\u266d\u268e\u26b0\u26d1\u26f7\u271e\u2744\u274a\u2753\u276f\u277e\u2788\u2798\u27a9"
+            + "\u27b5\u27c2\u27d1\u27d5\u27e2\u27eb\u27f9\u2809\u2819\u2832\u2846\u285b\u286b\u2886\u2899\u28a3"
+            + "\u28b0\u28bf\u28ce\u28dc\u28ea\u28f8\u2900\u2916\u2929\u2940\u2950\u2964\u2977\u2988\u2994\u29a0"
+            + "\u29b4\u29cb\u29e2\u29eb\u29f2\u29fb\u2a07\u2a0f\u2a17\u2a2d\u2a47\u2a60\u2a7b\u2a95\u2aaf\u2ac8"
+            + "\u2ad5\u2ae5\u2af3\u2b07\u2b18\u2b35\u2b40\u2b54\u2b65\u2b79\u2b8e\u2ba7\u2bc1\u2bcf\u2be0\u2bf2"
+            + "\u2bfe\u2c0d\u2c29\u2c38\u2c4c\u2c5a\u2c76\u2c92\u2ca1\u2cb5\u2ccb\u2ce7\u2cf0\u2cfb\u2d0b\u2d1a"
+            + "\u2d2b\u2d3c\u2d4c\u2d64\u2d75\u2d8e\u2da3\u2db9\u2dd0\u2de9\u2e04\u2e14\u2e2a\u2e44\u2e56\u2e69"
+            + "\u2e7a\u2e82\u2e8c\u2e93\u2e98\u2ea7\u2eb6\u2ec2\u2ece\u2ed4\u2eda\u2ee2\u2eeb\u2ef4\u2f00\u2f0e"
+            + "\u2f23\u2f34\u2f3f\u2f4d\u2f61\u2f75\u2f8b\u2f9d\u2fad\u2fc6\u2fdd\u2ff4\u3013\u3033\u304a\u3063"
+            + "\u306f\u307f\u308d\u309b\u30a2\u30a9\u30b7\u30d2\u30e7\u30fe\u310d\u3123\u313a\u314f\u3161\u316e"
+            + "\u317f\u318e\u31a6\u31bf\u31d3\u31e0\u31f2\u320b\u3214\u3223\u3236\u3249\u3252\u3265\u326e\u3287"
+            + "\u3296\u32a7\u32c4\u32e3\u32fb\u330e\u3320\u332a\u3341\u3357\u336a\u3377\u338c\u339e\u33aa\u33b6"
+            + "\u33c3\u33d8\u33ec\u33f1\u33ff\u340c\u341c\u3436\u3452\u345a\u346b\u3476\u348a\u349b\u34a8\u34b2"
+            + "\u34c0\u34d1\u34ec\u34f7\u350e\u351a\u3533\u3546\u3558\u3570\u358c\u35a8\u35bb\u35ce\u35df\u35ee"
+            + "\u35f9\u360e\u3627\u363c\u3653\u366c\u3679\u3684\u3693\u36a1\u36b0\u36c4\u36cd\u36da\u36eb\u36fb"
+            + "\u3712\u372b\u3741\u375c\u376e\u3783\u37a4\u37c0\u37dd\u37ef\u37f8\u380a\u3819\u3832\u3840\u384a"
+            + "\u385f\u386e\u3879\u3886\u3893\u38a2\u38ae\u38b8\u38ca\u38da\u38ea\u38f8\u3909\u3918\u392f\u3944"
+            + "\u3961\u397c\u3986\u3997\u39a0\u39b5\u39c3\u39d7\u39df\u39ee\u3a02\u3a12\u3a1e\u3a2a\u3a32\u3a38"
+            + "\u3a44\u3a52\u3a65\u3a73\u3a7f\u3a92\u3aa3\u3ab8\u3acb\u3ae9\u3b0b\u3b24\u3b2e\u3b34\u3b3c\u3b45"
+            + "\u3b4c\u3b56\u3b68\u3b72\u3b7c\u3b7f\u3b88\u3b92\u3ba5\u3bab\u3bb3\u3bc1\u3bcd\u3bef\u3c02\u3c13"
+            + "\u3c2a\u3c41\u3c5c\u3c78\u3c7e\u3c92\u3c98\u3ca5\u3cb2\u3cc1\u3cd9\u3cf7\u3d03\u3d0b\u3d14\u3d1d"
+            + "\u3d26\u3d2f\u3d3d\u3d4c\u3d59\u3d67\u3d70\u3d78\u3d83\u3d8e\u3d9b\u3da6\u3db4\u3dc1\u3dcf\u3ddf"
+            + "\u3df1\u3e06\u3e17\u3e2c\u3e3b\u3e4e\u3e64\u3e6d\u3e7b\u3e9a\u3ea6\u3eb6\u3ec1\u3ed7\u3eec\u3f00"
+            + "\u3f22\u3f43\u3f65\u3f86\u3f94\u3fa2\u3fad\u3fb6\u3fbf\u3fcb\u3fde\u3ff5\u4007\u4011\u4026\u4037"
+            + "\u403b\u4041\u404b\u4055\u405f\u406a\u4074\u4093\u40a1\u40b3\u40c4\u40d3\u40e3\u40f4\u40ff\u410f"
+            + "\u4122\u412c\u4136\u4158\u4169\u418f\u419c\u41a8\u41b8\u41ce\u41e8\u41fd\u4216\u4227\u423c\u424a"
+            + "\u425c\u426a\u427c\u4286\u4294\u429d\u42aa\u42b8\u42c5\u42d2\u42e8\u42f1\u42fa\u4311\u4327\u4342"
+            + "\u435a\u4370\u4384\u4390\u439f\u43a8\u43ae\u43b8\u43c1\u43cb\u43de\u43ed\u43fd\u4419\u4434\u4450"
+            + "\u445e\u4471\u447a\u4490\u449f\u44be\u44dd\u44ec\u44ff\u4516\u452f\u454d\u4565\u457f\u4594\u45a5"
+            + "\u45b7\u45c6\u45db\u45f3\u460b\u461b\u4631\u4645\u4652\u4665\u4672\u4683\u468d\u4699\u46ac\u46c1"
+            + "\u46c9\u46df\u46f6\u4719\u473d\u474f\u475d\u476b\u4770\u477d\u4790\u479f\u47ad\u47b4\u47d2\u47da"
+            + "\u47ed\u47ff\u480e\u481c\u4838\u484e\u4865\u4889\u48a1\u48c6\u48df\u4902\u4926\u4935\u4940\u4949"
+            + "\u4962\u4971\u497b\u4995\u49b1\u49cc\u49e2\u49f0\u49fc\u4a08\u4a18\u4a20\u4a29\u4a36\u4a3b\u4a3e"
+            + "\u4a4b\u4a5f\u4a68\u4a7c\u4a91\u4aa8\u4ab6\u4ac7\u4ad4\u4ae4\u4af4\u4b0b\u4b1a\u4b2b\u4b3c\u4b50"
+            + "\u4b5c\u4b66\u4b75\u4b83\u4ba8\u4bb9\u4bc5\u4bd1\u4bde\u4bf0\u4c08\u4c13\u4c23\u4c31\u4c3f\u4c50"
+            + "\u4c5f\u4c6c\u4c78\u4c7d\u4c92\u4caf\u4cc7\u4ce6\u4cf5\u4d0c\u4d23\u4d2e\u4d39\u4d41\u4d4d\u4d5d"
+            + "\u4d6f\u4d7e\u4d96\u4d9c\u4da2\u4da6\u4daa\u4db0\u4dbb\u4dc1\u4dc9\u4dd1\u4dd8\u4dea\u4df3\u4dfc"
+            + "\u4e06\u4e0e\u4e22\u4e35\u4e51\u4e70\u4e8a\u4e9b\u4ea7\u4ebc\u4ec6\u4ed8\u4ee9\u4f00\u4f09\u4f13"
+            + "\u4f25\u4f3a\u4f48\u4f5c\u4f60\u4f6a\u4f75\u4f85\u4f9c\u4faf\u4fc2\u4fc5\u4fd6\u4fed\u5002\u5013"
+            + "\u5022\u502b\u5044\u5053\u5065\u506f\u507f\u508a\u509d\u50b4\u50be\u50c7\u50d0\u50de\u50f2\u510f"
+            + "\u5122\u5132\u5147\u5158\u516b\u5180\u518f\u51a1\u51ae\u51c1\u51d5\u51e3\u51eb\u51f9\u5208\u5219"
+            + "\u5221\u522d\u523b\u524c\u5268\u5286\u529f\u52b0\u52c3\u52d1\u52dd\u52e8\u5300\u5319\u5326\u532e"
+            + "\u5343\u5355\u536a\u537c\u538c\u5398\u53a6\u53b9\u53cc\u53e2\u53fa\u5414\u541e\u5432\u5448\u5461"
+            + "\u5473\u5481\u54a0\u54ab\u54bb\u54ca\u54db\u54ed\u54fd\u5514\u5520\u552f\u5539\u5549\u554e\u5562"
+            + "\u557a\u5586\u559c\u55b1\u55c3\u55d1\u55e6\u55f7\u5605\u5618\u5631\u5642\u565e\u5676\u5692\u569c";
+
+    private static final String ATTR_NAMES = "themelabeliconnamemanageSpaceActivityallowClearUserDatapermissionreadPermissionwritePermissionpr"
+            + "otectionLevelpermissionGroupsharedUserIdhasCodepersistentenableddebuggableexportedprocesstaskAff"
+            + "initymultiprocessfinishOnTaskLaunchclearTaskOnLaunchstateNotNeededexcludeFromRecentsauthoritiess"
+            + "yncableinitOrdergrantUriPermissionsprioritylaunchModescreenOrientationconfigChangesdescriptionta"
+            + "rgetPackagehandleProfilingfunctionalTestvalueresourcemimeTypeschemehostportpathpathPrefixpathPat"
+            + "ternactiondatatargetClasscolorForegroundcolorBackgroundbackgroundDimAmountdisabledAlphatextAppea"
+            + "rancetextAppearanceInversetextColorPrimarytextColorPrimaryDisableOnlytextColorSecondarytextColor"
+            + "PrimaryInversetextColorSecondaryInversetextColorPrimaryNoDisabletextColorSecondaryNoDisabletextC"
+            + "olorPrimaryInverseNoDisabletextColorSecondaryInverseNoDisabletextColorHintInversetextAppearanceL"
+            + "argetextAppearanceMediumtextAppearanceSmalltextAppearanceLargeInversetextAppearanceMediumInverse"
+            + "textAppearanceSmallInversetextCheckMarktextCheckMarkInversebuttonStylebuttonStyleSmallbuttonStyl"
+            + "eInsetbuttonStyleTogglegalleryItemBackgroundlistPreferredItemHeightexpandableListPreferredItemPa"
+            + "ddingLeftexpandableListPreferredChildPaddingLeftexpandableListPreferredItemIndicatorLeftexpandab"
+            + "leListPreferredItemIndicatorRightexpandableListPreferredChildIndicatorLeftexpandableListPreferre"
+            + "dChildIndicatorRightwindowBackgroundwindowFramewindowNoTitlewindowIsFloatingwindowIsTranslucentw"
+            + "indowContentOverlaywindowTitleSizewindowTitleStylewindowTitleBackgroundStylealertDialogStylepane"
+            + "lBackgroundpanelFullBackgroundpanelColorForegroundpanelColorBackgroundpanelTextAppearancescrollb"
+            + "arSizescrollbarThumbHorizontalscrollbarThumbVerticalscrollbarTrackHorizontalscrollbarTrackVertic"
+            + "alscrollbarAlwaysDrawHorizontalTrackscrollbarAlwaysDrawVerticalTrackabsListViewStyleautoComplete"
+            + "TextViewStylecheckboxStyledropDownListViewStyleeditTextStyleexpandableListViewStylegalleryStyleg"
+            + "ridViewStyleimageButtonStyleimageWellStylelistViewStylelistViewWhiteStylepopupWindowStyleprogres"
+            + "sBarStyleprogressBarStyleHorizontalprogressBarStyleSmallprogressBarStyleLargeseekBarStyleratingB"
+            + "arStyleratingBarStyleSmallradioButtonStylescrollbarStylescrollViewStylespinnerStylestarStyletabW"
+            + "idgetStyletextViewStylewebViewStyledropDownItemStylespinnerDropDownItemStyledropDownHintAppearan"
+            + "cespinnerItemStylemapViewStylepreferenceScreenStylepreferenceCategoryStylepreferenceInformationS"
+            + "tylepreferenceStylecheckBoxPreferenceStyleyesNoPreferenceStyledialogPreferenceStyleeditTextPrefe"
+            + "renceStyleringtonePreferenceStylepreferenceLayoutChildtextSizetypefacetextStyletextColortextColo"
+            + "rHighlighttextColorHinttextColorLinkstate_focusedstate_window_focusedstate_enabledstate_checkabl"
+            + "estate_checkedstate_selectedstate_activestate_singlestate_firststate_middlestate_laststate_press"
+            + "edstate_expandedstate_emptystate_above_anchorellipsizexywindowAnimationStylegravityautoLinklinks"
+            + "Clickableentrieslayout_gravitywindowEnterAnimationwindowExitAnimationwindowShowAnimationwindowHi"
+            + "deAnimationactivityOpenEnterAnimationactivityOpenExitAnimationactivityCloseEnterAnimationactivit"
+            + "yCloseExitAnimationtaskOpenEnterAnimationtaskOpenExitAnimationtaskCloseEnterAnimationtaskCloseEx"
+            + "itAnimationtaskToFrontEnterAnimationtaskToFrontExitAnimationtaskToBackEnterAnimationtaskToBackEx"
+            + "itAnimationorientationkeycodefullDarktopDarkcenterDarkbottomDarkfullBrighttopBrightcenterBrightb"
+            + "ottomBrightbottomMediumcenterMediumidtagscrollXscrollYbackgroundpaddingpaddingLeftpaddingToppadd"
+            + "ingRightpaddingBottomfocusablefocusableInTouchModevisibilityfitsSystemWindowsscrollbarsfadingEdg"
+            + "efadingEdgeLengthnextFocusLeftnextFocusRightnextFocusUpnextFocusDownclickablelongClickablesaveEn"
+            + "ableddrawingCacheQualityduplicateParentStateclipChildrenclipToPaddinglayoutAnimationanimationCac"
+            + "hepersistentDrawingCachealwaysDrawnWithCacheaddStatesFromChildrendescendantFocusabilitylayoutinf"
+            + "latedIdlayout_widthlayout_heightlayout_marginlayout_marginLeftlayout_marginToplayout_marginRight"
+            + "layout_marginBottomlistSelectordrawSelectorOnTopstackFromBottomscrollingCachetextFilterEnabledtr"
+            + "anscriptModecacheColorHintdialhand_hourhand_minuteformatcheckedbuttoncheckMarkforegroundmeasureA"
+            + "llChildrengroupIndicatorchildIndicatorindicatorLeftindicatorRightchildIndicatorLeftchildIndicato"
+            + "rRightchildDivideranimationDurationspacinghorizontalSpacingverticalSpacingstretchModecolumnWidth"
+            + "numColumnssrcantialiasfilterditherscaleTypeadjustViewBoundsmaxWidthmaxHeighttintbaselineAlignBot"
+            + "tomcropToPaddingtextOntextOffbaselineAlignedbaselineAlignedChildIndexweightSumdividerdividerHeig"
+            + "htchoiceModeitemTextAppearancehorizontalDividerverticalDividerheaderBackgrounditemBackgrounditem"
+            + "IconDisabledAlpharowHeightmaxRowsmaxItemsPerRowmoreIconmaxprogresssecondaryProgressindeterminate"
+            + "indeterminateOnlyindeterminateDrawableprogressDrawableindeterminateDurationindeterminateBehavior"
+            + "minWidthminHeightinterpolatorthumbthumbOffsetnumStarsratingstepSizeisIndicatorcheckedButtonstret"
+            + "chColumnsshrinkColumnscollapseColumnslayout_columnlayout_spanbufferTypetexthinttextScaleXcursorV"
+            + "isiblemaxLineslinesheightminLinesmaxEmsemswidthminEmsscrollHorizontallypasswordsingleLineselectA"
+            + "llOnFocusincludeFontPaddingmaxLengthshadowColorshadowDxshadowDyshadowRadiusnumericdigitsphoneNum"
+            + "berinputMethodcapitalizeautoTexteditablefreezesTextdrawableTopdrawableBottomdrawableLeftdrawable"
+            + "RightdrawablePaddingcompletionHintcompletionHintViewcompletionThresholddropDownSelectorpopupBack"
+            + "groundinAnimationoutAnimationflipIntervalfillViewportpromptstartYearendYearmodelayout_xlayout_yl"
+            + "ayout_weightlayout_toLeftOflayout_toRightOflayout_abovelayout_belowlayout_alignBaselinelayout_al"
+            + "ignLeftlayout_alignToplayout_alignRightlayout_alignBottomlayout_alignParentLeftlayout_alignParen"
+            + "tToplayout_alignParentRightlayout_alignParentBottomlayout_centerInParentlayout_centerHorizontall"
+            + "ayout_centerVerticallayout_alignWithParentIfMissinglayout_scalevisiblevariablePaddingconstantSiz"
+            + "eoneshotdurationdrawableshapeinnerRadiusRatiothicknessRatiostartColorendColoruseLevelangletypece"
+            + "nterXcenterYgradientRadiuscolordashWidthdashGapradiustopLeftRadiustopRightRadiusbottomLeftRadius"
+            + "bottomRightRadiuslefttoprightbottomminLevelmaxLevelfromDegreestoDegreespivotXpivotYinsetLeftinse"
+            + "tRightinsetTopinsetBottomshareInterpolatorfillBeforefillAfterstartOffsetrepeatCountrepeatModezAd"
+            + "justmentfromXScaletoXScalefromYScaletoYScalefromXDeltatoXDeltafromYDeltatoYDeltafromAlphatoAlpha"
+            + "delayanimationanimationOrdercolumnDelayrowDelaydirectiondirectionPriorityfactorcyclessearchModes"
+            + "earchSuggestAuthoritysearchSuggestPathsearchSuggestSelectionsearchSuggestIntentActionsearchSugge"
+            + "stIntentDataqueryActionMsgsuggestActionMsgsuggestActionMsgColumnmenuCategoryorderInCategorycheck"
+            + "ableBehaviortitletitleCondensedalphabeticShortcutnumericShortcutcheckableselectableorderingFromX"
+            + "mlkeysummaryorderwidgetLayoutdependencydefaultValueshouldDisableViewsummaryOnsummaryOffdisableDe"
+            + "pendentsStatedialogTitledialogMessagedialogIconpositiveButtonTextnegativeButtonTextdialogLayoute"
+            + "ntryValuesringtoneTypeshowDefaultshowSilentscaleWidthscaleHeightscaleGravityignoreGravityforegro"
+            + "undGravitytileModetargetActivityalwaysRetainTaskStateallowTaskReparentingsearchButtonTextcolorFo"
+            + "regroundInversetextAppearanceButtonlistSeparatorTextViewStylestreamTypeclipOrientationcenterColo"
+            + "rminSdkVersionwindowFullscreenunselectedAlphaprogressBarStyleSmallTitleratingBarStyleIndicatorap"
+            + "iKeytextColorTertiarytextColorTertiaryInverselistDividersoundEffectsEnabledkeepScreenOnlineSpaci"
+            + "ngExtralineSpacingMultiplierlistChoiceIndicatorSinglelistChoiceIndicatorMultipleversionCodeversi"
+            + "onNamemarqueeRepeatLimitwindowNoDisplaybackgroundDimEnabledinputTypeisDefaultwindowDisablePrevie"
+            + "wprivateImeOptionseditorExtrassettingsActivityfastScrollEnabledreqTouchScreenreqKeyboardTypereqH"
+            + "ardKeyboardreqNavigationwindowSoftInputModeimeFullscreenBackgroundnoHistoryheaderDividersEnabled"
+            + "footerDividersEnabledcandidatesTextStyleSpanssmoothScrollbarreqFiveWayNavkeyBackgroundkeyTextSiz"
+            + "elabelTextSizekeyTextColorkeyPreviewLayoutkeyPreviewOffsetkeyPreviewHeightverticalCorrectionpopu"
+            + "pLayoutstate_long_pressablekeyWidthkeyHeighthorizontalGapverticalGaprowEdgeFlagscodespopupKeyboa"
+            + "rdpopupCharacterskeyEdgeFlagsisModifierisStickyisRepeatableiconPreviewkeyOutputTextkeyLabelkeyIc"
+            + "onkeyboardModeisScrollContainerfillEnabledupdatePeriodMillisinitialLayoutvoiceSearchModevoiceLan"
+            + "guageModelvoicePromptTextvoiceLanguagevoiceMaxResultsbottomOffsettopOffsetallowSingleTaphandleco"
+            + "ntentanimateOnClickconfigurehapticFeedbackEnabledinnerRadiusthicknesssharedUserLabeldropDownWidt"
+            + "hdropDownAnchorimeOptionsimeActionLabelimeActionIdimeExtractEnterAnimationimeExtractExitAnimatio"
+            + "ntensionextraTensionanyDensitysearchSuggestThresholdincludeInGlobalSearchonClicktargetSdkVersion"
+            + "maxSdkVersiontestOnlycontentDescriptiongestureStrokeWidthgestureColoruncertainGestureColorfadeOf"
+            + "fsetfadeDurationgestureStrokeTypegestureStrokeLengthThresholdgestureStrokeSquarenessThresholdges"
+            + "tureStrokeAngleThresholdeventsInterceptionEnabledfadeEnabledbackupAgentallowBackupglEsVersionque"
+            + "ryAfterZeroResultsdropDownHeightsmallScreensnormalScreenslargeScreensprogressBarStyleInverseprog"
+            + "ressBarStyleSmallInverseprogressBarStyleLargeInversesearchSettingsDescriptiontextColorPrimaryInv"
+            + "erseDisableOnlyautoUrlDetectresizeablerequiredaccountTypecontentAuthorityuserVisiblewindowShowWa"
+            + "llpaperwallpaperOpenEnterAnimationwallpaperOpenExitAnimationwallpaperCloseEnterAnimationwallpape"
+            + "rCloseExitAnimationwallpaperIntraOpenEnterAnimationwallpaperIntraOpenExitAnimationwallpaperIntra"
+            + "CloseEnterAnimationwallpaperIntraCloseExitAnimationsupportsUploadingkillAfterRestorerestoreNeeds"
+            + "ApplicationsmallIconaccountPreferencestextAppearanceSearchResultSubtitletextAppearanceSearchResu"
+            + "ltTitlesummaryColumndetailColumndetailSocialSummarythumbnaildetachWallpaperfinishOnCloseSystemDi"
+            + "alogsscrollbarFadeDurationscrollbarDefaultDelayBeforeFadefadeScrollbarscolorBackgroundCacheHintd"
+            + "ropDownHorizontalOffsetdropDownVerticalOffsetquickContactBadgeStyleWindowSmallquickContactBadgeS"
+            + "tyleWindowMediumquickContactBadgeStyleWindowLargequickContactBadgeStyleSmallWindowSmallquickCont"
+            + "actBadgeStyleSmallWindowMediumquickContactBadgeStyleSmallWindowLargeauthorautoStartexpandableLis"
+            + "tViewWhiteStyleinstallLocationvmSafeModewebTextViewStylerestoreAnyVersiontabStripLefttabStripRig"
+            + "httabStripEnabledlogoxlargeScreensimmersiveoverScrollModeoverScrollHeaderoverScrollFooterfilterT"
+            + "ouchesWhenObscuredtextSelectHandleLefttextSelectHandleRighttextSelectHandletextSelectHandleWindo"
+            + "wStylepopupAnimationStylescreenSizescreenDensityallContactsNamewindowActionBaractionBarStylenavi"
+            + "gationModedisplayOptionssubtitlecustomNavigationLayouthardwareAcceleratedmeasureWithLargestChild"
+            + "animateFirstViewdropDownSpinnerStyleactionDropDownStyleactionButtonStyleshowAsActionpreviewImage"
+            + "actionModeBackgroundactionModeCloseDrawablewindowActionModeOverlayvalueFromvalueTovalueTypeprope"
+            + "rtyNameorderingfragmentwindowActionBarOverlayfragmentOpenEnterAnimationfragmentOpenExitAnimation"
+            + "fragmentCloseEnterAnimationfragmentCloseExitAnimationfragmentFadeEnterAnimationfragmentFadeExitA"
+            + "nimationactionBarSizeimeSubtypeLocaleimeSubtypeModeimeSubtypeExtraValuesplitMotionEventslistChoi"
+            + "ceBackgroundIndicatorspinnerModeanimateLayoutChangesactionBarTabStyleactionBarTabBarStyleactionB"
+            + "arTabTextStyleactionOverflowButtonStyleactionModeCloseButtonStyletitleTextStylesubtitleTextStyle"
+            + "iconifiedByDefaultactionLayoutactionViewClassactivatedBackgroundIndicatorstate_activatedlistPopu"
+            + "pWindowStylepopupMenuStyletextAppearanceLargePopupMenutextAppearanceSmallPopupMenubreadCrumbTitl"
+            + "ebreadCrumbShortTitlelistDividerAlertDialogtextColorAlertDialogListItemloopViewsdialogThemealert"
+            + "DialogThemedividerVerticalhomeAsUpIndicatorenterFadeDurationexitFadeDurationselectableItemBackgr"
+            + "oundautoAdvanceViewIduseIntrinsicSizeAsMinimumactionModeCutDrawableactionModeCopyDrawableactionM"
+            + "odePasteDrawabletextEditPasteWindowLayouttextEditNoPasteWindowLayouttextIsSelectablewindowEnable"
+            + "SplitTouchindeterminateProgressStyleprogressBarPaddinganimationResolutionstate_acceleratedbaseli"
+            + "nehomeLayoutopacityalphatransformPivotXtransformPivotYtranslationXtranslationYscaleXscaleYrotati"
+            + "onrotationXrotationYshowDividersdividerPaddingborderlessButtonStyledividerHorizontalitemPaddingb"
+            + "uttonBarStylebuttonBarButtonStylesegmentedButtonStylestaticWallpaperPreviewallowParallelSyncsisA"
+            + "lwaysSyncableverticalScrollbarPositionfastScrollAlwaysVisiblefastScrollThumbDrawablefastScrollPr"
+            + "eviewBackgroundLeftfastScrollPreviewBackgroundRightfastScrollTrackDrawablefastScrollOverlayPosit"
+            + "ioncustomTokensnextFocusForwardfirstDayOfWeekshowWeekNumberminDatemaxDateshownWeekCountselectedW"
+            + "eekBackgroundColorfocusedMonthDateColorunfocusedMonthDateColorweekNumberColorweekSeparatorLineCo"
+            + "lorselectedDateVerticalBarweekDayTextAppearancedateTextAppearancespinnersShowncalendarViewShowns"
+            + "tate_multilinedetailsElementBackgroundtextColorHighlightInversetextColorLinkInverseeditTextColor"
+            + "editTextBackgroundhorizontalScrollViewStylelayerTypealertDialogIconwindowMinWidthMajorwindowMinW"
+            + "idthMinorqueryHintfastScrollTextColorlargeHeapwindowCloseOnTouchOutsidedatePickerStylecalendarVi"
+            + "ewStyletextEditSidePasteWindowLayouttextEditSideNoPasteWindowLayoutactionMenuTextAppearanceactio"
+            + "nMenuTextColortextCursorDrawableresizeModerequiresSmallestWidthDpcompatibleWidthLimitDplargestWi"
+            + "dthLimitDpstate_hoveredstate_drag_can_acceptstate_drag_hoveredstopWithTaskswitchTextOnswitchText"
+            + "OffswitchPreferenceStyleswitchTextAppearancetrackswitchMinWidthswitchPaddingthumbTextPaddingtext"
+            + "SuggestionsWindowStyletextEditSuggestionItemLayoutrowCountrowOrderPreservedcolumnCountcolumnOrde"
+            + "rPreserveduseDefaultMarginsalignmentModelayout_rowlayout_rowSpanlayout_columnSpanactionModeSelec"
+            + "tAllDrawableisAuxiliaryaccessibilityEventTypespackageNamesaccessibilityFeedbackTypenotificationT"
+            + "imeoutaccessibilityFlagscanRetrieveWindowContentlistPreferredItemHeightLargelistPreferredItemHei"
+            + "ghtSmallactionBarSplitStyleactionProviderClassbackgroundStackedbackgroundSplittextAllCapscolorPr"
+            + "essedHighlightcolorLongPressedHighlightcolorFocusedHighlightcolorActivatedHighlightcolorMultiSel"
+            + "ectHighlightdrawableStartdrawableEndactionModeStyleminResizeWidthminResizeHeightactionBarWidgetT"
+            + "hemeuiOptionssubtypeLocalesubtypeExtraValueactionBarDivideractionBarItemBackgroundactionModeSpli"
+            + "tBackgroundtextAppearanceListItemtextAppearanceListItemSmalltargetDescriptionsdirectionDescripti"
+            + "onsoverridesImplicitlyEnabledSubtypelistPreferredItemPaddingLeftlistPreferredItemPaddingRightreq"
+            + "uiresFadingEdgepublicKeyparentActivityNameisolatedProcessimportantForAccessibilitykeyboardLayout"
+            + "fontFamilymediaRouteButtonStylemediaRouteTypessupportsRtltextDirectiontextAlignmentlayoutDirecti"
+            + "onpaddingStartpaddingEndlayout_marginStartlayout_marginEndlayout_toStartOflayout_toEndOflayout_a"
+            + "lignStartlayout_alignEndlayout_alignParentStartlayout_alignParentEndlistPreferredItemPaddingStar"
+            + "tlistPreferredItemPaddingEndsingleUserpresentationThemesubtypeIdinitialKeyguardLayoutwidgetCateg"
+            + "orypermissionGroupFlagslabelForpermissionFlagscheckedTextViewStyleshowOnLockScreenformat12Hourfo"
+            + "rmat24HourtimeZonemipMapmirrorForRtlwindowOverscanrequiredForAllUsersindicatorStartindicatorEndc"
+            + "hildIndicatorStartchildIndicatorEndrestrictedAccountTyperequiredAccountTypecanRequestTouchExplor"
+            + "ationModecanRequestEnhancedWebAccessibilitycanRequestFilterKeyEventslayoutModekeySettargetIdfrom"
+            + "ScenetoScenetransitiontransitionOrderingfadingModestartDelaysspsspPrefixsspPatternaddPrintersAct"
+            + "ivityvendorcategoryisAsciiCapableautoMirroredsupportsSwitchingToNextInputMethodrequireDeviceUnlo"
+            + "ckapduServiceBanneraccessibilityLiveRegionwindowTranslucentStatuswindowTranslucentNavigationadva"
+            + "ncedPrintOptionsActivitybannerwindowSwipeToDismissisGameallowEmbeddedsetupActivityfastScrollStyl"
+            + "ewindowContentTransitionswindowContentTransitionManagertranslationZtintModecontrolX1controlY1con"
+            + "trolX2controlY2transitionNametransitionGroupviewportWidthviewportHeightfillColorpathDatastrokeCo"
+            + "lorstrokeWidthtrimPathStarttrimPathEndtrimPathOffsetstrokeLineCapstrokeLineJoinstrokeMiterLimitc"
+            + "olorControlNormalcolorControlActivatedcolorButtonNormalcolorControlHighlightpersistableModetitle"
+            + "TextAppearancesubtitleTextAppearanceslideEdgeactionBarThemetextAppearanceListItemSecondarycolorP"
+            + "rimarycolorPrimaryDarkcolorAccentnestedScrollingEnabledwindowEnterTransitionwindowExitTransition"
+            + "windowSharedElementEnterTransitionwindowSharedElementExitTransitionwindowAllowReturnTransitionOv"
+            + "erlapwindowAllowEnterTransitionOverlapsessionServicestackViewStyleswitchStyleelevationexcludeIde"
+            + "xcludeClasshideOnContentScrollactionOverflowMenuStyledocumentLaunchModemaxRecentsautoRemoveFromR"
+            + "ecentsstateListAnimatortoIdfromIdreversiblesplitTracktargetNameexcludeNamematchOrderwindowDrawsS"
+            + "ystemBarBackgroundsstatusBarColornavigationBarColorcontentInsetStartcontentInsetEndcontentInsetL"
+            + "eftcontentInsetRightpaddingModelayout_rowWeightlayout_columnWeighttranslateXtranslateYselectable"
+            + "ItemBackgroundBorderlesselegantTextHeightwindowTransitionBackgroundFadeDurationoverlapAnchorprog"
+            + "ressTintprogressTintModeprogressBackgroundTintprogressBackgroundTintModesecondaryProgressTintsec"
+            + "ondaryProgressTintModeindeterminateTintindeterminateTintModebackgroundTintbackgroundTintModefore"
+            + "groundTintforegroundTintModebuttonTintbuttonTintModethumbTintthumbTintModefullBackupOnlyproperty"
+            + "XNamepropertyYNamerelinquishTaskIdentitytileModeXtileModeYactionModeShareDrawableactionModeFindD"
+            + "rawableactionModeWebSearchDrawabletransitionVisibilityModeminimumHorizontalAngleminimumVerticalA"
+            + "nglemaximumAnglesearchViewStylecloseIcongoIconsearchIconvoiceIconcommitIconsuggestionRowLayoutqu"
+            + "eryBackgroundsubmitBackgroundbuttonBarPositiveButtonStylebuttonBarNeutralButtonStylebuttonBarNeg"
+            + "ativeButtonStylepopupElevationactionBarPopupThememultiArchtouchscreenBlocksFocuswindowElevationl"
+            + "aunchTaskBehindTargetAnimationlaunchTaskBehindSourceAnimationrestrictionTypedayOfWeekBackgroundd"
+            + "ayOfWeekTextAppearanceheaderMonthTextAppearanceheaderDayOfMonthTextAppearanceheaderYearTextAppea"
+            + "ranceyearListItemTextAppearanceyearListSelectorColorcalendarTextColorrecognitionServicetimePicke"
+            + "rStyletimePickerDialogThemeheaderTimeTextAppearanceheaderAmPmTextAppearancenumbersTextColornumbe"
+            + "rsBackgroundColornumbersSelectorColoramPmTextColoramPmBackgroundColorcheckMarkTintcheckMarkTintM"
+            + "odepopupThemetoolbarStylewindowClipToOutlinedatePickerDialogThemeshowTextwindowReturnTransitionw"
+            + "indowReenterTransitionwindowSharedElementReturnTransitionwindowSharedElementReenterTransitionres"
+            + "umeWhilePausingdatePickerModetimePickerModeinsetletterSpacingfontFeatureSettingsoutlineProviderc"
+            + "ontentAgeHintcountrywindowSharedElementsUseOverlayreparentreparentWithOverlayambientShadowAlphas"
+            + "potShadowAlphanavigationIconnavigationContentDescriptionfragmentExitTransitionfragmentEnterTrans"
+            + "itionfragmentSharedElementEnterTransitionfragmentReturnTransitionfragmentSharedElementReturnTran"
+            + "sitionfragmentReenterTransitionfragmentAllowEnterTransitionOverlapfragmentAllowReturnTransitionO"
+            + "verlappatternPathDatastrokeAlphafillAlphawindowActivityTransitionscolorEdgeEffectresizeClipcolla"
+            + "pseContentDescriptionaccessibilityTraversalBeforeaccessibilityTraversalAfterdialogPreferredPaddi"
+            + "ngsearchHintIconrevisionCodedrawableTintdrawableTintModefractiontrackTinttrackTintModestartendbr"
+            + "eakStrategyhyphenationFrequencyallowUndowindowLightStatusBarnumbersInnerTextColorcolorBackground"
+            + "FloatingtitleTextColorsubtitleTextColorthumbPositionscrollIndicatorscontextClickablefingerprintA"
+            + "uthDrawablelogoDescriptionextractNativeLibsfullBackupContentusesCleartextTrafficlockTaskModeauto"
+            + "VerifyshowForAllUserssupportsAssistsupportsLaunchVoiceAssistFromKeyguardlistMenuViewStylesubMenu"
+            + "ArrowdefaultWidthdefaultHeightresizeableActivitysupportsPictureInPicturetitleMargintitleMarginSt"
+            + "arttitleMarginEndtitleMarginToptitleMarginBottommaxButtonHeightbuttonGravitycollapseIconlevelcon"
+            + "textPopupMenuStyletextAppearancePopupMenuHeaderwindowBackgroundFallbackdefaultToDeviceProtectedS"
+            + "toragedirectBootAwarepreferenceFragmentStylecanControlMagnificationlanguageTagpointerIcontickMar"
+            + "ktickMarkTinttickMarkTintModecanPerformGesturesexternalServicesupportsLocalInteractionstartXstar"
+            + "tYendXendYoffsetuse32bitAbibitmaphotSpotXhotSpotYversionbackupInForegroundcountDowncanRecordtune"
+            + "rCountfillTypepopupEnterTransitionpopupExitTransitionforceHasOverlappingRenderingcontentInsetSta"
+            + "rtWithNavigationcontentInsetEndWithActionsnumberPickerStyleenableVrModenetworkSecurityConfigshor"
+            + "tcutIdshortcutShortLabelshortcutLongLabelshortcutDisabledMessageroundIconcontextUricontextDescri"
+            + "ptionshowMetadataInPreviewcolorSecondaryvisibleToInstantAppsfontfontWeighttooltipTextautoSizeTex"
+            + "tTypeautoSizeStepGranularityautoSizePresetSizesautoSizeMinTextSizeminrotationAnimationlayout_mar"
+            + "ginHorizontallayout_marginVerticalpaddingHorizontalpaddingVerticalfontStylekeyboardNavigationClu"
+            + "stertargetProcessesnextClusterForwardcolorErrorfocusedByDefaultappCategoryautoSizeMaxTextSizerec"
+            + "reateOnConfigChangescertDigestsplitNamecolorModeisolatedSplitstargetSandboxVersioncanRequestFing"
+            + "erprintGesturesalphabeticModifiersnumericModifiersfontProviderAuthorityfontProviderQueryprimaryC"
+            + "ontentAlphasecondaryContentAlpharequiredFeaturerequiredNotFeatureautofillHintsfontProviderPackag"
+            + "eimportantForAutofillrecycleEnabledisStaticisFeatureSplitsingleLineTitlefontProviderCertsiconTin"
+            + "ticonTintModemaxAspectRatioiconSpaceReserveddefaultFocusHighlightEnabledpersistentWhenFeatureAva"
+            + "ilablewindowSplashscreenContentjustificationModeautofilledHighlightshowWhenLockedturnScreenOncla"
+            + "ssLoaderwindowLightNavigationBarnavigationBarDividerColorcantSaveStatettcIndexfontVariationSetti"
+            + "ngsdialogCornerRadiusscreenReaderFocusablebuttonCornerRadiusversionCodeMajorversionMajorwidgetFe"
+            + "aturesappComponentFactoryfallbackLineSpacingaccessibilityPaneTitlefirstBaselineToTopHeightlastBa"
+            + "selineToBottomHeightlineHeightaccessibilityHeadingoutlineSpotShadowColoroutlineAmbientShadowColo"
+            + "rmaxLongVersionCodetextFontWeightwindowLayoutInDisplayCutoutModepackageTypeopticalInsetLeftoptic"
+            + "alInsetTopopticalInsetRightopticalInsetBottomforceDarkAllowednonInteractiveUiTimeoutisLightTheme"
+            + "isSplitRequiredtextLocalesettingsSliceUrishellinteractiveUiTimeoutsupportsMultipleDisplaysuseApp"
+            + "ZygoteselectionDividerHeightforegroundServiceTypehasFragileUserDataminAspectRatioinheritShowWhen"
+            + "LockedzygotePreloadNameuseEmbeddedDexforceUriPermissionsallowAudioPlaybackCapturesecureElementNa"
+            + "merequestLegacyExternalStorageenforceStatusBarContrastenforceNavigationBarContrastidentifier";
+
+    private static final int STYLE_BASE = 0x01030000;
+
+    private static final String STYLE_IDS = "\000\001\002\003\004\005\006\007\010\011\012\013\014\015\016\017\020\021\022\023\024\025\026\027"
+            + "\030\031\032\033\034\035\036\037 !\"#$%&'()*+,-./0123456789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWYZ[\\]^"
+            + "_`abefghijklmnopqrstuvwxyz{|}~\177\200\201\202\203\204\205\206\207\210\211\212\213\214\215\216"
+            + "\217\220\221\222\223\224\225\226\227\230\231\232\233\234\235\236\237\240\241\242\243\244\245\246"
+            + "\247\250\251\252\253\254\255\256\257\260\261\262\263\264\265\266\267\270\271\272\273\274\275\276"
+            + "\277\300\301\302\303\304\305\306\307\310\311\312\313\314\315\316\317\320\321\322\323\324\325\326"
+            + "\327\330\331\332\333\334\335\336\337\340\341\342\343\344\345\346\347\350\351\352\353\354\355\356"
+            + "\357\360\361\362\363\364\365\366\367\370\371\372\373\374\375\376\377\u0100\u0101\u0102\u0103"
+            + "\u0104\u0105\u0106\u0107\u0108\u0109\u010a\u010b\u010c\u010d\u010e\u010f\u0110\u0111\u0112\u0113"
+            + "\u0114\u0115\u0116\u0117\u0118\u0119\u011a\u011b\u011c\u011d\u011e\u011f\u0120\u0121\u0122\u0123"
+            + "\u0124\u0125\u0126\u0127\u0128\u0129\u012a\u012b\u012c\u012d\u012e\u012f\u0130\u0131\u0132\u0133"
+            + "\u0134\u0135\u0136\u0137\u0138\u0139\u013a\u013b\u013c\u013d\u013e\u013f\u0140\u0141\u0142\u0143"
+            + "\u0144\u0145\u0146\u0147\u0148\u0149\u014a\u014b\u014c\u014d\u014e\u014f\u0150\u0151\u0152\u0153"
+            + "\u0154\u0155\u0156\u0157\u0158\u0159\u015a\u015b\u015c\u015d\u015e\u015f\u0160\u0161\u0162\u0163"
+            + "\u0164\u0165\u0166\u0167\u0168\u0169\u016a\u016b\u016c\u016d\u016e\u016f\u0170\u0171\u0172\u0173"
+            + "\u0174\u0175\u0176\u0177\u0178\u0179\u017a\u017b\u017c\u017d\u017e\u017f\u0180\u0181\u0182\u0183"
+            + "\u0184\u0185\u0186\u0187\u0188\u0189\u018a\u018b\u018c\u018d\u018e\u018f\u0190\u0191\u0192\u0193"
+            + "\u0194\u0195\u0196\u0197\u0198\u0199\u019a\u019b\u019c\u019d\u019e\u019f\u01a0\u01a1\u01a2\u01a3"
+            + "\u01a4\u01a5\u01a6\u01a7\u01a8\u01a9\u01aa\u01ab\u01ac\u01ad\u01ae\u01af\u01b0\u01b1\u01b2\u01b3"
+            + "\u01b4\u01b5\u01b6\u01b7\u01b8\u01b9\u01ba\u01bb\u01bc\u01bd\u01be\u01bf\u01c0\u01c1\u01c2\u01c3"
+            + "\u01c4\u01c5\u01c6\u01c7\u01c8\u01c9\u01ca\u01cb\u01cc\u01cd\u01ce\u01cf\u01d0\u01d1\u01d2\u01d3"
+            + "\u01d4\u01d5\u01d6\u01d7\u01d8\u01d9\u01da\u01db\u01dc\u01dd\u01de\u01df\u01e0\u01e1\u01e2\u01e3"
+            + "\u01e4\u01e5\u01e6\u01e7\u01e8\u01e9\u01ea\u01eb\u01ec\u01ed\u01ee\u01ef\u01f0\u01f1\u01f2\u01f3"
+            + "\u01f4\u01f5\u01f6\u01f7\u01f8\u01f9\u01fa\u01fb\u01fc\u01fd\u01fe\u01ff\u0200\u0201\u0202\u0203"
+            + "\u0204\u0205\u0206\u0207\u0208\u0209\u020a\u020b\u020c\u020d\u020e\u020f\u0210\u0211\u0212\u0213"
+            + "\u0214\u0215\u0216\u0217\u0218\u0219\u021a\u021b\u021c\u021d\u021e\u021f\u0220\u0221\u0222\u0223"
+            + "\u0224\u0225\u0226\u0227\u0228\u0229\u022a\u022b\u022c\u022d\u022e\u022f\u0230\u0231\u0232\u0233"
+            + "\u0234\u0235\u0236\u0237\u0238\u0239\u023a\u023b\u023c\u023d\u023e\u023f\u0240\u0241\u0242\u0243"
+            + "\u0244\u0245\u0246\u0247\u0248\u0249\u024a\u024b\u024c\u024d\u024e\u024f\u0250\u0251\u0252\u0253"
+            + "\u0254\u0255\u0256\u0257\u0258\u0259\u025a\u025b\u025c\u025d\u025e\u025f\u0260\u0261\u0262\u0263"
+            + "\u0264\u0265\u0266\u0267\u0268\u0269\u026a\u026b\u026c\u026d\u026e\u026f\u0270\u0271\u0272\u0273"
+            + "\u0274\u0275\u0276\u0277\u0278\u0279\u027a\u027b\u027c\u027d\u027e\u027f\u0280\u0281\u0282\u0283"
+            + "\u0284\u0285\u0286\u0287\u0288\u0289\u028a\u028b\u028c\u028d\u028e\u028f\u0290\u0291\u0292\u0293"
+            + "\u0294\u0295\u0296\u0297\u0298\u0299\u029a\u029b\u029c\u029d\u029e\u029f\u02a0\u02a1\u02a2\u02a3"
+            + "\u02a4\u02a5\u02a6\u02a7\u02a8\u02a9\u02aa\u02ab\u02ac\u02ad\u02ae\u02af\u02b0\u02b1\u02b2\u02b3"
+            + "\u02b4\u02b5\u02b6\u02b7\u02b8\u02b9\u02ba\u02bb\u02bc\u02bd\u02be\u02bf\u02c0\u02c1\u02c2\u02c3"
+            + "\u02c4\u02c5\u02c6\u02c7\u02c8\u02c9\u02ca\u02cb\u02cc\u02cd\u02ce\u02cf\u02d1\u02d2\u02d3\u02d4"
+            + "\u02d5\u02d6\u02d7\u02d8\u02d9\u02da\u02db\u02dc\u02dd\u02de\u02df\u02e0\u02e1\u02e3\u02e4";
+
+    private static final String STYLE_NAME_OFFSETS = "\000\011\033+@OTd\177\212\240\301\315\330\356\u010f\u0120\u013c\u0163\u0169\u017b\u0188\u019b"
+            + "\u01ae\u01c2\u01d7\u01f5\u0216\u0230\u0242\u025a\u0272\u028f\u029d\u02ad\u02bc\u02cb\u02e4\u02f4"
+            + "\u0306\u0321\u032f\u0348\u0363\u0376\u0391\u03a2\u03b1\u03c6\u03de\u03f2\u0401\u040f\u041f\u042d"
+            + "\u043f\u044a\u045e\u046e\u047e\u048e\u049d\u04ae\u04bc\u04d2\u04e6\u0506\u051a\u0536\u054b\u0568"
+            + "\u057c\u0598\u05b3\u05c8\u05e4\u0607\u0625\u0644\u0662\u068a\u06ac\u06ce\u06f8\u0712\u0723\u0732"
+            + "\u0747\u075a\u0765\u0776\u0790\u07b0\u07d0\u07df\u07f9\u081e\u0835\u0852\u0870\u088d\u08b2\u08dd"
+            + "\u08f0\u0913\u091d\u0933\u0954\u0964\u0975\u098f\u09ac\u09d2\u09e9\u0a09\u0a2c\u0a58\u0a72\u0a98"
+            + "\u0ab8\u0ae4\u0af4\u0b0a\u0b1e\u0b3d\u0b53\u0b78\u0b9d\u0bad\u0bc4\u0bd7\u0bed\u0bfd\u0c19\u0c36"
+            + "\u0c50\u0c5b\u0c6d\u0c85\u0c9d\u0cb6\u0cca\u0cea\u0d0d\u0d2a\u0d3e\u0d5c\u0d70\u0d87\u0d9b\u0db2"
+            + "\u0dc9\u0deb\u0e08\u0e2b\u0e48\u0e5b\u0e70\u0e8f\u0eaa\u0ed0\u0ee6\u0f06\u0f19\u0f38\u0f4d\u0f64"
+            + "\u0f77\u0f8f\u0faf\u0fcf\u0fea\u0fff\u1017\u1038\u105b\u1071\u1093\u10a8\u10b9\u10d1\u10ef\u110d"
+            + "\u112c\u1146\u116c\u1195\u11b8\u11d2\u11f6\u1210\u122d\u1247\u1264\u1281\u12a9\u12cc\u12f5\u1318"
+            + "\u133d\u1368\u1393\u13ac\u13c7\u13ec\u140d\u1439\u1455\u147b\u1494\u14b9\u14d4\u14f1\u150a\u1528"
+            + "\u154e\u1574\u1595\u15b0\u15ce\u15f5\u1611\u1639\u1654\u1671\u1680\u1695\u16a3\u16b7\u16d1\u16f1"
+            + "\u1705\u171f\u1732\u174a\u1768\u1779\u178f\u17ab\u17d2\u17ea\u1802\u1819\u1836\u1853\u186f\u1892"
+            + "\u18b5\u18d7\u18ea\u1905\u191e\u193f\u1959\u197b\u1994\u19b5\u19db\u1a04\u1a1e\u1a3f\u1a67\u1a8b"
+            + "\u1aae\u1adb\u1b02\u1b29\u1b58\u1b7b\u1b9f\u1bc9\u1bf3\u1c1d\u1c4a\u1c75\u1ca3\u1cc2\u1ce7\u1d09"
+            + "\u1d27\u1d4a\u1d73\u1da5\u1dda\u1e0d\u1e43\u1e6c\u1e87\u1ea8\u1ed1\u1efb\u1f26\u1f51\u1f75\u1f88"
+            + "\u1fa7\u1fd1\u1fea\u200f\u203f\u2059\u207c\u20a2\u20d1\u20f1\u211a\u2146\u217b\u219e\u21cd\u21f6"
+            + "\u222b\u2244\u2263\u2280\u22a8\u22c7\u22ee\u2302\u231d\u233e\u235f\u2381\u23ad\u23ca\u23f3\u241f"
+            + "\u2445\u2462\u2489\u24a6\u24c6\u24e3\u2503\u2523\u254e\u2574\u25a0\u25c6\u25e2\u2600\u2628\u264c"
+            + "\u267b\u269a\u26c3\u26df\u2707\u2725\u2745\u2761\u2782\u27ab\u27d4\u27f8\u2816\u2837\u2861\u288d"
+            + "\u28ac\u28d7\u28f5\u291b\u2933\u2954\u2973\u2999\u29bf\u29e4\u2a08\u2a22\u2a43\u2a6a\u2a91\u2ab9"
+            + "\u2aeb\u2b0e\u2b3d\u2b6f\u2b9b\u2bbe\u2beb\u2c0e\u2c34\u2c57\u2c7d\u2ca3\u2cd4\u2d00\u2d32\u2d5e"
+            + "\u2d8c\u2dc0\u2df4\u2e16\u2e3a\u2e68\u2e92\u2ec7\u2eec\u2f1b\u2f3d\u2f6b\u2f8f\u2fb5\u2fd7\u2ffe"
+            + "\u302d\u305c\u3086\u30aa\u30c8\u30ef\u3116\u3146\u316b\u319c\u31c0\u31ec\u3218\u3243\u326d\u329f"
+            + "\u32d2\u3306\u333a\u3367\u3383\u33a7\u33c9\u33f3\u3416\u3441\u3463\u348d\u34bc\u34ee\u3516\u3544"
+            + "\u3567\u3591\u35c2\u35ef\u361b\u3651\u3681\u36b1\u36e9\u3715\u3742\u3775\u37a8\u37db\u3811\u3845"
+            + "\u387c\u38b7\u38f5\u3931\u3970\u39a2\u39b9\u39dc\u39f9\u3a16\u3a3f\u3a62\u3a7e\u3aa0\u3ac5\u3af0"
+            + "\u3b0b\u3b2c\u3b50\u3b7a\u3b99\u3bbe\u3be6\u3c14\u3c3b\u3c68\u3c98\u3cce\u3cdf\u3cef\u3cfd\u3d1d"
+            + "\u3d3c\u3d5a\u3d7f\u3da3\u3dba\u3dd8\u3df5\u3e12\u3e31\u3e5a\u3e7a\u3e9a\u3eba\u3eda\u3efa\u3f19"
+            + "\u3f36\u3f5b\u3f79\u3f9f\u3fbb\u3fdf\u400c\u4035\u405f\u4088\u40b2\u40df\u4109\u4126\u414b\u416a"
+            + "\u4187\u41aa\u41c8\u41f5\u4226\u425f\u428d\u42c3\u42f5\u432f\u435e\u4395\u43ba\u43e5\u4410\u4437"
+            + "\u4463\u448b\u44b9\u44e7\u450f\u4536\u4567\u459a\u45c9\u45f5\u4611\u461f\u4634\u464f\u466d\u468e"
+            + "\u46b8\u46da\u46f8\u4722\u473c\u4756\u477b\u479e\u47c9\u47dd\u47f4\u4808\u4820\u4843\u4857\u4879"
+            + "\u4894\u48b5\u48d9\u4900\u4930\u4958\u497c\u49ac\u49cc\u49f7\u4a20\u4a51\u4a6b\u4a85\u4a91\u4aa6"
+            + "\u4ac5\u4ae0\u4afa\u4b1e\u4b2d\u4b46\u4b65\u4b85\u4ba6\u4bc7\u4be3\u4c09\u4c2e\u4c48\u4c6c\u4c82"
+            + "\u4ca3\u4ccc\u4cf3\u4d0f\u4d2b\u4d48\u4d61\u4d86\u4da2\u4dc1\u4de8\u4e12\u4e35\u4e4f\u4e6b\u4e8f"
+            + "\u4ea7\u4ec9\u4ee3\u4efb\u4f1f\u4f3a\u4f59\u4f71\u4f92\u4fb2\u4fcb\u4fed\u5008\u5023\u5049\u506a"
+            + "\u508b\u50b2\u50cb\u50ee\u510d\u5127\u5141\u5158\u5177\u5190\u51a7\u51c9\u51dc\u51f5\u520d\u5231"
+            + "\u524b\u5262\u528b\u52a6\u52bd\u52d2\u52f1\u5316\u533c\u5363\u538a\u53ac\u53d8\u5403\u5423\u544d"
+            + "\u5469\u5490\u54bf\u54ec\u550e\u5530\u5553\u5572\u559d\u55bf\u55e4\u5611\u5641\u566a\u568a\u56ac"
+            + "\u56d6\u56f4\u571c\u573c\u575a\u5784\u57a5\u57ca\u57e8\u580f\u5835\u5854\u587c\u589d\u58be\u58ea"
+            + "\u5913\u593a\u5969\u5990\u59bf\u59ec\u5a0b\u5a34\u5a59\u5a79\u5a99\u5ab6\u5adb\u5afa\u5b17\u5b3f"
+            + "\u5b58\u5b77\u5b95\u5bbf\u5bdf\u5c00\u5c1d\u5c3d\u5c63\u5c81\u5cae\u5cd1\u5ced\u5d0f\u5d41\u5d61"
+            + "\u5d86\u5db1\u5dcd\u5def\u5e1c\u5e54\u5e77\u5ea5\u5ec1\u5eeb";
+
+    private static final String STYLE_NAMES = "AnimationAnimation_ActivityAnimation_DialogAnimation_TranslucentAnimation_ToastThemeTheme_NoTitl"
+            + "eBarTheme_NoTitleBar_FullscreenTheme_BlackTheme_Black_NoTitleBarTheme_Black_NoTitleBar_Fullscree"
+            + "nTheme_DialogTheme_LightTheme_Light_NoTitleBarTheme_Light_NoTitleBar_FullscreenTheme_Translucent"
+            + "Theme_Translucent_NoTitleBarTheme_Translucent_NoTitleBar_FullscreenWidgetWidget_AbsListViewWidge"
+            + "t_ButtonWidget_Button_InsetWidget_Button_SmallWidget_Button_ToggleWidget_CompoundButtonWidget_Co"
+            + "mpoundButton_CheckBoxWidget_CompoundButton_RadioButtonWidget_CompoundButton_StarWidget_ProgressB"
+            + "arWidget_ProgressBar_LargeWidget_ProgressBar_SmallWidget_ProgressBar_HorizontalWidget_SeekBarWid"
+            + "get_RatingBarWidget_TextViewWidget_EditTextWidget_ExpandableListViewWidget_ImageWellWidget_Image"
+            + "ButtonWidget_AutoCompleteTextViewWidget_SpinnerWidget_TextView_PopupMenuWidget_TextView_SpinnerI"
+            + "temWidget_DropDownItemWidget_DropDownItem_SpinnerWidget_ScrollViewWidget_ListViewWidget_ListView"
+            + "_WhiteWidget_ListView_DropDownWidget_ListView_MenuWidget_GridViewWidget_WebViewWidget_TabWidgetW"
+            + "idget_GalleryWidget_PopupWindowMediaButtonMediaButton_PreviousMediaButton_NextMediaButton_PlayMe"
+            + "diaButton_FfwdMediaButton_RewMediaButton_PauseTextAppearanceTextAppearance_InverseTextAppearance"
+            + "_ThemeTextAppearance_DialogWindowTitleTextAppearance_LargeTextAppearance_Large_InverseTextAppear"
+            + "ance_MediumTextAppearance_Medium_InverseTextAppearance_SmallTextAppearance_Small_InverseTextAppe"
+            + "arance_Theme_DialogTextAppearance_WidgetTextAppearance_Widget_ButtonTextAppearance_Widget_IconMe"
+            + "nu_ItemTextAppearance_Widget_EditTextTextAppearance_Widget_TabWidgetTextAppearance_Widget_TextVi"
+            + "ewTextAppearance_Widget_TextView_PopupMenuTextAppearance_Widget_DropDownHintTextAppearance_Widge"
+            + "t_DropDownItemTextAppearance_Widget_TextView_SpinnerItemTextAppearance_WindowTitleTheme_InputMet"
+            + "hodTheme_NoDisplayAnimation_InputMethodWidget_KeyboardViewTheme_PanelTheme_Light_PanelWidget_Pro"
+            + "gressBar_InverseWidget_ProgressBar_Large_InverseWidget_ProgressBar_Small_InverseTheme_WallpaperT"
+            + "heme_Wallpaper_NoTitleBarTheme_Wallpaper_NoTitleBar_FullscreenTheme_WallpaperSettingsTheme_Light"
+            + "_WallpaperSettingsTextAppearance_StatusBar_TitleTextAppearance_StatusBar_IconTextAppearance_Stat"
+            + "usBar_EventContentTextAppearance_StatusBar_EventContent_TitleTheme_WithActionBarTheme_NoTitleBar"
+            + "_OverlayActionModesTheme_HoloTheme_Holo_NoActionBarTheme_Holo_NoActionBar_FullscreenTheme_Holo_L"
+            + "ightTheme_Holo_DialogTheme_Holo_Dialog_MinWidthTheme_Holo_Dialog_NoActionBarTheme_Holo_Dialog_No"
+            + "ActionBar_MinWidthTheme_Holo_Light_DialogTheme_Holo_Light_Dialog_MinWidthTheme_Holo_Light_Dialog"
+            + "_NoActionBarTheme_Holo_Light_Dialog_NoActionBar_MinWidthTheme_Holo_DialogWhenLargeTheme_Holo_Dia"
+            + "logWhenLarge_NoActionBarTheme_Holo_Light_DialogWhenLargeTheme_Holo_Light_DialogWhenLarge_NoActio"
+            + "nBarTheme_Holo_PanelTheme_Holo_Light_PanelTheme_Holo_WallpaperTheme_Holo_Wallpaper_NoTitleBarThe"
+            + "me_Holo_InputMethodTextAppearance_Widget_PopupMenu_LargeTextAppearance_Widget_PopupMenu_SmallWid"
+            + "get_ActionBarWidget_Spinner_DropDownWidget_ActionButtonWidget_ListPopupWindowWidget_PopupMenuWid"
+            + "get_ActionButton_OverflowWidget_ActionButton_CloseModeWidget_FragmentBreadCrumbsWidget_HoloWidge"
+            + "t_Holo_ButtonWidget_Holo_Button_SmallWidget_Holo_Button_InsetWidget_Holo_Button_ToggleWidget_Hol"
+            + "o_TextViewWidget_Holo_AutoCompleteTextViewWidget_Holo_CompoundButton_CheckBoxWidget_Holo_ListVie"
+            + "w_DropDownWidget_Holo_EditTextWidget_Holo_ExpandableListViewWidget_Holo_GridViewWidget_Holo_Imag"
+            + "eButtonWidget_Holo_ListViewWidget_Holo_PopupWindowWidget_Holo_ProgressBarWidget_Holo_ProgressBar"
+            + "_HorizontalWidget_Holo_ProgressBar_SmallWidget_Holo_ProgressBar_Small_TitleWidget_Holo_ProgressB"
+            + "ar_LargeWidget_Holo_SeekBarWidget_Holo_RatingBarWidget_Holo_RatingBar_IndicatorWidget_Holo_Ratin"
+            + "gBar_SmallWidget_Holo_CompoundButton_RadioButtonWidget_Holo_ScrollViewWidget_Holo_HorizontalScro"
+            + "llViewWidget_Holo_SpinnerWidget_Holo_CompoundButton_StarWidget_Holo_TabWidgetWidget_Holo_WebText"
+            + "ViewWidget_Holo_WebViewWidget_Holo_DropDownItemWidget_Holo_DropDownItem_SpinnerWidget_Holo_TextV"
+            + "iew_SpinnerItemWidget_Holo_ListPopupWindowWidget_Holo_PopupMenuWidget_Holo_ActionButtonWidget_Ho"
+            + "lo_ActionButton_OverflowWidget_Holo_ActionButton_TextButtonWidget_Holo_ActionModeWidget_Holo_Act"
+            + "ionButton_CloseModeWidget_Holo_ActionBarWidget_Holo_LightWidget_Holo_Light_ButtonWidget_Holo_Lig"
+            + "ht_Button_SmallWidget_Holo_Light_Button_InsetWidget_Holo_Light_Button_ToggleWidget_Holo_Light_Te"
+            + "xtViewWidget_Holo_Light_AutoCompleteTextViewWidget_Holo_Light_CompoundButton_CheckBoxWidget_Holo"
+            + "_Light_ListView_DropDownWidget_Holo_Light_EditTextWidget_Holo_Light_ExpandableListViewWidget_Hol"
+            + "o_Light_GridViewWidget_Holo_Light_ImageButtonWidget_Holo_Light_ListViewWidget_Holo_Light_PopupWi"
+            + "ndowWidget_Holo_Light_ProgressBarWidget_Holo_Light_ProgressBar_HorizontalWidget_Holo_Light_Progr"
+            + "essBar_SmallWidget_Holo_Light_ProgressBar_Small_TitleWidget_Holo_Light_ProgressBar_LargeWidget_H"
+            + "olo_Light_ProgressBar_InverseWidget_Holo_Light_ProgressBar_Small_InverseWidget_Holo_Light_Progre"
+            + "ssBar_Large_InverseWidget_Holo_Light_SeekBarWidget_Holo_Light_RatingBarWidget_Holo_Light_RatingB"
+            + "ar_IndicatorWidget_Holo_Light_RatingBar_SmallWidget_Holo_Light_CompoundButton_RadioButtonWidget_"
+            + "Holo_Light_ScrollViewWidget_Holo_Light_HorizontalScrollViewWidget_Holo_Light_SpinnerWidget_Holo_"
+            + "Light_CompoundButton_StarWidget_Holo_Light_TabWidgetWidget_Holo_Light_WebTextViewWidget_Holo_Lig"
+            + "ht_WebViewWidget_Holo_Light_DropDownItemWidget_Holo_Light_DropDownItem_SpinnerWidget_Holo_Light_"
+            + "TextView_SpinnerItemWidget_Holo_Light_ListPopupWindowWidget_Holo_Light_PopupMenuWidget_Holo_Ligh"
+            + "t_ActionButtonWidget_Holo_Light_ActionButton_OverflowWidget_Holo_Light_ActionModeWidget_Holo_Lig"
+            + "ht_ActionButton_CloseModeWidget_Holo_Light_ActionBarWidget_Holo_Button_BorderlessWidget_Holo_Tab"
+            + "Widget_Holo_Light_TabHolo_ButtonBarHolo_Light_ButtonBarHolo_ButtonBar_AlertDialogHolo_Light_Butt"
+            + "onBar_AlertDialogHolo_SegmentedButtonHolo_Light_SegmentedButtonWidget_CalendarViewWidget_Holo_Ca"
+            + "lendarViewWidget_Holo_Light_CalendarViewWidget_DatePickerWidget_Holo_DatePickerTheme_Holo_Light_"
+            + "NoActionBarTheme_Holo_Light_NoActionBar_FullscreenWidget_ActionBar_TabViewWidget_ActionBar_TabTe"
+            + "xtWidget_ActionBar_TabBarWidget_Holo_ActionBar_TabViewWidget_Holo_ActionBar_TabTextWidget_Holo_A"
+            + "ctionBar_TabBarWidget_Holo_Light_ActionBar_TabViewWidget_Holo_Light_ActionBar_TabTextWidget_Holo"
+            + "_Light_ActionBar_TabBarTextAppearance_HoloTextAppearance_Holo_InverseTextAppearance_Holo_LargeTe"
+            + "xtAppearance_Holo_Large_InverseTextAppearance_Holo_MediumTextAppearance_Holo_Medium_InverseTextA"
+            + "ppearance_Holo_SmallTextAppearance_Holo_Small_InverseTextAppearance_Holo_SearchResult_TitleTextA"
+            + "ppearance_Holo_SearchResult_SubtitleTextAppearance_Holo_WidgetTextAppearance_Holo_Widget_ButtonT"
+            + "extAppearance_Holo_Widget_IconMenu_ItemTextAppearance_Holo_Widget_TabWidgetTextAppearance_Holo_W"
+            + "idget_TextViewTextAppearance_Holo_Widget_TextView_PopupMenuTextAppearance_Holo_Widget_DropDownHi"
+            + "ntTextAppearance_Holo_Widget_DropDownItemTextAppearance_Holo_Widget_TextView_SpinnerItemTextAppe"
+            + "arance_Holo_Widget_EditTextTextAppearance_Holo_Widget_PopupMenuTextAppearance_Holo_Widget_PopupM"
+            + "enu_LargeTextAppearance_Holo_Widget_PopupMenu_SmallTextAppearance_Holo_Widget_ActionBar_TitleTex"
+            + "tAppearance_Holo_Widget_ActionBar_SubtitleTextAppearance_Holo_Widget_ActionMode_TitleTextAppeara"
+            + "nce_Holo_Widget_ActionMode_SubtitleTextAppearance_Holo_WindowTitleTextAppearance_Holo_DialogWind"
+            + "owTitleTextAppearance_SuggestionHighlightTheme_Holo_Light_DarkActionBarWidget_Holo_Button_Border"
+            + "less_SmallWidget_Holo_Light_Button_Borderless_SmallTextAppearance_Holo_Widget_ActionBar_Title_In"
+            + "verseTextAppearance_Holo_Widget_ActionBar_Subtitle_InverseTextAppearance_Holo_Widget_ActionMode_"
+            + "Title_InverseTextAppearance_Holo_Widget_ActionMode_Subtitle_InverseTextAppearance_Holo_Widget_Ac"
+            + "tionBar_MenuWidget_Holo_ActionBar_SolidWidget_Holo_Light_ActionBar_SolidWidget_Holo_Light_Action"
+            + "Bar_Solid_InverseWidget_Holo_Light_ActionBar_TabBar_InverseWidget_Holo_Light_ActionBar_TabView_I"
+            + "nverseWidget_Holo_Light_ActionBar_TabText_InverseWidget_Holo_Light_ActionMode_InverseTheme_Devic"
+            + "eDefaultTheme_DeviceDefault_NoActionBarTheme_DeviceDefault_NoActionBar_FullscreenTheme_DeviceDef"
+            + "ault_LightTheme_DeviceDefault_Light_NoActionBarTheme_DeviceDefault_Light_NoActionBar_FullscreenT"
+            + "heme_DeviceDefault_DialogTheme_DeviceDefault_Dialog_MinWidthTheme_DeviceDefault_Dialog_NoActionB"
+            + "arTheme_DeviceDefault_Dialog_NoActionBar_MinWidthTheme_DeviceDefault_Light_DialogTheme_DeviceDef"
+            + "ault_Light_Dialog_MinWidthTheme_DeviceDefault_Light_Dialog_NoActionBarTheme_DeviceDefault_Light_"
+            + "Dialog_NoActionBar_MinWidthTheme_DeviceDefault_DialogWhenLargeTheme_DeviceDefault_DialogWhenLarg"
+            + "e_NoActionBarTheme_DeviceDefault_Light_DialogWhenLargeTheme_DeviceDefault_Light_DialogWhenLarge_"
+            + "NoActionBarTheme_DeviceDefault_PanelTheme_DeviceDefault_Light_PanelTheme_DeviceDefault_Wallpaper"
+            + "Theme_DeviceDefault_Wallpaper_NoTitleBarTheme_DeviceDefault_InputMethodTheme_DeviceDefault_Light"
+            + "_DarkActionBarWidget_DeviceDefaultWidget_DeviceDefault_ButtonWidget_DeviceDefault_Button_SmallWi"
+            + "dget_DeviceDefault_Button_InsetWidget_DeviceDefault_Button_ToggleWidget_DeviceDefault_Button_Bor"
+            + "derless_SmallWidget_DeviceDefault_TextViewWidget_DeviceDefault_AutoCompleteTextViewWidget_Device"
+            + "Default_CompoundButton_CheckBoxWidget_DeviceDefault_ListView_DropDownWidget_DeviceDefault_EditTe"
+            + "xtWidget_DeviceDefault_ExpandableListViewWidget_DeviceDefault_GridViewWidget_DeviceDefault_Image"
+            + "ButtonWidget_DeviceDefault_ListViewWidget_DeviceDefault_PopupWindowWidget_DeviceDefault_Progress"
+            + "BarWidget_DeviceDefault_ProgressBar_HorizontalWidget_DeviceDefault_ProgressBar_SmallWidget_Devic"
+            + "eDefault_ProgressBar_Small_TitleWidget_DeviceDefault_ProgressBar_LargeWidget_DeviceDefault_SeekB"
+            + "arWidget_DeviceDefault_RatingBarWidget_DeviceDefault_RatingBar_IndicatorWidget_DeviceDefault_Rat"
+            + "ingBar_SmallWidget_DeviceDefault_CompoundButton_RadioButtonWidget_DeviceDefault_ScrollViewWidget"
+            + "_DeviceDefault_HorizontalScrollViewWidget_DeviceDefault_SpinnerWidget_DeviceDefault_CompoundButt"
+            + "on_StarWidget_DeviceDefault_TabWidgetWidget_DeviceDefault_WebTextViewWidget_DeviceDefault_WebVie"
+            + "wWidget_DeviceDefault_DropDownItemWidget_DeviceDefault_DropDownItem_SpinnerWidget_DeviceDefault_"
+            + "TextView_SpinnerItemWidget_DeviceDefault_ListPopupWindowWidget_DeviceDefault_PopupMenuWidget_Dev"
+            + "iceDefault_ActionButtonWidget_DeviceDefault_ActionButton_OverflowWidget_DeviceDefault_ActionButt"
+            + "on_TextButtonWidget_DeviceDefault_ActionModeWidget_DeviceDefault_ActionButton_CloseModeWidget_De"
+            + "viceDefault_ActionBarWidget_DeviceDefault_Button_BorderlessWidget_DeviceDefault_TabWidget_Device"
+            + "Default_CalendarViewWidget_DeviceDefault_DatePickerWidget_DeviceDefault_ActionBar_TabViewWidget_"
+            + "DeviceDefault_ActionBar_TabTextWidget_DeviceDefault_ActionBar_TabBarWidget_DeviceDefault_ActionB"
+            + "ar_SolidWidget_DeviceDefault_LightWidget_DeviceDefault_Light_ButtonWidget_DeviceDefault_Light_Bu"
+            + "tton_SmallWidget_DeviceDefault_Light_Button_InsetWidget_DeviceDefault_Light_Button_ToggleWidget_"
+            + "DeviceDefault_Light_Button_Borderless_SmallWidget_DeviceDefault_Light_TextViewWidget_DeviceDefau"
+            + "lt_Light_AutoCompleteTextViewWidget_DeviceDefault_Light_CompoundButton_CheckBoxWidget_DeviceDefa"
+            + "ult_Light_ListView_DropDownWidget_DeviceDefault_Light_EditTextWidget_DeviceDefault_Light_Expanda"
+            + "bleListViewWidget_DeviceDefault_Light_GridViewWidget_DeviceDefault_Light_ImageButtonWidget_Devic"
+            + "eDefault_Light_ListViewWidget_DeviceDefault_Light_PopupWindowWidget_DeviceDefault_Light_Progress"
+            + "BarWidget_DeviceDefault_Light_ProgressBar_HorizontalWidget_DeviceDefault_Light_ProgressBar_Small"
+            + "Widget_DeviceDefault_Light_ProgressBar_Small_TitleWidget_DeviceDefault_Light_ProgressBar_LargeWi"
+            + "dget_DeviceDefault_Light_ProgressBar_InverseWidget_DeviceDefault_Light_ProgressBar_Small_Inverse"
+            + "Widget_DeviceDefault_Light_ProgressBar_Large_InverseWidget_DeviceDefault_Light_SeekBarWidget_Dev"
+            + "iceDefault_Light_RatingBarWidget_DeviceDefault_Light_RatingBar_IndicatorWidget_DeviceDefault_Lig"
+            + "ht_RatingBar_SmallWidget_DeviceDefault_Light_CompoundButton_RadioButtonWidget_DeviceDefault_Ligh"
+            + "t_ScrollViewWidget_DeviceDefault_Light_HorizontalScrollViewWidget_DeviceDefault_Light_SpinnerWid"
+            + "get_DeviceDefault_Light_CompoundButton_StarWidget_DeviceDefault_Light_TabWidgetWidget_DeviceDefa"
+            + "ult_Light_WebTextViewWidget_DeviceDefault_Light_WebViewWidget_DeviceDefault_Light_DropDownItemWi"
+            + "dget_DeviceDefault_Light_DropDownItem_SpinnerWidget_DeviceDefault_Light_TextView_SpinnerItemWidg"
+            + "et_DeviceDefault_Light_ListPopupWindowWidget_DeviceDefault_Light_PopupMenuWidget_DeviceDefault_L"
+            + "ight_TabWidget_DeviceDefault_Light_CalendarViewWidget_DeviceDefault_Light_ActionButtonWidget_Dev"
+            + "iceDefault_Light_ActionButton_OverflowWidget_DeviceDefault_Light_ActionModeWidget_DeviceDefault_"
+            + "Light_ActionButton_CloseModeWidget_DeviceDefault_Light_ActionBarWidget_DeviceDefault_Light_Actio"
+            + "nBar_TabViewWidget_DeviceDefault_Light_ActionBar_TabTextWidget_DeviceDefault_Light_ActionBar_Tab"
+            + "BarWidget_DeviceDefault_Light_ActionBar_SolidWidget_DeviceDefault_Light_ActionBar_Solid_InverseW"
+            + "idget_DeviceDefault_Light_ActionBar_TabBar_InverseWidget_DeviceDefault_Light_ActionBar_TabView_I"
+            + "nverseWidget_DeviceDefault_Light_ActionBar_TabText_InverseWidget_DeviceDefault_Light_ActionMode_"
+            + "InverseTextAppearance_DeviceDefaultTextAppearance_DeviceDefault_InverseTextAppearance_DeviceDefa"
+            + "ult_LargeTextAppearance_DeviceDefault_Large_InverseTextAppearance_DeviceDefault_MediumTextAppear"
+            + "ance_DeviceDefault_Medium_InverseTextAppearance_DeviceDefault_SmallTextAppearance_DeviceDefault_"
+            + "Small_InverseTextAppearance_DeviceDefault_SearchResult_TitleTextAppearance_DeviceDefault_SearchR"
+            + "esult_SubtitleTextAppearance_DeviceDefault_WindowTitleTextAppearance_DeviceDefault_DialogWindowT"
+            + "itleTextAppearance_DeviceDefault_WidgetTextAppearance_DeviceDefault_Widget_ButtonTextAppearance_"
+            + "DeviceDefault_Widget_IconMenu_ItemTextAppearance_DeviceDefault_Widget_TabWidgetTextAppearance_De"
+            + "viceDefault_Widget_TextViewTextAppearance_DeviceDefault_Widget_TextView_PopupMenuTextAppearance_"
+            + "DeviceDefault_Widget_DropDownHintTextAppearance_DeviceDefault_Widget_DropDownItemTextAppearance_"
+            + "DeviceDefault_Widget_TextView_SpinnerItemTextAppearance_DeviceDefault_Widget_EditTextTextAppeara"
+            + "nce_DeviceDefault_Widget_PopupMenuTextAppearance_DeviceDefault_Widget_PopupMenu_LargeTextAppeara"
+            + "nce_DeviceDefault_Widget_PopupMenu_SmallTextAppearance_DeviceDefault_Widget_ActionBar_TitleTextA"
+            + "ppearance_DeviceDefault_Widget_ActionBar_SubtitleTextAppearance_DeviceDefault_Widget_ActionMode_"
+            + "TitleTextAppearance_DeviceDefault_Widget_ActionMode_SubtitleTextAppearance_DeviceDefault_Widget_"
+            + "ActionBar_Title_InverseTextAppearance_DeviceDefault_Widget_ActionBar_Subtitle_InverseTextAppeara"
+            + "nce_DeviceDefault_Widget_ActionMode_Title_InverseTextAppearance_DeviceDefault_Widget_ActionMode_"
+            + "Subtitle_InverseTextAppearance_DeviceDefault_Widget_ActionBar_MenuDeviceDefault_ButtonBarDeviceD"
+            + "efault_ButtonBar_AlertDialogDeviceDefault_SegmentedButtonDeviceDefault_Light_ButtonBarDeviceDefa"
+            + "ult_Light_ButtonBar_AlertDialogDeviceDefault_Light_SegmentedButtonWidget_Holo_MediaRouteButtonWi"
+            + "dget_Holo_Light_MediaRouteButtonWidget_DeviceDefault_MediaRouteButtonWidget_DeviceDefault_Light_"
+            + "MediaRouteButtonWidget_Holo_CheckedTextViewWidget_Holo_Light_CheckedTextViewWidget_DeviceDefault"
+            + "_CheckedTextViewWidget_DeviceDefault_Light_CheckedTextViewTheme_Holo_NoActionBar_OverscanTheme_H"
+            + "olo_Light_NoActionBar_OverscanTheme_DeviceDefault_NoActionBar_OverscanTheme_DeviceDefault_Light_"
+            + "NoActionBar_OverscanTheme_Holo_NoActionBar_TranslucentDecorTheme_Holo_Light_NoActionBar_Transluc"
+            + "entDecorTheme_DeviceDefault_NoActionBar_TranslucentDecorTheme_DeviceDefault_Light_NoActionBar_Tr"
+            + "anslucentDecorWidget_FastScrollWidget_StackViewWidget_ToolbarWidget_Toolbar_Button_NavigationWid"
+            + "get_DeviceDefault_FastScrollWidget_DeviceDefault_StackViewWidget_DeviceDefault_Light_FastScrollW"
+            + "idget_DeviceDefault_Light_StackViewTextAppearance_MaterialTextAppearance_Material_ButtonTextAppe"
+            + "arance_Material_Body2TextAppearance_Material_Body1TextAppearance_Material_CaptionTextAppearance_"
+            + "Material_DialogWindowTitleTextAppearance_Material_Display4TextAppearance_Material_Display3TextAp"
+            + "pearance_Material_Display2TextAppearance_Material_Display1TextAppearance_Material_HeadlineTextAp"
+            + "pearance_Material_InverseTextAppearance_Material_LargeTextAppearance_Material_Large_InverseTextA"
+            + "ppearance_Material_MediumTextAppearance_Material_Medium_InverseTextAppearance_Material_MenuTextA"
+            + "ppearance_Material_NotificationTextAppearance_Material_Notification_EmphasisTextAppearance_Mater"
+            + "ial_Notification_InfoTextAppearance_Material_Notification_Line2TextAppearance_Material_Notificat"
+            + "ion_TimeTextAppearance_Material_Notification_TitleTextAppearance_Material_SearchResult_SubtitleT"
+            + "extAppearance_Material_SearchResult_TitleTextAppearance_Material_SmallTextAppearance_Material_Sm"
+            + "all_InverseTextAppearance_Material_SubheadTextAppearance_Material_TitleTextAppearance_Material_W"
+            + "indowTitleTextAppearance_Material_WidgetTextAppearance_Material_Widget_ActionBar_MenuTextAppeara"
+            + "nce_Material_Widget_ActionBar_SubtitleTextAppearance_Material_Widget_ActionBar_Subtitle_InverseT"
+            + "extAppearance_Material_Widget_ActionBar_TitleTextAppearance_Material_Widget_ActionBar_Title_Inve"
+            + "rseTextAppearance_Material_Widget_ActionMode_SubtitleTextAppearance_Material_Widget_ActionMode_S"
+            + "ubtitle_InverseTextAppearance_Material_Widget_ActionMode_TitleTextAppearance_Material_Widget_Act"
+            + "ionMode_Title_InverseTextAppearance_Material_Widget_ButtonTextAppearance_Material_Widget_DropDow"
+            + "nHintTextAppearance_Material_Widget_DropDownItemTextAppearance_Material_Widget_EditTextTextAppea"
+            + "rance_Material_Widget_IconMenu_ItemTextAppearance_Material_Widget_PopupMenuTextAppearance_Materi"
+            + "al_Widget_PopupMenu_LargeTextAppearance_Material_Widget_PopupMenu_SmallTextAppearance_Material_W"
+            + "idget_TabWidgetTextAppearance_Material_Widget_TextViewTextAppearance_Material_Widget_TextView_Po"
+            + "pupMenuTextAppearance_Material_Widget_TextView_SpinnerItemTextAppearance_Material_Widget_Toolbar"
+            + "_SubtitleTextAppearance_Material_Widget_Toolbar_TitleTheme_DeviceDefault_SettingsTheme_MaterialT"
+            + "heme_Material_DialogTheme_Material_Dialog_AlertTheme_Material_Dialog_MinWidthTheme_Material_Dial"
+            + "og_NoActionBarTheme_Material_Dialog_NoActionBar_MinWidthTheme_Material_Dialog_PresentationTheme_"
+            + "Material_DialogWhenLargeTheme_Material_DialogWhenLarge_NoActionBarTheme_Material_InputMethodThem"
+            + "e_Material_NoActionBarTheme_Material_NoActionBar_FullscreenTheme_Material_NoActionBar_OverscanTh"
+            + "eme_Material_NoActionBar_TranslucentDecorTheme_Material_PanelTheme_Material_SettingsTheme_Materi"
+            + "al_VoiceTheme_Material_WallpaperTheme_Material_Wallpaper_NoTitleBarTheme_Material_LightTheme_Mat"
+            + "erial_Light_DarkActionBarTheme_Material_Light_DialogTheme_Material_Light_Dialog_AlertTheme_Mater"
+            + "ial_Light_Dialog_MinWidthTheme_Material_Light_Dialog_NoActionBarTheme_Material_Light_Dialog_NoAc"
+            + "tionBar_MinWidthTheme_Material_Light_Dialog_PresentationTheme_Material_Light_DialogWhenLargeThem"
+            + "e_Material_Light_DialogWhenLarge_NoActionBarTheme_Material_Light_NoActionBarTheme_Material_Light"
+            + "_NoActionBar_FullscreenTheme_Material_Light_NoActionBar_OverscanTheme_Material_Light_NoActionBar"
+            + "_TranslucentDecorTheme_Material_Light_PanelTheme_Material_Light_VoiceThemeOverlayThemeOverlay_Ma"
+            + "terialThemeOverlay_Material_ActionBarThemeOverlay_Material_LightThemeOverlay_Material_DarkThemeO"
+            + "verlay_Material_Dark_ActionBarWidget_MaterialWidget_Material_ActionBarWidget_Material_ActionBar_"
+            + "SolidWidget_Material_ActionBar_TabBarWidget_Material_ActionBar_TabTextWidget_Material_ActionBar_"
+            + "TabViewWidget_Material_ActionButtonWidget_Material_ActionButton_CloseModeWidget_Material_ActionB"
+            + "utton_OverflowWidget_Material_ActionModeWidget_Material_AutoCompleteTextViewWidget_Material_Butt"
+            + "onWidget_Material_Button_BorderlessWidget_Material_Button_Borderless_ColoredWidget_Material_Butt"
+            + "on_Borderless_SmallWidget_Material_Button_InsetWidget_Material_Button_SmallWidget_Material_Butto"
+            + "n_ToggleWidget_Material_ButtonBarWidget_Material_ButtonBar_AlertDialogWidget_Material_CalendarVi"
+            + "ewWidget_Material_CheckedTextViewWidget_Material_CompoundButton_CheckBoxWidget_Material_Compound"
+            + "Button_RadioButtonWidget_Material_CompoundButton_StarWidget_Material_DatePickerWidget_Material_D"
+            + "ropDownItemWidget_Material_DropDownItem_SpinnerWidget_Material_EditTextWidget_Material_Expandabl"
+            + "eListViewWidget_Material_FastScrollWidget_Material_GridViewWidget_Material_HorizontalScrollViewW"
+            + "idget_Material_ImageButtonWidget_Material_ListPopupWindowWidget_Material_ListViewWidget_Material"
+            + "_ListView_DropDownWidget_Material_MediaRouteButtonWidget_Material_PopupMenuWidget_Material_Popup"
+            + "Menu_OverflowWidget_Material_PopupWindowWidget_Material_ProgressBarWidget_Material_ProgressBar_H"
+            + "orizontalWidget_Material_ProgressBar_LargeWidget_Material_ProgressBar_SmallWidget_Material_Progr"
+            + "essBar_Small_TitleWidget_Material_RatingBarWidget_Material_RatingBar_IndicatorWidget_Material_Ra"
+            + "tingBar_SmallWidget_Material_ScrollViewWidget_Material_SearchViewWidget_Material_SeekBarWidget_M"
+            + "aterial_SegmentedButtonWidget_Material_StackViewWidget_Material_SpinnerWidget_Material_Spinner_U"
+            + "nderlinedWidget_Material_TabWidget_Material_TabWidgetWidget_Material_TextViewWidget_Material_Tex"
+            + "tView_SpinnerItemWidget_Material_TimePickerWidget_Material_ToolbarWidget_Material_Toolbar_Button"
+            + "_NavigationWidget_Material_WebTextViewWidget_Material_WebViewWidget_Material_LightWidget_Materia"
+            + "l_Light_ActionBarWidget_Material_Light_ActionBar_SolidWidget_Material_Light_ActionBar_TabBarWidg"
+            + "et_Material_Light_ActionBar_TabTextWidget_Material_Light_ActionBar_TabViewWidget_Material_Light_"
+            + "ActionButtonWidget_Material_Light_ActionButton_CloseModeWidget_Material_Light_ActionButton_Overf"
+            + "lowWidget_Material_Light_ActionModeWidget_Material_Light_AutoCompleteTextViewWidget_Material_Lig"
+            + "ht_ButtonWidget_Material_Light_Button_BorderlessWidget_Material_Light_Button_Borderless_ColoredW"
+            + "idget_Material_Light_Button_Borderless_SmallWidget_Material_Light_Button_InsetWidget_Material_Li"
+            + "ght_Button_SmallWidget_Material_Light_Button_ToggleWidget_Material_Light_ButtonBarWidget_Materia"
+            + "l_Light_ButtonBar_AlertDialogWidget_Material_Light_CalendarViewWidget_Material_Light_CheckedText"
+            + "ViewWidget_Material_Light_CompoundButton_CheckBoxWidget_Material_Light_CompoundButton_RadioButto"
+            + "nWidget_Material_Light_CompoundButton_StarWidget_Material_Light_DatePickerWidget_Material_Light_"
+            + "DropDownItemWidget_Material_Light_DropDownItem_SpinnerWidget_Material_Light_EditTextWidget_Mater"
+            + "ial_Light_ExpandableListViewWidget_Material_Light_FastScrollWidget_Material_Light_GridViewWidget"
+            + "_Material_Light_HorizontalScrollViewWidget_Material_Light_ImageButtonWidget_Material_Light_ListP"
+            + "opupWindowWidget_Material_Light_ListViewWidget_Material_Light_ListView_DropDownWidget_Material_L"
+            + "ight_MediaRouteButtonWidget_Material_Light_PopupMenuWidget_Material_Light_PopupMenu_OverflowWidg"
+            + "et_Material_Light_PopupWindowWidget_Material_Light_ProgressBarWidget_Material_Light_ProgressBar_"
+            + "HorizontalWidget_Material_Light_ProgressBar_InverseWidget_Material_Light_ProgressBar_LargeWidget"
+            + "_Material_Light_ProgressBar_Large_InverseWidget_Material_Light_ProgressBar_SmallWidget_Material_"
+            + "Light_ProgressBar_Small_InverseWidget_Material_Light_ProgressBar_Small_TitleWidget_Material_Ligh"
+            + "t_RatingBarWidget_Material_Light_RatingBar_IndicatorWidget_Material_Light_RatingBar_SmallWidget_"
+            + "Material_Light_ScrollViewWidget_Material_Light_SearchViewWidget_Material_Light_SeekBarWidget_Mat"
+            + "erial_Light_SegmentedButtonWidget_Material_Light_StackViewWidget_Material_Light_SpinnerWidget_Ma"
+            + "terial_Light_Spinner_UnderlinedWidget_Material_Light_TabWidget_Material_Light_TabWidgetWidget_Ma"
+            + "terial_Light_TextViewWidget_Material_Light_TextView_SpinnerItemWidget_Material_Light_TimePickerW"
+            + "idget_Material_Light_WebTextViewWidget_Material_Light_WebViewTheme_DeviceDefault_Dialog_AlertThe"
+            + "me_DeviceDefault_Light_Dialog_AlertWidget_Material_Button_ColoredTextAppearance_Material_Widget_"
+            + "Button_InverseTheme_Material_Light_LightStatusBarThemeOverlay_Material_DialogThemeOverlay_Materi"
+            + "al_Dialog_AlertTheme_Material_Light_DialogWhenLarge_DarkActionBarWidget_Material_SeekBar_Discret"
+            + "eWidget_Material_CompoundButton_SwitchWidget_Material_Light_CompoundButton_SwitchWidget_Material"
+            + "_NumberPickerWidget_Material_Light_NumberPickerTextAppearance_Material_Widget_Button_ColoredText"
+            + "Appearance_Material_Widget_Button_Borderless_ColoredWidget_DeviceDefault_Button_ColoredWidget_De"
+            + "viceDefault_Button_Borderless_ColoredTheme_DeviceDefault_DayNightThemeOverlay_DeviceDefault_Acce"
+            + "nt_DayNight";
+
+    private SystemResources() {
+    }
+
+    /**
+     * Names of android.R.attr
+     */
+    static IdNameTable createAttrIds() {
+        return new IdNameTable(ATTR_BASE, ATTR_IDS, ATTR_NAME_OFFSETS, ATTR_NAMES);
+    }
+
+    /**
+     * Names of android.R.style
+     */
+    static IdNameTable createStyles() {
+        return new IdNameTable(STYLE_BASE, STYLE_IDS, STYLE_NAME_OFFSETS, STYLE_NAMES);
+    }
+}
@@ -0,0 +1,222 @@
+package net.dongliu.apk.parser.utils;
+
+import net.dongliu.apk.parser.exception.ParserException;
+import net.dongliu.apk.parser.struct.zip.EOCD;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Access the entries of a zip file which is already in memory, usually mapped from the disk. Stored entries are
+ * returned as slices of the zip file without copying, while deflated entries are inflated directly into a buffer of
+ * their exact size using a pooled {@link Inflater}. Entries can be read from several threads at once.
+ */
+public class ZipBuffers {
+    private static final int CENTRAL_DIRECTORY_SIGNATURE = 0x02014b50;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_FILE_HEADER_SIZE = 30;
+    private static final int EOCD_SIZE = 22;
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+    private static final int INPUT_CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_POOLED_INFLATERS = 4;
+
+    private static final ArrayDeque<PooledInflater> inflaterPool = new ArrayDeque<>(MAX_POOLED_INFLATERS);
+
+    private static class PooledInflater {
+        private final Inflater inflater = new Inflater(true);
+        private final byte[] input = new byte[INPUT_CHUNK_SIZE];
+    }
+
+    private static class Entry {
+        private int method;
+        private long compressedSize;
+        private long size;
+        private long localHeaderOffset;
+    }
+
+    private final ByteBuffer buffer;
+    private final Map<String, Entry> entries;
+
+    /**
+     * @throws ParserException if the central directory could not be read, e.g. for zip64 files
+     */
+    public ZipBuffers(@NonNull ByteBuffer zipBuffer) {
+        this.buffer = zipBuffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.entries = readCentralDirectory();
+    }
+
+    /**
+     * Get the names of all the entries
+     */
+    @NonNull
+    public Set<String> getEntryNames() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Get the uncompressed content of an entry. The returned buffer may share its content with the zip file and must
+     * not be modified.
+     *
+     * @return the content, or null if there is no such entry
+     * @throws ParserException if the entry could not be read
+     */
+    @Nullable
+    public ByteBuffer getEntry(@NonNull String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            return null;
+        }
+        ByteBuffer buffer = this.buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        Buffers.position(buffer, entry.localHeaderOffset);
+        if (buffer.getInt() != LOCAL_FILE_HEADER_SIGNATURE) {
+            throw new ParserException("Invalid local file header for " + name);
+        }
+        // the name and extra field lengths of the local header may differ from the central directory
+        Buffers.position(buffer, entry.localHeaderOffset + 26);
+        int nameLen = Buffers.readUShort(buffer);
+        int extraLen = Buffers.readUShort(buffer);
+        long dataOffset = entry.localHeaderOffset + LOCAL_FILE_HEADER_SIZE + nameLen + extraLen;
+        if (dataOffset + entry.compressedSize > buffer.limit()) {
+            throw new ParserException("Truncated entry " + name);
+        }
+        Buffers.position(buffer, dataOffset);
+        ByteBuffer data = Buffers.sliceAndSkip(buffer, (int) entry.compressedSize);
+        switch (entry.method) {
+            case METHOD_STORED:
+                return data.asReadOnlyBuffer();
+            case METHOD_DEFLATED:
+                return inflate(data, entry.size);
+            default:
+                throw new ParserException("Unsupported compression method " + entry.method + " for " + name);
+        }
+    }
+
+    @NonNull
+    private ByteBuffer inflate(@NonNull ByteBuffer data, long size) {
+        if (size > Integer.MAX_VALUE) {
+            throw new ParserException("Entry is too large: " + size);
+        }
+        byte[] output = new byte[(int) size];
+        PooledInflater pooledInflater = obtainInflater();
+        Inflater inflater = pooledInflater.inflater;
+        byte[] inputChunk = pooledInflater.input;
+        try {
+            int outputOffset = 0;
+            while (!inflater.finished() && outputOffset < output.length) {
+                if (inflater.needsInput()) {
+                    if (!data.hasRemaining()) {
+                        throw new ParserException("Unexpected end of deflated data");
+                    }
+                    int len = Math.min(data.remaining(), inputChunk.length);
+                    data.get(inputChunk, 0, len);
+                    inflater.setInput(inputChunk, 0, len);
+                }
+                int len = inflater.inflate(output, outputOffset, output.length - outputOffset);
+                if (len == 0 && inflater.needsDictionary()) {
+                    throw new ParserException("Deflated data needs a dictionary");
+                }
+                outputOffset += len;
+            }
+            if (outputOffset != output.length) {
+                throw new ParserException("Unexpected size of inflated data: " + outputOffset);
+            }
+        } catch (DataFormatException e) {
+            throw new ParserException(e);
+        } finally {
+            recycleInflater(pooledInflater);
+        }
+        return ByteBuffer.wrap(output);
+    }
+
+    @NonNull
+    private Map<String, Entry> readCentralDirectory() {
+        int len = buffer.limit();
+        if (len < EOCD_SIZE) {
+            throw new ParserException("Not zip file");
+        }
+        // the end of central directory record is followed by a comment of at most 64 KiB
+        int eocdOffset = -1;
+        for (int i = len - EOCD_SIZE; i >= Math.max(0, len - EOCD_SIZE - 0xffff); i--) {
+            if (buffer.getInt(i) == EOCD.SIGNATURE && i + EOCD_SIZE + (buffer.getShort(i + 20) & 0xffff) == len) {
+                eocdOffset = i;
+                break;
+            }
+        }
+        if (eocdOffset == -1) {
+            throw new ParserException("End of central directory not found");
+        }
+        Buffers.position(buffer, eocdOffset + 10);
+        int recordNum = Buffers.readUShort(buffer);
+        long cdSize = Buffers.readUInt(buffer);
+        long cdStart = Buffers.readUInt(buffer);
+        if (recordNum == 0xffff || cdStart == 0xffffffffL || cdStart + cdSize > eocdOffset) {
+            throw new ParserException("Zip64 files are not supported");
+        }
+        Map<String, Entry> entries = new HashMap<>(recordNum);
+        Buffers.position(buffer, cdStart);
+        for (int i = 0; i < recordNum; i++) {
+            if (buffer.getInt() != CENTRAL_DIRECTORY_SIGNATURE) {
+                throw new ParserException("Invalid central directory record");
+            }
+            Buffers.skip(buffer, 6);
+            Entry entry = new Entry();
+            entry.method = Buffers.readUShort(buffer);
+            // modification time, date and crc
+            Buffers.skip(buffer, 8);
+            entry.compressedSize = Buffers.readUInt(buffer);
+            entry.size = Buffers.readUInt(buffer);
+            int nameLen = Buffers.readUShort(buffer);
+            int extraLen = Buffers.readUShort(buffer);
+            int commentLen = Buffers.readUShort(buffer);
+            // disk number, internal and external attributes
+            Buffers.skip(buffer, 8);
+            entry.localHeaderOffset = Buffers.readUInt(buffer);
+            byte[] name = Buffers.readBytes(buffer, nameLen);
+            Buffers.skip(buffer, extraLen + commentLen);
+            if (entry.compressedSize == 0xffffffffL || entry.size == 0xffffffffL
+                    || entry.localHeaderOffset == 0xffffffffL) {
+                throw new ParserException("Zip64 files are not supported");
+            }
+            String entryName = new String(name, StandardCharsets.UTF_8);
+            // Like ZipFile on Android, duplicated names are rejected as the entry used by the system is ambiguous
+            if (entries.put(entryName, entry) != null) {
+                throw new ParserException("Duplicate entry name " + entryName);
+            }
+        }
+        return entries;
+    }
+
+    @NonNull
+    private static PooledInflater obtainInflater() {
+        synchronized (inflaterPool) {
+            PooledInflater inflater = inflaterPool.poll();
+            if (inflater != null) {
+                return inflater;
+            }
+        }
+        return new PooledInflater();
+    }
+
+    private static void recycleInflater(@NonNull PooledInflater pooledInflater) {
+        pooledInflater.inflater.reset();
+        synchronized (inflaterPool) {
+            if (inflaterPool.size() < MAX_POOLED_INFLATERS) {
+                inflaterPool.add(pooledInflater);
+                return;
+            }
+        }
+        pooledInflater.inflater.end();
+    }
+}
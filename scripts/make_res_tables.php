@@ -0,0 +1,121 @@
+#!/usr/bin/env php
+<?php
+/*
+ * Copyright (C) 2021 Muntashir Al-Islam
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+// Generates the tables of the platform resource names used by libapkparser from android.R
+// Example usage: php ./scripts/make_res_tables.php $ANDROID_HOME/platforms/android-30/android.jar > ./libapkparser/src/main/java/net/dongliu/apk/parser/utils/SystemResources.java
+
+if ($argc != 2) {
+    fwrite(STDERR, "Usage: php ./scripts/make_res_tables.php ANDROID_JAR\n");
+    exit(1);
+}
+
+$android_jar = $argv[1];
+$tables = [
+    'ATTR' => 'android.R$attr',
+    'STYLE' => 'android.R$style',
+];
+
+// Escape a char of a string literal, unicode escapes are not used for control chars as they are translated
+// before the source is parsed
+function escape_char(int $c): string {
+    if ($c == 0x22 || $c == 0x5c) return '\\' . chr($c);
+    if ($c >= 0x20 && $c < 0x7f) return chr($c);
+    if ($c < 0x100) return sprintf('\\%03o', $c);
+    return sprintf('\\u%04x', $c);
+}
+
+// Print a string constant of the given chars, wrapped at 96 columns
+function string_constant(string $name, array $chars): string {
+    $lines = [];
+    $line = '';
+    foreach ($chars as $c) {
+        $token = escape_char($c);
+        if (strlen($line) + strlen($token) > 96) {
+            $lines[] = $line;
+            $line = '';
+        }
+        $line .= $token;
+    }
+    $lines[] = $line;
+    return "    private static final String $name = \"" . implode("\"\n            + \"", $lines) . "\";\n";
+}
+
+$constants = [];
+foreach ($tables as $prefix => $class) {
+    $lines = [];
+    exec('javap -constants -cp ' . escapeshellarg($android_jar) . ' ' . escapeshellarg($class), $lines, $ret);
+    if ($ret != 0) {
+        fwrite(STDERR, "Could not read $class\n");
+        exit(1);
+    }
+    $entries = [];
+    foreach ($lines as $line) {
+        if (preg_match('/public static final int (\w+) = (\d+);/', $line, $matches)) {
+            $entries[(int) $matches[2]] = $matches[1];
+        }
+    }
+    ksort($entries, SORT_NUMERIC);
+    $base = array_key_first($entries) & 0xffff0000;
+    $ids = [];
+    $offsets = [];
+    $names = '';
+    foreach ($entries as $id => $name) {
+        $ids[] = $id - $base;
+        $offsets[] = strlen($names);
+        $names .= $name;
+    }
+    $offsets[] = strlen($names);
+    // Each value is stored as a char, surrogates must be avoided
+    if (max(max($ids), max($offsets)) >= 0xd800) {
+        fwrite(STDERR, "$class is too large\n");
+        exit(1);
+    }
+    $constants[] = sprintf("    private static final int %s_BASE = 0x%08x;\n", $prefix, $base);
+    $constants[] = string_constant("{$prefix}_IDS", $ids);
+    $constants[] = string_constant("{$prefix}_NAME_OFFSETS", $offsets);
+    $constants[] = string_constant("{$prefix}_NAMES", array_map('ord', str_split($names)));
+}
+
+echo "package net.dongliu.apk.parser.utils;
+
+/**
+ * Names of the platform resources, as found in android.R, stored in the format of {@link IdNameTable}.
+ * <p>
+ * Generated by scripts/make_res_tables.php, do not edit.
+ */
+final class SystemResources {
+" . implode("\n", $constants) . "
+    private SystemResources() {
+    }
+
+    /**
+     * Names of android.R.attr
+     */
+    static IdNameTable createAttrIds() {
+        return new IdNameTable(ATTR_BASE, ATTR_IDS, ATTR_NAME_OFFSETS, ATTR_NAMES);
+    }
+
+    /**
+     * Names of android.R.style
+     */
+    static IdNameTable createStyles() {
+        return new IdNameTable(STYLE_BASE, STYLE_IDS, STYLE_NAME_OFFSETS, STYLE_NAMES);
+    }
+}
+";